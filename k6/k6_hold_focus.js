@@ -1,6 +1,7 @@
 import http from 'k6/http';
 import { check, sleep } from 'k6';
-import { Counter, Rate } from 'k6/metrics';
+import { Counter, Rate, Trend } from 'k6/metrics';
+import { textSummary } from 'https://jslib.k6.io/k6-summary/0.0.2/index.js';
 
 // ---- Metrics ----
 export const ok200 = new Counter('hold_200_total');
@@ -8,6 +9,7 @@ export const ok409 = new Counter('hold_409_total');
 export const bad4xx = new Counter('hold_bad_4xx_total');
 export const bad5xx = new Counter('hold_bad_5xx_total');
 export const setupFail = new Rate('setup_failed');
+export const holdDuration = new Trend('hold_duration', true);
 
 // ---- Env ----
 const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
@@ -18,6 +20,10 @@ const SEAT_IDS = (__ENV.SEAT_IDS || '30001').split(',').map((v) => Number(v.trim
 const ARRIVAL = Number(__ENV.ARRIVAL || '30');         // 30 → 50 → 80 → 120
 const TEST_DURATION_SEC = Number(__ENV.DURATION_SEC || '50');
 const RAMP_SEC = Number(__ENV.RAMP_SEC || '5');
+// 비교 실행용 라벨 (예: lock = 기존 락 기반 빌드, lua = 스크립트 기반 빌드)
+const ENGINE = __ENV.ENGINE || 'lua';
+// 비교용 요약 저장 경로 (k6/README.md 비교표 작성에 사용)
+const SUMMARY_DIR = __ENV.SUMMARY_DIR || 'k6/results';
 
 if (!TOKEN) throw new Error('TOKEN env is required. e.g. -e TOKEN="Bearer xxx"');
 
@@ -40,7 +46,9 @@ export const options = {
     },
     thresholds: {
         setup_failed: ['rate==0'],
+        hold_bad_5xx_total: ['count==0'],
     },
+    summaryTrendStats: ['avg', 'med', 'p(95)', 'p(99)', 'max'],
 };
 
 // ---- Helpers ----
@@ -145,7 +153,11 @@ export default function (data) {
     const holdUrl = `${BASE_URL}/api/v1/booking/reservation/${reservationId}/seats:hold`;
     const payload = JSON.stringify({ performanceSeatIds: SEAT_IDS });
 
-    const res = http.post(holdUrl, payload, jsonHeaders({ 'X-BOOKING-SESSION-ID': bookingSessionId }));
+    const res = http.post(holdUrl, payload, {
+        ...jsonHeaders({ 'X-BOOKING-SESSION-ID': bookingSessionId }),
+        tags: { engine: ENGINE },
+    });
+    holdDuration.add(res.timings.duration, { engine: ENGINE, status: String(res.status) });
     if (res.status !== 200 && res.status !== 409) {
         console.log(`[HOLD] status=${res.status} body=${res.body}`);
     }
@@ -163,3 +175,28 @@ export default function (data) {
 
     sleep(0.001);
 }
+
+// ---- Summary: 엔진/도착률별 비교 지표를 JSON으로 저장 ----
+export function handleSummary(data) {
+    const metric = (name, stat) => (data.metrics[name] ? data.metrics[name].values[stat] : 0);
+    const result = {
+        engine: ENGINE,
+        arrival: ARRIVAL,
+        durationSec: TEST_DURATION_SEC,
+        seats: SEAT_IDS.length,
+        reqPerSec: metric('http_reqs', 'rate'),
+        holdMedMs: metric('hold_duration', 'med'),
+        holdP95Ms: metric('hold_duration', 'p(95)'),
+        holdP99Ms: metric('hold_duration', 'p(99)'),
+        holdMaxMs: metric('hold_duration', 'max'),
+        ok200: metric('hold_200_total', 'count'),
+        conflict409: metric('hold_409_total', 'count'),
+        bad4xx: metric('hold_bad_4xx_total', 'count'),
+        bad5xx: metric('hold_bad_5xx_total', 'count'),
+    };
+
+    return {
+        stdout: textSummary(data, { indent: ' ', enableColors: true }),
+        [`${SUMMARY_DIR}/hold_focus_${ENGINE}_${ARRIVAL}.json`]: JSON.stringify(result, null, 2),
+    };
+}
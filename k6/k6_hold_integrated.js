@@ -212,7 +212,9 @@ function getWaitingTokenOrFail(scheduleId, deviceId, token) {
             return { qsid, waitingToken: body.waitingToken };
         }
 
-        sleep(QUEUE_STATUS_POLL_MS / 1000);
+        // 서버 권장 간격이 있으면 따름 (순번이 뒤일수록 길어짐)
+        const pollMs = body.nextPollMillis || QUEUE_STATUS_POLL_MS;
+        sleep(pollMs / 1000);
     }
 
     console.log(`[QUEUE TIMEOUT] could not get waitingToken within ${QUEUE_MAX_WAIT_MS}ms`);
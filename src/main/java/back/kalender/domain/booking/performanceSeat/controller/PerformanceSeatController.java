@@ -1,8 +1,11 @@
 package back.kalender.domain.booking.performanceSeat.controller;
 
 import back.kalender.domain.booking.performanceSeat.dto.PerformanceSeatResponse;
+import back.kalender.domain.booking.performanceSeat.dto.SeatStatusVectorResponse;
 import back.kalender.domain.booking.performanceSeat.service.PerformanceSeatQueryService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -22,4 +25,18 @@ public class PerformanceSeatController implements PerformanceSeatControllerSpec
         return performanceSeatQueryService
                 .getSeatsByScheduleId(scheduleId, bookingSessionId);
     }
+
+    @GetMapping("/schedules/{scheduleId}/status")
+    @Override
+    public ResponseEntity<SeatStatusVectorResponse> getSeatStatusVector(
+            @PathVariable Long scheduleId,
+            @RequestHeader("X-BOOKING-SESSION-ID") String bookingSessionId
+    ) {
+        SeatStatusVectorResponse response =
+                performanceSeatQueryService.getSeatStatusVector(scheduleId, bookingSessionId);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(response.layoutVersion() + "-" + response.version())
+                .body(response);
+    }
 }
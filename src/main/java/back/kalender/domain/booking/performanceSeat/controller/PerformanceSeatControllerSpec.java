@@ -1,11 +1,13 @@
 package back.kalender.domain.booking.performanceSeat.controller;
 
 import back.kalender.domain.booking.performanceSeat.dto.PerformanceSeatResponse;
+import back.kalender.domain.booking.performanceSeat.dto.SeatStatusVectorResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestHeader;
@@ -22,7 +24,7 @@ public interface PerformanceSeatControllerSpec {
 
                 **중요: Redis 기반 실시간 상태 반영**
                         - SOLD: Redis seat:sold 세트에서 조회 (결제 완료된 좌석)
-                        - HOLD: Redis seat:hold:owner 키 존재 여부로 판단 (다른 사용자가 선점 중)
+                        - HOLD: Redis seat:hold:index ZSET(만료 시각 score)으로 판단 (다른 사용자가 선점 중)
                         - AVAILABLE: Redis에 없고 DB가 AVAILABLE인 좌석
                 
                         **Redis 우선 원칙**
@@ -48,4 +50,29 @@ public interface PerformanceSeatControllerSpec {
         )
         @RequestHeader("X-Device-Id") String deviceId
     );
+
+    @Operation(
+        summary = "좌석 상태 벡터 조회",
+        description = """
+        좌석 상태만 압축된 벡터로 조회합니다. (좌석 배치는 GET /api/v1/performances/{scheduleId}/seats/layout)
+
+        - data: base64, 좌석당 2비트 / 배치 응답의 seats 순서와 동일
+        - 좌석 i의 상태 코드 = byte[i / 4] >> ((i % 4) * 2) & 0b11, 값은 statusCodes의 index
+        - layoutVersion이 받아둔 배치 버전과 다르면 배치를 다시 조회
+        - ETag를 If-None-Match로 보내면 변경이 없을 때 304
+        """
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "상태 벡터 조회 성공"),
+        @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
+        @ApiResponse(responseCode = "429", description = "대기열 미통과"),
+    })
+    @GetMapping("/schedules/{scheduleId}/status")
+    ResponseEntity<SeatStatusVectorResponse> getSeatStatusVector(
+        @Parameter(description = "공연 회차 ID", example = "1")
+        @PathVariable Long scheduleId,
+
+        @Parameter(description = "예매 세션 ID")
+        @RequestHeader("X-BOOKING-SESSION-ID") String bookingSessionId
+    );
 }
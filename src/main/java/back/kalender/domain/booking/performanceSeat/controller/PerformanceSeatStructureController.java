@@ -2,9 +2,13 @@ package back.kalender.domain.booking.performanceSeat.controller;
 
 import back.kalender.domain.booking.performanceSeat.dto.BlockSummaryResponse;
 import back.kalender.domain.booking.performanceSeat.dto.SeatDetailResponse;
+import back.kalender.domain.booking.performanceSeat.dto.SeatLayoutResponse;
 import back.kalender.domain.booking.performanceSeat.dto.SubBlockSummaryResponse;
 import back.kalender.domain.booking.performanceSeat.service.PerformanceSeatQueryService;
+import back.kalender.domain.booking.performanceSeat.service.SeatLayoutService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -15,6 +19,17 @@ import java.util.List;
 public class PerformanceSeatStructureController {
 
     private final PerformanceSeatQueryService performanceSeatQueryService;
+    private final SeatLayoutService seatLayoutService;
+
+    // 0) 좌석 배치 (정적, ETag 일치 시 304) - 대기열에서 미리 받아둘 수 있도록 예매 세션 불필요
+    @GetMapping("/{scheduleId}/seats/layout")
+    public ResponseEntity<SeatLayoutResponse> getSeatLayout(@PathVariable Long scheduleId) {
+        SeatLayoutResponse layout = seatLayoutService.getLayout(scheduleId);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(layout.version())
+                .body(layout);
+    }
 
     // 1) 블록 요약
     @GetMapping("/{scheduleId}/seats/summary")
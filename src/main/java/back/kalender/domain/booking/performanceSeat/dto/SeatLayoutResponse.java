@@ -0,0 +1,28 @@
+package back.kalender.domain.booking.performanceSeat.dto;
+
+import java.util.List;
+
+/**
+ * 회차 좌석 배치 (정적 데이터)
+ * - 좌석 id 오름차순 (좌석 상태 읽기 모델의 ordinal 순서와 동일)
+ * - version: 배치 내용 해시 (ETag)
+ */
+public record SeatLayoutResponse(
+        Long scheduleId,
+        String version,
+        List<Seat> seats
+) {
+
+    public record Seat(
+            Long seatId,
+            Integer floor,
+            String block,
+            String subBlock,
+            Integer rowNumber,
+            Integer seatNumber,
+            Integer x,
+            Integer y,
+            Long priceGradeId
+    ) {
+    }
+}
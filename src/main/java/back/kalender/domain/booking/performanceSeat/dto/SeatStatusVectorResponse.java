@@ -0,0 +1,20 @@
+package back.kalender.domain.booking.performanceSeat.dto;
+
+import java.util.List;
+
+/**
+ * 좌석 상태 벡터 (좌석 배치 응답과 같은 순서)
+ * - data: base64, 좌석당 bitsPerSeat 비트 (좌석 i → byte[i / 4]의 (i % 4) * 2 비트부터)
+ * - 상태 코드 값 = statusCodes의 index
+ * - layoutVersion이 가진 배치 버전과 다르면 배치를 다시 받아야 함
+ */
+public record SeatStatusVectorResponse(
+        Long scheduleId,
+        String layoutVersion,
+        String version,
+        int seatCount,
+        int bitsPerSeat,
+        List<String> statusCodes,
+        String data
+) {
+}
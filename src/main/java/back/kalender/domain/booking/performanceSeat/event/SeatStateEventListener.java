@@ -0,0 +1,49 @@
+package back.kalender.domain.booking.performanceSeat.event;
+
+import back.kalender.domain.booking.performanceSeat.entity.SeatStatus;
+import back.kalender.domain.booking.performanceSeat.service.SeatLayoutService;
+import back.kalender.domain.booking.performanceSeat.service.SeatStateStore;
+import back.kalender.domain.booking.seatHold.event.SeatHoldCompletedEvent;
+import back.kalender.domain.booking.seatHold.event.SeatReleaseCompletedEvent;
+import back.kalender.domain.performance.performance.event.PerformanceChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 좌석 상태 읽기 모델 갱신 리스너
+ * - DB 커밋 후에만 반영 (롤백된 변경은 읽기 모델에 들어가지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatStateEventListener {
+
+    private final SeatStateStore seatStateStore;
+    private final SeatLayoutService seatLayoutService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleSeatHoldCompleted(SeatHoldCompletedEvent event) {
+        seatStateStore.apply(event.getScheduleId(), List.of(event.getSeatId()), SeatStatus.HOLD);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleSeatReleaseCompleted(SeatReleaseCompletedEvent event) {
+        seatStateStore.apply(event.getScheduleId(), event.getSeatIds(), SeatStatus.AVAILABLE);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleSeatStatusChanged(SeatStatusChangedEvent event) {
+        seatStateStore.apply(event.getScheduleId(), event.getSeatIds(), event.getStatus());
+    }
+
+    // 좌석 배치 변경 → 정적 배치 캐시 제거
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handlePerformanceChanged(PerformanceChangedEvent event) {
+        event.getScheduleIds().forEach(seatLayoutService::evict);
+    }
+}
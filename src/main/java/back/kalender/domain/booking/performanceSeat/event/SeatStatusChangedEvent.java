@@ -0,0 +1,25 @@
+package back.kalender.domain.booking.performanceSeat.event;
+
+import back.kalender.domain.booking.performanceSeat.entity.SeatStatus;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 좌석 상태 변경 이벤트 (SOLD 처리, 만료 해제, 예매 취소 등)
+ * - HOLD/RELEASE는 SeatHoldCompletedEvent / SeatReleaseCompletedEvent 사용
+ */
+@Getter
+@RequiredArgsConstructor
+public class SeatStatusChangedEvent {
+    private final Long scheduleId;
+    private final List<Long> seatIds;
+    private final SeatStatus status;
+
+    @Override
+    public String toString() {
+        return String.format("SeatStatusChangedEvent{scheduleId=%d, seatIds=%s, status=%s}",
+                scheduleId, seatIds, status);
+    }
+}
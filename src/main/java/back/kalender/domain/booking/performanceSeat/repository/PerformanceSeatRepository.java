@@ -4,10 +4,12 @@ import back.kalender.domain.booking.performanceSeat.entity.PerformanceSeat;
 import back.kalender.domain.booking.performanceSeat.entity.SeatStatus;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,6 +20,8 @@ public interface PerformanceSeatRepository extends JpaRepository<PerformanceSeat
 
     Optional<PerformanceSeat> findByIdAndScheduleId(Long id, Long scheduleId);
 
+    List<PerformanceSeat> findAllByScheduleIdAndIdIn(Long scheduleId, Collection<Long> ids);
+
     @Query("""
         select p
         from PerformanceSeat p
@@ -33,108 +37,158 @@ public interface PerformanceSeatRepository extends JpaRepository<PerformanceSeat
     );
 
     // =========================
-    // 추가: 블록/서브블록 집계 + 상세 조회 (성능용)
+    // 추가: 좌석 상태 일괄 변경 (조건부 UPDATE, 반영 행 수로 검증)
     // =========================
 
-    // 1) 블록별 총 좌석 수
+    // AVAILABLE 또는 만료된 HOLD 좌석만 HOLD로 변경
+    @Modifying(flushAutomatically = true)
     @Query("""
-        select p.floor as floor, p.block as block, count(p) as cnt
-        from PerformanceSeat p
+        update PerformanceSeat p
+        set p.status = back.kalender.domain.booking.performanceSeat.entity.SeatStatus.HOLD,
+            p.holdUserId = :userId,
+            p.holdExpiredAt = :expiresAt,
+            p.updatedAt = :now
         where p.scheduleId = :scheduleId
-        group by p.floor, p.block
+          and p.id in :ids
+          and (p.status = back.kalender.domain.booking.performanceSeat.entity.SeatStatus.AVAILABLE
+               or (p.status = back.kalender.domain.booking.performanceSeat.entity.SeatStatus.HOLD
+                   and p.holdExpiredAt < :now))
     """)
-    List<BlockCountView> countTotalByBlock(@Param("scheduleId") Long scheduleId);
+    int holdAll(
+            @Param("scheduleId") Long scheduleId,
+            @Param("ids") Collection<Long> ids,
+            @Param("userId") Long userId,
+            @Param("expiresAt") LocalDateTime expiresAt,
+            @Param("now") LocalDateTime now
+    );
 
-    // 1-2) 블록별 DB 기준 "AVAILABLE" 좌석 수 (Redis 반영 전)
+    // from 상태인 좌석만 to 상태로 변경 + HOLD 정보 제거
+    @Modifying(flushAutomatically = true)
     @Query("""
-        select p.floor as floor, p.block as block, count(p) as cnt
-        from PerformanceSeat p
-        where p.scheduleId = :scheduleId
-          and p.status = :availableStatus
-        group by p.floor, p.block
+        update PerformanceSeat p
+        set p.status = :to,
+            p.holdUserId = null,
+            p.holdExpiredAt = null,
+            p.updatedAt = :now
+        where p.id in :ids
+          and p.status in :from
     """)
-    List<BlockCountView> countDbAvailableByBlock(
-            @Param("scheduleId") Long scheduleId,
-            @Param("availableStatus") SeatStatus availableStatus
+    int transitionAll(
+            @Param("ids") Collection<Long> ids,
+            @Param("from") Collection<SeatStatus> from,
+            @Param("to") SeatStatus to,
+            @Param("now") LocalDateTime now
     );
 
-    // 1-3) 블록별 "override 차감"용: (Redis SOLD/HOLD에 걸린 좌석 중) DB에서 AVAILABLE로 잡힌 개수
+    // userId가 HOLD 중인 좌석만 AVAILABLE로 변경 (만료 후 다른 사용자가 다시 HOLD한 좌석은 제외)
+    @Modifying(flushAutomatically = true)
     @Query("""
-        select p.floor as floor, p.block as block, count(p) as cnt
+        update PerformanceSeat p
+        set p.status = back.kalender.domain.booking.performanceSeat.entity.SeatStatus.AVAILABLE,
+            p.holdUserId = null,
+            p.holdExpiredAt = null,
+            p.updatedAt = :now
+        where p.id in :ids
+          and p.status = back.kalender.domain.booking.performanceSeat.entity.SeatStatus.HOLD
+          and p.holdUserId = :userId
+    """)
+    int releaseHeldBy(
+            @Param("ids") Collection<Long> ids,
+            @Param("userId") Long userId,
+            @Param("now") LocalDateTime now
+    );
+
+    // 만료된 HOLD 좌석만 AVAILABLE로 변경 (owner 키가 사라진 좌석 정리용, 아직 유효한 HOLD는 제외)
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update PerformanceSeat p
+        set p.status = back.kalender.domain.booking.performanceSeat.entity.SeatStatus.AVAILABLE,
+            p.holdUserId = null,
+            p.holdExpiredAt = null,
+            p.updatedAt = :now
+        where p.id in :ids
+          and p.status = back.kalender.domain.booking.performanceSeat.entity.SeatStatus.HOLD
+          and p.holdExpiredAt < :now
+    """)
+    int releaseExpiredHolds(
+            @Param("ids") Collection<Long> ids,
+            @Param("now") LocalDateTime now
+    );
+
+    // 주어진 상태인 좌석 ID (조건부 UPDATE 반영 수가 모자랄 때 실제 반영된 좌석 확인용)
+    @Query("""
+        select p.id
         from PerformanceSeat p
-        where p.scheduleId = :scheduleId
-          and p.status = :availableStatus
-          and p.id in :seatIds
-        group by p.floor, p.block
+        where p.id in :ids
+          and p.status = :status
     """)
-    List<BlockCountView> countDbAvailableOverridesByBlock(
-            @Param("scheduleId") Long scheduleId,
-            @Param("availableStatus") SeatStatus availableStatus,
-            @Param("seatIds") List<Long> seatIds
+    List<Long> findIdsInStatus(
+            @Param("ids") Collection<Long> ids,
+            @Param("status") SeatStatus status
+    );
+
+    // AVAILABLE 또는 userId가 HOLD 중인 좌석만 SOLD로 변경 (다른 사용자의 HOLD는 제외)
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update PerformanceSeat p
+        set p.status = back.kalender.domain.booking.performanceSeat.entity.SeatStatus.SOLD,
+            p.holdUserId = null,
+            p.holdExpiredAt = null,
+            p.updatedAt = :now
+        where p.id in :ids
+          and (p.status = back.kalender.domain.booking.performanceSeat.entity.SeatStatus.AVAILABLE
+               or (p.status = back.kalender.domain.booking.performanceSeat.entity.SeatStatus.HOLD and p.holdUserId = :userId))
+    """)
+    int sellHeldBy(
+            @Param("ids") Collection<Long> ids,
+            @Param("userId") Long userId,
+            @Param("now") LocalDateTime now
     );
 
-    // 2) 서브블록별 총 좌석 수
+    // 다른 사용자가 HOLD 중인 좌석 ID (조건부 UPDATE 반영 수가 모자랄 때 후속 처리에서 제외용)
     @Query("""
-        select p.subBlock as subBlock, count(p) as cnt
+        select p.id
         from PerformanceSeat p
-        where p.scheduleId = :scheduleId
-          and p.block = :block
-        group by p.subBlock
+        where p.id in :ids
+          and p.status = back.kalender.domain.booking.performanceSeat.entity.SeatStatus.HOLD
+          and p.holdUserId <> :userId
     """)
-    List<SubBlockCountView> countTotalBySubBlock(
-            @Param("scheduleId") Long scheduleId,
-            @Param("block") String block
+    List<Long> findIdsHeldByOthers(
+            @Param("ids") Collection<Long> ids,
+            @Param("userId") Long userId
     );
 
-    // 2-2) 서브블록별 DB 기준 AVAILABLE 수
+    // =========================
+    // 추가: 좌석 상태 읽기 모델 로딩/정합성 점검용
+    // =========================
+
+    // 1) 블록별 총 좌석 수 (배치 변경 감지)
     @Query("""
-        select p.subBlock as subBlock, count(p) as cnt
+        select p.floor as floor, p.block as block, count(p) as cnt
         from PerformanceSeat p
         where p.scheduleId = :scheduleId
-          and p.block = :block
-          and p.status = :availableStatus
-        group by p.subBlock
+        group by p.floor, p.block
     """)
-    List<SubBlockCountView> countDbAvailableBySubBlock(
-            @Param("scheduleId") Long scheduleId,
-            @Param("block") String block,
-            @Param("availableStatus") SeatStatus availableStatus
-    );
+    List<BlockCountView> countTotalByBlock(@Param("scheduleId") Long scheduleId);
 
-    // 2-3) 서브블록별 override 차감용
+    // 2) 좌석 상태만 조회 (읽기 모델 재동기화용)
     @Query("""
-        select p.subBlock as subBlock, count(p) as cnt
+        select p.id as seatId, p.status as status
         from PerformanceSeat p
         where p.scheduleId = :scheduleId
-          and p.block = :block
-          and p.status = :availableStatus
-          and p.id in :seatIds
-        group by p.subBlock
     """)
-    List<SubBlockCountView> countDbAvailableOverridesBySubBlock(
-            @Param("scheduleId") Long scheduleId,
-            @Param("block") String block,
-            @Param("availableStatus") SeatStatus availableStatus,
-            @Param("seatIds") List<Long> seatIds
-    );
+    List<SeatStatusView> findSeatStatuses(@Param("scheduleId") Long scheduleId);
 
-    // 3) 상세 조회 (해당 subBlock 좌석만) - 엔티티 전체 로딩 대신 Projection
+    // 3) 좌석 배치만 조회 (정적 배치 캐시용, id 오름차순)
     @Query("""
-        select p.id as seatId,
-               p.rowNumber as rowNumber,
-               p.seatNumber as seatNumber,
+        select p.id as seatId, p.floor as floor, p.block as block, p.subBlock as subBlock,
+               p.rowNumber as rowNumber, p.seatNumber as seatNumber, p.x as x, p.y as y,
                p.priceGradeId as priceGradeId
         from PerformanceSeat p
         where p.scheduleId = :scheduleId
-          and p.block = :block
-          and p.subBlock = :subBlock
-        order by p.rowNumber asc, p.seatNumber asc
+        order by p.id
     """)
-    List<SeatDetailView> findSeatDetails(
-            @Param("scheduleId") Long scheduleId,
-            @Param("block") String block,
-            @Param("subBlock") String subBlock
-    );
+    List<SeatLayoutView> findSeatLayouts(@Param("scheduleId") Long scheduleId);
 
     // ----- Projection interfaces -----
     interface BlockCountView {
@@ -143,15 +197,20 @@ public interface PerformanceSeatRepository extends JpaRepository<PerformanceSeat
         long getCnt();
     }
 
-    interface SubBlockCountView {
-        String getSubBlock();
-        long getCnt();
+    interface SeatStatusView {
+        Long getSeatId();
+        SeatStatus getStatus();
     }
 
-    interface SeatDetailView {
+    interface SeatLayoutView {
         Long getSeatId();
-        int getRowNumber();
-        int getSeatNumber();
+        Integer getFloor();
+        String getBlock();
+        String getSubBlock();
+        Integer getRowNumber();
+        Integer getSeatNumber();
+        Integer getX();
+        Integer getY();
         Long getPriceGradeId();
     }
 }
@@ -0,0 +1,106 @@
+package back.kalender.domain.booking.performanceSeat.scheduler;
+
+import back.kalender.domain.booking.reservation.service.ReservationExpiryQueue;
+import back.kalender.domain.booking.reservation.service.ReservationService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HOLD 만료 엔진
+ *
+ * - 다음 만료 시각을 기억해 두고, 그 시각이 오기 전에는 Redis를 조회하지 않음
+ *   (다른 서버가 등록한 항목을 놓치지 않도록 최소 1초마다는 조회)
+ * - 만료 도래 예매는 ReservationExpiryQueue에서 리스와 함께 선점 → 서버 간 중복 처리 없음
+ * - 예매별로 워커 스레드에서 각자 트랜잭션으로 처리 → 한 건 실패가 다른 건에 영향 없음
+ * - 처리 실패/서버 장애 시 리스 만료 후 다시 선점되어 재시도
+ * - 처리 후 큐 항목은 리스 시각 그대로일 때만 제거 (처리 중 재HOLD로 갱신된 만료 시각은 유지)
+ * - 전용 스레드에서 TICK_MILLIS마다 실행 (공용 @Scheduled 스레드의 다른 작업에 밀려 만료가 늦어지지 않도록)
+ */
+@Slf4j
+@Component
+public class SeatHoldExpiryEngine {
+
+    private static final int WORKER_COUNT = 4;
+    private static final int CLAIM_LIMIT = 200;
+    private static final long LEASE_MILLIS = 30_000;
+    private static final long MAX_IDLE_MILLIS = 1_000;
+    private static final long TICK_MILLIS = 200;
+
+    private final ReservationExpiryQueue expiryQueue;
+    private final ReservationService reservationService;
+    private final ExecutorService workers = Executors.newFixedThreadPool(WORKER_COUNT);
+    private final ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor();
+
+    private volatile long nextDeadlineMillis = 0;
+    private volatile long lastClaimedAtMillis = 0;
+
+    public SeatHoldExpiryEngine(ReservationExpiryQueue expiryQueue, ReservationService reservationService) {
+        this.expiryQueue = expiryQueue;
+        this.reservationService = reservationService;
+    }
+
+    @PostConstruct
+    public void start() {
+        ticker.scheduleWithFixedDelay(this::tick, TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    // 예외가 나도 다음 주기는 계속 실행
+    private void tick() {
+        try {
+            dispatch();
+        } catch (Exception e) {
+            log.error("[SeatHoldExpiryEngine] 만료 예매 선점 실패", e);
+        }
+    }
+
+    public void dispatch() {
+        long now = System.currentTimeMillis();
+        if (now < nextDeadlineMillis && now - lastClaimedAtMillis < MAX_IDLE_MILLIS) {
+            return;
+        }
+
+        ReservationExpiryQueue.Claimed claimed = expiryQueue.claimDue(now, CLAIM_LIMIT, LEASE_MILLIS);
+        lastClaimedAtMillis = now;
+        nextDeadlineMillis = claimed.nextDeadlineMillis();
+
+        for (Long reservationId : claimed.reservationIds()) {
+            try {
+                workers.execute(() -> expire(reservationId, claimed.leaseUntilMillis()));
+            } catch (RejectedExecutionException e) {
+                // 종료 중 - 리스 만료 후 다른 서버/재기동 후 처리
+                log.warn("[SeatHoldExpiryEngine] 워커 종료로 처리 보류 - reservationId={}", reservationId);
+            }
+        }
+
+        if (!claimed.reservationIds().isEmpty()) {
+            log.info("[SeatHoldExpiryEngine] 만료 예매 선점 - count={}", claimed.reservationIds().size());
+        }
+    }
+
+    private void expire(Long reservationId, long leaseUntilMillis) {
+        try {
+            reservationService.expireIfDue(reservationId);
+            expiryQueue.removeIfClaimed(reservationId, leaseUntilMillis);
+        } catch (Exception e) {
+            log.error("[SeatHoldExpiryEngine] 예매 만료 처리 실패 (리스 이후 재시도) - reservationId={}",
+                    reservationId, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        ticker.shutdownNow();
+        workers.shutdown();
+        if (!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+            workers.shutdownNow();
+        }
+    }
+}
@@ -15,7 +15,6 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -33,11 +32,12 @@ public class SeatHoldExpiryScheduler {
     private final ReservationService reservationService;
 
     /**
-     * 만료된 HOLD 예매를 주기적으로 해제하는 스케줄러
-     * - 10초마다 실행
+     * 만료된 HOLD 예매를 주기적으로 해제하는 스케줄러 (DB 기준 안전망)
+     * - 만료 처리는 SeatHoldExpiryEngine이 담당, 여기서는 만료 큐에 없는 예매만 정리
+     *   (배포 전 생성된 예매, Redis 데이터 유실 등)
+     * - 1분마다 실행, 예매별로 각자 트랜잭션 (한 건 실패가 나머지에 영향 없음)
      */
-    @Scheduled(fixedDelay = 10_000)
-    @Transactional
+    @Scheduled(fixedDelay = 60_000)
     public void releaseExpiredHolds() {
         LocalDateTime now = LocalDateTime.now();
 
@@ -0,0 +1,84 @@
+package back.kalender.domain.booking.performanceSeat.scheduler;
+
+import back.kalender.domain.booking.performanceSeat.service.SeatStateStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 좌석 상태 읽기 모델 재동기화 스케줄러
+ * - 다른 서버에서 커밋된 변경을 변경 로그(Redis Stream)로 따라잡기 (변경이 없던 회차는 버전 조회만)
+ * - 로그 보존 구간을 벗어난 회차만 DB 기준 재동기화
+ *   회차별 분산 락(seat:state:resync:lock:{scheduleId})으로 동시에 한 서버만 DB 전체 조회,
+ *   락을 잡지 못한 서버는 다음 주기에 다시 시도
+ * - 10분 이상 조회가 없던 회차는 메모리에서 제거
+ * - 1분마다 블록/서브블록 가용 카운트 정합성 점검 (drift 보정)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatStateResyncScheduler {
+    private static final long IDLE_EVICT_MILLIS = 10 * 60 * 1000L;
+    private static final String RESYNC_LOCK_KEY = "seat:state:resync:lock:%d";
+    private static final Duration RESYNC_LOCK_TTL = Duration.ofSeconds(30);
+
+    private static final RedisScript<Long> LOCK_RELEASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/lock-release.lua"), Long.class);
+
+    private final SeatStateStore seatStateStore;
+    private final StringRedisTemplate redis;
+
+    @Scheduled(fixedDelay = 5_000)
+    public void resync() {
+        int evicted = seatStateStore.evictIdle(IDLE_EVICT_MILLIS);
+        if (evicted > 0) {
+            log.info("[SeatStateResync] 유휴 회차 제거 - count={}", evicted);
+        }
+
+        for (Long scheduleId : seatStateStore.loadedScheduleIds()) {
+            try {
+                if (!seatStateStore.catchUp(scheduleId)) {
+                    resyncFromDb(scheduleId);
+                }
+            } catch (Exception e) {
+                log.error("[SeatStateResync] 재동기화 실패 - scheduleId={}", scheduleId, e);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void reconcile() {
+        for (Long scheduleId : seatStateStore.loadedScheduleIds()) {
+            try {
+                seatStateStore.reconcile(scheduleId);
+            } catch (Exception e) {
+                log.error("[SeatStateResync] 카운트 정합성 점검 실패 - scheduleId={}", scheduleId, e);
+            }
+        }
+    }
+
+    // 변경 로그로 따라잡지 못한 회차만 DB 전체 조회 (회차별로 동시에 한 서버만)
+    private void resyncFromDb(Long scheduleId) {
+        String lockKey = String.format(RESYNC_LOCK_KEY, scheduleId);
+        String token = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(redis.opsForValue().setIfAbsent(lockKey, token, RESYNC_LOCK_TTL))) {
+            log.debug("[SeatStateResync] 다른 서버가 DB 재동기화 중, 다음 주기에 재시도 - scheduleId={}", scheduleId);
+            return;
+        }
+
+        try {
+            log.info("[SeatStateResync] 변경 로그 보존 구간 밖, DB 재동기화 - scheduleId={}", scheduleId);
+            seatStateStore.resync(scheduleId);
+        } finally {
+            redis.execute(LOCK_RELEASE_SCRIPT, List.of(lockKey), token);
+        }
+    }
+}
@@ -0,0 +1,379 @@
+package back.kalender.domain.booking.performanceSeat.service;
+
+import back.kalender.domain.booking.performanceSeat.dto.BlockSummaryResponse;
+import back.kalender.domain.booking.performanceSeat.dto.PerformanceSeatResponse;
+import back.kalender.domain.booking.performanceSeat.dto.SeatDetailResponse;
+import back.kalender.domain.booking.performanceSeat.dto.SubBlockSummaryResponse;
+import back.kalender.domain.booking.performanceSeat.entity.PerformanceSeat;
+import back.kalender.domain.booking.performanceSeat.entity.SeatStatus;
+
+import java.util.*;
+
+/**
+ * 회차별 좌석 상태 읽기 모델
+ *
+ * <구조>
+ * - 좌석 id 오름차순 정렬 배열의 index를 좌석 ordinal로 사용 (binarySearch로 조회)
+ * - 좌석 배치(층/블록/서브블록/열/번호/등급)는 생성 시 한 번만 구성하는 불변 배열
+ * - 좌석 상태는 ordinal 기준 byte 배열 (SeatStatus.ordinal)
+ * - 블록/서브블록 AVAILABLE 카운트는 상태 변경 시 함께 증감
+ * - 상태 벡터: ordinal 순서(= 좌석 배치 응답 순서) 좌석당 2비트, 변경이 있을 때만 다시 인코딩
+ *
+ * <동시성>
+ * - 상태 변경(apply)은 synchronized
+ * - 조회는 락 없이 읽음 (표시용 읽기 모델이므로 짧은 가시성 지연 허용)
+ */
+public final class ScheduleSeatState {
+
+    private static final SeatStatus[] STATUSES = SeatStatus.values();
+    private static final byte AVAILABLE = (byte) SeatStatus.AVAILABLE.ordinal();
+
+    public static final int BITS_PER_SEAT = 2;
+    private static final int SEATS_PER_BYTE = Byte.SIZE / BITS_PER_SEAT;
+
+    private final Long scheduleId;
+
+    // ---- 좌석 배치 (ordinal 기준, 불변) ----
+    private final long[] seatIds;
+    private final int[] floors;
+    private final int[] rowNumbers;
+    private final int[] seatNumbers;
+    private final long[] priceGradeIds;
+    private final int[] blockOfSeat;
+    private final int[] subBlockOfSeat;
+
+    // ---- 블록 (floor + block) ----
+    private final int[] blockFloors;
+    private final String[] blockNames;
+    private final int[] blockTotals;
+    private final int[] blockOrder;
+
+    // ---- 서브블록 (block + subBlock) ----
+    private final String[] subBlockNames;
+    private final int[] subBlockTotals;
+    private final Map<String, int[]> subBlocksByBlock;
+    private final int[][] subBlockSeats;
+
+    // ---- 가변 상태 ----
+    private final byte[] statuses;
+    private final int[] blockAvailable;
+    private final int[] subBlockAvailable;
+
+    // ---- 상태 벡터 버전 (로딩 시각 + 변경 횟수) ----
+    private final long loadedAtMillis = System.currentTimeMillis();
+    private long changeCount;
+    private StatusVector statusVector;
+
+    // ---- 반영한 변경 로그 버전 (seat:version 기준, 다른 서버 변경 따라잡기용) ----
+    private volatile long appliedLogVersion;
+
+    private volatile long lastAccessMillis = System.currentTimeMillis();
+
+    private ScheduleSeatState(Long scheduleId, List<PerformanceSeat> seats) {
+        this.scheduleId = scheduleId;
+
+        List<PerformanceSeat> sorted = new ArrayList<>(seats);
+        sorted.sort(Comparator.comparing(PerformanceSeat::getId));
+
+        int n = sorted.size();
+        this.seatIds = new long[n];
+        this.floors = new int[n];
+        this.rowNumbers = new int[n];
+        this.seatNumbers = new int[n];
+        this.priceGradeIds = new long[n];
+        this.blockOfSeat = new int[n];
+        this.subBlockOfSeat = new int[n];
+        this.statuses = new byte[n];
+
+        Map<String, Integer> blockIndex = new HashMap<>();
+        List<Integer> blockFloorList = new ArrayList<>();
+        List<String> blockNameList = new ArrayList<>();
+
+        Map<String, Integer> subBlockIndex = new HashMap<>();
+        List<String> subBlockNameList = new ArrayList<>();
+        List<String> subBlockParentList = new ArrayList<>();
+
+        for (int i = 0; i < n; i++) {
+            PerformanceSeat seat = sorted.get(i);
+            int floor = seat.getFloor() == null ? 0 : seat.getFloor();
+
+            seatIds[i] = seat.getId();
+            floors[i] = floor;
+            rowNumbers[i] = seat.getRowNumber() == null ? 0 : seat.getRowNumber();
+            seatNumbers[i] = seat.getSeatNumber() == null ? 0 : seat.getSeatNumber();
+            priceGradeIds[i] = seat.getPriceGradeId();
+            statuses[i] = (byte) seat.getStatus().ordinal();
+
+            String blockKey = floor + "|" + seat.getBlock();
+            blockOfSeat[i] = blockIndex.computeIfAbsent(blockKey, k -> {
+                blockFloorList.add(floor);
+                blockNameList.add(seat.getBlock());
+                return blockNameList.size() - 1;
+            });
+
+            String subBlockKey = seat.getBlock() + "|" + seat.getSubBlock();
+            subBlockOfSeat[i] = subBlockIndex.computeIfAbsent(subBlockKey, k -> {
+                subBlockNameList.add(seat.getSubBlock());
+                subBlockParentList.add(seat.getBlock());
+                return subBlockNameList.size() - 1;
+            });
+        }
+
+        int blockCount = blockNameList.size();
+        this.blockFloors = blockFloorList.stream().mapToInt(Integer::intValue).toArray();
+        this.blockNames = blockNameList.toArray(new String[0]);
+        this.blockTotals = new int[blockCount];
+        this.blockAvailable = new int[blockCount];
+
+        int subBlockCount = subBlockNameList.size();
+        this.subBlockNames = subBlockNameList.toArray(new String[0]);
+        this.subBlockTotals = new int[subBlockCount];
+        this.subBlockAvailable = new int[subBlockCount];
+
+        for (int i = 0; i < n; i++) {
+            blockTotals[blockOfSeat[i]]++;
+            subBlockTotals[subBlockOfSeat[i]]++;
+            if (statuses[i] == AVAILABLE) {
+                blockAvailable[blockOfSeat[i]]++;
+                subBlockAvailable[subBlockOfSeat[i]]++;
+            }
+        }
+
+        // 블록 정렬 순서 (floor, block)
+        this.blockOrder = sortedIndexes(blockCount, Comparator
+                .<Integer>comparingInt(b -> blockFloors[b])
+                .thenComparing(b -> blockNames[b], Comparator.nullsFirst(Comparator.naturalOrder())));
+
+        // 블록별 서브블록 목록 (subBlock 이름순)
+        Map<String, List<Integer>> grouped = new HashMap<>();
+        for (int s = 0; s < subBlockCount; s++) {
+            grouped.computeIfAbsent(subBlockParentList.get(s), k -> new ArrayList<>()).add(s);
+        }
+        this.subBlocksByBlock = new HashMap<>();
+        grouped.forEach((block, list) -> subBlocksByBlock.put(block, list.stream()
+                .sorted(Comparator.comparing(s -> subBlockNames[s], Comparator.nullsFirst(Comparator.naturalOrder())))
+                .mapToInt(Integer::intValue)
+                .toArray()));
+
+        // 서브블록별 좌석 ordinal (열, 번호 순)
+        List<List<Integer>> seatsBySubBlock = new ArrayList<>(subBlockCount);
+        for (int s = 0; s < subBlockCount; s++) {
+            seatsBySubBlock.add(new ArrayList<>(subBlockTotals[s]));
+        }
+        for (int i = 0; i < n; i++) {
+            seatsBySubBlock.get(subBlockOfSeat[i]).add(i);
+        }
+        this.subBlockSeats = new int[subBlockCount][];
+        for (int s = 0; s < subBlockCount; s++) {
+            subBlockSeats[s] = seatsBySubBlock.get(s).stream()
+                    .sorted(Comparator.<Integer>comparingInt(i -> rowNumbers[i])
+                            .thenComparingInt(i -> seatNumbers[i]))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+        }
+    }
+
+    public static ScheduleSeatState of(Long scheduleId, List<PerformanceSeat> seats) {
+        return new ScheduleSeatState(scheduleId, seats);
+    }
+
+    // =========================================================
+    // 상태 변경
+    // =========================================================
+
+    /**
+     * 좌석 상태 반영
+     * @return 실제로 상태가 바뀌었으면 true (없는 좌석/동일 상태면 false)
+     */
+    public synchronized boolean apply(long seatId, SeatStatus status) {
+        int ordinal = Arrays.binarySearch(seatIds, seatId);
+        if (ordinal < 0) {
+            return false;
+        }
+
+        byte next = (byte) status.ordinal();
+        byte prev = statuses[ordinal];
+        if (prev == next) {
+            return false;
+        }
+
+        if (prev == AVAILABLE) {
+            blockAvailable[blockOfSeat[ordinal]]--;
+            subBlockAvailable[subBlockOfSeat[ordinal]]--;
+        } else if (next == AVAILABLE) {
+            blockAvailable[blockOfSeat[ordinal]]++;
+            subBlockAvailable[subBlockOfSeat[ordinal]]++;
+        }
+
+        statuses[ordinal] = next;
+        changeCount++;
+        return true;
+    }
+
+    /**
+     * 상태 배열 기준으로 블록/서브블록 가용 카운트 재계산 (drift 보정)
+     * @return 보정된 카운터 수
+     */
+    public synchronized int recountAvailable() {
+        int[] blocks = new int[blockAvailable.length];
+        int[] subBlocks = new int[subBlockAvailable.length];
+
+        for (int i = 0; i < statuses.length; i++) {
+            if (statuses[i] == AVAILABLE) {
+                blocks[blockOfSeat[i]]++;
+                subBlocks[subBlockOfSeat[i]]++;
+            }
+        }
+
+        int fixed = 0;
+        for (int b = 0; b < blocks.length; b++) {
+            if (blockAvailable[b] != blocks[b]) {
+                blockAvailable[b] = blocks[b];
+                fixed++;
+            }
+        }
+        for (int s = 0; s < subBlocks.length; s++) {
+            if (subBlockAvailable[s] != subBlocks[s]) {
+                subBlockAvailable[s] = subBlocks[s];
+                fixed++;
+            }
+        }
+        return fixed;
+    }
+
+    // =========================================================
+    // 조회
+    // =========================================================
+
+    public SeatStatus statusOf(long seatId) {
+        int ordinal = Arrays.binarySearch(seatIds, seatId);
+        return ordinal < 0 ? null : STATUSES[statuses[ordinal]];
+    }
+
+    /**
+     * 좌석 상태 벡터
+     * - 좌석 i의 상태 코드(SeatStatus.ordinal)는 byte[i / 4]의 (i % 4) * 2 비트부터 2비트
+     * - 변경이 없으면 직전 인코딩 결과 재사용
+     */
+    public synchronized StatusVector toStatusVector() {
+        if (statusVector != null && statusVector.changeCount() == changeCount) {
+            return statusVector;
+        }
+
+        byte[] packed = new byte[(statuses.length + SEATS_PER_BYTE - 1) / SEATS_PER_BYTE];
+        for (int i = 0; i < statuses.length; i++) {
+            packed[i / SEATS_PER_BYTE] |= (byte) (statuses[i] << ((i % SEATS_PER_BYTE) * BITS_PER_SEAT));
+        }
+
+        statusVector = new StatusVector(
+                Long.toString(loadedAtMillis, 36) + "." + changeCount,
+                changeCount,
+                statuses.length,
+                Base64.getEncoder().encodeToString(packed)
+        );
+        return statusVector;
+    }
+
+    public List<PerformanceSeatResponse> toSeatResponses() {
+        List<PerformanceSeatResponse> result = new ArrayList<>(seatIds.length);
+        for (int i = 0; i < seatIds.length; i++) {
+            result.add(new PerformanceSeatResponse(
+                    seatIds[i],
+                    floors[i],
+                    blockNames[blockOfSeat[i]],
+                    subBlockNames[subBlockOfSeat[i]],
+                    rowNumbers[i],
+                    seatNumbers[i],
+                    priceGradeIds[i],
+                    STATUSES[statuses[i]].name()
+            ));
+        }
+        return result;
+    }
+
+    public List<BlockSummaryResponse> toBlockSummaries() {
+        List<BlockSummaryResponse> result = new ArrayList<>(blockOrder.length);
+        for (int b : blockOrder) {
+            result.add(BlockSummaryResponse.of(
+                    blockFloors[b], blockNames[b], blockTotals[b], Math.max(0, blockAvailable[b])));
+        }
+        return result;
+    }
+
+    public List<SubBlockSummaryResponse> toSubBlockSummaries(String block) {
+        int[] subBlocks = subBlocksByBlock.get(block);
+        if (subBlocks == null) {
+            return List.of();
+        }
+
+        List<SubBlockSummaryResponse> result = new ArrayList<>(subBlocks.length);
+        for (int s : subBlocks) {
+            result.add(SubBlockSummaryResponse.of(
+                    subBlockNames[s], subBlockTotals[s], Math.max(0, subBlockAvailable[s])));
+        }
+        return result;
+    }
+
+    public List<SeatDetailResponse> toSeatDetails(String block, String subBlock) {
+        int[] subBlocks = subBlocksByBlock.get(block);
+        if (subBlocks == null || subBlock == null) {
+            return List.of();
+        }
+
+        for (int s : subBlocks) {
+            if (subBlock.equals(subBlockNames[s])) {
+                int[] ordinals = subBlockSeats[s];
+                List<SeatDetailResponse> result = new ArrayList<>(ordinals.length);
+                for (int i : ordinals) {
+                    result.add(SeatDetailResponse.of(
+                            seatIds[i], rowNumbers[i], seatNumbers[i], priceGradeIds[i]));
+                }
+                return result;
+            }
+        }
+        return List.of();
+    }
+
+    public Long getScheduleId() {
+        return scheduleId;
+    }
+
+    public int size() {
+        return seatIds.length;
+    }
+
+    public int blockCount() {
+        return blockNames.length;
+    }
+
+    public long getAppliedLogVersion() {
+        return appliedLogVersion;
+    }
+
+    public void markAppliedLogVersion(long version) {
+        this.appliedLogVersion = version;
+    }
+
+    // ---------------------------
+    // 유휴 상태 관리
+    // ---------------------------
+    public void touch() {
+        this.lastAccessMillis = System.currentTimeMillis();
+    }
+
+    public boolean isIdleSince(long thresholdMillis) {
+        return lastAccessMillis < thresholdMillis;
+    }
+
+    public record StatusVector(String version, long changeCount, int seatCount, String data) {
+    }
+
+    private static int[] sortedIndexes(int size, Comparator<Integer> comparator) {
+        List<Integer> indexes = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            indexes.add(i);
+        }
+        indexes.sort(comparator);
+        return indexes.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
@@ -0,0 +1,59 @@
+package back.kalender.domain.booking.performanceSeat.service;
+
+import back.kalender.domain.booking.performanceSeat.dto.SeatLayoutResponse;
+import back.kalender.domain.booking.performanceSeat.repository.PerformanceSeatRepository;
+import back.kalender.global.common.util.ContentVersion;
+import back.kalender.global.exception.ErrorCode;
+import back.kalender.global.exception.ServiceException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 회차 좌석 배치 조회
+ *
+ * - 배치(층/블록/서브블록/열/번호/좌표/등급)는 회차 생성 후 바뀌지 않음 → 회차 단위 2단 캐시
+ * - 상태는 포함하지 않음 (상태는 좌석 상태 읽기 모델에서 조회)
+ * - 배치 변경 시 PerformanceChangedEvent → evict
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatLayoutService {
+
+    private final PerformanceSeatRepository performanceSeatRepository;
+
+    @Cacheable(cacheNames = "seatLayout", key = "#scheduleId")
+    public SeatLayoutResponse getLayout(Long scheduleId) {
+        List<SeatLayoutResponse.Seat> seats = performanceSeatRepository.findSeatLayouts(scheduleId).stream()
+                .map(v -> new SeatLayoutResponse.Seat(
+                        v.getSeatId(),
+                        v.getFloor(),
+                        v.getBlock(),
+                        v.getSubBlock(),
+                        v.getRowNumber(),
+                        v.getSeatNumber(),
+                        v.getX(),
+                        v.getY(),
+                        v.getPriceGradeId()
+                ))
+                .toList();
+
+        if (seats.isEmpty()) {
+            throw new ServiceException(ErrorCode.SCHEDULE_NOT_FOUND);
+        }
+
+        String version = ContentVersion.of(seats.toString());
+        log.info("[SeatLayout] 좌석 배치 로딩 - scheduleId={}, seatCount={}, version={}",
+                scheduleId, seats.size(), version);
+        return new SeatLayoutResponse(scheduleId, version, seats);
+    }
+
+    @CacheEvict(cacheNames = "seatLayout", key = "#scheduleId")
+    public void evict(Long scheduleId) {
+    }
+}
@@ -0,0 +1,200 @@
+package back.kalender.domain.booking.performanceSeat.service;
+
+import back.kalender.domain.booking.performanceSeat.entity.PerformanceSeat;
+import back.kalender.domain.booking.performanceSeat.entity.SeatStatus;
+import back.kalender.domain.booking.performanceSeat.repository.PerformanceSeatRepository;
+import back.kalender.domain.booking.seatHold.service.SeatChangeLog;
+import back.kalender.domain.booking.seatHold.service.SeatChangeRecord;
+import back.kalender.domain.booking.seatHold.service.SeatHoldIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 회차별 좌석 상태 읽기 모델 저장소
+ *
+ * - 최초 조회 시 DB에서 한 번 로딩 (회차당 1회) + Redis HOLD 인덱스 반영
+ * - 이후 HOLD/RELEASE/SOLD 커밋 이벤트로 갱신 (SeatStateEventListener)
+ * - 다른 서버에서 발생한 변경은 변경 로그(Redis Stream)로 따라잡기 (SeatStateResyncScheduler)
+ *   - 로그 보존 구간을 벗어난 경우에만 DB 기준 재동기화
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatStateStore {
+
+    private final PerformanceSeatRepository performanceSeatRepository;
+    private final SeatHoldIndex seatHoldIndex;
+    private final SeatChangeLog seatChangeLog;
+
+    private static final int CATCH_UP_PAGE_SIZE = 200;
+
+    private final Map<Long, ScheduleSeatState> states = new ConcurrentHashMap<>();
+
+    // 회차 상태 조회 (없으면 DB 로딩)
+    public ScheduleSeatState get(Long scheduleId) {
+        ScheduleSeatState state = states.computeIfAbsent(scheduleId, this::load);
+        state.touch();
+        return state;
+    }
+
+    // 좌석 상태 반영 (로딩되지 않은 회차는 무시 - 최초 조회 시 DB 기준으로 로딩됨)
+    public void apply(Long scheduleId, Collection<Long> seatIds, SeatStatus status) {
+        ScheduleSeatState state = states.get(scheduleId);
+        if (state == null) {
+            return;
+        }
+
+        int changed = 0;
+        for (Long seatId : seatIds) {
+            if (state.apply(seatId, status)) {
+                changed++;
+            }
+        }
+
+        log.debug("[SeatState] 상태 반영 - scheduleId={}, status={}, changed={}/{}",
+                scheduleId, status, changed, seatIds.size());
+    }
+
+    /**
+     * 변경 로그 기준 따라잡기
+     * - 마지막 반영 버전 이후 변경이 없으면 종료 (버전 조회 1회, DB 조회 없음)
+     * - 보존 구간 안이면 로그 레코드를 버전 순서대로 반영 (XRANGE 페이지 단위)
+     * @return 로그로 따라잡지 못해 (보존 구간 밖, 버전 초기화) DB 재동기화가 필요하면 false
+     */
+    public boolean catchUp(Long scheduleId) {
+        ScheduleSeatState state = states.get(scheduleId);
+        if (state == null) {
+            return true;
+        }
+
+        long currentVersion = seatChangeLog.currentVersion(scheduleId);
+        long cursor = state.getAppliedLogVersion();
+        if (currentVersion == cursor) {
+            return true;
+        }
+        if (currentVersion < cursor) {
+            return false;
+        }
+
+        int changed = 0;
+        while (cursor < currentVersion) {
+            List<SeatChangeRecord> page = seatChangeLog.readSince(scheduleId, cursor, CATCH_UP_PAGE_SIZE);
+            if (page.isEmpty() || page.get(0).version() > cursor + 1) {
+                return false;
+            }
+
+            for (SeatChangeRecord record : page) {
+                if (state.apply(record.seatId(), record.status())) {
+                    changed++;
+                }
+            }
+            cursor = page.get(page.size() - 1).version();
+            state.markAppliedLogVersion(cursor);
+
+            if (page.size() < CATCH_UP_PAGE_SIZE) {
+                break;
+            }
+        }
+
+        log.debug("[SeatState] 변경 로그 반영 - scheduleId={}, version={}, changed={}",
+                scheduleId, cursor, changed);
+        return true;
+    }
+
+    /**
+     * DB 상태 + Redis HOLD 인덱스 기준 재동기화
+     * - 좌석 배치는 그대로 두고 상태만 다시 반영
+     * - DB가 AVAILABLE이어도 Redis에서 HOLD 중이면 HOLD (Redis 선점이 DB 커밋보다 먼저 일어남)
+     * - 조회 전 로그 버전을 기록해 두고 이후 변경은 다음 따라잡기에서 다시 반영
+     */
+    public void resync(Long scheduleId) {
+        ScheduleSeatState state = states.get(scheduleId);
+        if (state == null) {
+            return;
+        }
+
+        long version = seatChangeLog.currentVersion(scheduleId);
+        Set<Long> heldSeatIds = seatHoldIndex.findHeldSeatIds(scheduleId);
+
+        int changed = 0;
+        for (PerformanceSeatRepository.SeatStatusView view : performanceSeatRepository.findSeatStatuses(scheduleId)) {
+            SeatStatus status = view.getStatus() == SeatStatus.AVAILABLE && heldSeatIds.contains(view.getSeatId())
+                    ? SeatStatus.HOLD
+                    : view.getStatus();
+
+            if (state.apply(view.getSeatId(), status)) {
+                changed++;
+            }
+        }
+        state.markAppliedLogVersion(version);
+
+        if (changed > 0) {
+            log.info("[SeatState] 재동기화 보정 - scheduleId={}, changed={}", scheduleId, changed);
+        }
+    }
+
+    /**
+     * 카운터 정합성 점검
+     * - DB 블록별 좌석 수와 읽기 모델 배치가 다르면 (좌석 추가/삭제) 회차 전체 재로딩
+     * - 배치가 같으면 상태 배열 기준으로 가용 카운트 재계산
+     */
+    public void reconcile(Long scheduleId) {
+        ScheduleSeatState state = states.get(scheduleId);
+        if (state == null) {
+            return;
+        }
+
+        List<PerformanceSeatRepository.BlockCountView> totals =
+                performanceSeatRepository.countTotalByBlock(scheduleId);
+        long dbTotal = totals.stream()
+                .mapToLong(PerformanceSeatRepository.BlockCountView::getCnt)
+                .sum();
+
+        if (dbTotal != state.size() || totals.size() != state.blockCount()) {
+            log.warn("[SeatState] 좌석 배치 변경 감지, 재로딩 - scheduleId={}, dbSeats={}, cachedSeats={}",
+                    scheduleId, dbTotal, state.size());
+            states.computeIfPresent(scheduleId, (id, old) -> load(id));
+            return;
+        }
+
+        int fixed = state.recountAvailable();
+        if (fixed > 0) {
+            log.warn("[SeatState] 가용 카운트 보정 - scheduleId={}, fixedCounters={}", scheduleId, fixed);
+        }
+    }
+
+    // 일정 시간 조회가 없던 회차 제거
+    public int evictIdle(long idleMillis) {
+        long threshold = System.currentTimeMillis() - idleMillis;
+        int before = states.size();
+        states.values().removeIf(state -> state.isIdleSince(threshold));
+        return before - states.size();
+    }
+
+    public Set<Long> loadedScheduleIds() {
+        return Set.copyOf(states.keySet());
+    }
+
+    private ScheduleSeatState load(Long scheduleId) {
+        long version = seatChangeLog.currentVersion(scheduleId);
+        List<PerformanceSeat> seats = performanceSeatRepository.findAllByScheduleId(scheduleId);
+        ScheduleSeatState state = ScheduleSeatState.of(scheduleId, seats);
+        state.markAppliedLogVersion(version);
+
+        for (Long seatId : seatHoldIndex.findHeldSeatIds(scheduleId)) {
+            if (state.statusOf(seatId) == SeatStatus.AVAILABLE) {
+                state.apply(seatId, SeatStatus.HOLD);
+            }
+        }
+
+        log.info("[SeatState] 회차 좌석 상태 로딩 - scheduleId={}, seatCount={}", scheduleId, state.size());
+        return state;
+    }
+}
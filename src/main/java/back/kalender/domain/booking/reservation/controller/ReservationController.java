@@ -5,11 +5,13 @@ import back.kalender.domain.booking.reservation.dto.request.ReleaseSeatsRequest;
 import back.kalender.domain.booking.reservation.dto.request.UpdateDeliveryInfoRequest;
 import back.kalender.domain.booking.reservation.dto.response.*;
 import back.kalender.domain.booking.reservation.service.ReservationService;
+import back.kalender.domain.booking.seatHold.service.SeatChanges;
 import back.kalender.global.security.user.CustomUserDetails;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -127,6 +129,19 @@ public class ReservationController implements ReservationControllerSpec {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(value = "/schedule/{scheduleId}/seats/changes", produces = SeatChanges.MEDIA_TYPE)
+    @Override
+    public ResponseEntity<byte[]> getSeatChangesBinary(
+            @PathVariable Long scheduleId,
+            @RequestParam(defaultValue = "0") Long sinceVersion,
+            @RequestHeader("X-BOOKING-SESSION-ID") String bookingSessionId
+    ) {
+        byte[] body = reservationService.getSeatChangesBinary(scheduleId, sinceVersion);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(SeatChanges.MEDIA_TYPE))
+                .body(body);
+    }
+
     @GetMapping("/my-reservations")
     @Override
     public ResponseEntity<MyReservationListResponse> getMyReservations(
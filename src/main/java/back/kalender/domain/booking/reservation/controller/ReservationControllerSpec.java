@@ -5,6 +5,7 @@ import back.kalender.domain.booking.reservation.dto.request.HoldSeatsRequest;
 import back.kalender.domain.booking.reservation.dto.request.ReleaseSeatsRequest;
 import back.kalender.domain.booking.reservation.dto.request.UpdateDeliveryInfoRequest;
 import back.kalender.domain.booking.reservation.dto.response.*;
+import back.kalender.domain.booking.seatHold.service.SeatChanges;
 import back.kalender.global.security.user.CustomUserDetails;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -420,6 +421,31 @@ public interface ReservationControllerSpec {
             @RequestHeader("X-BOOKING-SESSION-ID") String bookingSessionId
             );
 
+    @Operation(
+            summary = "좌석 상태 변경 조회 (바이너리)",
+            description = """
+                    Accept: application/vnd.kalender.seat-changes 요청 시 고정 길이 바이너리로 응답합니다. (big-endian)
+                    - 헤더 13 bytes: flags(1, bit0 = 전체 재조회 필요) | currentVersion(8) | count(4)
+                    - 이벤트 33 bytes × count: seatId(8) | status(1, 0=AVAILABLE 1=HOLD 2=SOLD) | userId(8) | version(8) | epochMillis(8)
+                    - 그 외 Accept는 기존 JSON 응답
+                    """
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공",
+                    content = @Content(mediaType = SeatChanges.MEDIA_TYPE)
+            )
+    })
+    ResponseEntity<byte[]> getSeatChangesBinary(
+            @Parameter(description = "회차 ID", required = true)
+            @PathVariable Long scheduleId,
+
+            @Parameter(description = "마지막으로 받은 버전 (0부터 시작)", example = "0")
+            @RequestParam(defaultValue = "0") Long sinceVersion,
+            @RequestHeader("X-BOOKING-SESSION-ID") String bookingSessionId
+    );
+
     @Operation(
             summary = "내 예매 내역 조회",
             description = "완료된 예매 내역(결제 완료, 취소)을 조회합니다."
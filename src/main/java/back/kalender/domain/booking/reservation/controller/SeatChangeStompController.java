@@ -0,0 +1,35 @@
+package back.kalender.domain.booking.reservation.controller;
+
+import back.kalender.domain.booking.reservation.dto.response.SeatChangesResponse;
+import back.kalender.domain.booking.reservation.service.ReservationService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
+import org.springframework.stereotype.Controller;
+
+/**
+ * 좌석 변경 푸시 구독 핸드셰이크
+ *
+ * 1. SUBSCRIBE /topic/seat-changes/{scheduleId}        : 실시간 변경 수신 시작
+ * 2. SUBSCRIBE /app/seat-changes/{scheduleId}          : sinceVersion 헤더 이후 누락분을 1회 응답
+ * 3. 이후 푸시 메시지는 version > 핸드셰이크 currentVersion 인 것만 적용
+ */
+@Tag(name = "Seat Change Push", description = "좌석 변경 실시간 푸시")
+@Controller
+@RequiredArgsConstructor
+@Slf4j
+public class SeatChangeStompController {
+
+    private final ReservationService reservationService;
+
+    @SubscribeMapping("/seat-changes/{scheduleId}")
+    public SeatChangesResponse resume(
+            @DestinationVariable Long scheduleId,
+            @Header(name = "sinceVersion", defaultValue = "0") Long sinceVersion
+    ) {
+        return reservationService.getSeatChanges(scheduleId, sinceVersion);
+    }
+}
@@ -0,0 +1,24 @@
+package back.kalender.domain.booking.reservation.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * 좌석 변경 푸시 메시지 (STOMP /topic/seat-changes/{scheduleId})
+ * - 같은 좌석의 연속 변경은 마지막 상태만 전달 (coalesce)
+ * - 클라이언트 버전이 fromVersion보다 작으면 누락 구간 존재 → REST 폴링/재구독으로 보정
+ */
+public record SeatChangesPushMessage(
+        @Schema(description = "이 메시지가 포함하는 시작 버전(이전 메시지의 currentVersion)", example = "10")
+        Long fromVersion,
+
+        @Schema(description = "반영 후 최신 버전", example = "15")
+        Long currentVersion,
+
+        @Schema(description = "변경 이벤트가 너무 많아 전체 좌석 재조회가 필요한 경우 true", example = "false")
+        boolean refreshRequired,
+
+        List<SeatChangesResponse.SeatChangeEvent> changes
+) {
+}
@@ -6,6 +6,10 @@ import java.util.List;
 
 public record SeatChangesResponse(
         Long currentVersion,
+
+        @Schema(description = "변경 이벤트가 너무 많아 전체 좌석 재조회가 필요한 경우 true", example = "false")
+        boolean refreshRequired,
+
         List<SeatChangeEvent> changes
 ) {
     @Schema(description = "좌석 상태 변경 이벤트")
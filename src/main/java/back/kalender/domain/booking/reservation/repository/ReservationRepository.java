@@ -4,7 +4,10 @@ import back.kalender.domain.booking.reservation.entity.Reservation;
 import back.kalender.domain.booking.reservation.entity.ReservationStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -40,4 +43,37 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
 
     // 사용자 + 회차 + 상태로 예매 조회
     List<Reservation> findByUserIdAndPerformanceScheduleIdAndStatusIn(Long userId, Long scheduleId, List<ReservationStatus> reservationStatuses);
+
+    // 회차 + 사용자 목록 + 상태로 예매 일괄 조회 + row 잠금 (Active sweep용, 처리 중 결제로 상태가 바뀌지 않도록)
+    // id 순서로 잠가 동시 처리 간 교착 방지
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        SELECT r FROM Reservation r
+        WHERE r.performanceScheduleId = :scheduleId
+          AND r.userId IN :userIds
+          AND r.status IN :statuses
+        ORDER BY r.id
+        """)
+    List<Reservation> findActiveForUpdate(
+            @Param("scheduleId") Long scheduleId,
+            @Param("userIds") Collection<Long> userIds,
+            @Param("statuses") Collection<ReservationStatus> statuses
+    );
+
+    // from 상태인 예매만 포기 처리 (ABANDONED, 만료 정보 제거)
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE Reservation r
+        SET r.status = back.kalender.domain.booking.reservation.entity.ReservationStatus.ABANDONED,
+            r.expiresAt = null,
+            r.remainingSeconds = null,
+            r.updatedAt = :now
+        WHERE r.id IN :ids
+          AND r.status IN :from
+        """)
+    int abandonAll(
+            @Param("ids") Collection<Long> ids,
+            @Param("from") Collection<ReservationStatus> from,
+            @Param("now") LocalDateTime now
+    );
 }
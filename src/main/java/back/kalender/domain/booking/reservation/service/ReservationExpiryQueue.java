@@ -0,0 +1,93 @@
+package back.kalender.domain.booking.reservation.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * HOLD 예매 만료 큐
+ *
+ * <Redis 키>
+ * - reservation:expiry : ZSET (member = reservationId, score = 만료 시각 epoch ms)
+ *
+ * - 등록: HOLD 시 예매 만료 시각으로 ZADD (재HOLD 시 갱신)
+ * - 선점: 만료 도래 항목을 스크립트로 리스 시각까지 미뤄두고 반환 (서버 간 중복 처리 방지)
+ * - 제거: 만료 처리 완료 후 점수가 선점 리스 시각 그대로일 때만 ZREM (처리 전 서버 장애 시 리스 이후 재선점)
+ *   (처리 중 재HOLD로 schedule()이 새 만료 시각을 등록했으면 유지)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationExpiryQueue {
+
+    private static final String EXPIRY_KEY = "reservation:expiry";
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/reservation-expiry-claim.lua"), List.class);
+    private static final RedisScript<Long> REMOVE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/reservation-expiry-remove.lua"), Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // 만료 예정 등록
+    public void schedule(Long reservationId, LocalDateTime expiresAt) {
+        long expiresAtMs = expiresAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        redisTemplate.opsForZSet().add(EXPIRY_KEY, reservationId.toString(), expiresAtMs);
+    }
+
+    public void remove(Long reservationId) {
+        redisTemplate.opsForZSet().remove(EXPIRY_KEY, reservationId.toString());
+    }
+
+    // 선점한 항목 제거 (그 사이 새 만료 시각이 등록됐으면 유지)
+    public boolean removeIfClaimed(Long reservationId, long leaseUntilMillis) {
+        Long removed = redisTemplate.execute(
+                REMOVE_SCRIPT,
+                List.of(EXPIRY_KEY),
+                reservationId.toString(),
+                String.valueOf(leaseUntilMillis)
+        );
+        return removed != null && removed > 0;
+    }
+
+    /**
+     * 만료 도래 예매 선점
+     * - 선점된 항목은 nowMillis + leaseMillis 까지 다른 서버에서 보이지 않음
+     */
+    public Claimed claimDue(long nowMillis, int limit, long leaseMillis) {
+        @SuppressWarnings("unchecked")
+        List<Object> result = redisTemplate.execute(
+                CLAIM_SCRIPT,
+                List.of(EXPIRY_KEY),
+                String.valueOf(nowMillis),
+                String.valueOf(limit),
+                String.valueOf(leaseMillis)
+        );
+
+        long leaseUntil = nowMillis + leaseMillis;
+        if (result == null || result.isEmpty()) {
+            return new Claimed(List.of(), Long.MAX_VALUE, leaseUntil);
+        }
+
+        long nextDeadline = (long) Double.parseDouble(String.valueOf(result.get(0)));
+        List<Long> reservationIds = new ArrayList<>(result.size() - 1);
+        for (int i = 1; i < result.size(); i++) {
+            reservationIds.add(Long.parseLong(String.valueOf(result.get(i))));
+        }
+
+        return new Claimed(reservationIds, nextDeadline < 0 ? Long.MAX_VALUE : nextDeadline, leaseUntil);
+    }
+
+    // 선점 결과 (nextDeadlineMillis: 남은 항목 중 가장 이른 만료 시각, 없으면 Long.MAX_VALUE
+    //           leaseUntilMillis: 선점 항목에 설정된 리스 시각, 제거 시 비교용)
+    public record Claimed(List<Long> reservationIds, long nextDeadlineMillis, long leaseUntilMillis) {}
+}
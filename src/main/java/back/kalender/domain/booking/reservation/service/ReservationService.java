@@ -2,6 +2,7 @@ package back.kalender.domain.booking.reservation.service;
 
 import back.kalender.domain.booking.performanceSeat.entity.PerformanceSeat;
 import back.kalender.domain.booking.performanceSeat.entity.SeatStatus;
+import back.kalender.domain.booking.performanceSeat.event.SeatStatusChangedEvent;
 import back.kalender.domain.booking.performanceSeat.repository.PerformanceSeatRepository;
 import back.kalender.domain.booking.reservation.dto.request.HoldSeatsRequest;
 import back.kalender.domain.booking.reservation.dto.request.ReleaseSeatsRequest;
@@ -14,19 +15,23 @@ import back.kalender.domain.booking.reservation.repository.ReservationRepository
 import back.kalender.domain.booking.reservationSeat.entity.ReservationSeat;
 import back.kalender.domain.booking.reservationSeat.repository.ReservationSeatRepository;
 import back.kalender.domain.booking.seatHold.event.SeatReleaseCompletedEvent;
+import back.kalender.domain.booking.seatHold.event.SeatSoldCompletedEvent;
+import back.kalender.domain.booking.seatHold.service.SeatChangeLog;
+import back.kalender.domain.booking.seatHold.service.SeatChangeRecord;
+import back.kalender.domain.booking.seatHold.service.SeatChanges;
 import back.kalender.domain.booking.seatHold.service.SeatHoldService;
 import back.kalender.domain.booking.session.service.BookingSessionService;
 import back.kalender.domain.performance.performance.entity.Performance;
 import back.kalender.domain.performance.performance.repository.PerformanceRepository;
+import back.kalender.domain.performance.performance.service.PerformanceQueryService;
 import back.kalender.domain.performance.performanceHall.entity.PerformanceHall;
 import back.kalender.domain.performance.performanceHall.repository.PerformanceHallRepository;
 import back.kalender.domain.performance.priceGrade.entity.PriceGrade;
-import back.kalender.domain.performance.priceGrade.repository.PriceGradeRepository;
 import back.kalender.domain.performance.schedule.entity.PerformanceSchedule;
 import back.kalender.domain.performance.schedule.repository.PerformanceScheduleRepository;
+import back.kalender.domain.performance.schedule.service.ScheduleQueryService;
 import back.kalender.global.exception.ErrorCode;
 import back.kalender.global.exception.ServiceException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
@@ -37,10 +42,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
@@ -56,13 +62,14 @@ public class ReservationService {
     private final ReservationRepository reservationRepository;
     private final ReservationSeatRepository reservationSeatRepository;
     private final SeatHoldService seatHoldService;
+    private final SeatChangeLog seatChangeLog;
     private final PerformanceScheduleRepository scheduleRepository;
     private final PerformanceHallRepository performanceHallRepository;
     private final PerformanceRepository performanceRepository;
-    private final PriceGradeRepository priceGradeRepository;
     private final PerformanceSeatRepository performanceSeatRepository;
+    private final ScheduleQueryService scheduleQueryService;
+    private final PerformanceQueryService performanceQueryService;
     private final RedisTemplate<String, String> redisTemplate;
-    private final ObjectMapper objectMapper;
     private final ReservationMapper reservationMapper;
     private final BookingSessionService bookingSessionService;
     private final ApplicationEventPublisher eventPublisher;
@@ -131,15 +138,10 @@ public class ReservationService {
         // 1. Reservation 조회 및 권한 검증
         Reservation reservation = findAndValidateReservation(reservationId, userId);
 
-        // 2. Performance, Schedule, Hall 정보 조회
-        PerformanceSchedule schedule = scheduleRepository.findById(reservation.getPerformanceScheduleId())
-                .orElseThrow(() -> new ServiceException(ErrorCode.SCHEDULE_NOT_FOUND));
-
-        Performance performance = performanceRepository.findById(schedule.getPerformanceId())
-                .orElseThrow(() -> new ServiceException(ErrorCode.PERFORMANCE_NOT_FOUND));
-
-        PerformanceHall hall = performanceHallRepository.findById(performance.getPerformanceHallId())
-                .orElseThrow(() -> new ServiceException(ErrorCode.PERFORMANCE_HALL_NOT_FOUND));
+        // 2. Performance, Schedule, Hall 정보 조회 (캐시)
+        PerformanceSchedule schedule = scheduleQueryService.getSchedule(reservation.getPerformanceScheduleId());
+        Performance performance = performanceQueryService.getPerformance(schedule.getPerformanceId());
+        PerformanceHall hall = performanceQueryService.getPerformanceHall(performance.getPerformanceHallId());
 
         // 3. 선택된 좌석 정보 조회
         List<ReservationSeat> reservationSeats = reservationSeatRepository.findByReservationId(reservationId);
@@ -152,11 +154,8 @@ public class ReservationService {
                 .stream()
                 .collect(Collectors.toMap(PerformanceSeat::getId, s -> s));
 
-        Set<Long> priceGradeIds = performanceSeatMap.values().stream()
-                .map(PerformanceSeat::getPriceGradeId)
-                .collect(Collectors.toSet());
-
-        Map<Long, PriceGrade> priceGradeMap = priceGradeRepository.findAllById(priceGradeIds)
+        // 좌석 가격 등급은 모두 이 공연 소속 → 공연 단위 캐시에서 조회
+        Map<Long, PriceGrade> priceGradeMap = performanceQueryService.getPriceGrades(performance.getId())
                 .stream()
                 .collect(Collectors.toMap(PriceGrade::getId, g -> g));
 
@@ -273,18 +272,22 @@ public class ReservationService {
                 .map(ReservationSeat::getPerformanceSeatId)
                 .toList();
 
-        // 5. 좌석 상태 복구 (SOLD → AVAILABLE)
-        List<PerformanceSeat> seats = performanceSeatRepository.findAllById(seatIds);
-        for (PerformanceSeat seat : seats) {
-            seat.updateStatus(SeatStatus.AVAILABLE);
-            seat.clearHoldInfo();
+        // 5. 좌석 상태 복구 (SOLD → AVAILABLE, 조건부 UPDATE 한 번)
+        int restored = performanceSeatRepository.transitionAll(
+                seatIds, List.of(SeatStatus.SOLD), SeatStatus.AVAILABLE, LocalDateTime.now());
+        if (restored != seatIds.size()) {
+            log.warn("[Reservation] SOLD 아닌 좌석 포함 - reservationId={}, expected={}, restored={}",
+                    reservationId, seatIds.size(), restored);
         }
-        performanceSeatRepository.saveAll(seats);
 
         // 6. 예매 상태 변경 (PAID → CANCELLED)
         reservation.cancel();
         Reservation cancelledReservation = reservationRepository.save(reservation);
 
+        eventPublisher.publishEvent(
+                new SeatStatusChangedEvent(schedule.getId(), seatIds, SeatStatus.AVAILABLE)
+        );
+
         log.info("[Reservation] 예매 취소 DB 완료 - reservationId={}, userId={}, seatCount={}",
                 reservationId, userId, seatIds.size());
 
@@ -331,23 +334,8 @@ public class ReservationService {
             SeatStatus status,
             Long userId
     ) {
-        // 버전 증가
-        String versionKey = String.format("seat:version:%d", scheduleId);
-        Long version = redisTemplate.opsForValue().increment(versionKey);
-
-        // 변경 이벤트 저장 (TTL 60초)
-        String changeKey = String.format("seat:changes:%d:%d", scheduleId, version);
-        Map<String, Object> changeEvent = Map.of(
-                "seatId", seatId,
-                "status", status.name(),
-                "userId", userId != null ? userId : "null",
-                "version", version,
-                "timestamp", LocalDateTime.now().toString()
-        );
-
         try {
-            String eventJson = objectMapper.writeValueAsString(changeEvent);
-            redisTemplate.opsForValue().set(changeKey, eventJson, 60, TimeUnit.SECONDS);
+            seatChangeLog.record(scheduleId, seatId, status, userId);
         } catch (Exception e) {
             log.warn("[SeatChange] 이벤트 발행 실패 - scheduleId={}, seatId={}", scheduleId, seatId, e);
         }
@@ -355,31 +343,30 @@ public class ReservationService {
 
     // 좌석 변경 내역 조회 (폴링)
     public SeatChangesResponse getSeatChanges(Long scheduleId, Long sinceVersion) {
-        List<Map<String, Object>> changes = seatHoldService.getSeatChanges(
+        SeatChanges changes = seatHoldService.getSeatChanges(
                 scheduleId,
                 sinceVersion
         );
 
-        // Map을 DTO로 변환
-        List<SeatChangesResponse.SeatChangeEvent> events = changes.stream()
+        List<SeatChangesResponse.SeatChangeEvent> events = changes.records().stream()
                 .map(this::mapToSeatChangeEvent)
                 .toList();
 
-        // 현재 최신 버전 조회
-        Long currentVersion = events.isEmpty() ?
-                sinceVersion :
-                events.get(events.size() - 1).version();
+        return new SeatChangesResponse(changes.currentVersion(), changes.refreshRequired(), events);
+    }
 
-        return new SeatChangesResponse(currentVersion, events);
+    // 좌석 변경 내역 조회 (바이너리 응답, Redis 레코드 형식 그대로)
+    public byte[] getSeatChangesBinary(Long scheduleId, Long sinceVersion) {
+        return seatHoldService.getSeatChanges(scheduleId, sinceVersion).toBinary();
     }
 
-    private SeatChangesResponse.SeatChangeEvent mapToSeatChangeEvent(Map<String, Object> map) {
+    SeatChangesResponse.SeatChangeEvent mapToSeatChangeEvent(SeatChangeRecord record) {
         return new SeatChangesResponse.SeatChangeEvent(
-                ((Number) map.get("seatId")).longValue(),
-                (String) map.get("status"),
-                ((Number) map.get("userId")).longValue(),
-                ((Number) map.get("version")).longValue(),
-                (String) map.get("timestamp")
+                record.seatId(),
+                record.status().name(),
+                record.userId(),
+                record.version(),
+                record.changedAt().toString()
         );
     }
 
@@ -465,17 +452,14 @@ public class ReservationService {
         // 1. Reservation 조회 및 권한 검증
         Reservation reservation = findAndValidateReservation(reservationId, userId);
 
-        // 2. Schedule 조회
-        PerformanceSchedule schedule = scheduleRepository.findById(reservation.getPerformanceScheduleId())
-                .orElseThrow(() -> new ServiceException(ErrorCode.SCHEDULE_NOT_FOUND));
+        // 2. Schedule 조회 (캐시)
+        PerformanceSchedule schedule = scheduleQueryService.getSchedule(reservation.getPerformanceScheduleId());
 
-        // 3. Performance 조회
-        Performance performance = performanceRepository.findById(schedule.getPerformanceId())
-                .orElseThrow(() -> new ServiceException(ErrorCode.PERFORMANCE_NOT_FOUND));
+        // 3. Performance 조회 (캐시)
+        Performance performance = performanceQueryService.getPerformance(schedule.getPerformanceId());
 
-        // 4. Hall 조회
-        PerformanceHall hall = performanceHallRepository.findById(performance.getPerformanceHallId())
-                .orElseThrow(() -> new ServiceException(ErrorCode.PERFORMANCE_HALL_NOT_FOUND));
+        // 4. Hall 조회 (캐시)
+        PerformanceHall hall = performanceQueryService.getPerformanceHall(performance.getPerformanceHallId());
 
         // 5. 좌석 정보 조회
         List<ReservationSeat> reservationSeats = reservationSeatRepository
@@ -489,11 +473,7 @@ public class ReservationService {
                 .stream()
                 .collect(Collectors.toMap(PerformanceSeat::getId, s -> s));
 
-        Set<Long> priceGradeIds = seatMap.values().stream()
-                .map(PerformanceSeat::getPriceGradeId)
-                .collect(Collectors.toSet());
-
-        Map<Long, PriceGrade> priceGradeMap = priceGradeRepository.findAllById(priceGradeIds)
+        Map<Long, PriceGrade> priceGradeMap = performanceQueryService.getPriceGrades(performance.getId())
                 .stream()
                 .collect(Collectors.toMap(PriceGrade::getId, g -> g));
 
@@ -531,41 +511,49 @@ public class ReservationService {
             return;
         }
 
-        List<Long> seatIds = reservationSeats.stream()
+        List<Long> heldSeatIds = reservationSeats.stream()
                 .map(ReservationSeat::getPerformanceSeatId)
                 .toList();
 
-        // 3. DB 좌석 상태 복구
-        List<PerformanceSeat> seats = performanceSeatRepository.findAllById(seatIds);
-        for (PerformanceSeat seat : seats) {
-            if (seat.getStatus() == SeatStatus.HOLD) {
-                seat.updateStatus(SeatStatus.AVAILABLE);
-                seat.clearHoldInfo();
-            }
-        }
-        performanceSeatRepository.saveAll(seats);
-
-        // 4. Redis HOLD owner 키 삭제
-        for (Long seatId : seatIds) {
-            String holdOwnerKey = String.format(
-                    "seat:hold:owner:%d:%d",
-                    scheduleId,
-                    seatId
-            );
-            redisTemplate.delete(holdOwnerKey);
-
-            // 폴링 이벤트 발행
-            recordSeatChangeEvent(scheduleId, seatId, SeatStatus.AVAILABLE, null);
-        }
+        // 3. DB 좌석 상태 복구 (이 예매 사용자가 HOLD 중인 좌석만, 다른 사용자가 다시 HOLD한 좌석은 유지)
+        int released = performanceSeatRepository.releaseHeldBy(
+                heldSeatIds, reservation.getUserId(), LocalDateTime.now());
+        List<Long> seatIds = excludeHeldByOthers(heldSeatIds, reservation.getUserId(), released, reservationId);
 
-        // 5. Reservation 만료
+        // 4. Reservation 만료
         reservation.expire();
         reservationRepository.save(reservation);
 
+        // 5. 커밋 후 Redis 정리 (owner 비교 스크립트 1회: owner 삭제 + 인덱스 제거 + 변경 로그, 읽기 모델 반영)
+        //    롤백 시에는 Redis를 건드리지 않고, 그 사이 다른 사용자가 선점한 좌석의 owner는 유지
+        if (!seatIds.isEmpty()) {
+            eventPublisher.publishEvent(
+                    new SeatReleaseCompletedEvent(scheduleId, seatIds, reservation.getUserId(), SeatStatus.AVAILABLE)
+            );
+        }
+
         log.info("[Reservation] 예매 만료 처리 완료 - reservationId={}, seatCount={}",
                 reservationId, seatIds.size());
     }
 
+    /**
+     * 만료 엔진용 예매 만료 처리
+     * - HOLD 상태이고 만료 시각이 지난 경우에만 처리 (결제/취소/재HOLD된 예매는 무시)
+     */
+    @Transactional
+    public void expireIfDue(Long reservationId) {
+        Reservation reservation = reservationRepository.findById(reservationId).orElse(null);
+
+        if (reservation == null
+                || reservation.getStatus() != ReservationStatus.HOLD
+                || !reservation.isExpired()) {
+            log.debug("[Reservation] 만료 대상 아님 - reservationId={}", reservationId);
+            return;
+        }
+
+        expireReservationAndReleaseSeats(reservationId, null);
+    }
+
     private Reservation findAndValidateReservation(Long reservationId, Long userId) {
         Reservation r = reservationRepository.findById(reservationId)
                 .orElseThrow(() -> new ServiceException(ErrorCode.RESERVATION_NOT_FOUND));
@@ -578,50 +566,32 @@ public class ReservationService {
      */
     @Transactional
     public void markSeatsAsSold(Long scheduleId, Long reservationId) {
+        Reservation reservation = reservationRepository.findById(reservationId)
+                .orElseThrow(() -> new ServiceException(ErrorCode.RESERVATION_NOT_FOUND));
+
         // 1. ReservationSeat 조회
         List<ReservationSeat> seats = reservationSeatRepository
                 .findByReservationId(reservationId);
 
-        List<Long> seatIds = seats.stream()
+        List<Long> reservedSeatIds = seats.stream()
                 .map(ReservationSeat::getPerformanceSeatId)
                 .toList();
 
-        // 2. DB: HOLD → SOLD
-        List<PerformanceSeat> performanceSeats =
-                performanceSeatRepository.findAllById(seatIds);
-
-        for (PerformanceSeat seat : performanceSeats) {
-            seat.updateStatus(SeatStatus.SOLD);
-            seat.clearHoldInfo(); // holdUserId, holdExpiredAt 제거
-        }
-        performanceSeatRepository.saveAll(performanceSeats);
-
-        // 3. Redis: HOLD owner 삭제 + SOLD set 추가
-        String soldSetKey = String.format("seat:sold:%d", scheduleId);
-
-        for (Long seatId : seatIds) {
-            // HOLD owner 키 삭제
-            String holdOwnerKey = String.format(
-                    "seat:hold:owner:%d:%d",
-                    scheduleId,
-                    seatId
-            );
-            redisTemplate.delete(holdOwnerKey);
-
-            // SOLD set에 추가
-            redisTemplate.opsForSet().add(
-                    soldSetKey,
-                    seatId.toString()
-            );
+        // 2. DB: 예매 사용자의 HOLD/AVAILABLE → SOLD (holdUserId, holdExpiredAt 제거)
+        //    만료 후 다른 사용자가 다시 HOLD한 좌석은 판매하지 않음
+        int sold = performanceSeatRepository.sellHeldBy(
+                reservedSeatIds, reservation.getUserId(), LocalDateTime.now());
+        List<Long> seatIds = excludeHeldByOthers(reservedSeatIds, reservation.getUserId(), sold, reservationId);
 
-            // 변경 이벤트 발행
-            recordSeatChangeEvent(scheduleId, seatId, SeatStatus.SOLD, null);
-        }
+        // 3. 커밋 후 Redis 반영 (스크립트 1회: SOLD set 추가 + 변경 로그, 구매자 owner/인덱스 제거)
+        eventPublisher.publishEvent(
+                new SeatSoldCompletedEvent(scheduleId, seatIds, reservation.getUserId())
+        );
+        eventPublisher.publishEvent(
+                new SeatStatusChangedEvent(scheduleId, seatIds, SeatStatus.SOLD)
+        );
 
         // 4. Reservation 상태를 PAID로 변경
-        Reservation reservation = reservationRepository.findById(reservationId)
-                .orElseThrow(() -> new ServiceException(ErrorCode.RESERVATION_NOT_FOUND));
-        
         reservation.toPaid();
         reservationRepository.save(reservation);
 
@@ -676,20 +646,13 @@ public class ReservationService {
         }
 
         // 좌석 ID 추출
-        List<Long> performanceSeatIds = reservationSeats.stream()
+        List<Long> heldSeatIds = reservationSeats.stream()
                 .map(ReservationSeat::getPerformanceSeatId)
                 .toList();
 
-        // 좌석 상태 복구 (HOLD → AVAILABLE)
-        List<PerformanceSeat> seats = performanceSeatRepository.findAllById(performanceSeatIds);
-
-        for (PerformanceSeat seat : seats) {
-            if (seat.getStatus() == SeatStatus.HOLD) {
-                seat.updateStatus(SeatStatus.AVAILABLE);
-                seat.clearHoldInfo();
-            }
-        }
-        performanceSeatRepository.saveAll(seats);
+        // 좌석 상태 복구 (본인 HOLD → AVAILABLE, 다른 사용자가 다시 HOLD한 좌석은 유지)
+        int released = performanceSeatRepository.releaseHeldBy(heldSeatIds, userId, LocalDateTime.now());
+        List<Long> performanceSeatIds = excludeHeldByOthers(heldSeatIds, userId, released, reservationId);
 
         // ReservationSeat 삭제
         reservationSeatRepository.deleteByReservationId(reservationId);
@@ -698,13 +661,98 @@ public class ReservationService {
         reservation.abandon();
         reservationRepository.save(reservation);
 
-        for (Long seatId : performanceSeatIds) {
+        if (!performanceSeatIds.isEmpty()) {
             eventPublisher.publishEvent(
-                    new SeatReleaseCompletedEvent(scheduleId, seatId, userId, SeatStatus.AVAILABLE)
+                    new SeatReleaseCompletedEvent(scheduleId, performanceSeatIds, userId, SeatStatus.AVAILABLE)
             );
         }
 
         log.info("[LeaveSession] 활성 예매 포기 처리 완료 - reservationId={}, seatCount={}",
                 reservationId, performanceSeatIds.size());
     }
+
+    /**
+     * 활성 예매 일괄 포기 처리 (ActiveSweepScheduler 전용)
+     * - 예매 잠금 조회 1회 + 좌석 조회 1회 + 좌석 복구 UPDATE 1회 + 좌석 DELETE 1회 + 예매 UPDATE 1회
+     * - PENDING/HOLD 예매를 먼저 row 잠금으로 조회 → 처리 중 결제로 상태가 바뀌지 않으므로
+     *   좌석 복구/연결 삭제는 실제로 포기 처리되는 예매에만 적용 (결제된 예매의 좌석은 건드리지 않음)
+     *
+     * @return 포기 처리된 예매 수
+     */
+    @Transactional
+    public int abandonActiveReservations(Long scheduleId, Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+
+        List<Reservation> activeReservations = reservationRepository
+                .findActiveForUpdate(scheduleId, userIds, ReservationStatus.activeStatuses());
+
+        if (activeReservations.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, Long> userIdByReservation = activeReservations.stream()
+                .collect(Collectors.toMap(Reservation::getId, Reservation::getUserId));
+
+        List<ReservationSeat> reservationSeats =
+                reservationSeatRepository.findByReservationIdIn(userIdByReservation.keySet());
+
+        LocalDateTime now = LocalDateTime.now();
+        List<ReservationSeat> releasedSeats = new ArrayList<>(reservationSeats.size());
+        if (!reservationSeats.isEmpty()) {
+            // 좌석 상태 복구 (사용자별 본인 HOLD → AVAILABLE, 다른 사용자가 다시 HOLD한 좌석은 유지)
+            Map<Long, List<ReservationSeat>> seatsByUser = reservationSeats.stream()
+                    .collect(Collectors.groupingBy(rs -> userIdByReservation.get(rs.getReservationId())));
+            for (Map.Entry<Long, List<ReservationSeat>> entry : seatsByUser.entrySet()) {
+                List<Long> heldSeatIds = entry.getValue().stream()
+                        .map(ReservationSeat::getPerformanceSeatId)
+                        .toList();
+                int released = performanceSeatRepository.releaseHeldBy(heldSeatIds, entry.getKey(), now);
+                List<Long> releasedIds = excludeHeldByOthers(heldSeatIds, entry.getKey(), released, null);
+                entry.getValue().stream()
+                        .filter(rs -> releasedIds.contains(rs.getPerformanceSeatId()))
+                        .forEach(releasedSeats::add);
+            }
+
+            reservationSeatRepository.deleteByReservationIdIn(userIdByReservation.keySet());
+        }
+
+        int abandoned = reservationRepository.abandonAll(
+                userIdByReservation.keySet(), ReservationStatus.activeStatuses(), now);
+
+        // 사용자별 좌석 묶음 단위로 Redis 정리 (owner 비교 스크립트 1회)
+        releasedSeats.stream()
+                .collect(Collectors.groupingBy(
+                        rs -> userIdByReservation.get(rs.getReservationId()),
+                        Collectors.mapping(ReservationSeat::getPerformanceSeatId, Collectors.toList())))
+                .forEach((releasedUserId, seatIds) -> eventPublisher.publishEvent(
+                        new SeatReleaseCompletedEvent(scheduleId, seatIds, releasedUserId, SeatStatus.AVAILABLE)));
+
+        log.info("[LeaveSession] 활성 예매 일괄 포기 처리 - scheduleId={}, reservations={}, seats={}",
+                scheduleId, abandoned, releasedSeats.size());
+        return abandoned;
+    }
+
+    /**
+     * 조건부 좌석 UPDATE 결과 검증
+     * - 반영 수가 기대와 같으면 그대로 반환
+     * - 모자라면 다른 사용자가 다시 HOLD한 좌석을 후속 처리(Redis owner 삭제, 변경 이벤트)에서 제외
+     *   (이미 해제/판매된 좌석은 후속 처리가 멱등이라 유지)
+     */
+    private List<Long> excludeHeldByOthers(List<Long> seatIds, Long userId, int updated, Long reservationId) {
+        if (updated == seatIds.size()) {
+            return seatIds;
+        }
+
+        List<Long> heldByOthers = performanceSeatRepository.findIdsHeldByOthers(seatIds, userId);
+        log.warn("[Reservation] 좌석 상태 변경 수 불일치 - reservationId={}, userId={}, expected={}, updated={}, heldByOthers={}",
+                reservationId, userId, seatIds.size(), updated, heldByOthers);
+        if (heldByOthers.isEmpty()) {
+            return seatIds;
+        }
+        return seatIds.stream()
+                .filter(seatId -> !heldByOthers.contains(seatId))
+                .toList();
+    }
 }
@@ -0,0 +1,163 @@
+package back.kalender.domain.booking.reservation.service;
+
+import back.kalender.domain.booking.reservation.dto.response.SeatChangesPushMessage;
+import back.kalender.domain.booking.reservation.dto.response.SeatChangesResponse;
+import back.kalender.domain.booking.seatHold.service.SeatChangeLog;
+import back.kalender.domain.booking.seatHold.service.SeatChangeRecord;
+import back.kalender.domain.booking.seatHold.service.SeatChanges;
+import back.kalender.domain.booking.seatHold.service.SeatHoldService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 좌석 변경 STOMP 브로드캐스터
+ *
+ * - 구독자가 있는 회차만 변경 로그를 주기적으로(200ms) 읽어서 /topic/seat-changes/{scheduleId}로 전송
+ * - 클라이언트 수와 무관하게 서버당 회차별 1회만 Redis 조회 (폴링 요청 대체)
+ * - 한 주기 안에서 같은 좌석의 변경은 마지막 상태만 전송 (coalesce)
+ * - 변경이 많아도 로그 보존 구간 안이면 페이지 조회로 모두 전송 (새로고침은 보존 구간 밖일 때만)
+ * - 서버마다 자기 세션 구독자에게만 전송 (simple broker)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatChangeBroadcaster {
+
+    public static final String TOPIC_PREFIX = "/topic/seat-changes/";
+
+    private final SeatHoldService seatHoldService;
+    private final ReservationService reservationService;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final SeatChangeLog seatChangeLog;
+
+    // sessionId:subscriptionId → scheduleId
+    private final Map<String, Long> subscriptions = new ConcurrentHashMap<>();
+    // 회차별 구독 수 (lastVersions 등록/제거도 같은 compute 안에서 처리)
+    private final Map<Long, Integer> subscriberCounts = new ConcurrentHashMap<>();
+    // 회차별 마지막 전송 버전
+    private final Map<Long, Long> lastVersions = new ConcurrentHashMap<>();
+
+    @EventListener
+    public void handleSubscribe(SessionSubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        String destination = accessor.getDestination();
+        if (destination == null || !destination.startsWith(TOPIC_PREFIX)) {
+            return;
+        }
+
+        Long scheduleId;
+        try {
+            scheduleId = Long.parseLong(destination.substring(TOPIC_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            log.warn("[SeatChangePush] 잘못된 구독 경로 - destination={}", destination);
+            return;
+        }
+
+        subscriptions.put(subscriptionKey(accessor), scheduleId);
+        subscriberCounts.compute(scheduleId, (id, count) -> {
+            if (count == null) {
+                lastVersions.computeIfAbsent(id, seatChangeLog::currentVersion);
+                return 1;
+            }
+            return count + 1;
+        });
+    }
+
+    @EventListener
+    public void handleUnsubscribe(SessionUnsubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        removeSubscription(subscriptionKey(accessor));
+    }
+
+    @EventListener
+    public void handleDisconnect(SessionDisconnectEvent event) {
+        String prefix = event.getSessionId() + ":";
+        subscriptions.keySet().stream()
+                .filter(key -> key.startsWith(prefix))
+                .toList()
+                .forEach(this::removeSubscription);
+    }
+
+    @Scheduled(fixedDelay = 200)
+    public void broadcast() {
+        for (Long scheduleId : lastVersions.keySet()) {
+            try {
+                broadcast(scheduleId);
+            } catch (Exception e) {
+                log.error("[SeatChangePush] 전송 실패 - scheduleId={}", scheduleId, e);
+            }
+        }
+    }
+
+    private void broadcast(Long scheduleId) {
+        Long fromVersion = lastVersions.get(scheduleId);
+        if (fromVersion == null) {
+            return;
+        }
+
+        SeatChanges changes = seatHoldService.getSeatChangesForPush(scheduleId, fromVersion);
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        SeatChangesPushMessage message;
+        if (changes.refreshRequired()) {
+            message = new SeatChangesPushMessage(fromVersion, changes.currentVersion(), true, List.of());
+        } else {
+            message = coalesce(fromVersion, changes.records());
+        }
+
+        lastVersions.computeIfPresent(scheduleId, (id, v) -> message.currentVersion());
+        messagingTemplate.convertAndSend(TOPIC_PREFIX + scheduleId, message);
+
+        log.debug("[SeatChangePush] 전송 - scheduleId={}, version={}→{}, changes={}",
+                scheduleId, fromVersion, message.currentVersion(), message.changes().size());
+    }
+
+    // 같은 좌석의 여러 변경은 마지막 이벤트만 유지 (버전 순서 보존)
+    private SeatChangesPushMessage coalesce(Long fromVersion, List<SeatChangeRecord> changes) {
+        Map<Long, SeatChangesResponse.SeatChangeEvent> latestBySeat = new LinkedHashMap<>();
+        long currentVersion = fromVersion;
+
+        for (SeatChangeRecord change : changes) {
+            SeatChangesResponse.SeatChangeEvent event = reservationService.mapToSeatChangeEvent(change);
+            latestBySeat.remove(event.seatId());
+            latestBySeat.put(event.seatId(), event);
+            currentVersion = Math.max(currentVersion, event.version());
+        }
+
+        return new SeatChangesPushMessage(
+                fromVersion, currentVersion, false, new ArrayList<>(latestBySeat.values()));
+    }
+
+    private void removeSubscription(String key) {
+        Long scheduleId = subscriptions.remove(key);
+        if (scheduleId == null) {
+            return;
+        }
+
+        // 감소와 제거를 한 번에 처리해야 동시 구독이 제거된 카운터를 올리는 일이 없음
+        subscriberCounts.compute(scheduleId, (id, count) -> {
+            if (count == null || count <= 1) {
+                lastVersions.remove(id);
+                return null;
+            }
+            return count - 1;
+        });
+    }
+
+    private String subscriptionKey(SimpMessageHeaderAccessor accessor) {
+        return accessor.getSessionId() + ":" + accessor.getSubscriptionId();
+    }
+}
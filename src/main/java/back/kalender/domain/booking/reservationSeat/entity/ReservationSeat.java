@@ -1,6 +1,6 @@
 package back.kalender.domain.booking.reservationSeat.entity;
 
-import back.kalender.global.common.entity.BaseEntity;
+import back.kalender.global.common.entity.SequenceBaseEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Table;
@@ -13,7 +13,7 @@ import lombok.NoArgsConstructor;
 @Table(name="reservation_seats")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class ReservationSeat extends BaseEntity {
+public class ReservationSeat extends SequenceBaseEntity {
     @Column(name = "reservation_id", nullable = false)
     private Long reservationId;
 
@@ -2,6 +2,7 @@ package back.kalender.domain.booking.reservationSeat.repository;
 
 import back.kalender.domain.booking.reservationSeat.entity.ReservationSeat;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -13,8 +14,17 @@ public interface ReservationSeatRepository extends JpaRepository<ReservationSeat
     // 예매 id로 좌석 목록 조회
     List<ReservationSeat> findByReservationId(Long reservationId);
 
-    // 예매 id로 전제 삭제
-    void deleteByReservationId(Long reservationId);
+    // 예매 id로 전제 삭제 (단건 조회 후 삭제 대신 DELETE 한 번)
+    @Modifying
+    @Query("DELETE FROM ReservationSeat rs WHERE rs.reservationId = :reservationId")
+    int deleteByReservationId(@Param("reservationId") Long reservationId);
+
+    // 여러 예매의 좌석 일괄 조회/삭제 (Active sweep용)
+    List<ReservationSeat> findByReservationIdIn(Collection<Long> reservationIds);
+
+    @Modifying
+    @Query("DELETE FROM ReservationSeat rs WHERE rs.reservationId IN :reservationIds")
+    int deleteByReservationIdIn(@Param("reservationIds") Collection<Long> reservationIds);
 
     // 특정 좌석들 삭제
     void deleteByReservationIdAndPerformanceSeatIdIn(
@@ -1,6 +1,6 @@
 package back.kalender.domain.booking.seatHold.entity;
 
-import back.kalender.global.common.entity.BaseEntity;
+import back.kalender.global.common.entity.SequenceBaseEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Table;
@@ -15,7 +15,7 @@ import java.time.LocalDateTime;
 @Table(name = "seat_hold_logs")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class SeatHoldLog extends BaseEntity {
+public class SeatHoldLog extends SequenceBaseEntity {
     @Column(name = "performance_seat_id", nullable = false)
     private Long performanceSeatId;
 
@@ -48,6 +48,14 @@ public class SeatHoldLog extends BaseEntity {
         this.isExpired = false;
     }
 
+    // 기록 재시도용 복사본 (롤백된 INSERT의 엔티티는 식별자가 이미 할당되어 다시 저장할 수 없음)
+    public SeatHoldLog copyForRetry() {
+        SeatHoldLog copy = new SeatHoldLog(performanceSeatId, userId, holdStartedAt, holdExpiredAt);
+        copy.releasedAt = this.releasedAt;
+        copy.isExpired = this.isExpired;
+        return copy;
+    }
+
     // HOLD 해제 기록
     public void markReleased() {
         this.releasedAt = LocalDateTime.now();
@@ -0,0 +1,21 @@
+package back.kalender.domain.booking.seatHold.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+// 좌석 Redis 선점 완료 이벤트 (DB 롤백 시 선점 해제용)
+@Getter
+@RequiredArgsConstructor
+public class SeatHoldClaimedEvent {
+    private final Long scheduleId;
+    private final Long userId;
+    private final List<Long> seatIds;
+
+    @Override
+    public String toString() {
+        return String.format("SeatHoldClaimedEvent[scheduleId=%d, userId=%d, seatIds=%s]",
+                scheduleId, userId, seatIds);
+    }
+}
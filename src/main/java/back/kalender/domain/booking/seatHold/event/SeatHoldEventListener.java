@@ -1,20 +1,11 @@
 package back.kalender.domain.booking.seatHold.event;
 
-import back.kalender.domain.booking.performanceSeat.entity.SeatStatus;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import back.kalender.domain.booking.seatHold.service.SeatHoldScriptExecutor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
-import software.amazon.awssdk.services.s3.endpoints.internal.Value;
-
-import java.time.LocalDateTime;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.concurrent.TimeUnit;
 
 /**
  * 좌석 HOLD/RELEASE 이벤트 리스너
@@ -22,110 +13,64 @@ import java.util.concurrent.TimeUnit;
  * DB 트랜잭션 커밋 후 Redis 작업을 수행
  * - AFTER_COMMIT: DB 커밋 성공 후에만 실행
  * - DB 롤백 시에는 실행되지 않음
+ * - AFTER_ROLLBACK: HOLD 스크립트로 선점한 Redis 상태를 되돌림
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class SeatHoldEventListener {
-    private final RedisTemplate<String, String> redisTemplate;
-    private final ObjectMapper objectMapper;
-
-    private static final String SEAT_HOLD_OWNER_KEY = "seat:hold:owner:%d:%d";
-    private static final String SEAT_VERSION_KEY = "seat:version:%d";
-    private static final String SEAT_CHANGES_KEY = "seat:changes:%d:%d";
-    private static final long CHANGES_TTL_SECONDS = 60;
+    private final SeatHoldScriptExecutor seatHoldScriptExecutor;
 
-    // 좌석 홀드 완료 후 redis 작업
+    // 좌석 홀드 완료 후 처리
+    // owner 기록/변경 이벤트는 HOLD 스크립트에서 선점과 함께 이미 반영됨
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleSeatHoldCompleted(SeatHoldCompletedEvent event){
-        try{
-            // redis에 HOLD Owner 기록
-            String holdOwnerKey = String.format(SEAT_HOLD_OWNER_KEY, event.getScheduleId(), event.getSeatId());
-            redisTemplate.opsForValue().set(holdOwnerKey, event.getUserId().toString(), event.getHoldTtlSeconds(), TimeUnit.SECONDS);
-            log.debug("[SeatHoldEvent] Redis owner 기록 완료 - key={}, userId={}, ttl={}s",
-                    holdOwnerKey, event.getUserId(), event.getHoldTtlSeconds());
+        log.debug("[SeatHoldEvent] HOLD 커밋 완료 - scheduleId={}, seatId={}, userId={}",
+                event.getScheduleId(), event.getSeatId(), event.getUserId());
+    }
 
-            // 변경 이벤트 발행(폴링용)
-            recordSeatChangeEvent(event.getScheduleId(), event.getSeatId(), event.getStatus(), event.getUserId());
-        } catch (Exception e) {;
-            log.error("[SeatHoldEvent] Redis 작업 실패 (DB는 이미 커밋됨) - event={}",
-                    event, e);
-            handleRedisFailure(event);
+    // 좌석 홀드 DB 작업 롤백 시 Redis 선점 해제 (보상)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public void handleSeatHoldRolledBack(SeatHoldClaimedEvent event){
+        try{
+            long released = seatHoldScriptExecutor.release(
+                    event.getScheduleId(), event.getUserId(), event.getSeatIds());
+            log.info("[SeatHoldEvent] DB 롤백으로 Redis 선점 해제 - scheduleId={}, released={}/{}",
+                    event.getScheduleId(), released, event.getSeatIds().size());
+        } catch (Exception e) {
+            // owner 키는 HOLD TTL 경과 후 자동 만료됨
+            log.error("[SeatHoldEvent] Redis 선점 해제 실패 (TTL 만료 대기) - event={}", event, e);
         }
     }
 
     // 좌석 홀드 해제 완료 후 redis 작업
+    // owner가 이 사용자인(또는 이미 없는) 좌석만 owner 삭제 + 인덱스 제거 + 변경 로그 기록을 스크립트 한 번으로 처리
+    // → DB 커밋 사이 다른 사용자가 다시 선점한 좌석의 owner/인덱스는 유지
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleSeatReleaseCompleted(SeatReleaseCompletedEvent event){
         try{
-            // Redis HOLD Owner 키 삭제
-            String holdOwnerKey = String.format(SEAT_HOLD_OWNER_KEY, event.getScheduleId(), event.getSeatId());
-
-            Boolean deleted = redisTemplate.delete(holdOwnerKey);
+            long released = seatHoldScriptExecutor.release(
+                    event.getScheduleId(), event.getUserId(), event.getSeatIds());
 
-            if(Boolean.FALSE.equals(deleted)){
-                log.warn("[SeatReleaseEvent] Redis 키 삭제 실패 (키 없음) - key={}", holdOwnerKey);
+            if (released < event.getSeatIds().size()) {
+                log.warn("[SeatReleaseEvent] 다른 사용자가 선점한 좌석은 Redis 해제 제외 - scheduleId={}, released={}/{}",
+                        event.getScheduleId(), released, event.getSeatIds().size());
             }
-
-            // 변경 이벤트 발행(폴링용)
-            recordSeatChangeEvent(event.getScheduleId(), event.getSeatId(), event.getStatus(), event.getUserId());
         }catch (Exception e){
             log.error("[SeatReleaseEvent] Redis 작업 실패 (DB는 이미 커밋됨) - event={}",
                     event, e);
         }
     }
 
-    // 좌석 변경 이벤트 기록
-    private void recordSeatChangeEvent(
-            Long scheduleId,
-            Long seatId,
-            SeatStatus status,
-            Long userId
-    ) {
-        try {
-            // 버전 증가
-            String versionKey = String.format(SEAT_VERSION_KEY, scheduleId);
-            Long version = redisTemplate.opsForValue().increment(versionKey);
-
-            // 이벤트 JSON 생성
-            Map<String, Object> event = new HashMap<>();
-            event.put("seatId", seatId);
-            event.put("status", status.name());
-            event.put("userId", userId);
-            event.put("version", version);
-            event.put("timestamp", LocalDateTime.now().toString());
-
-            // Redis 저장 (TTL 60초)
-            String changeKey = String.format(SEAT_CHANGES_KEY, scheduleId, version);
-            String eventJson = objectMapper.writeValueAsString(event);
-
-            redisTemplate.opsForValue().set(
-                    changeKey,
-                    eventJson,
-                    CHANGES_TTL_SECONDS,
-                    TimeUnit.SECONDS
-            );
-
-            log.debug("[SeatChangeEvent] 이벤트 발행 - version={}, seatId={}, status={}",
-                    version, seatId, status);
-
-        } catch (JsonProcessingException e) {
-            log.error("[SeatChangeEvent] JSON 변환 실패 - seatId={}", seatId, e);
-        } catch (Exception e) {
-            log.error("[SeatChangeEvent] 이벤트 발행 실패 - seatId={}", seatId, e);
+    // 결제로 SOLD 커밋된 좌석 Redis 반영 (SOLD set + 변경 로그, 구매자 owner/인덱스 제거를 스크립트 한 번으로)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleSeatSoldCompleted(SeatSoldCompletedEvent event){
+        try{
+            seatHoldScriptExecutor.markSold(event.getScheduleId(), event.getUserId(), event.getSeatIds());
+        }catch (Exception e){
+            // SOLD set에 빠져도 HOLD 시도는 DB 조건부 UPDATE(holdAll)에서 차단됨
+            log.error("[SeatSoldEvent] Redis 작업 실패 (DB는 이미 커밋됨) - event={}",
+                    event, e);
         }
     }
-
-    /**
-     * TODO: Redis 실패 시 보상 로직
-     * - 재시도 큐에 추가 (RabbitMQ)
-     */
-    private void handleRedisFailure(SeatHoldCompletedEvent event) {
-        // TODO: 보상 트랜잭션 구현
-        log.error("[SeatHoldEvent] Redis 실패 보상 필요 - scheduleId={}, seatId={}, userId={}",
-                event.getScheduleId(), event.getSeatId(), event.getUserId());
-
-        // 실패 이벤트를 별도 큐에 저장
-        // failureQueueService.enqueue(event);
-    }
 }
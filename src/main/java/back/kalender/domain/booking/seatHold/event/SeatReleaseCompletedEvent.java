@@ -4,18 +4,20 @@ import back.kalender.domain.booking.performanceSeat.entity.SeatStatus;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
-// 좌석 홀드 해제 db 작업 완료 이벤트
+import java.util.List;
+
+// 좌석 홀드 해제 db 작업 완료 이벤트 (한 사용자의 좌석 묶음 단위)
 @Getter
 @RequiredArgsConstructor
 public class SeatReleaseCompletedEvent {
     private final Long scheduleId;
-    private final Long seatId;
+    private final List<Long> seatIds;
     private final Long userId;
     private final SeatStatus status;
 
     @Override
     public String toString() {
-        return String.format("SeatReleaseCompletedEvent[scheduleId=%d, seatId=%d, userId=%d, status=%s]",
-                scheduleId, seatId, userId, status);
+        return String.format("SeatReleaseCompletedEvent[scheduleId=%d, seatIds=%s, userId=%d, status=%s]",
+                scheduleId, seatIds, userId, status);
     }
 }
@@ -0,0 +1,21 @@
+package back.kalender.domain.booking.seatHold.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+// 좌석 SOLD db 작업 완료 이벤트 (결제 커밋 후 Redis 반영용)
+@Getter
+@RequiredArgsConstructor
+public class SeatSoldCompletedEvent {
+    private final Long scheduleId;
+    private final List<Long> seatIds;
+    private final Long userId;
+
+    @Override
+    public String toString() {
+        return String.format("SeatSoldCompletedEvent[scheduleId=%d, seatIds=%s, userId=%d]",
+                scheduleId, seatIds, userId);
+    }
+}
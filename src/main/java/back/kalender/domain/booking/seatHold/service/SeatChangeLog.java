@@ -0,0 +1,134 @@
+package back.kalender.domain.booking.seatHold.service;
+
+import back.kalender.domain.booking.performanceSeat.entity.SeatStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 회차별 좌석 변경 로그 (Redis Stream)
+ *
+ * <Redis 키>
+ * - seat:version:{scheduleId} : 마지막 변경 버전 (INCR)
+ * - seat:changes:{scheduleId} : 변경 로그 Stream (엔트리 ID = {version}-0, MAXLEN ~ 1000)
+ *
+ * - 기록: 버전 INCR + XADD를 스크립트 한 번으로 처리 (HOLD/RELEASE 스크립트도 동일 형식으로 기록)
+ * - 엔트리 값: r 필드 하나에 고정 길이 바이너리 레코드 (SeatChangeRecord, 33 bytes)
+ * - 조회: XRANGE {sinceVersion+1}-0 + COUNT n 한 번으로 구간 조회 (byte[] 그대로 디코딩)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatChangeLog {
+
+    private static final String SEAT_VERSION_KEY = "seat:version:%d";
+    private static final String SEAT_CHANGES_KEY = "seat:changes:%d";
+
+    public static final long MAX_LENGTH = 1000;
+    public static final long TTL_SECONDS = 3600;
+
+    private static final String RECORD_FIELD = "r";
+
+    private static final RedisScript<Long> RECORD_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/seat-change.lua"), Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public static String versionKey(Long scheduleId) {
+        return String.format(SEAT_VERSION_KEY, scheduleId);
+    }
+
+    public static String streamKey(Long scheduleId) {
+        return String.format(SEAT_CHANGES_KEY, scheduleId);
+    }
+
+    // 변경 이벤트 기록
+    public Long record(Long scheduleId, Long seatId, SeatStatus status, Long userId) {
+        Long version = stringRedisTemplate.execute(
+                RECORD_SCRIPT,
+                List.of(versionKey(scheduleId), streamKey(scheduleId)),
+                String.valueOf(MAX_LENGTH),
+                String.valueOf(TTL_SECONDS),
+                seatId.toString(),
+                String.valueOf(status.ordinal()),
+                String.valueOf(userId != null ? userId : 0L),
+                String.valueOf(System.currentTimeMillis())
+        );
+
+        log.debug("[SeatChangeLog] 이벤트 기록 - scheduleId={}, version={}, seatId={}, status={}",
+                scheduleId, version, seatId, status);
+        return version;
+    }
+
+    // 현재 버전 조회 (기록 없으면 0)
+    public long currentVersion(Long scheduleId) {
+        String version = stringRedisTemplate.opsForValue().get(versionKey(scheduleId));
+        return version == null ? 0L : Long.parseLong(version);
+    }
+
+    /**
+     * sinceVersion 이후 변경 이벤트 조회 (최대 limit개, 버전 오름차순)
+     * - 문자열 직렬화를 거치지 않도록 byte[] 그대로 조회
+     */
+    public List<SeatChangeRecord> readSince(Long scheduleId, long sinceVersion, int limit) {
+        byte[] key = streamKey(scheduleId).getBytes(StandardCharsets.UTF_8);
+        List<ByteRecord> records = stringRedisTemplate.execute((RedisCallback<List<ByteRecord>>) connection ->
+                connection.streamCommands().xRange(
+                        key,
+                        Range.rightUnbounded(Range.Bound.inclusive((sinceVersion + 1) + "-0")),
+                        Limit.limit().count(limit)
+                ));
+
+        if (records == null || records.isEmpty()) {
+            return List.of();
+        }
+
+        List<SeatChangeRecord> changes = new ArrayList<>(records.size());
+        for (ByteRecord record : records) {
+            changes.add(decode(record.getValue()));
+        }
+        return changes;
+    }
+
+    private SeatChangeRecord decode(Map<byte[], byte[]> value) {
+        Map<String, byte[]> fields = new HashMap<>(value.size());
+        value.forEach((field, bytes) -> fields.put(new String(field, StandardCharsets.UTF_8), bytes));
+
+        byte[] packed = fields.get(RECORD_FIELD);
+        if (packed != null) {
+            return SeatChangeRecord.decode(packed);
+        }
+        return decodeLegacy(fields);
+    }
+
+    // 배포 전 문자열 필드 형식으로 기록된 엔트리 (TTL 이내 잔존분)
+    private SeatChangeRecord decodeLegacy(Map<String, byte[]> fields) {
+        return new SeatChangeRecord(
+                Long.parseLong(text(fields, "seatId")),
+                SeatStatus.valueOf(text(fields, "status")),
+                Long.parseLong(text(fields, "userId")),
+                Long.parseLong(text(fields, "version")),
+                LocalDateTime.parse(text(fields, "timestamp"))
+                        .atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+        );
+    }
+
+    private String text(Map<String, byte[]> fields, String name) {
+        return new String(fields.get(name), StandardCharsets.UTF_8);
+    }
+}
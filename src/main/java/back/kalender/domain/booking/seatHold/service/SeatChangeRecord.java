@@ -0,0 +1,66 @@
+package back.kalender.domain.booking.seatHold.service;
+
+import back.kalender.domain.booking.performanceSeat.entity.SeatStatus;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 좌석 변경 이벤트 1건 (고정 길이 바이너리 레코드)
+ *
+ * <레이아웃> big-endian, 33 bytes
+ * - seatId (8) | status (1, SeatStatus.ordinal) | userId (8) | version (8) | epochMillis (8)
+ *
+ * - Redis Stream 엔트리의 r 필드 값 (Lua struct.pack('>i8Bi8i8i8') 과 같은 형식)
+ * - 바이너리 응답(application/vnd.kalender.seat-changes)에도 그대로 사용
+ */
+public record SeatChangeRecord(
+        long seatId,
+        SeatStatus status,
+        long userId,
+        long version,
+        long epochMillis
+) {
+
+    public static final int SIZE = 33;
+
+    private static final SeatStatus[] STATUSES = SeatStatus.values();
+
+    public static SeatChangeRecord decode(byte[] bytes) {
+        if (bytes == null || bytes.length != SIZE) {
+            throw new IllegalArgumentException("좌석 변경 레코드 길이 오류 - length=" + (bytes == null ? null : bytes.length));
+        }
+        return read(ByteBuffer.wrap(bytes));
+    }
+
+    public static SeatChangeRecord read(ByteBuffer buffer) {
+        return new SeatChangeRecord(
+                buffer.getLong(),
+                STATUSES[buffer.get()],
+                buffer.getLong(),
+                buffer.getLong(),
+                buffer.getLong()
+        );
+    }
+
+    public void writeTo(ByteBuffer buffer) {
+        buffer.putLong(seatId)
+                .put((byte) status.ordinal())
+                .putLong(userId)
+                .putLong(version)
+                .putLong(epochMillis);
+    }
+
+    public byte[] encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(SIZE);
+        writeTo(buffer);
+        return buffer.array();
+    }
+
+    // JSON 응답용 (기존 LocalDateTime.toString() 형식 유지)
+    public LocalDateTime changedAt() {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
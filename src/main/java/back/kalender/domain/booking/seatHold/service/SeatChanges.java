@@ -0,0 +1,51 @@
+package back.kalender.domain.booking.seatHold.service;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * 좌석 변경 조회 결과
+ * - refreshRequired = true 이면 records는 비어 있고, 클라이언트는 전체 좌석표를 다시 조회
+ *
+ * <바이너리 응답 형식> big-endian
+ * - flags (1, bit0 = refreshRequired) | currentVersion (8) | count (4) | SeatChangeRecord × count
+ */
+public record SeatChanges(
+        long currentVersion,
+        boolean refreshRequired,
+        List<SeatChangeRecord> records
+) {
+
+    public static final String MEDIA_TYPE = "application/vnd.kalender.seat-changes";
+
+    private static final int HEADER_SIZE = 13;
+    private static final byte FLAG_REFRESH_REQUIRED = 1;
+
+    public static SeatChanges none(long currentVersion) {
+        return new SeatChanges(currentVersion, false, List.of());
+    }
+
+    public static SeatChanges refresh(long currentVersion) {
+        return new SeatChanges(currentVersion, true, List.of());
+    }
+
+    public static SeatChanges of(long sinceVersion, List<SeatChangeRecord> records) {
+        long currentVersion = records.isEmpty() ? sinceVersion : records.get(records.size() - 1).version();
+        return new SeatChanges(currentVersion, false, records);
+    }
+
+    public boolean isEmpty() {
+        return !refreshRequired && records.isEmpty();
+    }
+
+    public byte[] toBinary() {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + records.size() * SeatChangeRecord.SIZE);
+        buffer.put(refreshRequired ? FLAG_REFRESH_REQUIRED : 0)
+                .putLong(currentVersion)
+                .putInt(records.size());
+        for (SeatChangeRecord record : records) {
+            record.writeTo(buffer);
+        }
+        return buffer.array();
+    }
+}
@@ -0,0 +1,62 @@
+package back.kalender.domain.booking.seatHold.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 회차별 HOLD 좌석 인덱스
+ *
+ * <Redis 키>
+ * - seat:hold:index:{scheduleId} : ZSET (member = seatId, score = HOLD 만료 시각 epoch ms)
+ *
+ * - 추가: HOLD 스크립트에서 owner SET과 함께 ZADD
+ * - 제거: RELEASE 스크립트 / 해제 이벤트 / 만료 / SOLD 처리 시 ZREM
+ * - 만료된 항목은 조회 시 ZREMRANGEBYSCORE로 정리 (KEYS 스캔 없이 O(log N + M))
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatHoldIndex {
+
+    private static final String SEAT_HOLD_INDEX_KEY = "seat:hold:index:%d";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public static String indexKey(Long scheduleId) {
+        return String.format(SEAT_HOLD_INDEX_KEY, scheduleId);
+    }
+
+    // 현재 HOLD 중인 좌석 id 조회 (만료 항목 정리 후)
+    public Set<Long> findHeldSeatIds(Long scheduleId) {
+        String key = indexKey(scheduleId);
+        long now = System.currentTimeMillis();
+
+        Long trimmed = redisTemplate.opsForZSet().removeRangeByScore(key, Double.NEGATIVE_INFINITY, now);
+        if (trimmed != null && trimmed > 0) {
+            log.debug("[SeatHoldIndex] 만료 항목 정리 - scheduleId={}, count={}", scheduleId, trimmed);
+        }
+
+        Set<String> members = redisTemplate.opsForZSet().rangeByScore(key, now, Double.POSITIVE_INFINITY);
+        if (members == null || members.isEmpty()) return Set.of();
+
+        return members.stream()
+                .map(Long::parseLong)
+                .collect(Collectors.toSet());
+    }
+
+    // HOLD 해제 (RELEASE/만료/SOLD)
+    public void remove(Long scheduleId, Collection<Long> seatIds) {
+        if (seatIds == null || seatIds.isEmpty()) return;
+
+        Object[] members = seatIds.stream()
+                .map(String::valueOf)
+                .toArray();
+        redisTemplate.opsForZSet().remove(indexKey(scheduleId), members);
+    }
+}
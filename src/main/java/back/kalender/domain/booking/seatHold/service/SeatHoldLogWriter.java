@@ -0,0 +1,198 @@
+package back.kalender.domain.booking.seatHold.service;
+
+import back.kalender.domain.booking.seatHold.entity.SeatHoldLog;
+import back.kalender.domain.booking.seatHold.repository.SeatHoldLogRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 좌석 HOLD/RELEASE 감사 로그 비동기 기록기
+ *
+ * - 호출 트랜잭션이 커밋된 뒤에 큐에 적재 (롤백된 HOLD는 기록하지 않음)
+ * - 백그라운드에서 최대 BATCH_SIZE개씩 배치 INSERT (시퀀스 ID + hibernate.jdbc.batch_size)
+ * - 큐가 가득 차면 호출 스레드에서 바로 기록 (backpressure)
+ * - 기록은 항상 새 트랜잭션(REQUIRES_NEW)에서 실행
+ *   (afterCommit 시점의 호출 트랜잭션은 이미 커밋되어 참여하면 INSERT가 반영되지 않음)
+ * - DB 오류로 실패한 배치는 재시도 목록에 보관, 백오프(최대 MAX_BACKOFF_MILLIS) 후 다시 기록
+ *   - 재시도 대기 로그는 최대 custom.seat-hold-log.max-retry-pending개 (장애가 길어져도 메모리 한도 유지)
+ *   - 한도를 넘으면 가장 오래된 배치부터 버리고 ERROR 로그 + dropped 카운터
+ * - 종료 시 남은 로그와 재시도 대기 배치 모두 기록 시도
+ *
+ * <메트릭>
+ * - seat.hold.log.queue.size : 대기 중인 로그 수
+ * - seat.hold.log.retry.pending : 재시도 대기 중인 로그 수
+ * - seat.hold.log.written : 기록 완료 수
+ * - seat.hold.log.overflow : 큐 초과로 동기 기록한 수
+ * - seat.hold.log.failed : DB 오류로 기록 실패한 수 (재시도 대상)
+ * - seat.hold.log.dropped : 재시도 한도 초과로 버린 수
+ */
+@Slf4j
+@Component
+public class SeatHoldLogWriter {
+
+    private static final int QUEUE_CAPACITY = 10_000;
+    private static final int BATCH_SIZE = 500;
+    private static final long INITIAL_BACKOFF_MILLIS = 1_000;
+    private static final long MAX_BACKOFF_MILLIS = 30_000;
+
+    private final SeatHoldLogRepository seatHoldLogRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<SeatHoldLog> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final Queue<FailedBatch> retries = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger retryPending = new AtomicInteger();
+    private final int maxRetryPending;
+
+    private final Counter writtenCounter;
+    private final Counter overflowCounter;
+    private final Counter failedCounter;
+    private final Counter droppedCounter;
+
+    public SeatHoldLogWriter(
+            SeatHoldLogRepository seatHoldLogRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${custom.seat-hold-log.max-retry-pending:50000}") int maxRetryPending
+    ) {
+        this.seatHoldLogRepository = seatHoldLogRepository;
+        this.maxRetryPending = maxRetryPending;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        Gauge.builder("seat.hold.log.queue.size", queue, BlockingQueue::size)
+                .register(meterRegistry);
+        this.writtenCounter = meterRegistry.counter("seat.hold.log.written");
+        this.overflowCounter = meterRegistry.counter("seat.hold.log.overflow");
+        Gauge.builder("seat.hold.log.retry.pending", retryPending, AtomicInteger::get)
+                .register(meterRegistry);
+        this.failedCounter = meterRegistry.counter("seat.hold.log.failed");
+        this.droppedCounter = meterRegistry.counter("seat.hold.log.dropped");
+    }
+
+    // 감사 로그 제출 (트랜잭션 중이면 커밋 후 적재)
+    public void submit(List<SeatHoldLog> logs) {
+        if (logs.isEmpty()) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(logs);
+                }
+            });
+            return;
+        }
+        enqueue(logs);
+    }
+
+    @Scheduled(fixedDelay = 200)
+    public void flush() {
+        retryFailed(false);
+
+        List<SeatHoldLog> batch = new ArrayList<>(BATCH_SIZE);
+        while (queue.drainTo(batch, BATCH_SIZE) > 0) {
+            write(batch, 0);
+            if (batch.size() < BATCH_SIZE) {
+                return;
+            }
+            batch = new ArrayList<>(BATCH_SIZE);
+        }
+    }
+
+    @PreDestroy
+    public void drain() {
+        log.info("[SeatHoldLog] 종료 전 남은 로그 기록 - pending={}, retryPending={}", queue.size(), retryPending.get());
+        retryFailed(true);
+        flush();
+        if (retryPending.get() > 0) {
+            log.error("[SeatHoldLog] 종료 시 기록하지 못한 로그 - count={}", retryPending.get());
+        }
+    }
+
+    private void enqueue(List<SeatHoldLog> logs) {
+        List<SeatHoldLog> overflow = new ArrayList<>();
+        for (SeatHoldLog holdLog : logs) {
+            if (!queue.offer(holdLog)) {
+                overflow.add(holdLog);
+            }
+        }
+
+        if (!overflow.isEmpty()) {
+            overflowCounter.increment(overflow.size());
+            log.warn("[SeatHoldLog] 큐 가득 참, 동기 기록 - count={}", overflow.size());
+            write(overflow, 0);
+        }
+    }
+
+    // 백오프가 지난 실패 배치 재기록 (force면 백오프 무시, 종료 시)
+    private void retryFailed(boolean force) {
+        long now = System.currentTimeMillis();
+        for (int i = retries.size(); i > 0; i--) {
+            FailedBatch failed = retries.poll();
+            if (failed == null) {
+                return;
+            }
+            if (!force && failed.nextAttemptAt() > now) {
+                retries.offer(failed);
+                continue;
+            }
+            retryPending.addAndGet(-failed.logs().size());
+            write(failed.logs(), failed.attempts());
+        }
+    }
+
+    private void write(List<SeatHoldLog> batch, int attempts) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> seatHoldLogRepository.saveAll(batch));
+            writtenCounter.increment(batch.size());
+        } catch (Exception e) {
+            failedCounter.increment(batch.size());
+            long backoff = Math.min(MAX_BACKOFF_MILLIS, INITIAL_BACKOFF_MILLIS << Math.min(attempts, 5));
+            log.error("[SeatHoldLog] 로그 기록 실패, {}ms 후 재시도 - count={}, attempts={}",
+                    backoff, batch.size(), attempts + 1, e);
+
+            // 롤백된 엔티티는 식별자가 할당돼 있어 복사본으로 재시도
+            List<SeatHoldLog> copies = batch.stream().map(SeatHoldLog::copyForRetry).toList();
+            retries.offer(new FailedBatch(copies, attempts + 1, System.currentTimeMillis() + backoff));
+            retryPending.addAndGet(copies.size());
+            dropOverflow();
+        }
+    }
+
+    // 재시도 대기 한도 초과분은 가장 오래된 배치부터 버림
+    private void dropOverflow() {
+        while (retryPending.get() > maxRetryPending) {
+            FailedBatch dropped = retries.poll();
+            if (dropped == null) {
+                return;
+            }
+            retryPending.addAndGet(-dropped.logs().size());
+            droppedCounter.increment(dropped.logs().size());
+            log.error("[SeatHoldLog] 재시도 대기 한도 초과, 오래된 로그 버림 - count={}, attempts={}, maxRetryPending={}",
+                    dropped.logs().size(), dropped.attempts(), maxRetryPending);
+        }
+    }
+
+    private record FailedBatch(List<SeatHoldLog> logs, int attempts, long nextAttemptAt) {
+    }
+}
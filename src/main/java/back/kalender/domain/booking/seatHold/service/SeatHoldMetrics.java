@@ -0,0 +1,93 @@
+package back.kalender.domain.booking.seatHold.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import jakarta.persistence.PersistenceException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 좌석 HOLD 처리 지표 (대기열 ADAPTIVE 입장 제어 입력)
+ *
+ * - seat.hold.latency : 트랜잭션 커밋/롤백까지 포함한 HOLD 처리 시간 (최근 1분 p99)
+ * - seat.hold.attempts : HOLD 시도 수
+ * - seat.hold.failures : 인프라 오류(DB/Redis 타임아웃, 커넥션 획득 실패 등)로 실패한 HOLD 수
+ *   좌석 선점 충돌, DB 상태 불일치 같은 정상 경합 실패는 부하 신호가 아니므로 제외
+ *   (트랜잭션 시작 전 커넥션 풀 고갈은 hikaricp.connections.pending 신호로 판단)
+ */
+@Component
+public class SeatHoldMetrics {
+
+    private final Timer holdTimer;
+    private final Counter attempts;
+    private final Counter failures;
+
+    public SeatHoldMetrics(MeterRegistry meterRegistry) {
+        this.holdTimer = Timer.builder("seat.hold.latency")
+                .publishPercentiles(0.99)
+                .distributionStatisticExpiry(Duration.ofMinutes(1))
+                .distributionStatisticBufferLength(3)
+                .register(meterRegistry);
+        this.attempts = meterRegistry.counter("seat.hold.attempts");
+        this.failures = meterRegistry.counter("seat.hold.failures");
+    }
+
+    // HOLD 시작 (트랜잭션 종료 시 시간/시도 수 기록)
+    public void begin() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        long startNanos = System.nanoTime();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                holdTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+                attempts.increment();
+            }
+        });
+    }
+
+    // HOLD 실패 기록 (인프라 오류만 실패로 집계)
+    public void recordFailure(Throwable e) {
+        if (isInfrastructureFailure(e)) {
+            failures.increment();
+        }
+    }
+
+    static boolean isInfrastructureFailure(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof DataAccessException
+                    || cause instanceof TransactionException
+                    || cause instanceof PersistenceException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public double p99Millis() {
+        for (ValueAtPercentile percentile : holdTimer.takeSnapshot().percentileValues()) {
+            if (percentile.percentile() == 0.99) {
+                return percentile.value(TimeUnit.MILLISECONDS);
+            }
+        }
+        return 0;
+    }
+
+    public double attemptCount() {
+        return attempts.count();
+    }
+
+    public double failureCount() {
+        return failures.count();
+    }
+}
@@ -0,0 +1,159 @@
+package back.kalender.domain.booking.seatHold.service;
+
+import back.kalender.domain.booking.reservation.dto.response.HoldSeatsFailResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 좌석 HOLD/해제 Lua 스크립트 실행기
+ *
+ * 좌석 단위 분산 락 대신, 요청 좌석 전체를 스크립트 한 번으로 검사/선점한다.
+ * - SOLD 여부, HOLD owner 존재 여부 검사
+ * - 전부 가능할 때만 owner SET + HOLD 인덱스 ZADD + 버전 INCR + 변경 로그 XADD (all-or-nothing)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatHoldScriptExecutor {
+
+    private static final String SEAT_HOLD_OWNER_KEY = "seat:hold:owner:%d:%d";
+    private static final String SEAT_SOLD_SET_KEY = "seat:sold:%d";
+    private static final String RESULT_OK = "OK";
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> HOLD_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/seat-hold.lua"), List.class);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/seat-release.lua"), Long.class);
+
+    private static final RedisScript<Long> SELL_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/seat-sell.lua"), Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 좌석 일괄 선점
+     * - 하나라도 SOLD/HOLD 충돌이 있으면 아무 좌석도 선점하지 않고 충돌 목록 반환
+     */
+    public ClaimResult claim(Long scheduleId, Long userId, List<Long> seatIds, long holdTtlSeconds) {
+        List<String> keys = new ArrayList<>(seatIds.size() + 4);
+        keys.add(String.format(SEAT_SOLD_SET_KEY, scheduleId));
+        keys.add(SeatChangeLog.versionKey(scheduleId));
+        keys.add(SeatHoldIndex.indexKey(scheduleId));
+        keys.add(SeatChangeLog.streamKey(scheduleId));
+
+        long now = System.currentTimeMillis();
+        List<String> args = new ArrayList<>(seatIds.size() + 6);
+        args.add(userId.toString());
+        args.add(String.valueOf(holdTtlSeconds));
+        args.add(String.valueOf(SeatChangeLog.MAX_LENGTH));
+        args.add(String.valueOf(SeatChangeLog.TTL_SECONDS));
+        args.add(String.valueOf(now));
+        args.add(String.valueOf(now + holdTtlSeconds * 1000));
+
+        for (Long seatId : seatIds) {
+            keys.add(String.format(SEAT_HOLD_OWNER_KEY, scheduleId, seatId));
+            args.add(seatId.toString());
+        }
+
+        @SuppressWarnings("unchecked")
+        List<Object> result = redisTemplate.execute(HOLD_SCRIPT, keys, args.toArray());
+
+        if (result == null || result.isEmpty()) {
+            throw new IllegalStateException("좌석 HOLD 스크립트 결과 없음 - scheduleId=" + scheduleId);
+        }
+
+        if (RESULT_OK.equals(String.valueOf(result.get(0)))) {
+            return ClaimResult.success();
+        }
+
+        // {"CONFLICT", seatId, reason, seatId, reason, ...}
+        List<HoldSeatsFailResponse.ConflictSeat> conflicts = new ArrayList<>();
+        for (int i = 1; i + 1 < result.size(); i += 2) {
+            String reason = String.valueOf(result.get(i + 1));
+            conflicts.add(new HoldSeatsFailResponse.ConflictSeat(
+                    Long.parseLong(String.valueOf(result.get(i))),
+                    "ALREADY_SOLD".equals(reason) ? "SOLD" : "HOLD",
+                    reason
+            ));
+        }
+        return ClaimResult.conflict(conflicts);
+    }
+
+    /**
+     * 선점 해제 (RELEASE 커밋 후 정리, HOLD 롤백 보상)
+     * - owner가 userId와 일치하는 좌석만 삭제 (다른 사용자의 HOLD는 건드리지 않음)
+     * - owner가 이미 없는 좌석은 인덱스 정리 + AVAILABLE 변경 로그만 기록
+     */
+    public long release(Long scheduleId, Long userId, List<Long> seatIds) {
+        if (seatIds == null || seatIds.isEmpty()) return 0;
+
+        List<String> keys = new ArrayList<>(seatIds.size() + 3);
+        keys.add(SeatChangeLog.versionKey(scheduleId));
+        keys.add(SeatHoldIndex.indexKey(scheduleId));
+        keys.add(SeatChangeLog.streamKey(scheduleId));
+
+        List<String> args = new ArrayList<>(seatIds.size() + 4);
+        args.add(userId.toString());
+        args.add(String.valueOf(SeatChangeLog.MAX_LENGTH));
+        args.add(String.valueOf(SeatChangeLog.TTL_SECONDS));
+        args.add(String.valueOf(System.currentTimeMillis()));
+
+        for (Long seatId : seatIds) {
+            keys.add(String.format(SEAT_HOLD_OWNER_KEY, scheduleId, seatId));
+            args.add(seatId.toString());
+        }
+
+        Long released = redisTemplate.execute(RELEASE_SCRIPT, keys, args.toArray());
+        return released == null ? 0 : released;
+    }
+
+    /**
+     * SOLD 반영 (결제 커밋 후)
+     * - SOLD set 추가 + 변경 로그 기록은 전체 좌석, owner/인덱스 제거는 구매자 소유 좌석만
+     */
+    public long markSold(Long scheduleId, Long userId, List<Long> seatIds) {
+        if (seatIds == null || seatIds.isEmpty()) return 0;
+
+        List<String> keys = new ArrayList<>(seatIds.size() + 4);
+        keys.add(String.format(SEAT_SOLD_SET_KEY, scheduleId));
+        keys.add(SeatChangeLog.versionKey(scheduleId));
+        keys.add(SeatHoldIndex.indexKey(scheduleId));
+        keys.add(SeatChangeLog.streamKey(scheduleId));
+
+        List<String> args = new ArrayList<>(seatIds.size() + 4);
+        args.add(userId.toString());
+        args.add(String.valueOf(SeatChangeLog.MAX_LENGTH));
+        args.add(String.valueOf(SeatChangeLog.TTL_SECONDS));
+        args.add(String.valueOf(System.currentTimeMillis()));
+
+        for (Long seatId : seatIds) {
+            keys.add(String.format(SEAT_HOLD_OWNER_KEY, scheduleId, seatId));
+            args.add(seatId.toString());
+        }
+
+        Long sold = redisTemplate.execute(SELL_SCRIPT, keys, args.toArray());
+        return sold == null ? 0 : sold;
+    }
+
+    public record ClaimResult(
+            boolean claimed,
+            List<HoldSeatsFailResponse.ConflictSeat> conflicts
+    ) {
+        public static ClaimResult success() {
+            return new ClaimResult(true, List.of());
+        }
+
+        public static ClaimResult conflict(List<HoldSeatsFailResponse.ConflictSeat> conflicts) {
+            return new ClaimResult(false, conflicts);
+        }
+    }
+}
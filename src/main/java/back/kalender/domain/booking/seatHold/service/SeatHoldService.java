@@ -12,26 +12,22 @@ import back.kalender.domain.booking.reservation.entity.Reservation;
 import back.kalender.domain.booking.reservation.entity.ReservationStatus;
 import back.kalender.domain.booking.reservation.mapper.ReservationMapper;
 import back.kalender.domain.booking.reservation.repository.ReservationRepository;
+import back.kalender.domain.booking.reservation.service.ReservationExpiryQueue;
 import back.kalender.domain.booking.reservationSeat.entity.ReservationSeat;
 import back.kalender.domain.booking.reservationSeat.mapper.ReservationSeatMapper;
 import back.kalender.domain.booking.reservationSeat.repository.ReservationSeatRepository;
 import back.kalender.domain.booking.seatHold.entity.SeatHoldLog;
+import back.kalender.domain.booking.seatHold.event.SeatHoldClaimedEvent;
 import back.kalender.domain.booking.seatHold.event.SeatHoldCompletedEvent;
 import back.kalender.domain.booking.seatHold.event.SeatReleaseCompletedEvent;
 import back.kalender.domain.booking.seatHold.exception.SeatHoldConflictException;
-import back.kalender.domain.booking.seatHold.exception.SeatNotAvailableException;
 import back.kalender.domain.booking.seatHold.mapper.SeatHoldMapper;
-import back.kalender.domain.booking.seatHold.repository.SeatHoldLogRepository;
 import back.kalender.domain.performance.priceGrade.entity.PriceGrade;
 import back.kalender.domain.performance.priceGrade.repository.PriceGradeRepository;
 import back.kalender.global.exception.ErrorCode;
 import back.kalender.global.exception.ServiceException;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.redisson.api.RLock;
-import org.redisson.api.RedissonClient;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
@@ -39,17 +35,19 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
  * 좌석 홀드, 해제 (이벤트 기반)
  * <Redis 키 설계>
- * - seat:lock:{scheduleId}:{seatId}              : 분산 락 (Redisson)
  * - seat:hold:owner:{scheduleId}:{seatId}        : HOLD 소유자 userId (TTL 7분)
  * - seat:sold:{scheduleId}                       : SOLD 좌석 Set
  * - seat:version:{scheduleId}                    : 변경 버전 (INCR)
- * - seat:changes:{scheduleId}:{version}          : 변경 이벤트 JSON (TTL 60초)
+ * - seat:changes:{scheduleId}                    : 변경 로그 Stream (SeatChangeLog)
+ *
+ * <HOLD 처리>
+ * - 좌석별 분산 락 대신 Lua 스크립트 1회로 요청 좌석 전체를 검사/선점 (SeatHoldScriptExecutor)
+ * - 선점 성공 후 DB는 한 트랜잭션에서 일괄 반영, DB 롤백 시 선점 해제 (SeatHoldClaimedEvent)
  */
 
 @Slf4j
@@ -57,30 +55,37 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class SeatHoldService {
 
-    private final RedissonClient redissonClient;
+    private final SeatHoldScriptExecutor seatHoldScriptExecutor;
     private final RedisTemplate<String, String> redisTemplate;
-    private final ObjectMapper objectMapper;
+    private final SeatChangeLog seatChangeLog;
     private final ApplicationEventPublisher eventPublisher;
 
     private final PerformanceSeatRepository performanceSeatRepository;
     private final ReservationSeatRepository reservationSeatRepository;
     private final ReservationRepository reservationRepository;
-    private final SeatHoldLogRepository seatHoldLogRepository;
+    private final SeatHoldLogWriter seatHoldLogWriter;
+    private final ReservationExpiryQueue reservationExpiryQueue;
+    private final SeatHoldMetrics seatHoldMetrics;
     private final PriceGradeRepository priceGradeRepository;
 
-    private static final String SEAT_LOCK_KEY = "seat:lock:%d:%d";
     private static final String SEAT_HOLD_OWNER_KEY = "seat:hold:owner:%d:%d";
-    private static final String SEAT_SOLD_SET_KEY = "seat:sold:%d";
-    private static final String SEAT_VERSION_KEY = "seat:version:%d";
-    private static final String SEAT_CHANGES_KEY = "seat:changes:%d:%d";
 
-    private static final long LOCK_WAIT_TIME = 3;        // 락 획득 대기 시간 (초)
-    private static final long LOCK_LEASE_TIME = 5;       // 락 자동 해제 시간 (초)
     private static final long HOLD_TTL_SECONDS = 420;    // HOLD 만료 시간 (7분)
-    private static final long CHANGES_TTL_SECONDS = 60;  // 변경 이벤트 TTL (60초)
+    private static final int MAX_CHANGES_PER_POLL = 100;
+    private static final int PUSH_PAGE_SIZE = 200;
 
     @Transactional
     public HoldSeatsResponse holdSeats(Long reservationId, HoldSeatsRequest request, Long userId) {
+        seatHoldMetrics.begin();
+        try {
+            return hold(reservationId, request, userId);
+        } catch (RuntimeException e) {
+            seatHoldMetrics.recordFailure(e);
+            throw e;
+        }
+    }
+
+    private HoldSeatsResponse hold(Long reservationId, HoldSeatsRequest request, Long userId) {
         LocalDateTime now = LocalDateTime.now();
 
         // 예매 조회 및 검증
@@ -90,195 +95,156 @@ public class SeatHoldService {
         validateReservation(reservation, userId);
         Long scheduleId = reservation.getPerformanceScheduleId();
 
-        // 좌석별 락 획득 및 HOLD 처리
-        List<Long> heldSeatIds = new ArrayList<>();
-        List<RLock> acquiredLocks = new ArrayList<>();
-        List<HoldSeatsFailResponse.ConflictSeat> conflicts = new ArrayList<>();
-
-        try{
-            // 모든 좌석 락 획득 (좌석 id 정렬 후 순차적 획득)
-            List<Long> sortedSeatIds = request.performanceSeatIds().stream()
-                    .sorted()
-                    .toList();
-
-            for(Long seatId : sortedSeatIds){
-                RLock lock = acquireSeatLock(scheduleId, seatId);
-                if (lock == null) {
-                    // 락 획득 실패 → conflicts에 추가하고 계속 진행
-                    conflicts.add(new HoldSeatsFailResponse.ConflictSeat(
-                            seatId, "UNKNOWN", "LOCK_ACQUISITION_FAILED"
-                    ));
-                } else {
-                    acquiredLocks.add(lock);
-                }
-            }
+        List<Long> sortedSeatIds = request.performanceSeatIds().stream()
+                .distinct()
+                .sorted()
+                .toList();
 
-            // 락 획득 실패한 좌석이 하나라도 있으면 전체 실패
-            if (!conflicts.isEmpty()) {
-                log.warn("[SeatHold] 락 획득 실패 - failedSeats={}",
-                        conflicts.stream()
-                                .map(HoldSeatsFailResponse.ConflictSeat::performanceSeatId)
-                                .toList());
-                throw new SeatHoldConflictException(reservationId, conflicts);
-            }
+        // Redis 일괄 선점 (SOLD/HOLD 검사 + owner SET + 변경 이벤트, all-or-nothing)
+        SeatHoldScriptExecutor.ClaimResult claimResult =
+                seatHoldScriptExecutor.claim(scheduleId, userId, sortedSeatIds, HOLD_TTL_SECONDS);
 
-            // 좌석 상태 검증 + HOLD 처리 (DB만)
-            for(Long seatId : sortedSeatIds){
-                try{
-                    //DB 작업만 수행, Redis는 이벤트로 처리
-                    holdSingleSeatInDB(reservation, scheduleId, userId, seatId, now);
-                    heldSeatIds.add(seatId);
-                }catch (SeatNotAvailableException e){
-                    conflicts.add(new HoldSeatsFailResponse.ConflictSeat(
-                            e.getSeatId(),
-                            e.getCurrentStatus().name(),
-                            e.getReason()
-                    ));
-                }
-            }
+        if (!claimResult.claimed()) {
+            log.warn("[SeatHold] 좌석 선점 실패 - failedSeats={}",
+                    claimResult.conflicts().stream()
+                            .map(HoldSeatsFailResponse.ConflictSeat::performanceSeatId)
+                            .toList());
+            throw new SeatHoldConflictException(reservationId, claimResult.conflicts());
+        }
 
-            // HOLD 실패한 좌석이 하나라도 있으면 롤백 후 전체 실패
-            if (!conflicts.isEmpty()) {
-                log.warn("[SeatHold] 좌석 HOLD 실패 - failedSeats={}",
-                        conflicts.stream()
-                                .map(HoldSeatsFailResponse.ConflictSeat::performanceSeatId)
-                                .toList());
-                rollbackHeldSeats(reservation.getId(), scheduleId, heldSeatIds, userId);
-                throw new SeatHoldConflictException(reservationId, conflicts);
-            }
+        // 이후 DB 작업이 롤백되면 리스너가 선점 해제
+        eventPublisher.publishEvent(new SeatHoldClaimedEvent(scheduleId, userId, sortedSeatIds));
 
-            // 예매 정보 업데이트
-            updateReservation(reservation, now);
+        // 좌석/가격 등급 일괄 조회
+        Map<Long, PerformanceSeat> seatMap = performanceSeatRepository
+                .findAllByScheduleIdAndIdIn(scheduleId, sortedSeatIds)
+                .stream()
+                .collect(Collectors.toMap(PerformanceSeat::getId, seat -> seat));
 
-            HoldSeatsResponse response = buildHoldSeatsResponse(reservation, heldSeatIds, now);
-            log.info("[SeatHold] HOLD 성공 - reservationId={}, heldSeats={}",
-                    reservationId, heldSeatIds.size());
+        if (seatMap.size() != sortedSeatIds.size()) {
+            throw new ServiceException(ErrorCode.PERFORMANCE_SEAT_NOT_FOUND);
+        }
 
-            return  response;
-        } finally {
-            // 획득한 락 해제
-            releaseLocks(acquiredLocks);
+        // DB 상태 검증 (Redis 선점과 DB가 어긋난 좌석)
+        List<HoldSeatsFailResponse.ConflictSeat> conflicts = findDbConflicts(sortedSeatIds, seatMap, now);
+        if (!conflicts.isEmpty()) {
+            log.warn("[SeatHold] DB 상태 불일치로 HOLD 실패 - failedSeats={}",
+                    conflicts.stream()
+                            .map(HoldSeatsFailResponse.ConflictSeat::performanceSeatId)
+                            .toList());
+            throw new SeatHoldConflictException(reservationId, conflicts);
         }
+
+        Map<Long, PriceGrade> priceGradeMap = loadPriceGrades(seatMap.values());
+
+        // DB 일괄 반영
+        holdSeatsInDB(reservation, scheduleId, userId, sortedSeatIds, seatMap, priceGradeMap, now);
+
+        // 예매 정보 업데이트
+        updateReservation(reservation, now);
+
+        HoldSeatsResponse response = buildHoldSeatsResponse(reservation, seatMap, priceGradeMap, now);
+        log.info("[SeatHold] HOLD 성공 - reservationId={}, heldSeats={}",
+                reservationId, sortedSeatIds.size());
+
+        return response;
     }
 
-    // 단일 좌석 HOLD 처리 (DB 작업만)
-    private void holdSingleSeatInDB(Reservation reservation, Long scheduleId, Long userId, Long seatId, LocalDateTime now) {
-        // DB에서 좌석 조회
-        PerformanceSeat seat = performanceSeatRepository.findByIdAndScheduleId(seatId, scheduleId)
-                .orElseThrow(() -> new ServiceException(ErrorCode.PERFORMANCE_SEAT_NOT_FOUND));
-
-        // SOLD 여부 우선 체크
-        String soldSetKey = String.format(SEAT_SOLD_SET_KEY, scheduleId);
-        Boolean isSold = redisTemplate.opsForSet().isMember(soldSetKey, seatId.toString());
-        if(Boolean.TRUE.equals(isSold) || seat.getStatus() == SeatStatus.SOLD){
-            log.error("[SeatHold] SOLD 좌석 HOLD 시도 차단 - seatId={}", seatId);
-            throw new SeatNotAvailableException(seatId, SeatStatus.SOLD, "ALREADY_SOLD");
-        }
+    // Redis 선점은 성공했지만 DB 기준으로 HOLD 불가한 좌석 검출
+    private List<HoldSeatsFailResponse.ConflictSeat> findDbConflicts(
+            List<Long> seatIds,
+            Map<Long, PerformanceSeat> seatMap,
+            LocalDateTime now
+    ) {
+        List<HoldSeatsFailResponse.ConflictSeat> conflicts = new ArrayList<>();
 
-        // Redis에 HOLD owner 체크 (중복 홀드 방지)
-        String holdOwnerKey = String.format(SEAT_HOLD_OWNER_KEY, scheduleId, seatId);
-        String redisOwner = redisTemplate.opsForValue().get(holdOwnerKey);
-
-        // Redis Owner는 없는데 DB가 HOLD인 경우 - 만료 여부로 정리
-        if(redisOwner == null && seat.getStatus() == SeatStatus.HOLD){
-            if(seat.isHoldExpired(now)){
-                log.warn("[SeatHold] Redis Onwer 없음, DB Hold 만료 -> AVAILABLE로 복구, seatId={}", seatId );
-                seat.updateStatus(SeatStatus.AVAILABLE);
-                seat.clearHoldInfo();
-                performanceSeatRepository.save(seat);
-
-                // 폴링 반영 위한 복구 이벤트
-                eventPublisher.publishEvent(new SeatReleaseCompletedEvent(scheduleId, seatId, 0L, SeatStatus.AVAILABLE));
-            }else{
-                log.warn("[SeatHold] Redis Onwer 없음, DB Hold 만료X seatId={}", seatId );
-                throw new SeatNotAvailableException(seatId, SeatStatus.HOLD, "INCONSISTENT_STATE");
+        for (Long seatId : seatIds) {
+            PerformanceSeat seat = seatMap.get(seatId);
+
+            if (seat.getStatus() == SeatStatus.SOLD) {
+                log.error("[SeatHold] SOLD 좌석 HOLD 시도 차단 - seatId={}", seatId);
+                conflicts.add(new HoldSeatsFailResponse.ConflictSeat(
+                        seatId, SeatStatus.SOLD.name(), "ALREADY_SOLD"));
+            } else if (seat.getStatus() == SeatStatus.HOLD && !seat.isHoldExpired(now)) {
+                // Redis owner는 없는데 DB HOLD가 아직 유효한 경우
+                log.warn("[SeatHold] Redis Owner 없음, DB Hold 만료X seatId={}", seatId);
+                conflicts.add(new HoldSeatsFailResponse.ConflictSeat(
+                        seatId, SeatStatus.HOLD.name(), "INCONSISTENT_STATE"));
             }
         }
+        return conflicts;
+    }
 
-        // Redis에 Owner가 있으면 이미 누군가 홀드중
-        if (redisOwner != null) {
-            throw new SeatNotAvailableException(seatId, SeatStatus.HOLD, "ALREADY_HELD");
-        }
-
-        // db기준 AVAILABLE인 좌석만 홀드 가능
-        if(seat.getStatus() != SeatStatus.AVAILABLE){
-            throw new SeatNotAvailableException(seatId, seat.getStatus(), "NOT_AVAILABLE");
-        }
+    // 가격 등급 일괄 조회
+    private Map<Long, PriceGrade> loadPriceGrades(Collection<PerformanceSeat> seats) {
+        Set<Long> priceGradeIds = seats.stream()
+                .map(PerformanceSeat::getPriceGradeId)
+                .collect(Collectors.toSet());
 
-        // 6. DB 상태 업데이트
-        LocalDateTime expiresAt = now.plusSeconds(HOLD_TTL_SECONDS);
-        seat.updateStatus(SeatStatus.HOLD);
-        seat.updateHoldInfo(userId, expiresAt);
-        performanceSeatRepository.save(seat);
-
-        // ReservationSeat 생성
-        PriceGrade priceGrade = priceGradeRepository.findById(seat.getPriceGradeId())
-                .orElseThrow(() -> new ServiceException(ErrorCode.PRICE_GRADE_NOT_FOUND));
-
-        ReservationSeat reservationSeat = ReservationSeatMapper.create(
-                reservation.getId(),
-                seatId,
-                priceGrade.getPrice()
-        );
-        reservationSeatRepository.save(reservationSeat);
-
-        // SeatHoldLog 기록
-        SeatHoldLog holdLog = SeatHoldMapper.toHoldLog(seatId, userId, now, expiresAt);
-        seatHoldLogRepository.save(holdLog);
-
-        // 변경 이벤트 발행
-        eventPublisher.publishEvent(
-                new SeatHoldCompletedEvent(
-                        scheduleId,
-                        seatId,
-                        userId,
-                        SeatStatus.HOLD,
-                        HOLD_TTL_SECONDS
-                )
-        );
+        Map<Long, PriceGrade> priceGradeMap = priceGradeRepository.findAllById(priceGradeIds)
+                .stream()
+                .collect(Collectors.toMap(PriceGrade::getId, grade -> grade));
 
-        log.debug("[SeatHold] DB 작업 완료, 이벤트 발행 - seatId={}, userId={}", seatId, userId);
+        if (priceGradeMap.size() != priceGradeIds.size()) {
+            throw new ServiceException(ErrorCode.PRICE_GRADE_NOT_FOUND);
+        }
+        return priceGradeMap;
     }
 
-    // HOLD 실패시 롤백처리
-    private void rollbackHeldSeats(Long reservationId, Long scheduleId, List<Long> seatIds, Long userId) {
-        if (seatIds == null || seatIds.isEmpty()) return;
-        log.warn("[SeatHold] 롤백 시작 - seatCount={}", seatIds.size());
+    // 좌석 HOLD DB 일괄 반영 (좌석 상태, ReservationSeat, SeatHoldLog)
+    private void holdSeatsInDB(
+            Reservation reservation,
+            Long scheduleId,
+            Long userId,
+            List<Long> seatIds,
+            Map<Long, PerformanceSeat> seatMap,
+            Map<Long, PriceGrade> priceGradeMap,
+            LocalDateTime now
+    ) {
+        LocalDateTime expiresAt = now.plusSeconds(HOLD_TTL_SECONDS);
 
-        try {
-            reservationSeatRepository.deleteByReservationIdAndPerformanceSeatIdIn(reservationId, seatIds);
-        } catch (Exception e) {
-            log.error("[SeatHold] 롤백 중 ReservationSeat 삭제 실패 - reservationId={}", reservationId, e);
+        // 조건부 UPDATE 한 번 (AVAILABLE 또는 만료된 HOLD만 반영)
+        int updated = performanceSeatRepository.holdAll(scheduleId, seatIds, userId, expiresAt, now);
+        if (updated != seatIds.size()) {
+            // 검증 이후 다른 트랜잭션이 상태를 바꾼 경우 → 롤백 (선점은 리스너가 해제)
+            log.warn("[SeatHold] 조건부 UPDATE 반영 수 불일치 - expected={}, updated={}",
+                    seatIds.size(), updated);
+            throw new ServiceException(ErrorCode.SEAT_STATE_INCONSISTENT);
         }
 
-        for(Long seatId : seatIds){
-            try {
-                log.debug("[SeatRelease] 좌석 해제 시도 - seatId={}", seatId);
-                // Redis 키 삭제
-                String holdOwnerKey = String.format(SEAT_HOLD_OWNER_KEY, scheduleId, seatId);
-                redisTemplate.delete(holdOwnerKey);
+        List<ReservationSeat> reservationSeats = new ArrayList<>(seatIds.size());
+        List<SeatHoldLog> holdLogs = new ArrayList<>(seatIds.size());
 
-                // DB 상태 복원
-                PerformanceSeat seat = performanceSeatRepository.findByIdAndScheduleId(seatId, scheduleId)
-                        .orElseThrow(() -> new ServiceException(ErrorCode.PERFORMANCE_SEAT_NOT_FOUND));
+        for (Long seatId : seatIds) {
+            PerformanceSeat seat = seatMap.get(seatId);
 
-                seat.updateStatus(SeatStatus.AVAILABLE);
-                seat.clearHoldInfo();
-                performanceSeatRepository.save(seat);
-
-                // 롤백 로그 기록
-                SeatHoldLog rollbackLog = SeatHoldMapper.toReleaseLog(seatId, userId);
-                seatHoldLogRepository.save(rollbackLog);
+            reservationSeats.add(ReservationSeatMapper.create(
+                    reservation.getId(),
+                    seatId,
+                    priceGradeMap.get(seat.getPriceGradeId()).getPrice()
+            ));
+            holdLogs.add(SeatHoldMapper.toHoldLog(seatId, userId, now, expiresAt));
+        }
 
-                // 변경 이벤트 발행
-                eventPublisher.publishEvent(
-                        new SeatReleaseCompletedEvent(scheduleId, seatId, userId, SeatStatus.AVAILABLE)
-                );
+        // 시퀀스 ID라 JDBC 배치 INSERT로 반영 (감사 로그는 커밋 후 비동기 기록)
+        reservationSeatRepository.saveAll(reservationSeats);
+        seatHoldLogWriter.submit(holdLogs);
 
-            } catch (Exception e) {
-                log.error("[SeatHold] 롤백 실패 - seatId={}", seatId, e);
-            }
+        // 커밋 후 처리용 이벤트 (owner/버전/변경 이벤트는 스크립트에서 이미 기록됨)
+        for (Long seatId : seatIds) {
+            eventPublisher.publishEvent(
+                    new SeatHoldCompletedEvent(
+                            scheduleId,
+                            seatId,
+                            userId,
+                            SeatStatus.HOLD,
+                            HOLD_TTL_SECONDS
+                    )
+            );
         }
+
+        log.debug("[SeatHold] DB 일괄 반영 완료 - reservationId={}, seatCount={}",
+                reservation.getId(), seatIds.size());
     }
 
     // 좌석 RELEASE
@@ -320,116 +286,119 @@ public class SeatHoldService {
                 .sorted()
                 .toList();
 
-        // 좌석별 락 획득 및 RELEASE 처리
-        List<RLock> acquiredLocks = new ArrayList<>();
-
-        try {
-            // 모든 좌석 락 획득
-            for (Long seatId : sortedSeatIds) {
-                RLock lock = acquireSeatLock(scheduleId, seatId);
-
-                if (lock == null) {
-                    log.error("[SeatHold] 락 획득 실패 - seatId={}", seatId);
-                    throw new ServiceException(ErrorCode.INTERNAL_SERVER_ERROR);
-                }
-                acquiredLocks.add(lock);
-            }
+        // 좌석 RELEASE 처리 (db만, owner 검증은 Redis 기준)
+        releaseSeatsInDB(scheduleId, userId, sortedSeatIds, now);
+        reservationSeatRepository.deleteByReservationId(reservationId);
 
-            // 좌석 RELEASE 처리 (db만)
-            for (Long seatId : sortedSeatIds) {
-                releaseSingleSeatInDB(scheduleId, userId, seatId, now);
-            }
-            reservationSeatRepository.deleteByReservationId(reservationId);
-
-            // 예매 상태 업데이트
-            reservation.cancel();
-            reservationRepository.save(reservation);
-
-            // 응답 생성
-            ReleaseSeatsResponse response = ReservationMapper.toReleaseSeatsResponse(
-                    reservation,
-                    sortedSeatIds,
-                    0,
-                    0,
-                    now
-            );
-            log.info("[SeatHold] RELEASE 성공 - reservationId={}", reservationId);
+        // 예매 상태 업데이트
+        reservation.cancel();
+        reservationRepository.save(reservation);
 
-            return response;
-        }finally {
-            // 획득한 락 해제
-            releaseLocks(acquiredLocks);
-        }
+        // 응답 생성
+        ReleaseSeatsResponse response = ReservationMapper.toReleaseSeatsResponse(
+                reservation,
+                sortedSeatIds,
+                0,
+                0,
+                now
+        );
+        log.info("[SeatHold] RELEASE 성공 - reservationId={}", reservationId);
 
+        return response;
     }
 
-    // 단일 좌석 RELEASE 처리 (db 작업만 수행)
-    private void releaseSingleSeatInDB(Long scheduleId, Long userId, Long seatId, LocalDateTime now) {
-        // DB에서 좌석 조회
-        PerformanceSeat seat = performanceSeatRepository.findByIdAndScheduleId(seatId, scheduleId)
-                .orElseThrow(() -> new ServiceException(ErrorCode.PERFORMANCE_SEAT_NOT_FOUND));
+    /**
+     * 좌석 일괄 RELEASE 처리 (db 작업만 수행)
+     * - 좌석 조회 1회 + owner MGET 1회 + 조건부 UPDATE (본인 HOLD / 만료 HOLD 각 1회) + 로그 배치 INSERT
+     * - 다른 사용자가 선점한 좌석이 하나라도 있으면 아무것도 반영하지 않음
+     * - UPDATE 조건에 소유자/만료 시각을 포함 → MGET 이후 다른 사용자가 선점/커밋한 HOLD는 되돌리지 않음
+     * - Redis 정리는 커밋 후 owner 비교 스크립트로 수행 (SeatHoldEventListener)
+     */
+    private void releaseSeatsInDB(Long scheduleId, Long userId, List<Long> seatIds, LocalDateTime now) {
+        // DB에서 좌석 일괄 조회
+        Map<Long, PerformanceSeat> seatMap = performanceSeatRepository
+                .findAllByScheduleIdAndIdIn(scheduleId, seatIds)
+                .stream()
+                .collect(Collectors.toMap(PerformanceSeat::getId, seat -> seat));
 
-        // SOLD 좌석은 RELEASE 불가
-        if(seat.getStatus() == SeatStatus.SOLD){
-            return;
+        if (seatMap.size() != seatIds.size()) {
+            throw new ServiceException(ErrorCode.PERFORMANCE_SEAT_NOT_FOUND);
         }
 
         // 권한 검증 (owner 확인)
-        String holdOwnerKey = String.format(SEAT_HOLD_OWNER_KEY, scheduleId, seatId);
-        String currentOwner = redisTemplate.opsForValue().get(holdOwnerKey);
+        List<String> ownerKeys = seatIds.stream()
+                .map(seatId -> String.format(SEAT_HOLD_OWNER_KEY, scheduleId, seatId))
+                .toList();
+        List<String> owners = redisTemplate.opsForValue().multiGet(ownerKeys);
 
-        // TTL 만료로 Redis owner없으면 db상태만 정리
-        if(currentOwner == null){
-            // 이미 AVAILABLE이면 그냥 성공
-            if (seat.getStatus() == SeatStatus.AVAILABLE) return;
+        List<Long> ownedSeatIds = new ArrayList<>();
+        List<Long> recoveredSeatIds = new ArrayList<>();
 
-            // HOLD거나 기타 상태면 강제 복구
-            seat.updateStatus(SeatStatus.AVAILABLE);
-            seat.clearHoldInfo();
-            performanceSeatRepository.save(seat);
+        for (int i = 0; i < seatIds.size(); i++) {
+            Long seatId = seatIds.get(i);
+            PerformanceSeat seat = seatMap.get(seatId);
+            String currentOwner = owners != null ? owners.get(i) : null;
 
-            // 폴링 반영(복구 이벤트)
-            eventPublisher.publishEvent(
-                    new SeatReleaseCompletedEvent(scheduleId, seatId, 0L, SeatStatus.AVAILABLE)
-            );
-            return;
-        }
+            // SOLD 좌석은 RELEASE 불가
+            if (seat.getStatus() == SeatStatus.SOLD) {
+                continue;
+            }
 
-        if (!userId.toString().equals(currentOwner)) {
-            // 다른사용자가 이미 선점
-            log.error("[SeatHold] RELEASE 권한 없음 - seatId={}, owner={}, userId={}",
-                    seatId, currentOwner, userId);
-            throw new ServiceException(ErrorCode.UNAUTHORIZED);
-        }
+            // TTL 만료로 Redis owner없으면 db상태만 정리 (이미 AVAILABLE이면 그냥 성공)
+            // 본인 HOLD는 해제, 그 외 HOLD는 만료된 경우에만 UPDATE 조건으로 복구
+            if (currentOwner == null) {
+                if (seat.getStatus() == SeatStatus.AVAILABLE) {
+                    continue;
+                }
+                if (userId.equals(seat.getHoldUserId())) {
+                    ownedSeatIds.add(seatId);
+                } else {
+                    recoveredSeatIds.add(seatId);
+                }
+                continue;
+            }
 
-        // DB 상태 업데이트
-        seat.updateStatus(SeatStatus.AVAILABLE);
-        seat.clearHoldInfo();
-        performanceSeatRepository.save(seat);
+            if (!userId.toString().equals(currentOwner)) {
+                // 다른사용자가 이미 선점
+                log.error("[SeatHold] RELEASE 권한 없음 - seatId={}, owner={}, userId={}",
+                        seatId, currentOwner, userId);
+                throw new ServiceException(ErrorCode.UNAUTHORIZED);
+            }
+            ownedSeatIds.add(seatId);
+        }
 
-        // SeatHoldLog 기록
-        SeatHoldLog releaseLog = SeatHoldMapper.toReleaseLog(seatId, userId);
-        seatHoldLogRepository.save(releaseLog);
+        if (ownedSeatIds.isEmpty() && recoveredSeatIds.isEmpty()) {
+            return;
+        }
 
-        // RELEASE 완료 이벤트 발행
-        eventPublisher.publishEvent(new SeatReleaseCompletedEvent(scheduleId, seatId, userId, SeatStatus.AVAILABLE));
+        // DB 상태 업데이트 (본인 HOLD만, SOLD/다른 사용자의 HOLD는 조건에서 제외)
+        if (!ownedSeatIds.isEmpty()) {
+            performanceSeatRepository.releaseHeldBy(ownedSeatIds, userId, now);
+        }
 
-        log.debug("[SeatHold] DB RELEASE 완료, 이벤트 발행 - seatId={}, userId={}", seatId, userId);
-    }
+        // owner 없는 좌석은 만료된 HOLD만 복구 (실제 복구된 좌석만 이벤트 대상)
+        if (!recoveredSeatIds.isEmpty()) {
+            int recovered = performanceSeatRepository.releaseExpiredHolds(recoveredSeatIds, now);
+            if (recovered < recoveredSeatIds.size()) {
+                recoveredSeatIds = performanceSeatRepository.findIdsInStatus(recoveredSeatIds, SeatStatus.AVAILABLE);
+            }
+        }
 
-    // 좌석 락 획득
-    private RLock acquireSeatLock(Long scheduleId, Long seatId) {
-        String lockKey = String.format(SEAT_LOCK_KEY, scheduleId, seatId);
-        RLock lock = redissonClient.getLock(lockKey);
-        try {
-            boolean acquired = lock.tryLock(LOCK_WAIT_TIME, LOCK_LEASE_TIME, TimeUnit.SECONDS);
-            return acquired ? lock : null;
+        // SeatHoldLog 기록 (커밋 후 비동기)
+        seatHoldLogWriter.submit(ownedSeatIds.stream()
+                .map(seatId -> SeatHoldMapper.toReleaseLog(seatId, userId))
+                .toList());
 
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.error("[SeatHold] 락 획득 중 인터럽트 - seatId={}", seatId, e);
-            return null;
+        // RELEASE 완료 이벤트 발행 (owner 없이 복구된 좌석은 userId 0)
+        if (!ownedSeatIds.isEmpty()) {
+            eventPublisher.publishEvent(new SeatReleaseCompletedEvent(scheduleId, ownedSeatIds, userId, SeatStatus.AVAILABLE));
+        }
+        if (!recoveredSeatIds.isEmpty()) {
+            eventPublisher.publishEvent(new SeatReleaseCompletedEvent(scheduleId, recoveredSeatIds, 0L, SeatStatus.AVAILABLE));
         }
+
+        log.debug("[SeatHold] DB RELEASE 완료, 이벤트 발행 - released={}, recovered={}, userId={}",
+                ownedSeatIds.size(), recoveredSeatIds.size(), userId);
     }
 
     // 예매 정보 업데이트
@@ -447,24 +416,20 @@ public class SeatHoldService {
 
         reservation.updateTotalAmount(totalAmount);
         reservationRepository.save(reservation);
+
+        // 만료 엔진 등록 (롤백/결제된 예매는 엔진에서 상태 확인 후 무시)
+        reservationExpiryQueue.schedule(reservation.getId(), expiresAt);
     }
 
     // HOLD 성공 응답 생성
-    private HoldSeatsResponse buildHoldSeatsResponse(Reservation reservation, List<Long> heldSeatIds, LocalDateTime now) {
+    private HoldSeatsResponse buildHoldSeatsResponse(
+            Reservation reservation,
+            Map<Long, PerformanceSeat> seatMap,
+            Map<Long, PriceGrade> priceGradeMap,
+            LocalDateTime now
+    ) {
         List<ReservationSeat> reservationSeats = reservationSeatRepository.findByReservationId(reservation.getId());
 
-        Map<Long, PerformanceSeat> seatMap = performanceSeatRepository.findAllById(heldSeatIds)
-                .stream()
-                .collect(Collectors.toMap(PerformanceSeat::getId, seat -> seat));
-
-        Set<Long> priceGradeIds = seatMap.values().stream()
-                .map(PerformanceSeat::getPriceGradeId)
-                .collect(Collectors.toSet());
-
-        Map<Long, PriceGrade> priceGradeMap = priceGradeRepository.findAllById(priceGradeIds)
-                .stream()
-                .collect(Collectors.toMap(PriceGrade::getId, grade -> grade));
-
         return ReservationMapper.toHoldSeatsResponse(
                 reservation,
                 reservationSeats,
@@ -474,19 +439,6 @@ public class SeatHoldService {
         );
     }
 
-    // 락 해제
-    private void releaseLocks(List<RLock> locks) {
-        for(RLock lock : locks){
-            try{
-                if(lock != null && lock.isHeldByCurrentThread()){
-                    lock.unlock();
-                }
-            }catch (Exception e){
-                log.error("[SeatHold] 락 해제 실패", e);
-            }
-        }
-    }
-
     // 예매 검증
     private void validateReservation(Reservation reservation, Long userId) {
         // 소유자 확인
@@ -506,57 +458,91 @@ public class SeatHoldService {
     }
 
     // 변경 이벤트 조회 (폴링 API)
-    public List<Map<String, Object>> getSeatChanges(Long scheduleId, Long sinceVersion){
-        String versionKey = String.format(SEAT_VERSION_KEY, scheduleId);
-        String currentVersionStr = redisTemplate.opsForValue().get(versionKey);
+    public SeatChanges getSeatChanges(Long scheduleId, Long sinceVersion){
+        long currentVersion = seatChangeLog.currentVersion(scheduleId);
 
-        if(currentVersionStr == null || sinceVersion >= Long.parseLong(currentVersionStr)){
-            return List.of(); // 버전 키 없음 = 변경 없음
+        if (sinceVersion == currentVersion) {
+            return SeatChanges.none(sinceVersion);
         }
 
-        Long currentVersion = Long.parseLong(currentVersionStr);
+        // 클라이언트 버전이 더 큼 = 버전 키가 초기화됨 (만료/삭제) → 현재 버전 기준으로 전체 새로고침
+        if (sinceVersion > currentVersion) {
+            log.warn("[SeatChange] 클라이언트 버전이 현재 버전보다 큼 - sinceVersion={}, currentVersion={}, scheduleId={}",
+                    sinceVersion, currentVersion, scheduleId);
+            return SeatChanges.refresh(currentVersion);
+        }
 
         // 버전 차이가 너무 크면 전체 새로고침 유도
         long versionGap = currentVersion - sinceVersion;
-        if (versionGap > 100) {
+        if (versionGap > MAX_CHANGES_PER_POLL) {
             log.warn("[SeatChange] 버전 차이 너무 큼 - gap={}, scheduleId={}",
                     versionGap, scheduleId);
+            return SeatChanges.refresh(currentVersion);
+        }
 
-            // 프론트에 전체 좌석표 재조회 요청
-            Map<String, Object> refreshEvent = Map.of(
-                    "type", "FULL_REFRESH_REQUIRED",
-                    "currentVersion", currentVersion,
-                    "message", "Too many changes. Please refresh seat layout."
-            );
-            return List.of(refreshEvent);
+        // 정상 범위: Stream 구간 조회 1회
+        List<SeatChangeRecord> changes =
+                seatChangeLog.readSince(scheduleId, sinceVersion, MAX_CHANGES_PER_POLL);
+
+        // 버전 차이가 있는데 로그가 비었거나 (Stream만 만료/삭제) 앞부분이 잘려나간 경우 (MAXLEN/TTL) 전체 새로고침 유도
+        if (changes.isEmpty() || changes.get(0).version() > sinceVersion + 1) {
+            log.warn("[SeatChange] 변경 로그 유실 구간 존재 - sinceVersion={}, scheduleId={}",
+                    sinceVersion, scheduleId);
+            return SeatChanges.refresh(currentVersion);
         }
 
-        // 정상 범위: 최대 100개만 조회
-        List<Map<String, Object>> changes = new ArrayList<>();
-        long startVersion = sinceVersion + 1;
-        long endVersion = Math.min(currentVersion, sinceVersion + 100);
-
-        for (long v = startVersion; v <= endVersion; v++) {
-            String changeKey = String.format(SEAT_CHANGES_KEY, scheduleId, v);
-            String eventJson = redisTemplate.opsForValue().get(changeKey);
-
-            if (eventJson != null) {
-                try {
-                    @SuppressWarnings("unchecked")
-                    Map<String, Object> event = objectMapper.readValue(
-                            eventJson,
-                            Map.class
-                    );
-                    event.put("version", v);
-                    changes.add(event);
-                } catch (JsonProcessingException e) {
-                    log.error("[SeatChange] JSON 파싱 실패 - version={}", v, e);
-                }
+        return SeatChanges.of(sinceVersion, changes);
+    }
+
+    /**
+     * 변경 이벤트 조회 (STOMP 푸시용)
+     * - 폴링 API와 달리 버전 차이로 자르지 않고, Stream에 남아 있는 구간을 XRANGE 페이지 단위로 모두 조회
+     * - 전체 새로고침은 sinceVersion 직후 엔트리가 이미 잘려나간 경우(MAXLEN/TTL)와 버전 키 초기화 시에만
+     * - 한 번에 최대 Stream 보존 길이(MAX_LENGTH)까지 조회, 나머지는 다음 주기에 이어서 조회
+     */
+    public SeatChanges getSeatChangesForPush(Long scheduleId, Long sinceVersion) {
+        long currentVersion = seatChangeLog.currentVersion(scheduleId);
+
+        if (sinceVersion == currentVersion) {
+            return SeatChanges.none(sinceVersion);
+        }
+
+        if (sinceVersion > currentVersion) {
+            log.warn("[SeatChange] 푸시 버전이 현재 버전보다 큼 - sinceVersion={}, currentVersion={}, scheduleId={}",
+                    sinceVersion, currentVersion, scheduleId);
+            return SeatChanges.refresh(currentVersion);
+        }
+
+        List<SeatChangeRecord> changes = new ArrayList<>();
+        long cursor = sinceVersion;
+        while (cursor < currentVersion && changes.size() < SeatChangeLog.MAX_LENGTH) {
+            List<SeatChangeRecord> page = seatChangeLog.readSince(scheduleId, cursor, PUSH_PAGE_SIZE);
+            if (page.isEmpty()) {
+                break;
+            }
+
+            // sinceVersion 직후 엔트리가 로그에 없음 = 보존 구간 밖 → 전체 새로고침 유도
+            if (changes.isEmpty() && page.get(0).version() > sinceVersion + 1) {
+                log.warn("[SeatChange] 푸시 버전이 변경 로그 보존 구간 밖 - sinceVersion={}, currentVersion={}, scheduleId={}",
+                        sinceVersion, currentVersion, scheduleId);
+                return SeatChanges.refresh(currentVersion);
             }
-            // eventJson이 null이면 TTL 만료 → 스킵
+
+            changes.addAll(page);
+            cursor = page.get(page.size() - 1).version();
+            if (page.size() < PUSH_PAGE_SIZE) {
+                break;
+            }
+        }
+
+        // 버전 차이가 있는데 로그가 비었음 (Stream만 만료/삭제)
+        if (changes.isEmpty()) {
+            log.warn("[SeatChange] 푸시 구간 변경 로그 없음 - sinceVersion={}, currentVersion={}, scheduleId={}",
+                    sinceVersion, currentVersion, scheduleId);
+            return SeatChanges.refresh(currentVersion);
         }
 
-        return changes;
+        return SeatChanges.of(sinceVersion, changes);
     }
 
 }
@@ -38,8 +38,7 @@ public interface BookingSessionControllerSpec {
                     - 좌석 배치도 화면 진입 전
                     
                     **생성되는 Redis 키**
-                    - booking:session:{sessionId} → scheduleId (30분 TTL)
-                    - booking:session:device:{sessionId} → deviceId (30분 TTL)
+                    - booking:session:data:{sessionId} → Hash(scheduleId, userId, deviceId) (30분 TTL)
                     - booking:session:{userId}:{scheduleId} → sessionId (30분 TTL)
                     - active:{scheduleId} ZSET에 bookingSessionId 추가
                     """
@@ -1,17 +1,15 @@
 package back.kalender.domain.booking.session.service;
 
-import back.kalender.domain.booking.reservation.service.ReservationService;
 import back.kalender.global.exception.ErrorCode;
 import back.kalender.global.exception.ServiceException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.hibernate.validator.internal.util.stereotypes.Lazy;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Service
@@ -19,15 +17,14 @@ import java.util.concurrent.TimeUnit;
 public class BookingSessionService {
 
     private final StringRedisTemplate redisTemplate;
-
-    private static final String BOOKING_SESSION_KEY_PREFIX = "booking:session:";
-    private static final String BOOKING_SESSION_DEVICE_PREFIX = "booking:session:device:";
-    private static final String BOOKING_SESSION_USER_PREFIX = "booking:session:user:";
+    private final BookingSessionStore bookingSessionStore;
 
     private static final Duration BOOKING_SESSION_TTL = Duration.ofMinutes(30);
 
     /**
      * 대기열 토큰으로 세션 생성
+     * - 사전 조회(waitingToken + 기존 세션) 파이프라인 1회 + 생성 스크립트 1회
+     * - waitingToken 소비를 스크립트에서 검사하므로 같은 토큰으로 동시에 요청해도 하나만 성공
      */
     public String createWithWaitingToken(
             Long userId,
@@ -35,78 +32,47 @@ public class BookingSessionService {
             String waitingToken,
             String deviceId
     ) {
-        // (1) 중복 요청 방지 락 (waitingToken 단위)
-        String lockKey = "waiting:lock:" + waitingToken;
-        Boolean locked = redisTemplate.opsForValue()
-                .setIfAbsent(lockKey, "1", 10, TimeUnit.SECONDS);
-
-        if (!Boolean.TRUE.equals(locked)) {
-            // ErrorCode 없으면 임시로 INVALID_INPUT_VALUE 같은 걸로 막아도 됨
-            throw new ServiceException(ErrorCode.INVALID_INPUT_VALUE);
+        BookingSessionStore.EntryLookup lookup = bookingSessionStore.lookupEntry(waitingToken, userId, scheduleId);
+
+        // 1) waitingToken 검증
+        String qsid = validateWaitingToken(lookup.waitingValue(), scheduleId);
+
+        if (lookup.existingSessionId() != null) {
+            // 재접속 시 무조건 새로 생성 (브라우저 닫기 = 예매 포기)
+            log.info("[BookingSession] 기존 세션 발견, 삭제 후 재생성 - sessionId={}",
+                    lookup.existingSessionId());
         }
 
-        try {
-            // 1) waitingToken 검증 (아직 delete 하지 말 것)
-            String qsid = validateWaitingToken(waitingToken, scheduleId);
-
-            // 2) deviceId 검증
-            validateDevice(qsid, deviceId);
-
-            // 3) 기존 세션 확인/삭제
-            checkExistingSession(userId, scheduleId, deviceId);
-
-            // 4) BookingSession 생성
-            String bookingSessionId = UUID.randomUUID().toString();
-
-            redisTemplate.opsForValue().set(
-                    BOOKING_SESSION_KEY_PREFIX + bookingSessionId,
-                    scheduleId.toString(),
-                    BOOKING_SESSION_TTL
-            );
-
-            redisTemplate.opsForValue().set(
-                    BOOKING_SESSION_DEVICE_PREFIX + bookingSessionId,
-                    deviceId,
-                    BOOKING_SESSION_TTL
-            );
-
-            redisTemplate.opsForValue().set(
-                    BOOKING_SESSION_KEY_PREFIX + userId + ":" + scheduleId,
-                    bookingSessionId,
-                    BOOKING_SESSION_TTL
-            );
-
-            redisTemplate.opsForValue().set(
-                    BOOKING_SESSION_USER_PREFIX + bookingSessionId,
-                    userId.toString(),
-                    BOOKING_SESSION_TTL
-            );
-
-            // 5) Active 추가
-            redisTemplate.opsForZSet().add(
-                    "active:" + scheduleId,
-                    bookingSessionId,
-                    System.currentTimeMillis()
-            );
-
-            // 6) 여기서 Queue 종료(정리) - 성공했으니 마지막에 삭제
-            // waitingToken 소비
-            redisTemplate.delete("waiting:" + waitingToken);
-
-            // admitted / qsid / device 매핑 삭제
-            redisTemplate.opsForHash().delete("admitted:" + scheduleId, qsid);
-            redisTemplate.delete("qsid:" + qsid);
-            redisTemplate.delete("device:" + scheduleId + ":" + deviceId);
-
-            log.info("[BookingSession] 생성 + Active 진입 - userId={}, scheduleId={}, sessionId={}",
-                    userId, scheduleId, bookingSessionId);
-
-            return bookingSessionId;
-
-        } finally {
-            // 락 해제(안전 단순 버전)
-            redisTemplate.delete(lockKey);
+        // 2) 기기 검증 + 기존 세션 정리 + 세션 생성 + Active 진입 + 대기열 정리 (스크립트 1회)
+        String bookingSessionId = UUID.randomUUID().toString();
+        BookingSessionStore.CreateResult result = bookingSessionStore.create(
+                bookingSessionId,
+                userId,
+                scheduleId,
+                deviceId,
+                waitingToken,
+                lookup.waitingValue(),
+                qsid,
+                lookup.existingSessionId(),
+                BOOKING_SESSION_TTL
+        );
+
+        if (result == BookingSessionStore.CreateResult.QSID_EXPIRED) {
+            throw new ServiceException(ErrorCode.QSID_EXPIRED);
+        }
+        if (result == BookingSessionStore.CreateResult.DEVICE_MISMATCH) {
+            log.warn("[BookingSession] 기기 불일치 - qsid={}, actual={}", qsid, deviceId);
+            throw new ServiceException(ErrorCode.DEVICE_ID_MISMATCH);
+        }
+        if (result == BookingSessionStore.CreateResult.TOKEN_CONSUMED) {
+            // 사전 조회 이후 다른 요청이 토큰을 먼저 사용
+            throw new ServiceException(ErrorCode.INVALID_WAITING_TOKEN);
         }
+
+        log.info("[BookingSession] 생성 + Active 진입 - userId={}, scheduleId={}, sessionId={}",
+                userId, scheduleId, bookingSessionId);
+
+        return bookingSessionId;
     }
 
     /**
@@ -141,17 +107,14 @@ public class BookingSessionService {
 
     /**
      * 대기열 토큰 검증
+     * - waitingValue = waiting:{token} 값 ("qsid:scheduleId")
      */
-    private String validateWaitingToken(String waitingToken, Long scheduleId) {
-        String waitingKey = "waiting:" + waitingToken;
-        String value = redisTemplate.opsForValue().get(waitingKey);
-
-        if (value == null) {
+    private String validateWaitingToken(String waitingValue, Long scheduleId) {
+        if (waitingValue == null) {
             throw new ServiceException(ErrorCode.INVALID_WAITING_TOKEN);
         }
 
-        // value = "qsid:scheduleId"
-        String[] parts = value.split(":");
+        String[] parts = waitingValue.split(":");
         String qsid = parts[0];
         Long tokenScheduleId = Long.parseLong(parts[1]);
 
@@ -172,10 +135,7 @@ public class BookingSessionService {
             throw new ServiceException(ErrorCode.INVALID_BOOKING_SESSION);
         }
 
-        String key = BOOKING_SESSION_KEY_PREFIX + bookingSessionId;
-        String value = redisTemplate.opsForValue().get(key);
-
-        if (value == null) {
+        if (!bookingSessionStore.exists(bookingSessionId)) {
             throw new ServiceException(ErrorCode.BOOKING_SESSION_EXPIRED);
         }
 
@@ -190,8 +150,7 @@ public class BookingSessionService {
             throw new ServiceException(ErrorCode.INVALID_BOOKING_SESSION);
         }
 
-        String key = BOOKING_SESSION_KEY_PREFIX + bookingSessionId;
-        String value = redisTemplate.opsForValue().get(key);
+        String value = bookingSessionStore.findScheduleId(bookingSessionId);
 
         if (value == null) {
             throw new ServiceException(ErrorCode.BOOKING_SESSION_EXPIRED);
@@ -209,102 +168,48 @@ public class BookingSessionService {
         deleteBookingSession(bookingSessionId, userId, scheduleId);
     }
 
-    /**
-     * 기존 세션 확인
-     * - 재접속 시 무조건 새로 생성 (브라우저 닫기 = 예매 포기)
-     */
-    private String checkExistingSession(
-            Long userId,
-            Long scheduleId,
-            String deviceId
-    ) {
-        String mappingKey = BOOKING_SESSION_KEY_PREFIX + userId + ":" + scheduleId;
-        String existingSessionId = redisTemplate.opsForValue().get(mappingKey);
-
-        if (existingSessionId == null) {
-            return null;
-        }
-
-        log.info("[BookingSession] 기존 세션 발견, 무조건 삭제 후 재생성 - sessionId={}",
-                existingSessionId);
-
-        // Active 여부 상관없이 삭제
-        deleteBookingSessionBySessionId(existingSessionId);
-
-        return null; // 새로 생성
+    // 세션 소유 userId (세션이 없거나 userId가 없으면 null)
+    public Long findUserId(String bookingSessionId) {
+        BookingSessionStore.Session session = bookingSessionStore.find(bookingSessionId);
+        return session == null ? null : session.userId();
     }
 
-    // deviceId 검증
-    private void validateDevice(String qsid, String deviceId) {
-        String qsidKey = "qsid:" + qsid;
-        String qsidValue = redisTemplate.opsForValue().get(qsidKey);
-
-        if (qsidValue == null) {
-            throw new ServiceException(ErrorCode.QSID_EXPIRED);
-        }
-
-        String originalDeviceId = qsidValue.split(":")[0];
+    // 세션 일괄 조회 (ActiveSweepScheduler 전용, 이미 만료된 세션 제외)
+    public List<BookingSessionStore.Session> findSessions(List<String> bookingSessionIds) {
+        return bookingSessionStore.findAll(bookingSessionIds);
+    }
 
-        if (!originalDeviceId.equals(deviceId)) {
-            log.warn("[BookingSession] 기기 불일치 - qsid={}, expected={}, actual={}",
-                    qsid, originalDeviceId, deviceId);
-            throw new ServiceException(ErrorCode.DEVICE_ID_MISMATCH);
-        }
+    // 같은 회차 세션 일괄 삭제 (ActiveSweepScheduler 전용)
+    public long deleteSessions(Long scheduleId, List<BookingSessionStore.Session> sessions) {
+        return bookingSessionStore.deleteAll(scheduleId, sessions);
     }
 
     /** BookingSession 완전 삭제
-     * checkExistingSession()에서 비활성 세션 발견 시 호출
-     * ActiveSweepScheduler에서 60초 무응답 세션 정리 시 호출
      */
     public boolean deleteBookingSessionBySessionId(String bookingSessionId) {
-        String scheduleIdStr = redisTemplate.opsForValue().get(BOOKING_SESSION_KEY_PREFIX + bookingSessionId);
-        if (scheduleIdStr == null) {
+        BookingSessionStore.Session session = bookingSessionStore.find(bookingSessionId);
+        if (session == null) {
             log.debug("[BookingSession] 이미 삭제된 세션 - sessionId={}", bookingSessionId);
             return false;
         }
 
-        String userIdStr = redisTemplate.opsForValue().get(BOOKING_SESSION_USER_PREFIX + bookingSessionId);
-        if (userIdStr == null) {
+        if (session.userId() == null) {
             log.warn("[BookingSession] userId 조회 실패, 부분 삭제 - sessionId={}", bookingSessionId);
-            deletePartialSession(bookingSessionId, scheduleIdStr);
-            return true;
         }
 
-        Long scheduleId = Long.parseLong(scheduleIdStr);
-        Long userId = Long.parseLong(userIdStr);
-
-        deleteBookingSession(bookingSessionId, userId, scheduleId);
+        deleteBookingSession(bookingSessionId, session.userId(), session.scheduleId());
 
         return true;
     }
 
     /**
      * BookingSession 완전 삭제 (파라미터 있을 때 - 조회 불필요)
+     * - Active 제거 + 세션 Hash 삭제 + 역인덱스 삭제를 스크립트 1회로 처리
      */
     private void deleteBookingSession(String bookingSessionId, Long userId, Long scheduleId) {
-        // Active에서 제거
-        redisTemplate.opsForZSet().remove("active:" + scheduleId, bookingSessionId);
-
-        // 모든 Redis 키 삭제
-        redisTemplate.delete(BOOKING_SESSION_KEY_PREFIX + bookingSessionId);
-        redisTemplate.delete(BOOKING_SESSION_DEVICE_PREFIX + bookingSessionId);
-        redisTemplate.delete(BOOKING_SESSION_USER_PREFIX + bookingSessionId);
-        redisTemplate.delete(BOOKING_SESSION_KEY_PREFIX + userId + ":" + scheduleId);
+        bookingSessionStore.delete(bookingSessionId, userId, scheduleId);
 
         log.info("[BookingSession] 완전 삭제 - sessionId={}, userId={}, scheduleId={}",
                 bookingSessionId, userId, scheduleId);
     }
-
-    // userId 없는 경우 부분 삭제
-    private void deletePartialSession(String bookingSessionId, String scheduleIdStr) {
-        Long scheduleId = Long.parseLong(scheduleIdStr);
-
-        redisTemplate.opsForZSet().remove("active:" + scheduleId, bookingSessionId);
-        redisTemplate.delete(BOOKING_SESSION_KEY_PREFIX + bookingSessionId);
-        redisTemplate.delete(BOOKING_SESSION_DEVICE_PREFIX + bookingSessionId);
-        redisTemplate.delete("booking:session:user:" + bookingSessionId);
-
-        log.warn("[BookingSession] 부분 삭제 완료 - sessionId={}, scheduleId={}",
-                bookingSessionId, scheduleId);
-    }
 }
@@ -0,0 +1,226 @@
+package back.kalender.domain.booking.session.service;
+
+import back.kalender.domain.booking.waitingRoom.service.QueueKeys;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 예매 세션 Redis 저장소
+ *
+ * - 세션 하나 = Hash 하나 (booking:session:data:{sessionId} → scheduleId, userId, deviceId)
+ * - 역인덱스: booking:session:{userId}:{scheduleId} → sessionId
+ * - 생성: 사전 조회 파이프라인 1회 + 생성 스크립트 1회 (검증/기존 세션 정리/기록/대기열 정리)
+ * - 삭제: 스크립트 1회 (역인덱스는 이 세션을 가리킬 때만 삭제), Active sweep은 회차별 일괄 삭제
+ */
+@Component
+@RequiredArgsConstructor
+public class BookingSessionStore {
+
+    private static final String SESSION_KEY_PREFIX = "booking:session:data:";
+    private static final String USER_SCHEDULE_KEY_PREFIX = "booking:session:";
+
+    private static final String FIELD_SCHEDULE_ID = "scheduleId";
+    private static final String FIELD_USER_ID = "userId";
+    private static final String FIELD_DEVICE_ID = "deviceId";
+
+    private static final RedisScript<Long> CREATE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/booking-session-create.lua"), Long.class);
+    private static final RedisScript<Long> DELETE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/booking-session-delete.lua"), Long.class);
+    private static final RedisScript<Long> DELETE_ALL_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/booking-session-delete-all.lua"), Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public static String sessionKey(String bookingSessionId) {
+        return SESSION_KEY_PREFIX + bookingSessionId;
+    }
+
+    public static String userScheduleKey(Long userId, Long scheduleId) {
+        return USER_SCHEDULE_KEY_PREFIX + userId + ":" + scheduleId;
+    }
+
+    /**
+     * 세션 생성 전 조회 (파이프라인 1회)
+     * - waiting:{token} 값 + 같은 사용자/회차의 기존 sessionId
+     */
+    public EntryLookup lookupEntry(String waitingToken, Long userId, Long scheduleId) {
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.stringCommands().get(bytes("waiting:" + waitingToken));
+            connection.stringCommands().get(bytes(userScheduleKey(userId, scheduleId)));
+            return null;
+        });
+        return new EntryLookup(asString(results.get(0)), asString(results.get(1)));
+    }
+
+    // 세션 생성 스크립트 실행
+    public CreateResult create(
+            String bookingSessionId,
+            Long userId,
+            Long scheduleId,
+            String deviceId,
+            String waitingToken,
+            String waitingValue,
+            String qsid,
+            String existingSessionId,
+            Duration ttl
+    ) {
+        List<String> keys = new ArrayList<>(8);
+        keys.add("waiting:" + waitingToken);
+        keys.add("qsid:" + qsid);
+        keys.add(sessionKey(bookingSessionId));
+        keys.add(userScheduleKey(userId, scheduleId));
+        keys.add("active:" + scheduleId);
+        keys.add(QueueKeys.admittedKeyOf(scheduleId, qsid));
+        keys.add("device:" + scheduleId + ":" + deviceId);
+        if (existingSessionId != null) {
+            keys.add(sessionKey(existingSessionId));
+        }
+
+        Long result = redisTemplate.execute(CREATE_SCRIPT, keys,
+                waitingValue,
+                deviceId,
+                bookingSessionId,
+                userId.toString(),
+                scheduleId.toString(),
+                String.valueOf(ttl.toSeconds()),
+                String.valueOf(System.currentTimeMillis()),
+                qsid,
+                existingSessionId == null ? "" : existingSessionId
+        );
+        return CreateResult.of(result == null ? 0 : result);
+    }
+
+    // 세션 조회 (HGETALL 1회, 없으면 null)
+    public Session find(String bookingSessionId) {
+        return toSession(bookingSessionId, redisTemplate.opsForHash().entries(sessionKey(bookingSessionId)));
+    }
+
+    // 세션 일괄 조회 (HGETALL 파이프라인 1회, 이미 만료된 세션은 제외)
+    public List<Session> findAll(List<String> bookingSessionIds) {
+        if (bookingSessionIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String bookingSessionId : bookingSessionIds) {
+                connection.hashCommands().hGetAll(bytes(sessionKey(bookingSessionId)));
+            }
+            return null;
+        });
+
+        List<Session> sessions = new ArrayList<>(bookingSessionIds.size());
+        for (int i = 0; i < bookingSessionIds.size(); i++) {
+            Session session = toSession(bookingSessionIds.get(i), (Map<?, ?>) results.get(i));
+            if (session != null) {
+                sessions.add(session);
+            }
+        }
+        return sessions;
+    }
+
+    // 세션의 scheduleId (HGET 1회, 없으면 null)
+    public String findScheduleId(String bookingSessionId) {
+        Object value = redisTemplate.opsForHash().get(sessionKey(bookingSessionId), FIELD_SCHEDULE_ID);
+        return value == null ? null : value.toString();
+    }
+
+    public boolean exists(String bookingSessionId) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(sessionKey(bookingSessionId)));
+    }
+
+    /**
+     * 세션 삭제 (스크립트 1회)
+     * - userId를 모르면 역인덱스는 TTL 만료에 맡김
+     */
+    public boolean delete(String bookingSessionId, Long userId, Long scheduleId) {
+        List<String> keys = new ArrayList<>(3);
+        keys.add(sessionKey(bookingSessionId));
+        keys.add("active:" + scheduleId);
+        if (userId != null) {
+            keys.add(userScheduleKey(userId, scheduleId));
+        }
+
+        Long deleted = redisTemplate.execute(DELETE_SCRIPT, keys, bookingSessionId);
+        return deleted != null && deleted > 0;
+    }
+
+    /**
+     * 같은 회차 세션 일괄 삭제 (스크립트 1회)
+     * - Active 제거 + 세션 Hash 삭제 + (userId를 아는 세션만) 역인덱스 삭제
+     */
+    public long deleteAll(Long scheduleId, List<Session> sessions) {
+        if (sessions.isEmpty()) {
+            return 0;
+        }
+
+        List<Session> indexed = sessions.stream().filter(s -> s.userId() != null).toList();
+        List<Session> unindexed = sessions.stream().filter(s -> s.userId() == null).toList();
+
+        List<String> keys = new ArrayList<>(1 + indexed.size() * 2 + unindexed.size());
+        List<String> args = new ArrayList<>(1 + sessions.size());
+        keys.add("active:" + scheduleId);
+        args.add(String.valueOf(indexed.size()));
+
+        for (Session session : indexed) {
+            keys.add(sessionKey(session.bookingSessionId()));
+            keys.add(userScheduleKey(session.userId(), scheduleId));
+            args.add(session.bookingSessionId());
+        }
+        for (Session session : unindexed) {
+            keys.add(sessionKey(session.bookingSessionId()));
+            args.add(session.bookingSessionId());
+        }
+
+        Long deleted = redisTemplate.execute(DELETE_ALL_SCRIPT, keys, args.toArray());
+        return deleted == null ? 0 : deleted;
+    }
+
+    private static Session toSession(String bookingSessionId, Map<?, ?> fields) {
+        if (fields == null || !fields.containsKey(FIELD_SCHEDULE_ID)) {
+            return null;
+        }
+
+        Object userId = fields.get(FIELD_USER_ID);
+        Object deviceId = fields.get(FIELD_DEVICE_ID);
+        return new Session(
+                bookingSessionId,
+                Long.parseLong(fields.get(FIELD_SCHEDULE_ID).toString()),
+                userId == null ? null : Long.parseLong(userId.toString()),
+                deviceId == null ? null : deviceId.toString()
+        );
+    }
+
+    private static byte[] bytes(String key) {
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String asString(Object value) {
+        return value == null ? null : value.toString();
+    }
+
+    public record EntryLookup(String waitingValue, String existingSessionId) {}
+
+    public record Session(String bookingSessionId, Long scheduleId, Long userId, String deviceId) {}
+
+    public enum CreateResult {
+        CREATED, TOKEN_CONSUMED, QSID_EXPIRED, DEVICE_MISMATCH;
+
+        static CreateResult of(long code) {
+            if (code == 1) return CREATED;
+            if (code == -1) return QSID_EXPIRED;
+            if (code == -2) return DEVICE_MISMATCH;
+            return TOKEN_CONSUMED;
+        }
+    }
+}
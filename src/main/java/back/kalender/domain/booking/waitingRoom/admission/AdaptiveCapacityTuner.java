@@ -0,0 +1,122 @@
+package back.kalender.domain.booking.waitingRoom.admission;
+
+import back.kalender.domain.booking.seatHold.service.SeatHoldMetrics;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * ADAPTIVE 입장 제어 조절기
+ *
+ * 5초마다 이 서버의 부하 신호를 읽어 과부하 여부 판단
+ * - 좌석 HOLD p99 (seat.hold.latency)
+ * - Hikari 커넥션 풀 사용률 / 대기 스레드 (hikaricp.connections.*)
+ * - 좌석 HOLD 인프라 오류율 (직전 주기 대비 seat.hold.failures / seat.hold.attempts)
+ *
+ * 동시 인원은 전체 서버 공통 값이므로
+ * - 과부하 서버는 Redis에 과부하 표시 (한 주기 동안 유지)
+ * - 조절은 주기마다 락을 잡은 한 서버만, 어느 서버든 과부하면 감소 → AdmissionController.adjustAdaptive
+ *
+ * <메트릭>
+ * - queue.admission.signal.hold.p99 / pool.usage / hold.failure.rate / overloaded
+ */
+@Slf4j
+@Component
+public class AdaptiveCapacityTuner {
+
+    private static final long TUNE_INTERVAL_MILLIS = 5_000;
+    private static final String OVERLOADED_KEY = "queue:admission:overloaded";
+    private static final String TUNE_LOCK_KEY = "queue:admission:tune:lock";
+
+    // 과부하 표시는 다음 조절 주기까지 유지, 조절 락은 다음 주기 전에 만료
+    private static final Duration OVERLOADED_TTL = Duration.ofMillis(TUNE_INTERVAL_MILLIS + 1_000);
+    private static final Duration TUNE_LOCK_TTL = Duration.ofMillis(TUNE_INTERVAL_MILLIS - 500);
+
+    private final AdmissionController admissionController;
+    private final AdmissionProperties properties;
+    private final SeatHoldMetrics seatHoldMetrics;
+    private final MeterRegistry meterRegistry;
+    private final StringRedisTemplate redis;
+
+    private double lastAttempts;
+    private double lastFailures;
+
+    private volatile double holdP99Millis;
+    private volatile double poolUsage;
+    private volatile double failureRate;
+    private volatile boolean overloaded;
+
+    public AdaptiveCapacityTuner(
+            AdmissionController admissionController,
+            AdmissionProperties properties,
+            SeatHoldMetrics seatHoldMetrics,
+            MeterRegistry meterRegistry,
+            StringRedisTemplate redis
+    ) {
+        this.admissionController = admissionController;
+        this.properties = properties;
+        this.seatHoldMetrics = seatHoldMetrics;
+        this.meterRegistry = meterRegistry;
+        this.redis = redis;
+
+        Gauge.builder("queue.admission.signal.hold.p99", this, t -> t.holdP99Millis).register(meterRegistry);
+        Gauge.builder("queue.admission.signal.pool.usage", this, t -> t.poolUsage).register(meterRegistry);
+        Gauge.builder("queue.admission.signal.hold.failure.rate", this, t -> t.failureRate).register(meterRegistry);
+        Gauge.builder("queue.admission.overloaded", this, t -> t.overloaded ? 1 : 0).register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelay = TUNE_INTERVAL_MILLIS)
+    public void tune() {
+        holdP99Millis = seatHoldMetrics.p99Millis();
+        poolUsage = poolUsage();
+        failureRate = holdFailureRate();
+        double pending = gaugeSum("hikaricp.connections.pending");
+
+        overloaded = holdP99Millis > properties.getTargetHoldP99Millis()
+                || poolUsage >= properties.getMaxPoolUsage()
+                || pending > 0
+                || failureRate > properties.getMaxHoldFailureRate();
+
+        if (overloaded) {
+            log.warn("[Admission] 과부하 감지 - holdP99={}ms, poolUsage={}, pending={}, failureRate={}",
+                    holdP99Millis, poolUsage, pending, failureRate);
+            redis.opsForValue().set(OVERLOADED_KEY, "1", OVERLOADED_TTL);
+        }
+
+        admissionController.refreshConfigs();
+
+        if (Boolean.TRUE.equals(redis.opsForValue().setIfAbsent(TUNE_LOCK_KEY, "1", TUNE_LOCK_TTL))) {
+            boolean clusterOverloaded = overloaded || Boolean.TRUE.equals(redis.hasKey(OVERLOADED_KEY));
+            admissionController.adjustAdaptive(clusterOverloaded);
+        }
+    }
+
+    private double poolUsage() {
+        double max = gaugeSum("hikaricp.connections.max");
+        return max <= 0 ? 0 : gaugeSum("hikaricp.connections.active") / max;
+    }
+
+    private double holdFailureRate() {
+        double attempts = seatHoldMetrics.attemptCount();
+        double failures = seatHoldMetrics.failureCount();
+
+        double attemptDelta = attempts - lastAttempts;
+        double failureDelta = failures - lastFailures;
+        lastAttempts = attempts;
+        lastFailures = failures;
+
+        return attemptDelta <= 0 ? 0 : failureDelta / attemptDelta;
+    }
+
+    private double gaugeSum(String name) {
+        return meterRegistry.find(name).gauges().stream()
+                .mapToDouble(Gauge::value)
+                .filter(value -> !Double.isNaN(value))
+                .sum();
+    }
+}
@@ -0,0 +1,24 @@
+package back.kalender.domain.booking.waitingRoom.admission;
+
+import org.springframework.stereotype.Component;
+
+// 부하 신호에 따라 조절된 동시 인원 (조절은 AdaptiveCapacityTuner)
+@Component
+public class AdaptivePolicy implements AdmissionPolicy {
+
+    @Override
+    public AdmissionMode mode() {
+        return AdmissionMode.ADAPTIVE;
+    }
+
+    @Override
+    public int maxActive(AdmissionState state) {
+        return state.getAdaptiveCapacity();
+    }
+
+    @Override
+    public AdmissionDecision decide(AdmissionState state) {
+        int capacity = maxActive(state);
+        return new AdmissionDecision(capacity, capacity);
+    }
+}
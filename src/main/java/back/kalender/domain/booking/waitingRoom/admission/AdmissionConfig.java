@@ -0,0 +1,30 @@
+package back.kalender.domain.booking.waitingRoom.admission;
+
+/**
+ * 회차별 입장 제어 설정
+ *
+ * @param capacity      FIXED/TOKEN_BUCKET 동시 인원, ADAPTIVE 시작 인원
+ * @param minCapacity   ADAPTIVE 하한
+ * @param maxCapacity   ADAPTIVE 상한
+ * @param ratePerSecond TOKEN_BUCKET 초당 입장 인원
+ * @param burst         TOKEN_BUCKET 최대 누적 토큰
+ */
+public record AdmissionConfig(
+        AdmissionMode mode,
+        int capacity,
+        int minCapacity,
+        int maxCapacity,
+        double ratePerSecond,
+        int burst
+) {
+    public static AdmissionConfig from(AdmissionProperties properties) {
+        return new AdmissionConfig(
+                properties.getMode(),
+                properties.getCapacity(),
+                properties.getMinCapacity(),
+                properties.getMaxCapacity(),
+                properties.getRatePerSecond(),
+                properties.getBurst()
+        );
+    }
+}
@@ -0,0 +1,211 @@
+package back.kalender.domain.booking.waitingRoom.admission;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 대기열 입장 제어기
+ *
+ * - 회차별 모드(FIXED/TOKEN_BUCKET/ADAPTIVE)에 맞는 정책으로 동시 인원/입장 인원 결정
+ * - 회차별 설정은 Redis Hash(queue:admission:config:{scheduleId})에 HSET으로 런타임 변경
+ *   필드: mode, capacity, minCapacity, maxCapacity, ratePerSecond, burst (없는 필드는 기본값)
+ *   → 모든 서버가 refreshConfigs 주기에 반영
+ * - 입장 스크립트의 최대 동시 인원은 전체 서버 기준이므로 서버별 값을 쓰지 않는다
+ *   - ADAPTIVE 동시 인원: Redis(queue:admission:adaptive:{scheduleId})에 저장, 조절은 주기마다 한 서버만
+ *   - TOKEN_BUCKET 토큰: Redis 버킷 공유 (AdmissionTokenBucket)
+ * - 닫힌 회차는 retain으로 상태/게이지 정리
+ *
+ * <메트릭>
+ * - queue.admission.capacity{scheduleId} : 결정된 최대 동시 인원
+ * - queue.admission.budget{scheduleId} : 결정된 주기당 입장 인원
+ */
+@Slf4j
+@Component
+public class AdmissionController {
+
+    private static final String CONFIG_KEY = "queue:admission:config:%d";
+    private static final String ADAPTIVE_CAPACITY_KEY = "queue:admission:adaptive:%d";
+    private static final Duration ADAPTIVE_CAPACITY_TTL = Duration.ofDays(1);
+
+    private final AdmissionProperties properties;
+    private final StringRedisTemplate redis;
+    private final MeterRegistry meterRegistry;
+    private final Map<AdmissionMode, AdmissionPolicy> policies = new EnumMap<>(AdmissionMode.class);
+    private final Map<Long, AdmissionState> states = new ConcurrentHashMap<>();
+    private final Map<Long, List<Gauge>> gauges = new ConcurrentHashMap<>();
+
+    public AdmissionController(
+            AdmissionProperties properties,
+            StringRedisTemplate redis,
+            MeterRegistry meterRegistry,
+            List<AdmissionPolicy> policies
+    ) {
+        this.properties = properties;
+        this.redis = redis;
+        this.meterRegistry = meterRegistry;
+        for (AdmissionPolicy policy : policies) {
+            this.policies.put(policy.mode(), policy);
+        }
+    }
+
+    // 이번 주기 입장 제어 결정
+    public AdmissionDecision decide(Long scheduleId) {
+        AdmissionState state = stateOf(scheduleId);
+        AdmissionDecision decision = policyOf(state).decide(state);
+        state.recordDecision(decision);
+        return decision;
+    }
+
+    // 현재 최대 동시 인원 (즉시 입장 판단용, 결정/토큰 상태 변경 없음)
+    public int capacityOf(Long scheduleId) {
+        AdmissionState state = stateOf(scheduleId);
+        return policyOf(state).maxActive(state);
+    }
+
+    // 이번 주기 실제 입장 인원 반영 (TOKEN_BUCKET: 사용하지 않은 토큰 반환)
+    public void onAdmitted(Long scheduleId, AdmissionDecision decision, int admitted) {
+        AdmissionState state = stateOf(scheduleId);
+        policyOf(state).onAdmitted(state, decision, admitted);
+    }
+
+    // 즉시 입장 1명 허용 여부 (TOKEN_BUCKET: 토큰 1개 획득)
+    public boolean tryAcquireImmediate(Long scheduleId) {
+        AdmissionState state = stateOf(scheduleId);
+        return policyOf(state).tryAcquire(state);
+    }
+
+    // 즉시 입장 허용 후 입장하지 못한 경우 되돌림
+    public void releaseImmediate(Long scheduleId) {
+        AdmissionState state = stateOf(scheduleId);
+        policyOf(state).release(state);
+    }
+
+    // 사용 중인 회차 설정/ADAPTIVE 동시 인원을 Redis 기준으로 갱신
+    public void refreshConfigs() {
+        for (Map.Entry<Long, AdmissionState> entry : states.entrySet()) {
+            AdmissionState state = entry.getValue();
+            AdmissionConfig config = loadConfig(entry.getKey());
+            if (!config.equals(state.getConfig())) {
+                state.updateConfig(config);
+                log.info("[Admission] 설정 반영 - scheduleId={}, config={}", entry.getKey(), config);
+            }
+
+            if (config.mode() == AdmissionMode.ADAPTIVE) {
+                String capacity = redis.opsForValue().get(String.format(ADAPTIVE_CAPACITY_KEY, entry.getKey()));
+                if (capacity != null) {
+                    state.updateAdaptiveCapacity(Integer.parseInt(capacity));
+                }
+            }
+        }
+    }
+
+    // 열린 회차 외 상태/게이지 정리
+    public void retain(Collection<Long> scheduleIds) {
+        states.keySet().removeIf(scheduleId -> {
+            if (scheduleIds.contains(scheduleId)) {
+                return false;
+            }
+            List<Gauge> removed = gauges.remove(scheduleId);
+            if (removed != null) {
+                removed.forEach(meterRegistry::remove);
+            }
+            return true;
+        });
+    }
+
+    /**
+     * ADAPTIVE 회차 동시 인원 조절 (AIMD, 결과는 Redis에 저장해 모든 서버가 같은 값 사용)
+     * - 과부하: 30% 감소
+     * - 정상: 10% (최소 1) 증가
+     * - 여러 서버가 같은 주기에 조절하면 증감이 N배가 되므로 호출은 주기마다 한 서버만 (AdaptiveCapacityTuner)
+     */
+    public void adjustAdaptive(boolean overloaded) {
+        for (Map.Entry<Long, AdmissionState> entry : states.entrySet()) {
+            AdmissionState state = entry.getValue();
+            if (state.getConfig().mode() != AdmissionMode.ADAPTIVE) {
+                continue;
+            }
+
+            int current = state.getAdaptiveCapacity();
+            int next = overloaded
+                    ? (int) (current * 0.7)
+                    : current + Math.max(1, current / 10);
+            state.updateAdaptiveCapacity(next);
+            redis.opsForValue().set(
+                    String.format(ADAPTIVE_CAPACITY_KEY, entry.getKey()),
+                    String.valueOf(state.getAdaptiveCapacity()),
+                    ADAPTIVE_CAPACITY_TTL
+            );
+
+            if (state.getAdaptiveCapacity() != current) {
+                log.info("[Admission] 동시 인원 조절 - scheduleId={}, overloaded={}, {} -> {}",
+                        entry.getKey(), overloaded, current, state.getAdaptiveCapacity());
+            }
+        }
+    }
+
+    private AdmissionState stateOf(Long scheduleId) {
+        return states.computeIfAbsent(scheduleId, id -> {
+            AdmissionState state = new AdmissionState(id, loadConfig(id));
+            gauges.put(id, registerGauges(id, state));
+            return state;
+        });
+    }
+
+    private AdmissionPolicy policyOf(AdmissionState state) {
+        return policies.get(state.getConfig().mode());
+    }
+
+    private AdmissionConfig loadConfig(Long scheduleId) {
+        AdmissionConfig defaults = AdmissionConfig.from(properties);
+        Map<Object, Object> fields = redis.opsForHash().entries(String.format(CONFIG_KEY, scheduleId));
+        if (fields == null || fields.isEmpty()) {
+            return defaults;
+        }
+
+        try {
+            return new AdmissionConfig(
+                    fields.containsKey("mode")
+                            ? AdmissionMode.valueOf(fields.get("mode").toString())
+                            : defaults.mode(),
+                    intField(fields, "capacity", defaults.capacity()),
+                    intField(fields, "minCapacity", defaults.minCapacity()),
+                    intField(fields, "maxCapacity", defaults.maxCapacity()),
+                    fields.containsKey("ratePerSecond")
+                            ? Double.parseDouble(fields.get("ratePerSecond").toString())
+                            : defaults.ratePerSecond(),
+                    intField(fields, "burst", defaults.burst())
+            );
+        } catch (IllegalArgumentException e) {
+            log.warn("[Admission] 잘못된 회차 설정, 기본값 사용 - scheduleId={}, fields={}", scheduleId, fields);
+            return defaults;
+        }
+    }
+
+    private int intField(Map<Object, Object> fields, String name, int defaultValue) {
+        Object value = fields.get(name);
+        return value == null ? defaultValue : Integer.parseInt(value.toString());
+    }
+
+    private List<Gauge> registerGauges(Long scheduleId, AdmissionState state) {
+        String tag = scheduleId.toString();
+        return List.of(
+                Gauge.builder("queue.admission.capacity", state, s -> s.getLastDecision().maxActive())
+                        .tag("scheduleId", tag)
+                        .register(meterRegistry),
+                Gauge.builder("queue.admission.budget", state, s -> s.getLastDecision().maxAdmit())
+                        .tag("scheduleId", tag)
+                        .register(meterRegistry)
+        );
+    }
+}
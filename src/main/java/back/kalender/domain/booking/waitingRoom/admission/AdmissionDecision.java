@@ -0,0 +1,10 @@
+package back.kalender.domain.booking.waitingRoom.admission;
+
+/**
+ * 입장 제어 결정
+ *
+ * @param maxActive 최대 동시 인원 (active + admitted)
+ * @param maxAdmit  이번 주기 최대 입장 인원
+ */
+public record AdmissionDecision(int maxActive, int maxAdmit) {
+}
@@ -0,0 +1,13 @@
+package back.kalender.domain.booking.waitingRoom.admission;
+
+/**
+ * 대기열 입장 제어 방식
+ * - FIXED : 고정 동시 인원 (active + admitted)
+ * - TOKEN_BUCKET : 고정 동시 인원 + 초당 입장 속도 제한
+ * - ADAPTIVE : 좌석 HOLD p99 / 커넥션 풀 / HOLD 실패율에 따라 동시 인원 자동 조절
+ */
+public enum AdmissionMode {
+    FIXED,
+    TOKEN_BUCKET,
+    ADAPTIVE
+}
@@ -0,0 +1,28 @@
+package back.kalender.domain.booking.waitingRoom.admission;
+
+/**
+ * 입장 제어 정책 (모드별 구현을 빈으로 등록하면 AdmissionController가 선택)
+ */
+public interface AdmissionPolicy {
+
+    AdmissionMode mode();
+
+    // 현재 최대 동시 인원 (상태 변경 없음)
+    int maxActive(AdmissionState state);
+
+    // 이번 입장 주기 결정
+    AdmissionDecision decide(AdmissionState state);
+
+    // 입장 주기 처리 결과 반영 (결정한 입장 인원 중 실제 입장 인원)
+    default void onAdmitted(AdmissionState state, AdmissionDecision decision, int admitted) {
+    }
+
+    // 대기열을 거치지 않는 즉시 입장 1명 허용 여부
+    default boolean tryAcquire(AdmissionState state) {
+        return true;
+    }
+
+    // 즉시 입장을 허용했지만 입장하지 못한 경우 되돌림
+    default void release(AdmissionState state) {
+    }
+}
@@ -0,0 +1,47 @@
+package back.kalender.domain.booking.waitingRoom.admission;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 대기열 입장 제어 기본 설정 (회차별 설정이 없을 때 사용)
+ * - 회차별 설정은 런타임에 Redis(queue:admission:config:{scheduleId})로 변경
+ */
+@Getter
+@ConfigurationProperties(prefix = "custom.queue.admission")
+public class AdmissionProperties {
+
+    private final AdmissionMode mode;
+    private final int capacity;
+    private final int minCapacity;
+    private final int maxCapacity;
+    private final double ratePerSecond;
+    private final int burst;
+
+    // ADAPTIVE 부하 판단 기준
+    private final long targetHoldP99Millis;
+    private final double maxPoolUsage;
+    private final double maxHoldFailureRate;
+
+    public AdmissionProperties(
+            AdmissionMode mode,
+            int capacity,
+            int minCapacity,
+            int maxCapacity,
+            double ratePerSecond,
+            int burst,
+            long targetHoldP99Millis,
+            double maxPoolUsage,
+            double maxHoldFailureRate
+    ) {
+        this.mode = mode;
+        this.capacity = capacity;
+        this.minCapacity = minCapacity;
+        this.maxCapacity = maxCapacity;
+        this.ratePerSecond = ratePerSecond;
+        this.burst = burst;
+        this.targetHoldP99Millis = targetHoldP99Millis;
+        this.maxPoolUsage = maxPoolUsage;
+        this.maxHoldFailureRate = maxHoldFailureRate;
+    }
+}
@@ -0,0 +1,40 @@
+package back.kalender.domain.booking.waitingRoom.admission;
+
+import lombok.Getter;
+
+/**
+ * 회차별 입장 제어 상태 (설정 + ADAPTIVE 동시 인원 + 마지막 결정)
+ * - 토큰 버킷은 모든 서버가 공유하도록 Redis에 둔다 (AdmissionTokenBucket)
+ */
+@Getter
+public class AdmissionState {
+
+    private final Long scheduleId;
+    private volatile AdmissionConfig config;
+    private volatile int adaptiveCapacity;
+    private volatile AdmissionDecision lastDecision = new AdmissionDecision(0, 0);
+
+    public AdmissionState(Long scheduleId, AdmissionConfig config) {
+        this.scheduleId = scheduleId;
+        this.config = config;
+        this.adaptiveCapacity = config.capacity();
+    }
+
+    // 설정 변경 (ADAPTIVE 동시 인원은 새 범위 안으로 보정)
+    public void updateConfig(AdmissionConfig config) {
+        this.config = config;
+        this.adaptiveCapacity = clamp(adaptiveCapacity, config);
+    }
+
+    public void updateAdaptiveCapacity(int capacity) {
+        this.adaptiveCapacity = clamp(capacity, config);
+    }
+
+    public void recordDecision(AdmissionDecision decision) {
+        this.lastDecision = decision;
+    }
+
+    private static int clamp(int capacity, AdmissionConfig config) {
+        return Math.max(config.minCapacity(), Math.min(config.maxCapacity(), capacity));
+    }
+}
@@ -0,0 +1,57 @@
+package back.kalender.domain.booking.waitingRoom.admission;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 회차별 입장 토큰 버킷 (Redis Hash, 모든 서버 공유)
+ *
+ * 서버마다 버킷을 두면 서버 N대에서 초당 입장 인원이 N배가 되므로,
+ * 충전/획득/반환을 Redis 스크립트 한 번으로 처리한다.
+ * - 입장 주기: 최대 burst개 획득 → 입장 처리 후 남은 토큰 반환
+ * - 즉시 입장: 1개 획득 → 입장하지 못하면 반환
+ */
+@Component
+@RequiredArgsConstructor
+public class AdmissionTokenBucket {
+
+    private static final String BUCKET_KEY = "queue:admission:bucket:%d";
+    private static final long BUCKET_TTL_SECONDS = 3600;
+
+    private static final RedisScript<Long> BUCKET_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/admission-token-bucket.lua"), Long.class);
+
+    private final StringRedisTemplate redis;
+
+    // 최대 count개 획득 (획득한 토큰 수 반환)
+    public int take(Long scheduleId, AdmissionConfig config, int count) {
+        if (count <= 0) {
+            return 0;
+        }
+        return execute(scheduleId, config, count);
+    }
+
+    // 사용하지 않은 토큰 반환 (burst 초과분은 버림)
+    public void refund(Long scheduleId, AdmissionConfig config, int count) {
+        if (count > 0) {
+            execute(scheduleId, config, -count);
+        }
+    }
+
+    private int execute(Long scheduleId, AdmissionConfig config, int requested) {
+        Long granted = redis.execute(
+                BUCKET_SCRIPT,
+                List.of(String.format(BUCKET_KEY, scheduleId)),
+                String.valueOf(config.ratePerSecond()),
+                String.valueOf(config.burst()),
+                String.valueOf(requested),
+                String.valueOf(BUCKET_TTL_SECONDS)
+        );
+        return granted == null ? 0 : granted.intValue();
+    }
+}
@@ -0,0 +1,24 @@
+package back.kalender.domain.booking.waitingRoom.admission;
+
+import org.springframework.stereotype.Component;
+
+// 고정 동시 인원
+@Component
+public class FixedCapacityPolicy implements AdmissionPolicy {
+
+    @Override
+    public AdmissionMode mode() {
+        return AdmissionMode.FIXED;
+    }
+
+    @Override
+    public int maxActive(AdmissionState state) {
+        return state.getConfig().capacity();
+    }
+
+    @Override
+    public AdmissionDecision decide(AdmissionState state) {
+        int capacity = maxActive(state);
+        return new AdmissionDecision(capacity, capacity);
+    }
+}
@@ -0,0 +1,44 @@
+package back.kalender.domain.booking.waitingRoom.admission;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+// 고정 동시 인원 + 초당 입장 속도 제한 (Redis 버킷을 모든 서버가 공유, 즉시 입장도 토큰 1개 사용)
+@Component
+@RequiredArgsConstructor
+public class TokenBucketPolicy implements AdmissionPolicy {
+
+    private final AdmissionTokenBucket tokenBucket;
+
+    @Override
+    public AdmissionMode mode() {
+        return AdmissionMode.TOKEN_BUCKET;
+    }
+
+    @Override
+    public int maxActive(AdmissionState state) {
+        return state.getConfig().capacity();
+    }
+
+    @Override
+    public AdmissionDecision decide(AdmissionState state) {
+        AdmissionConfig config = state.getConfig();
+        int granted = tokenBucket.take(state.getScheduleId(), config, config.burst());
+        return new AdmissionDecision(config.capacity(), granted);
+    }
+
+    @Override
+    public void onAdmitted(AdmissionState state, AdmissionDecision decision, int admitted) {
+        tokenBucket.refund(state.getScheduleId(), state.getConfig(), decision.maxAdmit() - admitted);
+    }
+
+    @Override
+    public boolean tryAcquire(AdmissionState state) {
+        return tokenBucket.take(state.getScheduleId(), state.getConfig(), 1) == 1;
+    }
+
+    @Override
+    public void release(AdmissionState state) {
+        tokenBucket.refund(state.getScheduleId(), state.getConfig(), 1);
+    }
+}
@@ -4,9 +4,12 @@ import back.kalender.domain.booking.waitingRoom.dto.QueueJoinResponse;
 import back.kalender.domain.booking.waitingRoom.dto.QueueStatusResponse;
 import back.kalender.domain.booking.waitingRoom.service.QueueAccessService;
 import back.kalender.domain.booking.waitingRoom.service.QueueService;
+import back.kalender.domain.booking.waitingRoom.service.QueueStreamService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/v1/queue")
@@ -15,6 +18,7 @@ public class QueueController implements QueueControllerSpec {
 
     private final QueueService queueService;
     private final QueueAccessService queueAccessService;
+    private final QueueStreamService queueStreamService;
 
     @PostMapping("/join/{scheduleId}")
     public ResponseEntity<QueueJoinResponse> join(
@@ -33,6 +37,14 @@ public class QueueController implements QueueControllerSpec {
         return ResponseEntity.ok(queueService.status(scheduleId, qsid));
     }
 
+    @GetMapping(value = "/stream/{scheduleId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(
+            @PathVariable Long scheduleId,
+            @RequestHeader("X-QSID") String qsid
+    ) {
+        return queueStreamService.connect(scheduleId, qsid);
+    }
+
     @PostMapping("/ping/{scheduleId}")
     public void waitingPing(
             @PathVariable Long scheduleId,
@@ -3,5 +3,19 @@ package back.kalender.domain.booking.waitingRoom.dto;
 public record QueueStatusResponse(
         String status,
         Long position,
-        String waitingToken
-) {}
+        String waitingToken,
+        Long estimatedWaitSeconds,   // 최근 입장 속도 기준 예상 대기 시간 (속도 측정 전이면 null)
+        Long nextPollMillis          // 다음 상태 조회 권장 간격 (대기 중일 때만)
+) {
+    public static QueueStatusResponse notInQueue() {
+        return new QueueStatusResponse("NOT_IN_QUEUE", null, null, null, null);
+    }
+
+    public static QueueStatusResponse admitted(String waitingToken) {
+        return new QueueStatusResponse("ADMITTED", null, waitingToken, null, null);
+    }
+
+    public static QueueStatusResponse waiting(Long position, Long estimatedWaitSeconds, Long nextPollMillis) {
+        return new QueueStatusResponse("WAITING", position, null, estimatedWaitSeconds, nextPollMillis);
+    }
+}
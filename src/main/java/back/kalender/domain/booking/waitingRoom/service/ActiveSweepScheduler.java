@@ -2,29 +2,57 @@ package back.kalender.domain.booking.waitingRoom.service;
 
 import back.kalender.domain.booking.reservation.service.ReservationService;
 import back.kalender.domain.booking.session.service.BookingSessionService;
+import back.kalender.domain.booking.session.service.BookingSessionStore;
 import back.kalender.domain.performance.schedule.service.ScheduleQueryService;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.scheduling.annotation.Scheduled;
-import org.springframework.security.core.parameters.P;
 import org.springframework.stereotype.Component;
 
-import java.util.Set;
-
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비활성 예매 세션 정리
+ *
+ * - 30초 넘게 ping이 없는 세션을 스크립트로 POP_LIMIT개씩 조회+제거 (서버 간 중복 정리 없음)
+ * - 세션 정보는 파이프라인 1회로 일괄 조회, 세션 삭제는 스크립트 1회
+ * - 활성 예매 포기는 사용자 CHUNK_SIZE명 단위 set 기반 SQL로 처리, 워커 WORKER_COUNT개가 병렬 실행
+ * - 대량 이탈(CDN 장애 등) 시에도 한 주기 안에 남은 세션을 모두 정리해 입장 용량을 바로 회수
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class ActiveSweepScheduler {
 
+    private static final long INACTIVE_MILLIS = 30_000;
+    private static final int POP_LIMIT = 500;
+    private static final int CHUNK_SIZE = 100;
+    private static final int WORKER_COUNT = 4;
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> POP_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/active-sweep-pop.lua"), List.class);
+
     private final RedisTemplate<String, String> redisTemplate;
     private final ScheduleQueryService scheduleQueryService;
     private final BookingSessionService bookingSessionService;
     private final ReservationService reservationService;
+    private final ExecutorService workers = Executors.newFixedThreadPool(WORKER_COUNT);
 
     @Scheduled(fixedDelay = 1000)
     public void sweep() {
-        long cutoff = System.currentTimeMillis() - 30_000;
+        long cutoff = System.currentTimeMillis() - INACTIVE_MILLIS;
 
         for (Long scheduleId : scheduleQueryService.getOpenScheduleIds()) {
             try{
@@ -35,44 +63,71 @@ public class ActiveSweepScheduler {
         }
     }
 
-    private void sweepSchedule(Long scheduleId, long cutoff) {
-        String activeKey = "active:" + scheduleId;
-
-        // 만료된 세션 id 조회
-        Set<String> expiredSessions = redisTemplate.opsForZSet().rangeByScore(activeKey, 0, cutoff);
-
-        if (expiredSessions == null || expiredSessions.isEmpty()) {
-            return;
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        workers.shutdown();
+        if (!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+            workers.shutdownNow();
         }
+    }
+
+    private void sweepSchedule(Long scheduleId, long cutoff) {
+        int swept = 0;
+        List<String> expiredSessions;
 
-        log.info("[ActiveSweep] 비활성 세션 발견 - scheduleId={}, count={}",
-                scheduleId, expiredSessions.size());
+        do {
+            expiredSessions = popExpired(scheduleId, cutoff);
+            if (expiredSessions.isEmpty()) {
+                break;
+            }
+            swept += expiredSessions.size();
 
-        // Active에서 제거
-        Long removed = redisTemplate.opsForZSet()
-                .removeRangeByScore(activeKey, 0, cutoff);
+            List<BookingSessionStore.Session> sessions = bookingSessionService.findSessions(expiredSessions);
 
-        for (String sessionId : expiredSessions) {
-            try {
-                String userIdStr = redisTemplate.opsForValue()
-                        .get("booking:session:user:" + sessionId);
+            // 예매 포기 → 세션 삭제 (예매 포기 실패해도 HOLD는 만료 엔진이 회수)
+            abandonReservations(scheduleId, sessions);
+            bookingSessionService.deleteSessions(scheduleId, sessions);
+        } while (expiredSessions.size() == POP_LIMIT);
 
-                if (userIdStr != null) {
-                    Long userId = Long.parseLong(userIdStr);
+        if (swept > 0) {
+            log.info("[ActiveSweep] 정리 완료 - scheduleId={}, activeRemoved={}", scheduleId, swept);
+        }
+    }
 
-                    // 예매 취소
-                    reservationService.cancelActiveReservationIfExists(userId, scheduleId);
-                }
+    @SuppressWarnings("unchecked")
+    private List<String> popExpired(Long scheduleId, long cutoff) {
+        List<String> popped = redisTemplate.execute(
+                POP_SCRIPT,
+                List.of("active:" + scheduleId),
+                String.valueOf(cutoff),
+                String.valueOf(POP_LIMIT)
+        );
+        return popped == null ? List.of() : popped;
+    }
 
-                // BookingSession 삭제
-                bookingSessionService.deleteBookingSessionBySessionId(sessionId);
+    // 사용자 CHUNK_SIZE명 단위로 나눠 워커에서 병렬 처리 (모두 끝날 때까지 대기)
+    private void abandonReservations(Long scheduleId, List<BookingSessionStore.Session> sessions) {
+        List<Long> userIds = sessions.stream()
+                .map(BookingSessionStore.Session::userId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (int from = 0; from < userIds.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = userIds.subList(from, Math.min(from + CHUNK_SIZE, userIds.size()));
+            futures.add(workers.submit(() -> reservationService.abandonActiveReservations(scheduleId, chunk)));
+        }
 
-            } catch (Exception e) {
-                log.error("[ActiveSweep] 세션 정리 실패 - sessionId={}", sessionId, e);
+        for (Future<Integer> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                log.error("[ActiveSweep] 예매 포기 처리 실패 - scheduleId={}", scheduleId, e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
             }
         }
-
-        log.info("[ActiveSweep] 정리 완료 - scheduleId={}, activeRemoved={}, ", scheduleId, removed);
-
     }
-}
\ No newline at end of file
+}
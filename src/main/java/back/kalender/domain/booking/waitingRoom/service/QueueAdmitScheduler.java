@@ -1,18 +1,25 @@
 package back.kalender.domain.booking.waitingRoom.service;
 
+import back.kalender.domain.booking.waitingRoom.admission.AdmissionController;
+import back.kalender.domain.booking.waitingRoom.admission.AdmissionDecision;
 import back.kalender.domain.performance.schedule.service.ScheduleQueryService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class QueueAdmitScheduler {
 
     private final QueueService queueService;
     private final ScheduleQueryService scheduleService;
+    private final AdmissionController admissionController;
+    private final QueuePositionSnapshot positionSnapshot;
+    private final QueueStreamService queueStreamService;
 
     @Scheduled(fixedDelay = 1000)
     public void admit() {
@@ -20,7 +27,20 @@ public class QueueAdmitScheduler {
         List<Long> openScheduleIds = scheduleService.getOpenScheduleIds();
 
         for (Long scheduleId : openScheduleIds) {
-            int admitted = queueService.admitIfCapacity(scheduleId, 10);
+            try {
+                AdmissionDecision decision = admissionController.decide(scheduleId);
+                int admitted = queueService.admitIfCapacity(scheduleId, decision.maxActive(), decision.maxAdmit());
+                admissionController.onAdmitted(scheduleId, decision, admitted);
+
+                // 입장 반영 후 대기 순번 스냅샷 갱신
+                positionSnapshot.refresh(scheduleId);
+                queueStreamService.publish(scheduleId);
+            } catch (Exception e) {
+                log.error("[QueueAdmit] 입장 처리 실패 - scheduleId={}", scheduleId, e);
+            }
         }
+        admissionController.retain(openScheduleIds);
+        positionSnapshot.retain(openScheduleIds);
+        queueStreamService.retain(openScheduleIds);
     }
 }
\ No newline at end of file
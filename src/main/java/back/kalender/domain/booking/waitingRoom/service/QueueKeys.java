@@ -0,0 +1,85 @@
+package back.kalender.domain.booking.waitingRoom.service;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+/**
+ * 대기열 Redis 키
+ *
+ * - 샤드 1개(기본): 기존 키 그대로 (queue:{scheduleId}, admitted:{scheduleId}, ...)
+ * - 샤드 N개: 회차+샤드 해시 태그 키 (queue:{12:3}, admitted:{12:3}, queue:admitted:total:{12:3})
+ *   → 샤드별로 다른 클러스터 슬롯에 분산, 같은 샤드 키는 같은 슬롯이라 스크립트 한 번으로 처리
+ * - 샤드 번호는 qsid 앞에 기록 (s3_xxxx) → 설정과 무관하게 qsid만으로 키 결정
+ * - 샤드 입장 토큰도 같은 해시 태그를 포함 (waiting:wt_{12:3}xxxx)
+ */
+public final class QueueKeys {
+
+    public static final int UNSHARDED = -1;
+
+    private static final String SHARD_QSID_PREFIX = "s";
+    private static final String SHARD_QSID_SEPARATOR = "_";
+
+    private QueueKeys() {
+    }
+
+    // 새 qsid 발급 (샤드 모드면 임의 샤드 배정)
+    public static String newQsid(int shardCount) {
+        String uuid = UUID.randomUUID().toString();
+        if (shardCount <= 1) {
+            return uuid;
+        }
+        int shard = ThreadLocalRandom.current().nextInt(shardCount);
+        return SHARD_QSID_PREFIX + shard + SHARD_QSID_SEPARATOR + uuid;
+    }
+
+    // qsid의 샤드 번호 (샤드 없는 qsid면 UNSHARDED)
+    public static int shardOf(String qsid) {
+        if (!qsid.startsWith(SHARD_QSID_PREFIX)) {
+            return UNSHARDED;
+        }
+        int separator = qsid.indexOf(SHARD_QSID_SEPARATOR);
+        if (separator < 0) {
+            return UNSHARDED;
+        }
+        try {
+            return Integer.parseInt(qsid.substring(SHARD_QSID_PREFIX.length(), separator));
+        } catch (NumberFormatException e) {
+            return UNSHARDED;
+        }
+    }
+
+    // 회차의 전체 샤드 번호
+    public static int[] shards(int shardCount) {
+        return shardCount <= 1 ? new int[]{UNSHARDED} : IntStream.range(0, shardCount).toArray();
+    }
+
+    public static String queueKey(Long scheduleId, int shard) {
+        return "queue:" + suffix(scheduleId, shard);
+    }
+
+    public static String admittedKey(Long scheduleId, int shard) {
+        return "admitted:" + suffix(scheduleId, shard);
+    }
+
+    public static String admittedTotalKey(Long scheduleId, int shard) {
+        return "queue:admitted:total:" + suffix(scheduleId, shard);
+    }
+
+    public static String queueKeyOf(Long scheduleId, String qsid) {
+        return queueKey(scheduleId, shardOf(qsid));
+    }
+
+    public static String admittedKeyOf(Long scheduleId, String qsid) {
+        return admittedKey(scheduleId, shardOf(qsid));
+    }
+
+    public static String newWaitingToken(Long scheduleId, int shard) {
+        String uuid = UUID.randomUUID().toString().replace("-", "");
+        return shard == UNSHARDED ? "wt_" + uuid : "wt_" + suffix(scheduleId, shard) + uuid;
+    }
+
+    private static String suffix(Long scheduleId, int shard) {
+        return shard == UNSHARDED ? scheduleId.toString() : "{" + scheduleId + ":" + shard + "}";
+    }
+}
@@ -0,0 +1,143 @@
+package back.kalender.domain.booking.waitingRoom.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 회차별 대기 순번 스냅샷 + 입장 속도
+ *
+ * - 입장 주기(QueueAdmitScheduler)마다 대기열 앞쪽 window명의 순번만 읽어 메모리에 보관
+ *   → 상태 폴링은 요청마다 ZRANK 대신 스냅샷 조회 (최대 1주기 지연)
+ *   → 대기열 전체를 읽지 않으므로 대기 인원이 늘어도 서버별 갱신 비용은 window로 고정
+ *   → window 밖 대기자는 기존처럼 ZRANK로 조회 (순번이 뒤라 조회 간격이 길어 호출 수가 적음)
+ * - 누적 입장 수(queue:admitted:total:{scheduleId}, 입장 스크립트에서 INCRBY)를
+ *   최근 30초 구간으로 나눠 초당 입장 속도 계산 (모든 서버의 입장 포함)
+ * - 샤드 모드면 샤드별 대기열을 (진입 시각, qsid) 순으로 합쳐 순번 계산 (= 샤드별 순위의 합)
+ */
+@Slf4j
+@Component
+public class QueuePositionSnapshot {
+
+    private static final long RATE_WINDOW_MILLIS = 30_000;
+
+    private final StringRedisTemplate redis;
+    private final int shardCount;
+    private final int window;
+
+    private final Map<Long, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private final Map<Long, Deque<long[]>> admitSamples = new ConcurrentHashMap<>();
+
+    public QueuePositionSnapshot(
+            StringRedisTemplate redis,
+            @Value("${custom.queue.shard-count:1}") int shardCount,
+            @Value("${custom.queue.snapshot-window:10000}") int window
+    ) {
+        this.redis = redis;
+        this.shardCount = Math.max(1, shardCount);
+        this.window = Math.max(1, window);
+    }
+
+    // 스냅샷 갱신 (샤드별 앞쪽 window명 ZRANGE 1회 + GET 1회)
+    public void refresh(Long scheduleId) {
+        List<String> waiting = shardCount <= 1 ? rangeSingle(scheduleId) : rangeMerged(scheduleId);
+
+        long total = 0;
+        for (int shard : QueueKeys.shards(shardCount)) {
+            String value = redis.opsForValue().get(QueueKeys.admittedTotalKey(scheduleId, shard));
+            total += value == null ? 0 : Long.parseLong(value);
+        }
+
+        Map<String, Long> positions = new HashMap<>(waiting.size() * 2);
+        long position = 1;
+        for (String qsid : waiting) {
+            positions.put(qsid, position++);
+        }
+
+        double rate = updateAdmitRate(scheduleId, total);
+        snapshots.put(scheduleId, new Snapshot(positions, rate));
+    }
+
+    private List<String> rangeSingle(Long scheduleId) {
+        Set<String> waiting = redis.opsForZSet().range(QueueKeys.queueKey(scheduleId, QueueKeys.UNSHARDED), 0, window - 1);
+        return waiting == null ? List.of() : new ArrayList<>(waiting);
+    }
+
+    // 샤드별 앞쪽 window명을 진입 시각(score) 순으로 병합 후 앞쪽 window명만 사용
+    // (전체 앞쪽 window명은 반드시 각 샤드의 앞쪽 window명 안에 있음)
+    private List<String> rangeMerged(Long scheduleId) {
+        List<ZSetOperations.TypedTuple<String>> merged = new ArrayList<>();
+        for (int shard : QueueKeys.shards(shardCount)) {
+            Set<ZSetOperations.TypedTuple<String>> waiting =
+                    redis.opsForZSet().rangeWithScores(QueueKeys.queueKey(scheduleId, shard), 0, window - 1);
+            if (waiting != null) {
+                merged.addAll(waiting);
+            }
+        }
+
+        // 진입 시각이 같으면 qsid 사전순 (QueueService.currentPosition과 같은 기준)
+        merged.sort(Comparator.comparing(
+                        (ZSetOperations.TypedTuple<String> tuple) -> tuple.getScore() == null ? 0 : tuple.getScore())
+                .thenComparing(ZSetOperations.TypedTuple::getValue));
+        int size = Math.min(merged.size(), window);
+        List<String> qsids = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            qsids.add(merged.get(i).getValue());
+        }
+        return qsids;
+    }
+
+    // 스냅샷 기준 대기 순번 (스냅샷에 없거나 window 밖이면 null)
+    public Long positionOf(Long scheduleId, String qsid) {
+        Snapshot snapshot = snapshots.get(scheduleId);
+        return snapshot == null ? null : snapshot.positions().get(qsid);
+    }
+
+    public double admitRatePerSecond(Long scheduleId) {
+        Snapshot snapshot = snapshots.get(scheduleId);
+        return snapshot == null ? 0 : snapshot.admitRatePerSecond();
+    }
+
+    // 열려 있지 않은 회차 스냅샷 제거
+    public void retain(Collection<Long> scheduleIds) {
+        snapshots.keySet().retainAll(scheduleIds);
+        admitSamples.keySet().retainAll(scheduleIds);
+    }
+
+    private double updateAdmitRate(Long scheduleId, long total) {
+        long now = System.currentTimeMillis();
+        Deque<long[]> samples = admitSamples.computeIfAbsent(scheduleId, id -> new ArrayDeque<>());
+
+        // 카운터 만료/초기화 시 구간 재시작
+        if (!samples.isEmpty() && total < samples.peekLast()[1]) {
+            samples.clear();
+        }
+
+        samples.addLast(new long[]{now, total});
+        while (samples.size() > 1 && now - samples.peekFirst()[0] > RATE_WINDOW_MILLIS) {
+            samples.pollFirst();
+        }
+
+        long[] first = samples.peekFirst();
+        long elapsedMillis = now - first[0];
+        if (elapsedMillis <= 0) {
+            return 0;
+        }
+        return (total - first[1]) * 1000.0 / elapsedMillis;
+    }
+
+    private record Snapshot(Map<String, Long> positions, double admitRatePerSecond) {}
+}
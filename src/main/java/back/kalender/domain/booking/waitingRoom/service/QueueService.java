@@ -1,16 +1,29 @@
 package back.kalender.domain.booking.waitingRoom.service;
 
+import back.kalender.domain.booking.waitingRoom.admission.AdmissionController;
 import back.kalender.domain.booking.waitingRoom.dto.QueueJoinResponse;
 import back.kalender.domain.booking.waitingRoom.dto.QueueStatusResponse;
 import back.kalender.global.exception.ErrorCode;
 import back.kalender.global.exception.ServiceException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Slf4j
 @Service
@@ -18,19 +31,44 @@ public class QueueService {
 
     private static final Duration JOIN_TTL = Duration.ofMinutes(30);
     private static final Duration WAITING_TOKEN_TTL = Duration.ofMinutes(3);
+    private static final Duration HEARTBEAT_TTL = Duration.ofSeconds(15);
+
+    private static final RedisScript<Long> ADMIT_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/queue-admit.lua"), Long.class);
+    private static final RedisScript<Long> ADMIT_SHARD_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/queue-admit-shard.lua"), Long.class);
+    private static final RedisScript<Long> JOIN_ADMIT_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/queue-join-admit.lua"), Long.class);
+    private static final RedisScript<Long> LOCK_RELEASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/lock-release.lua"), Long.class);
+    private static final Duration ADMIT_LOCK_TTL = Duration.ofSeconds(5);
 
     private final StringRedisTemplate redis;
-
-    public QueueService(StringRedisTemplate redis) {
+    private final AdmissionController admissionController;
+    private final QueuePositionSnapshot positionSnapshot;
+    private final int shardCount;
+
+    // 회차별 샤드 라운드로빈 시작 위치
+    private final Map<Long, AtomicInteger> shardCursors = new ConcurrentHashMap<>();
+
+    public QueueService(
+            StringRedisTemplate redis,
+            AdmissionController admissionController,
+            QueuePositionSnapshot positionSnapshot,
+            @Value("${custom.queue.shard-count:1}") int shardCount
+    ) {
         this.redis = redis;
+        this.admissionController = admissionController;
+        this.positionSnapshot = positionSnapshot;
+        this.shardCount = Math.max(1, shardCount);
     }
 
-    private String queueKey(Long scheduleId) {
-        return "queue:" + scheduleId;
+    private String queueKey(Long scheduleId, String qsid) {
+        return QueueKeys.queueKeyOf(scheduleId, qsid);    // ZSet: qsid -> joinedAtMillis (샤드 모드면 샤드별)
     }
 
-    private String admittedKey(Long scheduleId) {
-        return "admitted:" + scheduleId; // Hash: qsid -> waitingToken
+    private String admittedKey(Long scheduleId, String qsid) {
+        return QueueKeys.admittedKeyOf(scheduleId, qsid); // Hash: qsid -> waitingToken (샤드 모드면 샤드별)
     }
 
     private String activeKey(Long scheduleId) {
@@ -46,19 +84,31 @@ public class QueueService {
             throw new ServiceException(ErrorCode.INVALID_INPUT_VALUE);
         }
 
-        // Active 용량 체크
-        if (hasActiveCapacity(scheduleId, 10)) {
-            log.info("[Queue] Active 여유 있음 → 즉시 admit - scheduleId={}", scheduleId);
-            return joinAndAdmitImmediately(scheduleId, deviceId);
+        // 용량 여유 + 대기자 없음이면 즉시 입장 (확인과 입장 기록을 원자적으로)
+        String qsid = QueueKeys.newQsid(shardCount);
+        String waitingToken = QueueKeys.newWaitingToken(scheduleId, QueueKeys.shardOf(qsid));
+        // TOKEN_BUCKET이면 즉시 입장도 토큰 1개 사용 (입장하지 못하면 반환)
+        if (admissionController.tryAcquireImmediate(scheduleId)) {
+            if (tryAdmitImmediately(scheduleId, qsid, waitingToken, admissionController.capacityOf(scheduleId))) {
+                log.info("[Queue] Active 여유 있음 → 즉시 admit - scheduleId={}", scheduleId);
+                return joinAdmitted(scheduleId, deviceId, qsid, waitingToken);
+            }
+            admissionController.releaseImmediate(scheduleId);
         }
 
-        // Active 만석 → 기존 대기열 로직
-        log.info("[Queue] Active 만석 → 대기열 진입 - scheduleId={}", scheduleId);
+        // Active 만석 또는 대기자 있음 → 기존 대기열 로직
+        log.info("[Queue] Active 만석 또는 대기자 있음 → 대기열 진입 - scheduleId={}", scheduleId);
         return joinQueue(scheduleId, deviceId);
     }
 
     public QueueStatusResponse status(Long scheduleId, String qsid) {
-        String aKey = admittedKey(scheduleId);
+        // 스냅샷 기준 대기 중이면 Redis 조회 없이 응답 (최대 1 입장 주기 지연)
+        Long snapshotPosition = positionSnapshot.positionOf(scheduleId, qsid);
+        if (snapshotPosition != null) {
+            return waitingStatus(scheduleId, snapshotPosition);
+        }
+
+        String aKey = admittedKey(scheduleId, qsid);
 
         Object tokenObj = redis.opsForHash().get(aKey, qsid);
         if (tokenObj != null) {
@@ -68,23 +118,167 @@ public class QueueService {
             if (Boolean.FALSE.equals(redis.hasKey("waiting:" + token))) {
                 // 토큰이 없으면 (만료/소비됨) => admitted는 유령이므로 청소
                 redis.opsForHash().delete(aKey, qsid);
-                return new QueueStatusResponse("NOT_IN_QUEUE", null, null);
+                return QueueStatusResponse.notInQueue();
+            }
+
+            return QueueStatusResponse.admitted(token);
+        }
+
+        // 스냅샷 이후 입장한 사용자
+        Long position = currentPosition(scheduleId, qsid);
+        if (position == null) {
+            return QueueStatusResponse.notInQueue();
+        }
+
+        return waitingStatus(scheduleId, position);
+    }
+
+    /**
+     * Redis 기준 현재 순번
+     * - 샤드 1개: ZRANK + 1
+     * - 샤드 N개: (진입 시각, qsid) 순서로 내 앞에 있는 인원 수의 합 + 1
+     *   - 내 샤드: ZRANK (같은 score는 qsid 사전순으로 정렬 → 같은 기준)
+     *   - 다른 샤드: 진입 시각 미만 ZCOUNT + 같은 진입 시각 중 qsid가 앞선 인원
+     *   → 진입 시각이 같은 사용자도 샤드와 무관하게 서로 다른 순번
+     */
+    private Long currentPosition(Long scheduleId, String qsid) {
+        if (shardCount <= 1) {
+            Long rank0 = redis.opsForZSet().rank(queueKey(scheduleId, qsid), qsid);
+            return rank0 == null ? null : rank0 + 1;
+        }
+
+        int myShard = QueueKeys.shardOf(qsid);
+        Double score = redis.opsForZSet().score(queueKey(scheduleId, qsid), qsid);
+        if (score == null) {
+            return null;
+        }
+
+        long ahead = 0;
+        for (int shard : QueueKeys.shards(shardCount)) {
+            String key = QueueKeys.queueKey(scheduleId, shard);
+            if (shard == myShard) {
+                Long rank0 = redis.opsForZSet().rank(key, qsid);
+                ahead += rank0 == null ? 0 : rank0;
+                continue;
+            }
+
+            Long before = redis.opsForZSet().count(key, Double.NEGATIVE_INFINITY, Math.nextDown(score));
+            ahead += (before == null ? 0 : before)
+                    + countTiesBefore(redis.opsForZSet().rangeByScore(key, score, score), qsid);
+        }
+        return ahead + 1;
+    }
+
+    /**
+     * 현재 순번 일괄 조회 (스냅샷 window 밖 대기자용, 대기열에 없으면 null)
+     * - 샤드 1개: ZRANK 파이프라인 1회
+     * - 샤드 N개: ZSCORE 파이프라인 1회 + (내 샤드 ZRANK, 다른 샤드 ZCOUNT/동점 조회) 파이프라인 1회
+     *   → currentPosition과 같은 (진입 시각, qsid) 기준
+     */
+    public List<Long> currentPositions(Long scheduleId, List<String> qsids) {
+        if (qsids.isEmpty()) {
+            return List.of();
+        }
+
+        if (shardCount <= 1) {
+            List<Object> ranks = redis.executePipelined((RedisCallback<Object>) connection -> {
+                for (String qsid : qsids) {
+                    connection.zSetCommands().zRank(bytes(queueKey(scheduleId, qsid)), bytes(qsid));
+                }
+                return null;
+            });
+
+            List<Long> positions = new ArrayList<>(qsids.size());
+            for (Object rank0 : ranks) {
+                positions.add(rank0 == null ? null : ((Number) rank0).longValue() + 1);
             }
+            return positions;
+        }
 
-            return new QueueStatusResponse("ADMITTED", null, token);
+        List<Object> scores = redis.executePipelined((RedisCallback<Object>) connection -> {
+            for (String qsid : qsids) {
+                connection.zSetCommands().zScore(bytes(queueKey(scheduleId, qsid)), bytes(qsid));
+            }
+            return null;
+        });
+
+        int[] shards = QueueKeys.shards(shardCount);
+        List<Object> counts = redis.executePipelined((RedisCallback<Object>) connection -> {
+            for (int i = 0; i < qsids.size(); i++) {
+                if (scores.get(i) == null) {
+                    continue;
+                }
+                String qsid = qsids.get(i);
+                double score = ((Number) scores.get(i)).doubleValue();
+                int myShard = QueueKeys.shardOf(qsid);
+                for (int shard : shards) {
+                    byte[] key = bytes(QueueKeys.queueKey(scheduleId, shard));
+                    if (shard == myShard) {
+                        connection.zSetCommands().zRank(key, bytes(qsid));
+                    } else {
+                        connection.zSetCommands().zCount(key, Double.NEGATIVE_INFINITY, Math.nextDown(score));
+                        connection.zSetCommands().zRangeByScore(key, score, score);
+                    }
+                }
+            }
+            return null;
+        });
+
+        List<Long> positions = new ArrayList<>(qsids.size());
+        int cursor = 0;
+        for (int i = 0; i < qsids.size(); i++) {
+            if (scores.get(i) == null) {
+                positions.add(null);
+                continue;
+            }
+            String qsid = qsids.get(i);
+            int myShard = QueueKeys.shardOf(qsid);
+            long ahead = 0;
+            for (int shard : shards) {
+                if (shard == myShard) {
+                    Object rank0 = counts.get(cursor++);
+                    ahead += rank0 == null ? 0 : ((Number) rank0).longValue();
+                    continue;
+                }
+                Object before = counts.get(cursor++);
+                @SuppressWarnings("unchecked")
+                Collection<String> ties = (Collection<String>) counts.get(cursor++);
+                ahead += (before == null ? 0 : ((Number) before).longValue()) + countTiesBefore(ties, qsid);
+            }
+            positions.add(ahead + 1);
         }
+        return positions;
+    }
 
-        Long rank0 = redis.opsForZSet().rank(queueKey(scheduleId), qsid);
-        if (rank0 == null) {
-            return new QueueStatusResponse("NOT_IN_QUEUE", null, null);
+    // 같은 진입 시각 대기자 중 qsid 사전순으로 앞선 인원 (Redis ZSET의 동점 정렬 기준과 동일)
+    static long countTiesBefore(Collection<String> ties, String qsid) {
+        if (ties == null) {
+            return 0;
         }
+        return ties.stream().filter(tie -> tie.compareTo(qsid) < 0).count();
+    }
 
-        return new QueueStatusResponse("WAITING", rank0 + 1, null);
+    // 대기 응답 (예상 대기 시간 + 다음 조회 간격)
+    public QueueStatusResponse waitingStatus(Long scheduleId, long position) {
+        double admitRate = positionSnapshot.admitRatePerSecond(scheduleId);
+        Long etaSeconds = admitRate > 0 ? (long) Math.ceil(position / admitRate) : null;
+        return QueueStatusResponse.waiting(position, etaSeconds, nextPollMillis(position));
+    }
+
+    /**
+     * 순번이 뒤일수록 조회 간격을 늘림
+     * - 최대 10초 (대기 heartbeat TTL 15초보다 짧게)
+     */
+    static long nextPollMillis(long position) {
+        if (position <= 100) return 1_000;
+        if (position <= 1_000) return 3_000;
+        if (position <= 10_000) return 5_000;
+        return 10_000;
     }
 
 
     public String issueWaitingToken(Long scheduleId, String qsid) {
-        String token = "wt_" + UUID.randomUUID().toString().replace("-", "");
+        String token = QueueKeys.newWaitingToken(scheduleId, QueueKeys.shardOf(qsid));
         redis.opsForValue().set(
                 waitingTokenKey(token),
                 qsid + ":" + scheduleId,
@@ -93,44 +287,150 @@ public class QueueService {
         return token;
     }
 
-    public int admitIfCapacity(Long scheduleId, int maxActive) {
-        Long activeCnt = redis.opsForZSet().size(activeKey(scheduleId));
-        Long admittedCnt = redis.opsForHash().size(admittedKey(scheduleId));
+    /**
+     * 여유 인원만큼 대기열 앞에서부터 입장 처리
+     * - 용량 계산(active + admitted) ~ 대기열 POP ~ 토큰 발급 ~ admitted 기록을 스크립트 한 번으로 처리
+     * - 여러 서버가 동시에 실행해도 maxActive를 넘겨 입장시키지 않음
+     * - 한 번에 최대 maxAdmit명까지 입장 (입장 속도 제한)
+     */
+    public int admitIfCapacity(Long scheduleId, int maxActive, int maxAdmit) {
+        if (shardCount > 1) {
+            return admitSharded(scheduleId, maxActive, maxAdmit);
+        }
+
+        int tokenCount = Math.min(maxActive, maxAdmit);
+        if (tokenCount <= 0) {
+            return 0;
+        }
 
-        long inFlight = (activeCnt == null ? 0 : activeCnt) + (admittedCnt == null ? 0 : admittedCnt);
-        long available = maxActive - inFlight;
+        List<String> keys = new ArrayList<>(tokenCount + 4);
+        keys.add(QueueKeys.queueKey(scheduleId, QueueKeys.UNSHARDED));
+        keys.add(QueueKeys.admittedKey(scheduleId, QueueKeys.UNSHARDED));
+        keys.add(activeKey(scheduleId));
+        keys.add(QueueKeys.admittedTotalKey(scheduleId, QueueKeys.UNSHARDED));
+
+        List<String> args = new ArrayList<>(tokenCount + 4);
+        args.add(String.valueOf(maxActive));
+        args.add(String.valueOf(WAITING_TOKEN_TTL.toSeconds()));
+        args.add(String.valueOf(JOIN_TTL.toSeconds()));
+        args.add(scheduleId.toString());
+
+        // 최대 tokenCount명까지 입장 가능하므로 토큰 후보를 미리 생성
+        for (int i = 0; i < tokenCount; i++) {
+            String token = QueueKeys.newWaitingToken(scheduleId, QueueKeys.UNSHARDED);
+            keys.add(waitingTokenKey(token));
+            args.add(token);
+        }
 
-        if (available <= 0) return 0;
+        Long admitted = redis.execute(ADMIT_SCRIPT, keys, args.toArray());
+        int admittedCount = admitted == null ? 0 : admitted.intValue();
 
-        return admitNext(scheduleId, (int) available);
+        if (admittedCount > 0) {
+            log.debug("[Queue] 대기열 입장 처리 - scheduleId={}, admitted={}", scheduleId, admittedCount);
+        }
+        return admittedCount;
     }
 
-    public int admitNext(Long scheduleId, int n) {
-        String qKey = queueKey(scheduleId);
-        String aKey = admittedKey(scheduleId);
+    /**
+     * 샤드 대기열 입장 처리
+     * - 샤드 키는 서로 다른 슬롯이라 용량 계산을 스크립트 안에서 할 수 없으므로
+     *   회차 단위 락을 잡은 서버 하나만 이번 주기 입장 처리 (maxActive 초과 방지)
+     * - 입장 인원을 샤드에 한 명씩 라운드로빈 배분 (대기 인원이 없는 샤드는 건너뜀)
+     *   시작 샤드를 주기마다 바꿔 나머지 인원이 특정 샤드에 몰리지 않게 함
+     * - 샤드별 POP/토큰/입장 기록은 해당 샤드 슬롯에서 스크립트 한 번으로 처리
+     * - 락은 서버별 토큰으로 잡고 토큰이 같을 때만 해제
+     *   (느린 주기가 TTL 이후 다른 서버의 락을 지워 두 서버가 동시에 입장 처리하지 않도록)
+     */
+    private int admitSharded(Long scheduleId, int maxActive, int maxAdmit) {
+        String lockKey = admitLockKey(scheduleId);
+        String lockToken = tryLock(lockKey);
+        if (lockToken == null) {
+            return 0;
+        }
 
-        var next = redis.opsForZSet().range(qKey, 0, n - 1);
-        if (next == null || next.isEmpty()) return 0;
+        try {
+            int[] shards = QueueKeys.shards(shardCount);
+            long available = maxActive - inFlightCount(scheduleId);
+            int budget = (int) Math.min(available, maxAdmit);
+            if (budget <= 0) {
+                return 0;
+            }
 
-        int admittedCount = 0;
+            long[] waiting = new long[shards.length];
+            for (int i = 0; i < shards.length; i++) {
+                Long size = redis.opsForZSet().zCard(QueueKeys.queueKey(scheduleId, shards[i]));
+                waiting[i] = size == null ? 0 : size;
+            }
 
-        for (String qsid : next) {
-            String token = issueWaitingToken(scheduleId, qsid);
+            int[] quotas = allocateRoundRobin(waiting, budget,
+                    shardCursors.computeIfAbsent(scheduleId, id -> new AtomicInteger()).getAndIncrement());
 
-            // admitted: qsid -> token
-            redis.opsForHash().put(aKey, qsid, token);
-            redis.expire(aKey, JOIN_TTL);
+            int admitted = 0;
+            for (int i = 0; i < shards.length; i++) {
+                if (quotas[i] > 0) {
+                    admitted += admitShard(scheduleId, shards[i], quotas[i]);
+                }
+            }
 
-            // queue에서 제거
-            redis.opsForZSet().remove(qKey, qsid);
+            if (admitted > 0) {
+                log.debug("[Queue] 샤드 대기열 입장 처리 - scheduleId={}, admitted={}", scheduleId, admitted);
+            }
+            return admitted;
+        } finally {
+            unlock(lockKey, lockToken);
+        }
+    }
 
-            admittedCount++;
+    // 입장 인원을 대기 인원이 남은 샤드에 한 명씩 순서대로 배분
+    static int[] allocateRoundRobin(long[] waiting, int budget, int cursor) {
+        int[] quotas = new int[waiting.length];
+        int remaining = budget;
+        boolean allocated = true;
+
+        while (remaining > 0 && allocated) {
+            allocated = false;
+            for (int step = 0; step < waiting.length && remaining > 0; step++) {
+                int i = Math.floorMod(cursor + step, waiting.length);
+                if (quotas[i] < waiting[i]) {
+                    quotas[i]++;
+                    remaining--;
+                    allocated = true;
+                }
+            }
         }
+        return quotas;
+    }
 
-        return admittedCount;
+    private int admitShard(Long scheduleId, int shard, int quota) {
+        List<String> keys = new ArrayList<>(quota + 3);
+        keys.add(QueueKeys.queueKey(scheduleId, shard));
+        keys.add(QueueKeys.admittedKey(scheduleId, shard));
+        keys.add(QueueKeys.admittedTotalKey(scheduleId, shard));
+
+        List<String> args = new ArrayList<>(quota + 3);
+        args.add(String.valueOf(WAITING_TOKEN_TTL.toSeconds()));
+        args.add(String.valueOf(JOIN_TTL.toSeconds()));
+        args.add(scheduleId.toString());
+
+        for (int i = 0; i < quota; i++) {
+            String token = QueueKeys.newWaitingToken(scheduleId, shard);
+            keys.add(waitingTokenKey(token));
+            args.add(token);
+        }
+
+        Long admitted = redis.execute(ADMIT_SHARD_SCRIPT, keys, args.toArray());
+        return admitted == null ? 0 : admitted.intValue();
     }
 
     public void waitingPing(Long scheduleId, String qsid) {
+        touchWaiting(scheduleId, qsid);
+    }
+
+    /**
+     * 대기 heartbeat 갱신 + 검증
+     * - 대기 중이면 deviceId 반환, 이미 입장(admitted)이면 null
+     */
+    public String touchWaiting(Long scheduleId, String qsid) {
         if (qsid == null || qsid.isBlank()) {
             throw new ServiceException(ErrorCode.INVALID_INPUT_VALUE);
         }
@@ -153,14 +453,14 @@ public class QueueService {
         }
 
         // 2) WAITING 상태인지 확인
-        String qKey = queueKey(scheduleId);
+        String qKey = queueKey(scheduleId, qsid);
         boolean isWaiting = redis.opsForZSet().score(qKey, qsid) != null;
 
         if (!isWaiting) {
             // admitted면 원래 클라가 ping 멈춰야 정상. 서버는 무시.
-            Object tokenObj = redis.opsForHash().get(admittedKey(scheduleId), qsid);
+            Object tokenObj = redis.opsForHash().get(admittedKey(scheduleId, qsid), qsid);
             if (tokenObj != null) {
-                return;
+                return null;
             }
             throw new ServiceException(ErrorCode.QSID_EXPIRED);
         }
@@ -180,33 +480,148 @@ public class QueueService {
         redis.expire(deviceKey, JOIN_TTL);
 
         // 5) hbKey 갱신(새로고침 감지용)
-        redis.opsForValue().set(hbKey, "1", 15, TimeUnit.SECONDS);
+        redis.opsForValue().set(hbKey, "1", HEARTBEAT_TTL);
+        return deviceId;
+    }
+
+    /**
+     * 스트림 연결 중인 대기자 heartbeat 일괄 갱신 (파이프라인 1회)
+     * - 연결이 살아 있는 동안 ping 없이 hb/qsid/device TTL 유지
+     *
+     * @param devices qsid → deviceId
+     */
+    public void refreshHeartbeats(Long scheduleId, Map<String, String> devices) {
+        if (devices.isEmpty()) {
+            return;
+        }
+
+        byte[] hbValue = "1".getBytes(StandardCharsets.UTF_8);
+        redis.executePipelined((RedisCallback<Object>) connection -> {
+            for (Map.Entry<String, String> entry : devices.entrySet()) {
+                String qsid = entry.getKey();
+                connection.stringCommands().setEx(
+                        bytes("waiting:hb:" + scheduleId + ":" + qsid), HEARTBEAT_TTL.toSeconds(), hbValue);
+                connection.keyCommands().expire(bytes("qsid:" + qsid), JOIN_TTL.toSeconds());
+                connection.keyCommands().expire(
+                        bytes("device:" + scheduleId + ":" + entry.getValue()), JOIN_TTL.toSeconds());
+            }
+            return null;
+        });
     }
 
+    // 입장 토큰 일괄 조회 (admitted 키(샤드)별 HMGET 1회, 입장 전이면 null)
+    public List<String> admittedTokens(Long scheduleId, List<String> qsids) {
+        Map<String, List<Integer>> indexesByKey = new HashMap<>();
+        for (int i = 0; i < qsids.size(); i++) {
+            indexesByKey.computeIfAbsent(admittedKey(scheduleId, qsids.get(i)), key -> new ArrayList<>()).add(i);
+        }
 
+        String[] result = new String[qsids.size()];
+        for (Map.Entry<String, List<Integer>> entry : indexesByKey.entrySet()) {
+            List<Integer> indexes = entry.getValue();
+            List<Object> fields = new ArrayList<>(indexes.size());
+            indexes.forEach(i -> fields.add(qsids.get(i)));
 
-    private boolean hasActiveCapacity(Long scheduleId, int maxActive) {
-        Long activeCnt = redis.opsForZSet().size(activeKey(scheduleId));
-        Long admittedCnt = redis.opsForHash().size(admittedKey(scheduleId));
+            List<Object> tokens = redis.opsForHash().multiGet(entry.getKey(), fields);
+            for (int j = 0; j < indexes.size(); j++) {
+                Object token = tokens == null ? null : tokens.get(j);
+                result[indexes.get(j)] = token == null ? null : token.toString();
+            }
+        }
+        return Arrays.asList(result);
+    }
+
+    private static byte[] bytes(String key) {
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
 
-        long inFlight = (activeCnt == null ? 0 : activeCnt)
-                + (admittedCnt == null ? 0 : admittedCnt);
 
-        boolean hasCapacity = inFlight < maxActive;
 
-        log.debug("[Queue] 용량 체크 - scheduleId={}, active={}, admitted={}, max={}, hasCapacity={}",
-                scheduleId, activeCnt, admittedCnt, maxActive, hasCapacity);
+    /**
+     * 즉시 입장 시도
+     * - 샤드 1개: 용량/대기자 확인 ~ 토큰 발급 ~ admitted 기록을 스크립트 한 번으로 처리
+     * - 샤드 N개: 키 슬롯이 달라 스크립트로 묶을 수 없으므로 입장 처리와 같은 회차 락 안에서 확인 후 기록
+     *   (락을 못 잡으면 입장 처리 중이므로 대기열로)
+     */
+    private boolean tryAdmitImmediately(Long scheduleId, String qsid, String waitingToken, int maxActive) {
+        if (shardCount <= 1) {
+            Long admitted = redis.execute(
+                    JOIN_ADMIT_SCRIPT,
+                    List.of(
+                            QueueKeys.queueKey(scheduleId, QueueKeys.UNSHARDED),
+                            QueueKeys.admittedKey(scheduleId, QueueKeys.UNSHARDED),
+                            activeKey(scheduleId),
+                            waitingTokenKey(waitingToken)
+                    ),
+                    String.valueOf(maxActive),
+                    String.valueOf(WAITING_TOKEN_TTL.toSeconds()),
+                    String.valueOf(JOIN_TTL.toSeconds()),
+                    scheduleId.toString(),
+                    qsid,
+                    waitingToken
+            );
+            return admitted != null && admitted == 1L;
+        }
+
+        String lockKey = admitLockKey(scheduleId);
+        String lockToken = tryLock(lockKey);
+        if (lockToken == null) {
+            return false;
+        }
+
+        try {
+            if (inFlightCount(scheduleId) >= maxActive) {
+                return false;
+            }
+            for (int shard : QueueKeys.shards(shardCount)) {
+                Long size = redis.opsForZSet().zCard(QueueKeys.queueKey(scheduleId, shard));
+                if (size != null && size > 0) {
+                    return false;
+                }
+            }
+
+            redis.opsForValue().set(waitingTokenKey(waitingToken), qsid + ":" + scheduleId, WAITING_TOKEN_TTL);
+            String aKey = admittedKey(scheduleId, qsid);
+            redis.opsForHash().put(aKey, qsid, waitingToken);
+            redis.expire(aKey, JOIN_TTL);
+            return true;
+        } finally {
+            unlock(lockKey, lockToken);
+        }
+    }
+
+    private String admitLockKey(Long scheduleId) {
+        return "queue:admit:lock:" + scheduleId;
+    }
+
+    // 회차 입장 락 (서버별 토큰, 잡지 못하면 null)
+    private String tryLock(String lockKey) {
+        String token = UUID.randomUUID().toString();
+        return Boolean.TRUE.equals(redis.opsForValue().setIfAbsent(lockKey, token, ADMIT_LOCK_TTL)) ? token : null;
+    }
 
-        return hasCapacity;
+    // 토큰이 같을 때만 해제 (TTL이 지나 다른 서버가 잡은 락은 유지)
+    private void unlock(String lockKey, String token) {
+        redis.execute(LOCK_RELEASE_SCRIPT, List.of(lockKey), token);
     }
 
-    // 대기열 없이 바로 입장
-    private QueueJoinResponse joinAndAdmitImmediately(Long scheduleId, String deviceId) {
+    // active + admitted (샤드 모드면 모든 샤드 합)
+    private long inFlightCount(Long scheduleId) {
+        Long activeCnt = redis.opsForZSet().size(activeKey(scheduleId));
+        long inFlight = activeCnt == null ? 0 : activeCnt;
+
+        for (int shard : QueueKeys.shards(shardCount)) {
+            Long admittedCnt = redis.opsForHash().size(QueueKeys.admittedKey(scheduleId, shard));
+            inFlight += admittedCnt == null ? 0 : admittedCnt;
+        }
+        return inFlight;
+    }
+
+    // 즉시 입장 처리된 qsid로 세션 등록 (토큰 발급/admitted 기록은 tryAdmitImmediately에서 완료)
+    private QueueJoinResponse joinAdmitted(Long scheduleId, String deviceId, String qsid, String waitingToken) {
         // 기존 대기열 세션 정리
         cleanupExistingQueueSession(scheduleId, deviceId);
 
-        String qsid = UUID.randomUUID().toString();
-
         redis.opsForValue().set(
                 "qsid:" + qsid,
                 deviceId + ":" + scheduleId,
@@ -219,14 +634,6 @@ public class QueueService {
                 JOIN_TTL
         );
 
-        // waitingToken 즉시 발급
-        String waitingToken = issueWaitingToken(scheduleId, qsid);
-
-        // admitted에 추가 (Queue에는 추가 안 함)
-        String aKey = admittedKey(scheduleId);
-        redis.opsForHash().put(aKey, qsid, waitingToken);
-        redis.expire(aKey, JOIN_TTL);
-
         log.info("[Queue] 즉시 admit 완료 - scheduleId={}, qsid={}, waitingToken={}",
                 scheduleId, qsid, waitingToken);
 
@@ -240,17 +647,17 @@ public class QueueService {
 
     // Active 만석일 때 - 기존 대기열 로직
     private QueueJoinResponse joinQueue(Long scheduleId, String deviceId) {
-        String qKey = queueKey(scheduleId);
         String deviceKey = "device:" + scheduleId + ":" + deviceId;
 
         String oldQsid = redis.opsForValue().get(deviceKey);
         if (oldQsid != null) {
-            redis.opsForZSet().remove(qKey, oldQsid);
+            redis.opsForZSet().remove(queueKey(scheduleId, oldQsid), oldQsid);
             redis.delete("qsid:" + oldQsid);
             redis.delete(deviceKey);
         }
 
-        String newQsid = UUID.randomUUID().toString();
+        String newQsid = QueueKeys.newQsid(shardCount);
+        String qKey = queueKey(scheduleId, newQsid);
 
         redis.opsForZSet().add(qKey, newQsid, System.currentTimeMillis());
         redis.expire(qKey, JOIN_TTL);
@@ -263,11 +670,10 @@ public class QueueService {
 
         redis.opsForValue().set(deviceKey, newQsid, JOIN_TTL);
 
-        Long rank0 = redis.opsForZSet().rank(qKey, newQsid);
-        Long position = rank0 == null ? null : rank0 + 1;
+        Long position = currentPosition(scheduleId, newQsid);
 
         String hbKey = "waiting:hb:" + scheduleId + ":" + newQsid;
-        redis.opsForValue().set(hbKey, "1", 15, TimeUnit.SECONDS);
+        redis.opsForValue().set(hbKey, "1", HEARTBEAT_TTL);
 
         return new QueueJoinResponse("WAITING", position, newQsid, null);
     }
@@ -279,10 +685,10 @@ public class QueueService {
 
         if (oldQsid != null) {
             // Queue에서 제거
-            redis.opsForZSet().remove(queueKey(scheduleId), oldQsid);
+            redis.opsForZSet().remove(queueKey(scheduleId, oldQsid), oldQsid);
 
             // Admitted에서 제거
-            redis.opsForHash().delete(admittedKey(scheduleId), oldQsid);
+            redis.opsForHash().delete(admittedKey(scheduleId, oldQsid), oldQsid);
 
             // QSID 삭제
             redis.delete("qsid:" + oldQsid);
@@ -0,0 +1,270 @@
+package back.kalender.domain.booking.waitingRoom.service;
+
+import back.kalender.domain.booking.waitingRoom.dto.QueueStatusResponse;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 대기열 상태 SSE 스트림
+ *
+ * - 대기자는 스트림 하나만 열어 두고 상태/ping 폴링을 하지 않음
+ * - 입장 주기(QueueAdmitScheduler)마다 스냅샷 기준으로 순번이 바뀐 대기자에게만 WAITING 전송
+ * - 스냅샷 window 밖 대기자는 BEYOND_WINDOW_CHECK_MILLIS마다 한 번만 순번을 일괄(파이프라인) 조회해 전송
+ *   (그 사이에는 Redis 조회/전송 없이 heartbeat만 유지, 앞쪽부터 입장하므로 window 밖에서 바로 입장되지 않음)
+ * - 입장되면 ADMITTED + waitingToken 전송 후 스트림 종료
+ * - 연결이 살아 있는 동안 서버가 waiting:hb를 갱신 → 연결이 끊기면 hb 만료 (재접속 시 맨 뒤로)
+ * - 전송은 가상 스레드에서 처리 (느린 클라이언트가 입장 주기를 막지 않음, 연결당 플랫폼 스레드 없음)
+ *
+ * <메트릭>
+ * - queue.stream.connections : 현재 서버의 스트림 연결 수
+ */
+@Slf4j
+@Component
+public class QueueStreamService {
+
+    private static final long STREAM_TIMEOUT_MILLIS = 30 * 60 * 1000L;
+    private static final long KEEP_ALIVE_MILLIS = 10_000;
+    private static final long BEYOND_WINDOW_CHECK_MILLIS = 15_000;
+
+    private final QueueService queueService;
+    private final QueuePositionSnapshot positionSnapshot;
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+
+    // scheduleId → (qsid → 연결)
+    private final Map<Long, Map<String, Connection>> connections = new ConcurrentHashMap<>();
+
+    public QueueStreamService(
+            QueueService queueService,
+            QueuePositionSnapshot positionSnapshot,
+            MeterRegistry meterRegistry
+    ) {
+        this.queueService = queueService;
+        this.positionSnapshot = positionSnapshot;
+
+        Gauge.builder("queue.stream.connections", connections,
+                        map -> map.values().stream().mapToInt(Map::size).sum())
+                .register(meterRegistry);
+    }
+
+    // 스트림 연결 (검증 + heartbeat 1회 + 현재 상태 즉시 전송)
+    public SseEmitter connect(Long scheduleId, String qsid) {
+        String deviceId = queueService.touchWaiting(scheduleId, qsid);
+        SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT_MILLIS);
+
+        QueueStatusResponse current = queueService.status(scheduleId, qsid);
+        if (deviceId == null || !"WAITING".equals(current.status())) {
+            // 이미 입장 완료 → 상태만 보내고 종료
+            sendAndComplete(emitter, current);
+            return emitter;
+        }
+
+        Connection connection = new Connection(emitter, deviceId);
+        Connection previous = connections
+                .computeIfAbsent(scheduleId, id -> new ConcurrentHashMap<>())
+                .put(qsid, connection);
+        if (previous != null) {
+            // 같은 qsid 재연결 → 이전 스트림 종료
+            previous.emitter().complete();
+        }
+
+        Runnable remove = () -> remove(scheduleId, qsid, connection);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+
+        send(connection, current);
+        return emitter;
+    }
+
+    /**
+     * 회차 연결 전체에 상태 전송 + heartbeat 갱신
+     * - 스냅샷 갱신 직후 호출 (입장 주기당 1회)
+     * - 스냅샷에 없는 대기자만 HMGET으로 입장 여부 확인 (window 밖으로 확인된 대기자는 확인 주기까지 건너뜀)
+     * - 입장 토큰이 없으면 순번을 파이프라인으로 일괄 조회 (연결별 status() 호출 없음)
+     */
+    public void publish(Long scheduleId) {
+        Map<String, Connection> scheduleConnections = connections.get(scheduleId);
+        if (scheduleConnections == null || scheduleConnections.isEmpty()) {
+            return;
+        }
+
+        Map<String, String> devices = new HashMap<>(scheduleConnections.size() * 2);
+        List<String> leftQueue = new ArrayList<>();
+        long now = System.currentTimeMillis();
+
+        for (Map.Entry<String, Connection> entry : scheduleConnections.entrySet()) {
+            String qsid = entry.getKey();
+            Connection connection = entry.getValue();
+            Long position = positionSnapshot.positionOf(scheduleId, qsid);
+            if (position == null) {
+                if (now - connection.beyondWindowCheckedAtMillis() < BEYOND_WINDOW_CHECK_MILLIS) {
+                    // window 밖 대기자: 다음 확인 전까지 heartbeat만 유지
+                    devices.put(qsid, connection.deviceId());
+                    continue;
+                }
+                leftQueue.add(qsid);
+                continue;
+            }
+
+            connection.markInWindow();
+            devices.put(qsid, connection.deviceId());
+            if (position != connection.lastPosition()
+                    || now - connection.lastSentAtMillis() >= KEEP_ALIVE_MILLIS) {
+                send(connection, queueService.waitingStatus(scheduleId, position));
+            }
+        }
+
+        if (!leftQueue.isEmpty()) {
+            List<String> tokens = queueService.admittedTokens(scheduleId, leftQueue);
+            List<String> unresolved = new ArrayList<>();
+            for (int i = 0; i < leftQueue.size(); i++) {
+                String qsid = leftQueue.get(i);
+                String token = tokens.get(i);
+                if (token == null) {
+                    unresolved.add(qsid);
+                    continue;
+                }
+
+                Connection connection = scheduleConnections.remove(qsid);
+                if (connection != null) {
+                    finish(connection, QueueStatusResponse.admitted(token));
+                }
+            }
+
+            // 토큰이 없으면 window 밖이거나 스냅샷 이후 진입한 대기자 → 순번 일괄 조회
+            List<Long> positions = queueService.currentPositions(scheduleId, unresolved);
+            for (int i = 0; i < unresolved.size(); i++) {
+                String qsid = unresolved.get(i);
+                Long position = positions.get(i);
+
+                if (position == null) {
+                    Connection connection = scheduleConnections.remove(qsid);
+                    if (connection != null) {
+                        finish(connection, QueueStatusResponse.notInQueue());
+                    }
+                    continue;
+                }
+
+                Connection connection = scheduleConnections.get(qsid);
+                if (connection != null) {
+                    connection.markBeyondWindow(now);
+                    devices.put(qsid, connection.deviceId());
+                    send(connection, queueService.waitingStatus(scheduleId, position));
+                }
+            }
+        }
+
+        queueService.refreshHeartbeats(scheduleId, devices);
+    }
+
+    // 열려 있지 않은 회차 연결 종료
+    public void retain(Collection<Long> scheduleIds) {
+        connections.entrySet().removeIf(entry -> {
+            if (scheduleIds.contains(entry.getKey())) {
+                return false;
+            }
+            entry.getValue().values().forEach(connection -> finish(connection, QueueStatusResponse.notInQueue()));
+            return true;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 클라이언트는 재연결 (hb 만료 전이면 순번 유지)
+        connections.values().forEach(map -> map.values().forEach(c -> c.emitter().complete()));
+        connections.clear();
+        senders.shutdown();
+    }
+
+    private void send(Connection connection, QueueStatusResponse status) {
+        // 이전 전송이 끝나지 않았으면 이번 주기는 건너뜀 (다음 주기에 최신 상태 전송)
+        if (!connection.sending().compareAndSet(false, true)) {
+            return;
+        }
+        connection.markSent(status.position());
+
+        dispatch(connection, () -> {
+            try {
+                connection.emitter().send(SseEmitter.event().name("status").data(status));
+            } catch (IOException | IllegalStateException e) {
+                connection.emitter().completeWithError(e);
+            } finally {
+                connection.sending().set(false);
+            }
+        });
+    }
+
+    private void finish(Connection connection, QueueStatusResponse status) {
+        dispatch(connection, () -> sendAndComplete(connection.emitter(), status));
+    }
+
+    private void sendAndComplete(SseEmitter emitter, QueueStatusResponse status) {
+        try {
+            emitter.send(SseEmitter.event().name("status").data(status));
+            emitter.complete();
+        } catch (IOException | IllegalStateException e) {
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void dispatch(Connection connection, Runnable task) {
+        try {
+            senders.execute(task);
+        } catch (RejectedExecutionException e) {
+            connection.sending().set(false);
+        }
+    }
+
+    private void remove(Long scheduleId, String qsid, Connection connection) {
+        Map<String, Connection> scheduleConnections = connections.get(scheduleId);
+        if (scheduleConnections != null) {
+            scheduleConnections.remove(qsid, connection);
+        }
+    }
+
+    private static final class Connection {
+        private final SseEmitter emitter;
+        private final String deviceId;
+        private final AtomicBoolean sending = new AtomicBoolean(false);
+        private volatile long lastPosition = -1;
+        private volatile long lastSentAtMillis = 0;
+        // window 밖으로 확인된 시각 (0이면 window 안 또는 미확인)
+        private volatile long beyondWindowCheckedAtMillis = 0;
+
+        private Connection(SseEmitter emitter, String deviceId) {
+            this.emitter = emitter;
+            this.deviceId = deviceId;
+        }
+
+        SseEmitter emitter() { return emitter; }
+        String deviceId() { return deviceId; }
+        AtomicBoolean sending() { return sending; }
+        long lastPosition() { return lastPosition; }
+        long lastSentAtMillis() { return lastSentAtMillis; }
+        long beyondWindowCheckedAtMillis() { return beyondWindowCheckedAtMillis; }
+
+        void markBeyondWindow(long now) { this.beyondWindowCheckedAtMillis = now; }
+        void markInWindow() { this.beyondWindowCheckedAtMillis = 0; }
+
+        void markSent(Long position) {
+            this.lastPosition = position == null ? -1 : position;
+            this.lastSentAtMillis = System.currentTimeMillis();
+        }
+    }
+}
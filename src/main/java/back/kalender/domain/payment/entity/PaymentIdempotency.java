@@ -13,10 +13,10 @@ import lombok.NoArgsConstructor;
            name = "uk_payment_idempotency",
            columnNames = {"paymentId", "operation", "idempotencyKey"}
        ),
-       indexes = @Index(
-           name = "idx_payment_idempotency_key",
-           columnList = "idempotencyKey"
-       ))
+       indexes = {
+           @Index(name = "idx_payment_idempotency_key", columnList = "idempotencyKey"),
+           @Index(name = "idx_payment_idempotency_created_at", columnList = "createdAt") // TTL 지난 레코드 정리용
+       })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class PaymentIdempotency extends BaseEntity {
@@ -15,7 +15,9 @@ import java.util.UUID;
 @Entity
     @Table(name = "payment_outbox", indexes = {
     @Index(name = "idx_outbox_payment_id", columnList = "paymentId"), // 특정 결제의 이벤트 조회용
-    @Index(name = "idx_outbox_status_retry", columnList = "status,nextRetryAt") // 워커가 PENDING 이벤트 조회용
+    @Index(name = "idx_outbox_status_retry", columnList = "status,nextRetryAt"), // 워커가 PENDING 이벤트 조회용
+    @Index(name = "idx_outbox_status_lease", columnList = "status,lockedUntil"), // 리스 만료 PROCESSING 재선점용
+    @Index(name = "idx_outbox_status_sent", columnList = "status,sentAt") // 보관 기간 지난 SENT 이동용
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -46,6 +48,12 @@ public class PaymentOutbox extends BaseEntity {
     @Column(nullable = true)
     private LocalDateTime sentAt;
 
+    @Column(length = 64, nullable = true)
+    private String lockedBy; // 선점한 워커(서버) ID
+
+    @Column(nullable = true)
+    private LocalDateTime lockedUntil; // 리스 만료 시각 (지나면 다른 워커가 재선점)
+
     @PrePersist
     protected void onCreate() {
         // 엔티티 저장 전 자동 초기화: eventId, status, retryCount
@@ -69,10 +77,16 @@ public class PaymentOutbox extends BaseEntity {
         this.retryCount = 0;
     }
 
+    // 선점한 워커가 아직 처리 권한을 가지고 있는지 (리스 만료 후 재선점되면 false)
+    public boolean isClaimedBy(String workerId) {
+        return this.status == OutboxStatus.PROCESSING && workerId.equals(this.lockedBy);
+    }
+
     // PROCESSING → SENT (MQ 발행 성공 시)
     public void markSent() {
         this.status = OutboxStatus.SENT;
         this.sentAt = LocalDateTime.now();
+        releaseLease();
     }
 
     // PROCESSING → FAILED (MQ 발행 실패 시, 재시도 시간 설정)
@@ -80,12 +94,19 @@ public class PaymentOutbox extends BaseEntity {
         this.status = OutboxStatus.FAILED;
         this.retryCount++;
         this.nextRetryAt = nextRetryAt;
+        releaseLease();
     }
 
     // 최대 재시도 초과 시 최종 포기 상태로 변경 (무한 루프 방지)
     public void markAbandoned() {
         this.status = OutboxStatus.ABANDONED;
         this.nextRetryAt = null;
+        releaseLease();
+    }
+
+    private void releaseLease() {
+        this.lockedBy = null;
+        this.lockedUntil = null;
     }
 }
 
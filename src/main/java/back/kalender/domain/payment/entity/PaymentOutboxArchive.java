@@ -0,0 +1,49 @@
+package back.kalender.domain.payment.entity;
+
+import back.kalender.domain.payment.enums.OutboxStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// 보관 기간이 지난 SENT Outbox 이벤트 (payment_outbox에서 OutboxArchiver가 일괄 이동, 조회/감사용)
+@Entity
+@Table(name = "payment_outbox_archive", indexes = {
+    @Index(name = "idx_outbox_archive_payment_id", columnList = "paymentId")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PaymentOutboxArchive {
+
+    @Id
+    private Long id; // payment_outbox의 id 그대로 사용
+
+    @Column(columnDefinition = "UUID", nullable = false, unique = true)
+    private UUID eventId;
+
+    @Column(nullable = false)
+    private Long paymentId;
+
+    @Column(nullable = false)
+    private String eventType;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String payloadJson;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OutboxStatus status;
+
+    @Column(nullable = false)
+    private Integer retryCount;
+
+    private LocalDateTime sentAt;
+
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
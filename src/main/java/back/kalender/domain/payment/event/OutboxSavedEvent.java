@@ -0,0 +1,20 @@
+package back.kalender.domain.payment.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Outbox 이벤트 저장 알림
+ * - 커밋 후 Outbox 디스패처를 바로 깨움 (다른 서버는 Redis pub/sub으로 전달)
+ */
+@Getter
+@RequiredArgsConstructor
+public class OutboxSavedEvent {
+    private final Long paymentId;
+    private final String eventType;
+
+    @Override
+    public String toString() {
+        return String.format("OutboxSavedEvent{paymentId=%d, eventType=%s}", paymentId, eventType);
+    }
+}
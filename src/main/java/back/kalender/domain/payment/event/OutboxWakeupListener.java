@@ -0,0 +1,61 @@
+package back.kalender.domain.payment.event;
+
+import back.kalender.domain.payment.service.OutboxWorker;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Outbox 디스패처 깨우기
+ *
+ * - 이벤트 저장 트랜잭션 커밋 직후 자기 서버 디스패처를 바로 깨움
+ * - 다른 서버에는 outbox:wakeup 채널로 알림 (자기 서버가 보낸 메시지는 nodeId로 무시)
+ * - 발행/수신 실패 시에도 OutboxWorker 주기 폴링으로 처리됨
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxWakeupListener implements MessageListener {
+
+    public static final String WAKEUP_CHANNEL = "outbox:wakeup";
+
+    private final OutboxWorker outboxWorker;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(WAKEUP_CHANNEL));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleOutboxSaved(OutboxSavedEvent event) {
+        outboxWorker.wakeUp();
+
+        try {
+            stringRedisTemplate.convertAndSend(WAKEUP_CHANNEL, nodeId);
+        } catch (Exception e) {
+            log.warn("[OutboxWakeup] 깨우기 메시지 발행 실패 - {}", event, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        if (nodeId.equals(new String(message.getBody(), StandardCharsets.UTF_8))) {
+            return;
+        }
+        outboxWorker.wakeUp();
+    }
+}
@@ -0,0 +1,45 @@
+package back.kalender.domain.payment.publisher;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 프로세스 내 Outbox 발행기 (브로커 없는 로컬/테스트 환경용)
+ * - 발행한 메시지를 최근 MAX_RETAINED개까지 보관하고 모두 ack
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "custom.outbox", name = "publisher", havingValue = "memory", matchIfMissing = true)
+public class InMemoryOutboxPublisher implements OutboxPublisher {
+
+    private static final int MAX_RETAINED = 1000;
+
+    private final Deque<OutboxMessage> published = new ArrayDeque<>();
+
+    @Override
+    public synchronized Set<Long> publish(List<OutboxMessage> messages) {
+        Set<Long> acked = new LinkedHashSet<>();
+        for (OutboxMessage message : messages) {
+            if (published.size() == MAX_RETAINED) {
+                published.pollFirst();
+            }
+            published.addLast(message);
+            acked.add(message.outboxId());
+        }
+
+        log.debug("[OutboxPublisher] 메모리 발행 - count={}", messages.size());
+        return acked;
+    }
+
+    public synchronized List<OutboxMessage> published() {
+        return new ArrayList<>(published);
+    }
+}
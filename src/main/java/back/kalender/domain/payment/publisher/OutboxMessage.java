@@ -0,0 +1,33 @@
+package back.kalender.domain.payment.publisher;
+
+import back.kalender.domain.payment.entity.PaymentOutbox;
+
+import java.util.UUID;
+
+/**
+ * MQ로 발행할 Outbox 이벤트
+ * - eventId: 메시지 ID (소비자 중복 제거 키)
+ * - paymentId: 파티션 키 (같은 결제의 이벤트는 같은 파티션으로 → 순서 유지)
+ */
+public record OutboxMessage(
+        Long outboxId,
+        UUID eventId,
+        Long paymentId,
+        String eventType,
+        String payloadJson
+) {
+
+    public static OutboxMessage from(PaymentOutbox outbox) {
+        return new OutboxMessage(
+                outbox.getId(),
+                outbox.getEventId(),
+                outbox.getPaymentId(),
+                outbox.getEventType(),
+                outbox.getPayloadJson()
+        );
+    }
+
+    public int partition(int partitions) {
+        return Math.floorMod(paymentId, partitions);
+    }
+}
@@ -0,0 +1,52 @@
+package back.kalender.domain.payment.publisher;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Outbox 발행 설정
+ * - exchange: 결제 이벤트 exchange (파티션 큐 {exchange}.{n}, 라우팅 키 payment.{n})
+ * - partitions: 파티션 수 (paymentId 기준 분배, 운영 중 변경 시 순서 보장 깨짐)
+ * - archiveAfter: SENT 후 이 기간이 지나면 payment_outbox_archive로 이동 (OutboxArchiver)
+ * - archiveRunBudget: OutboxArchiver 한 번 실행의 최대 소요 시간 (남은 건 다음 주기에 처리)
+ */
+@Getter
+@ConfigurationProperties(prefix = "custom.outbox")
+public class OutboxProperties {
+
+    private final String publisher;
+    private final String exchange;
+    private final int partitions;
+    private final Duration confirmTimeout;
+    private final Duration archiveAfter;
+    private final int archiveBatchSize;
+    private final Duration archiveRunBudget;
+
+    public OutboxProperties(
+            String publisher,
+            String exchange,
+            Integer partitions,
+            Duration confirmTimeout,
+            Duration archiveAfter,
+            Integer archiveBatchSize,
+            Duration archiveRunBudget
+    ) {
+        this.publisher = publisher == null ? "memory" : publisher;
+        this.exchange = exchange == null ? "payment.events" : exchange;
+        this.partitions = partitions == null ? 4 : partitions;
+        this.confirmTimeout = confirmTimeout == null ? Duration.ofSeconds(5) : confirmTimeout;
+        this.archiveAfter = archiveAfter == null ? Duration.ofDays(3) : archiveAfter;
+        this.archiveBatchSize = archiveBatchSize == null ? 1000 : archiveBatchSize;
+        this.archiveRunBudget = archiveRunBudget == null ? Duration.ofSeconds(10) : archiveRunBudget;
+    }
+
+    public String routingKey(int partition) {
+        return "payment." + partition;
+    }
+
+    public String queueName(int partition) {
+        return exchange + "." + partition;
+    }
+}
@@ -0,0 +1,19 @@
+package back.kalender.domain.payment.publisher;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Outbox 이벤트 발행기 (custom.outbox.publisher로 구현 선택)
+ * - memory: 프로세스 내 보관 (로컬/테스트용)
+ * - rabbit: RabbitMQ publisher confirm
+ */
+public interface OutboxPublisher {
+
+    /**
+     * 이벤트 일괄 발행
+     * - 목록 순서대로 발행 (같은 결제의 이벤트 순서 유지)
+     * - 반환: 브로커 ack를 받은 outboxId, 포함되지 않은 이벤트는 실패로 보고 재시도
+     */
+    Set<Long> publish(List<OutboxMessage> messages);
+}
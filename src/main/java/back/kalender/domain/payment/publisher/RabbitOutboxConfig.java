@@ -0,0 +1,39 @@
+package back.kalender.domain.payment.publisher;
+
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Declarable;
+import org.springframework.amqp.core.Declarables;
+import org.springframework.amqp.core.DirectExchange;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 결제 이벤트 exchange / 파티션 큐 선언
+ * - 파티션 큐마다 소비자 1개(single active consumer)로 결제별 순서 보장
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "custom.outbox", name = "publisher", havingValue = "rabbit")
+public class RabbitOutboxConfig {
+
+    @Bean
+    public Declarables paymentEventDeclarables(OutboxProperties properties) {
+        DirectExchange exchange = new DirectExchange(properties.getExchange(), true, false);
+
+        List<Declarable> declarables = new ArrayList<>();
+        declarables.add(exchange);
+        for (int partition = 0; partition < properties.getPartitions(); partition++) {
+            Queue queue = QueueBuilder.durable(properties.queueName(partition))
+                    .singleActiveConsumer()
+                    .build();
+            declarables.add(queue);
+            declarables.add(BindingBuilder.bind(queue).to(exchange).with(properties.routingKey(partition)));
+        }
+        return new Declarables(declarables);
+    }
+}
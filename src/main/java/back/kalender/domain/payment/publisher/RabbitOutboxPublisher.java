@@ -0,0 +1,135 @@
+package back.kalender.domain.payment.publisher;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * RabbitMQ Outbox 발행기 (publisher confirm)
+ *
+ * - 배치 전체를 먼저 보내고 confirm을 한꺼번에 대기 (건별 왕복 대기 없음)
+ * - 라우팅: paymentId % partitions 파티션 큐 → 같은 결제의 이벤트는 같은 큐에 순서대로 적재
+ * - mandatory: 라우팅되지 않고 반환된 메시지는 ack여도 실패 처리
+ * - messageId = eventId (소비자 중복 제거 키)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "custom.outbox", name = "publisher", havingValue = "rabbit")
+public class RabbitOutboxPublisher implements OutboxPublisher {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final OutboxProperties properties;
+    // correlationId(eventId) → confirm 결과 (ack && 반환되지 않음)
+    private final Map<String, CompletableFuture<Boolean>> confirms = new ConcurrentHashMap<>();
+
+    public RabbitOutboxPublisher(RabbitTemplate rabbitTemplate, OutboxProperties properties) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.properties = properties;
+        this.rabbitTemplate.setConfirmCallback(this::onConfirm);
+    }
+
+    @Override
+    public Set<Long> publish(List<OutboxMessage> messages) {
+        List<Pending> pendings = new ArrayList<>(messages.size());
+        for (OutboxMessage message : messages) {
+            String correlationId = message.eventId().toString();
+            CompletableFuture<Boolean> confirm = new CompletableFuture<>();
+            confirms.put(correlationId, confirm);
+            try {
+                rabbitTemplate.send(
+                        properties.getExchange(),
+                        properties.routingKey(message.partition(properties.getPartitions())),
+                        toAmqpMessage(message),
+                        new CorrelationData(correlationId)
+                );
+                pendings.add(new Pending(message, correlationId, confirm));
+            } catch (Exception e) {
+                confirms.remove(correlationId);
+                log.warn("[OutboxPublisher] RabbitMQ 전송 실패 - outboxId={}, eventId={}",
+                        message.outboxId(), message.eventId(), e);
+            }
+        }
+
+        long deadline = System.nanoTime() + properties.getConfirmTimeout().toNanos();
+        Set<Long> acked = new LinkedHashSet<>();
+        for (Pending pending : pendings) {
+            if (awaitConfirm(pending, deadline)) {
+                acked.add(pending.message().outboxId());
+            }
+        }
+
+        log.debug("[OutboxPublisher] RabbitMQ 발행 - requested={}, acked={}", messages.size(), acked.size());
+        return acked;
+    }
+
+    private boolean awaitConfirm(Pending pending, long deadline) {
+        try {
+            long remaining = Math.max(0, deadline - System.nanoTime());
+            return pending.confirm().get(remaining, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            log.warn("[OutboxPublisher] RabbitMQ confirm 시간 초과 - outboxId={}", pending.message().outboxId());
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            log.warn("[OutboxPublisher] RabbitMQ confirm 실패 - outboxId={}", pending.message().outboxId(), e.getCause());
+            return false;
+        } finally {
+            confirms.remove(pending.correlationId());
+        }
+    }
+
+    // 반환(return)은 confirm보다 먼저 도착
+    private void onConfirm(CorrelationData correlation, boolean ack, String cause) {
+        if (correlation == null || correlation.getId() == null) {
+            return;
+        }
+        CompletableFuture<Boolean> confirm = confirms.get(correlation.getId());
+        if (confirm == null) {
+            return;
+        }
+
+        if (!ack) {
+            log.warn("[OutboxPublisher] RabbitMQ nack - eventId={}, cause={}", correlation.getId(), cause);
+            confirm.complete(false);
+        } else if (correlation.getReturned() != null) {
+            log.warn("[OutboxPublisher] 라우팅 실패로 반환됨 - eventId={}, replyText={}",
+                    correlation.getId(), correlation.getReturned().getReplyText());
+            confirm.complete(false);
+        } else {
+            confirm.complete(true);
+        }
+    }
+
+    private Message toAmqpMessage(OutboxMessage message) {
+        MessageProperties props = new MessageProperties();
+        props.setMessageId(message.eventId().toString());
+        props.setType(message.eventType());
+        props.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        props.setContentEncoding(StandardCharsets.UTF_8.name());
+        props.setDeliveryMode(MessageDeliveryMode.PERSISTENT);
+        props.setHeader("paymentId", message.paymentId());
+        return new Message(message.payloadJson().getBytes(StandardCharsets.UTF_8), props);
+    }
+
+    private record Pending(OutboxMessage message, String correlationId, CompletableFuture<Boolean> confirm) {
+    }
+}
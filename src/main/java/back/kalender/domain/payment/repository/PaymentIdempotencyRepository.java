@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -25,4 +26,16 @@ public interface PaymentIdempotencyRepository extends JpaRepository<PaymentIdemp
     @Modifying
     @Query("DELETE FROM PaymentIdempotency p WHERE p.createdAt < :cutoffDate")
     int deleteByCreatedAtBefore(@Param("cutoffDate") LocalDateTime cutoffDate);
+
+    // TTL 지난 레코드 limit개씩 삭제 (긴 트랜잭션/대량 잠금 방지, 서버 간 중복 삭제 없음)
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM payment_idempotency WHERE id IN (" +
+            "  SELECT id FROM payment_idempotency " +
+            "  WHERE created_at < :cutoffDate " +
+            "  ORDER BY id " +
+            "  LIMIT :limit " +
+            "  FOR UPDATE SKIP LOCKED)",
+            nativeQuery = true)
+    int deleteExpiredBatch(@Param("cutoffDate") LocalDateTime cutoffDate, @Param("limit") int limit);
 }
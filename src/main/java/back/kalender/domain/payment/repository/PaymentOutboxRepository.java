@@ -1,14 +1,47 @@
 package back.kalender.domain.payment.repository;
 
 import back.kalender.domain.payment.entity.PaymentOutbox;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 // PaymentOutbox 엔티티 리포지토리
 public interface PaymentOutboxRepository extends JpaRepository<PaymentOutbox, Long>, PaymentOutboxRepositoryCustom {
 
     // 클레임한 ID 목록으로 조회
     List<PaymentOutbox> findAllByIdIn(List<Long> ids);
+
+    // 처리 트랜잭션 동안 row 잠금 (처리 중에는 리스가 지나도 다른 워커가 재선점하지 못함)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM PaymentOutbox o WHERE o.id = :id")
+    Optional<PaymentOutbox> findByIdWithLock(@Param("id") Long id);
+
+    // 발행 ack 받은 이벤트 일괄 SENT (아직 선점 중인 워커의 row만)
+    @Modifying
+    @Transactional
+    @Query("""
+        update PaymentOutbox o
+        set o.status = back.kalender.domain.payment.enums.OutboxStatus.SENT,
+            o.sentAt = :sentAt,
+            o.lockedBy = null,
+            o.lockedUntil = null
+        where o.id in :ids
+          and o.status = back.kalender.domain.payment.enums.OutboxStatus.PROCESSING
+          and o.lockedBy = :workerId
+        """)
+    int markSent(
+            @Param("ids") Collection<Long> ids,
+            @Param("workerId") String workerId,
+            @Param("sentAt") LocalDateTime sentAt
+    );
 }
 
@@ -1,8 +1,12 @@
 package back.kalender.domain.payment.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface PaymentOutboxRepositoryCustom {
-    // 선점 업데이트: PENDING/FAILED → PROCESSING으로 변경하여 클레임한 ID 목록 반환
-    List<Long> claimPendingOutboxes(int limit);
+    // 선점 업데이트: PENDING/FAILED/리스 만료 PROCESSING → PROCESSING(workerId, 리스)으로 변경하여 클레임한 ID 목록 반환
+    List<Long> claimPendingOutboxes(int limit, String workerId, long leaseSeconds);
+
+    // sentBefore 이전에 SENT된 이벤트를 limit개씩 payment_outbox_archive로 이동, 이동한 수 반환
+    int archiveSentOutboxes(LocalDateTime sentBefore, int limit);
 }
@@ -4,7 +4,9 @@ import jakarta.persistence.EntityManager;
 import jakarta.persistence.Query;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -15,16 +17,22 @@ public class PaymentOutboxRepositoryImpl implements PaymentOutboxRepositoryCusto
     private final EntityManager entityManager;
 
     @Override
-    public List<Long> claimPendingOutboxes(int limit) {
+    @Transactional
+    public List<Long> claimPendingOutboxes(int limit, String workerId, long leaseSeconds) {
         // 선점 업데이트: PENDING/FAILED → PROCESSING으로 변경하여 클레임한 ID 목록 반환
-        // FOR UPDATE SKIP LOCKED -> 이미 다른 트랜잭션이 잠근 row는 건너뜀
+        // 리스(locked_until)가 지난 PROCESSING은 선점한 워커가 죽은 것으로 보고 다시 선점
+        // FOR UPDATE SKIP LOCKED -> 이미 다른 트랜잭션이 잠근 row는 건너뜀 (처리 중인 row 포함)
         // RETURNING id -> 업데이트된 row의 id를 반환
+        // 짧은 트랜잭션으로 선점만 커밋 → 처리 중 row 잠금은 처리 트랜잭션이 건별로 잡음
         String sql = "UPDATE payment_outbox o " +
-                "SET status = 'PROCESSING' " +
+                "SET status = 'PROCESSING', " +
+                "    locked_by = :workerId, " +
+                "    locked_until = CURRENT_TIMESTAMP + (:leaseSeconds * INTERVAL '1 second') " +
                 "FROM (" +
                 "  SELECT id FROM payment_outbox " +
                 "  WHERE (status = 'PENDING' " +
-                "    OR (status = 'FAILED' AND next_retry_at <= CURRENT_TIMESTAMP)) " +
+                "    OR (status = 'FAILED' AND next_retry_at <= CURRENT_TIMESTAMP) " +
+                "    OR (status = 'PROCESSING' AND (locked_until IS NULL OR locked_until < CURRENT_TIMESTAMP))) " +
                 "  ORDER BY created_at ASC " +
                 "  LIMIT :limit " +
                 "  FOR UPDATE SKIP LOCKED" +
@@ -34,6 +42,8 @@ public class PaymentOutboxRepositoryImpl implements PaymentOutboxRepositoryCusto
 
         Query query = entityManager.createNativeQuery(sql);
         query.setParameter("limit", limit);
+        query.setParameter("workerId", workerId);
+        query.setParameter("leaseSeconds", leaseSeconds);
 
         @SuppressWarnings("unchecked")
         List<Object> resultList = query.getResultList();
@@ -43,4 +53,31 @@ public class PaymentOutboxRepositoryImpl implements PaymentOutboxRepositoryCusto
                 .map(id -> ((Number) id).longValue())
                 .collect(Collectors.toList());
     }
+
+    @Override
+    @Transactional
+    public int archiveSentOutboxes(LocalDateTime sentBefore, int limit) {
+        // DELETE ... RETURNING 결과를 그대로 archive에 INSERT (한 문장, 한 트랜잭션)
+        // FOR UPDATE SKIP LOCKED -> 여러 서버가 동시에 실행해도 같은 row를 옮기지 않음
+        String sql = "WITH moved AS (" +
+                "  DELETE FROM payment_outbox " +
+                "  WHERE id IN (" +
+                "    SELECT id FROM payment_outbox " +
+                "    WHERE status = 'SENT' AND sent_at < :sentBefore " +
+                "    ORDER BY id " +
+                "    LIMIT :limit " +
+                "    FOR UPDATE SKIP LOCKED" +
+                "  ) " +
+                "  RETURNING id, event_id, payment_id, event_type, payload_json, status, retry_count, sent_at, created_at" +
+                ") " +
+                "INSERT INTO payment_outbox_archive " +
+                "  (id, event_id, payment_id, event_type, payload_json, status, retry_count, sent_at, created_at, archived_at) " +
+                "SELECT id, event_id, payment_id, event_type, payload_json, status, retry_count, sent_at, created_at, CURRENT_TIMESTAMP " +
+                "FROM moved";
+
+        Query query = entityManager.createNativeQuery(sql);
+        query.setParameter("sentBefore", sentBefore);
+        query.setParameter("limit", limit);
+        return query.executeUpdate();
+    }
 }
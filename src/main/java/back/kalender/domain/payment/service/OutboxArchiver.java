@@ -0,0 +1,105 @@
+package back.kalender.domain.payment.service;
+
+import back.kalender.domain.payment.publisher.OutboxProperties;
+import back.kalender.domain.payment.repository.PaymentIdempotencyRepository;
+import back.kalender.domain.payment.repository.PaymentOutboxRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+/**
+ * 결제 Outbox / 멱등성 테이블 정리
+ *
+ * - payment_outbox: 보관 기간(archiveAfter) 지난 SENT 이벤트를 payment_outbox_archive로 이동
+ *   → 선점 쿼리가 보는 hot 테이블은 처리 대기/최근 이벤트만 유지
+ * - payment_idempotency: TTL(ttlDays) 지난 레코드 삭제 (조회 쿼리의 TTL 조건과 동일 기준)
+ * - 배치(archiveBatchSize) 단위 짧은 트랜잭션 반복, 한 번 실행에 최대 MAX_BATCHES_PER_RUN 배치
+ *   + 실행 시간 예산(archiveRunBudget) 초과 시 중단 (outbox는 예산의 절반까지만 사용), 남은 건 다음 주기에 처리
+ * - 여러 서버가 동시에 실행해도 SKIP LOCKED로 같은 row를 중복 처리하지 않음
+ * - 전용 스레드에서 RUN_INTERVAL마다 실행 (공용 @Scheduled 스레드를 점유하지 않도록)
+ */
+@Slf4j
+@Component
+public class OutboxArchiver {
+
+    private static final int MAX_BATCHES_PER_RUN = 100;
+    private static final Duration RUN_INTERVAL = Duration.ofMinutes(1);
+
+    private final PaymentOutboxRepository paymentOutboxRepository;
+    private final PaymentIdempotencyRepository paymentIdempotencyRepository;
+    private final OutboxProperties outboxProperties;
+    private final int idempotencyTtlDays;
+    private final ScheduledExecutorService runner = Executors.newSingleThreadScheduledExecutor();
+
+    public OutboxArchiver(
+            PaymentOutboxRepository paymentOutboxRepository,
+            PaymentIdempotencyRepository paymentIdempotencyRepository,
+            OutboxProperties outboxProperties,
+            @Value("${custom.payment.idempotency.ttlDays:7}") int idempotencyTtlDays
+    ) {
+        this.paymentOutboxRepository = paymentOutboxRepository;
+        this.paymentIdempotencyRepository = paymentIdempotencyRepository;
+        this.outboxProperties = outboxProperties;
+        this.idempotencyTtlDays = idempotencyTtlDays;
+    }
+
+    @PostConstruct
+    public void start() {
+        long intervalMillis = RUN_INTERVAL.toMillis();
+        runner.scheduleWithFixedDelay(this::archive, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        runner.shutdownNow();
+    }
+
+    public void archive() {
+        int batchSize = outboxProperties.getArchiveBatchSize();
+        long budgetNanos = outboxProperties.getArchiveRunBudget().toNanos();
+        long startedAt = System.nanoTime();
+
+        LocalDateTime sentBefore = LocalDateTime.now().minus(outboxProperties.getArchiveAfter());
+        int archived = runBatches("outbox", batchSize, startedAt + budgetNanos / 2,
+                () -> paymentOutboxRepository.archiveSentOutboxes(sentBefore, batchSize));
+
+        LocalDateTime expiredBefore = LocalDateTime.now().minusDays(idempotencyTtlDays);
+        int deleted = runBatches("idempotency", batchSize, startedAt + budgetNanos,
+                () -> paymentIdempotencyRepository.deleteExpiredBatch(expiredBefore, batchSize));
+
+        if (archived > 0 || deleted > 0) {
+            log.info("[OutboxArchiver] 정리 완료 - outboxArchived={}, idempotencyDeleted={}", archived, deleted);
+        }
+    }
+
+    // 배치가 가득 찬 동안 반복 (실패/예산 초과 시 다음 주기에 이어서 처리, 최소 1배치는 실행)
+    private int runBatches(String target, int batchSize, long deadlineNanos, IntSupplier batch) {
+        int total = 0;
+        try {
+            for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+                int count = batch.getAsInt();
+                total += count;
+                if (count < batchSize) {
+                    break;
+                }
+                if (System.nanoTime() - deadlineNanos >= 0) {
+                    log.info("[OutboxArchiver] 실행 시간 예산 초과, 다음 주기에 이어서 처리 - target={}, processed={}",
+                            target, total);
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.error("[OutboxArchiver] 정리 실패 - target={}, processed={}", target, total, e);
+        }
+        return total;
+    }
+}
@@ -1,9 +1,11 @@
 package back.kalender.domain.payment.service;
 
 import back.kalender.domain.payment.entity.PaymentOutbox;
+import back.kalender.domain.payment.event.OutboxSavedEvent;
 import back.kalender.domain.payment.repository.PaymentOutboxRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,6 +21,7 @@ public class OutboxEventService {
 
     private final PaymentOutboxRepository paymentOutboxRepository;
     private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void saveOutboxEvent(Long paymentId, String eventType, Map<String, Object> payload) {
@@ -36,6 +39,8 @@ public class OutboxEventService {
                 .payloadJson(payloadJson)
                 .build();
         paymentOutboxRepository.save(outbox);
+        // 커밋 직후 디스패처 깨우기 (OutboxWakeupListener)
+        eventPublisher.publishEvent(new OutboxSavedEvent(paymentId, eventType));
         log.debug("[OutboxEvent] 이벤트 저장 완료 - paymentId: {}, eventType: {}", paymentId, eventType);
     }
 }
@@ -3,6 +3,9 @@ package back.kalender.domain.payment.service;
 import back.kalender.domain.booking.reservation.service.ReservationService;
 import back.kalender.domain.payment.constants.PaymentEventType;
 import back.kalender.domain.payment.entity.PaymentOutbox;
+import back.kalender.domain.payment.publisher.OutboxMessage;
+import back.kalender.domain.payment.publisher.OutboxPublisher;
+import back.kalender.domain.payment.repository.PaymentOutboxRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -11,7 +14,9 @@ import org.springframework.transaction.annotation.Transactional;
 import tools.jackson.databind.ObjectMapper;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 // Outbox 이벤트 개별 처리 컴포넌트 (REQUIRES_NEW 트랜잭션)
 @Slf4j
@@ -25,15 +30,26 @@ public class OutboxProcessor {
     private final ReservationService reservationService;
     private final ObjectMapper objectMapper;
     private final OutboxEventService outboxEventService;
+    private final PaymentOutboxRepository paymentOutboxRepository;
+    private final OutboxPublisher outboxPublisher;
 
+    /**
+     * 선점한 이벤트 1건 처리 (건별 트랜잭션)
+     * - row 잠금 후 선점 워커 확인: 리스 만료로 다른 워커가 재선점했거나 이미 처리된 경우 건너뜀
+     */
     @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void processOutbox(PaymentOutbox outbox) {
+    public void processOutbox(Long outboxId, String workerId) {
+        PaymentOutbox outbox = paymentOutboxRepository.findByIdWithLock(outboxId).orElse(null);
+        if (outbox == null || !outbox.isClaimedBy(workerId)) {
+            log.info("[OutboxProcessor] 선점 해제된 이벤트 건너뜀 - outboxId: {}, workerId: {}", outboxId, workerId);
+            return;
+        }
+
         try {
             // 좌석 SOLD 재처리 이벤트는 직접 처리
-            if (PaymentEventType.SEAT_SOLD_RETRY.equals(outbox.getEventType())) {
+            if (isDirectEvent(outbox)) {
                 retrySeatSold(outbox);
             } else {
-                // 기존 MQ 발행 로직
                 publishToMQ(outbox);
             }
             outbox.markSent();
@@ -44,6 +60,51 @@ public class OutboxProcessor {
         }
     }
 
+    // MQ로 발행하지 않고 서버에서 직접 처리하는 이벤트
+    public static boolean isDirectEvent(PaymentOutbox outbox) {
+        return PaymentEventType.SEAT_SOLD_RETRY.equals(outbox.getEventType());
+    }
+
+    /**
+     * MQ 이벤트 일괄 발행 (트랜잭션 없음)
+     * - 한 번에 발행 후 ack 받은 이벤트만 UPDATE 1회로 SENT
+     * - 반환: ack 받지 못한 outboxId (호출 측에서 failOutbox로 재시도 예약)
+     */
+    public List<Long> publishBatch(List<PaymentOutbox> outboxes, String workerId) {
+        List<OutboxMessage> messages = outboxes.stream()
+                .map(OutboxMessage::from)
+                .toList();
+
+        Set<Long> acked;
+        try {
+            acked = outboxPublisher.publish(messages);
+        } catch (Exception e) {
+            log.error("[OutboxProcessor] 일괄 발행 실패 - count: {}", messages.size(), e);
+            acked = Set.of();
+        }
+
+        if (!acked.isEmpty()) {
+            int sent = paymentOutboxRepository.markSent(acked, workerId, LocalDateTime.now());
+            log.info("[OutboxProcessor] 이벤트 일괄 발행 성공 - requested: {}, sent: {}", messages.size(), sent);
+        }
+
+        Set<Long> ackedIds = acked;
+        return messages.stream()
+                .map(OutboxMessage::outboxId)
+                .filter(id -> !ackedIds.contains(id))
+                .toList();
+    }
+
+    // 발행 실패 이벤트 재시도 예약 (선점 워커 확인 후 FAILED/ABANDONED)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void failOutbox(Long outboxId, String workerId) {
+        PaymentOutbox outbox = paymentOutboxRepository.findByIdWithLock(outboxId).orElse(null);
+        if (outbox == null || !outbox.isClaimedBy(workerId)) {
+            return;
+        }
+        handlePublishFailure(outbox, new IllegalStateException("MQ 발행 ack 없음"));
+    }
+
     /**
      * 좌석 SOLD 재처리 로직
      */
@@ -73,10 +134,12 @@ public class OutboxProcessor {
         }
     }
 
-    // TODO: 실제 Kafka 또는 RabbitMQ 연동 구현
+    // 단건 발행 (ack 없으면 실패 처리)
     private void publishToMQ(PaymentOutbox outbox) {
-        log.debug("[OutboxProcessor] MQ 발행 (stub) - outboxId: {}, eventType: {}, payload: {}",
-                outbox.getId(), outbox.getEventType(), outbox.getPayloadJson());
+        Set<Long> acked = outboxPublisher.publish(List.of(OutboxMessage.from(outbox)));
+        if (!acked.contains(outbox.getId())) {
+            throw new IllegalStateException("MQ 발행 ack 없음");
+        }
     }
 
     private void handlePublishFailure(PaymentOutbox outbox, Exception e) {
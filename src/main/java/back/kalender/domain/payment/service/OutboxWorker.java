@@ -2,57 +2,173 @@ package back.kalender.domain.payment.service;
 
 import back.kalender.domain.payment.entity.PaymentOutbox;
 import back.kalender.domain.payment.repository.PaymentOutboxRepository;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 
-// Outbox 이벤트 MQ 발행 스케줄러 (단일 인스턴스 가정)
+/**
+ * Outbox 이벤트 디스패처 (여러 서버 동시 실행 가능)
+ *
+ * - 선점: 짧은 트랜잭션으로 BATCH_SIZE개를 PROCESSING(workerId, 리스)으로 변경 후 바로 커밋
+ * - 처리: MQ 이벤트는 OutboxPublisher로 일괄 발행, 직접 처리 이벤트는 워커 WORKER_COUNT개가 건별 트랜잭션으로 병렬 처리
+ * - 백로그: 선점 수가 BATCH_SIZE면 다음 주기를 기다리지 않고 바로 다시 선점
+ * - 깨우기: 이벤트 저장 커밋 직후 wakeUp() (OutboxWakeupListener), 주기 폴링은 누락 대비용
+ *   (디스패치는 전용 스레드 1개에서만 실행, 실행 중 들어온 깨우기는 1회로 합쳐서 재실행)
+ * - 장애 복구: 리스(LEASE_SECONDS)가 지난 PROCESSING은 다른 워커가 재선점
+ *   (처리 중인 이벤트는 처리 트랜잭션의 row 잠금으로 재선점되지 않음)
+ * - 같은 결제의 MQ 이벤트는 한 배치 안에서 생성 순서대로 같은 파티션에 발행 (재시도된 이벤트는 순서 보장 없음)
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class OutboxWorker {
 
+    private static final int BATCH_SIZE = 100;
+    private static final int WORKER_COUNT = 8;
+    private static final long LEASE_SECONDS = 60;
+
     private final PaymentOutboxRepository paymentOutboxRepository;
     private final OutboxProcessor outboxProcessor;
-    
-    private static final int BATCH_SIZE = 100;
+    private final String workerId = UUID.randomUUID().toString();
+    private final ExecutorService workers = Executors.newFixedThreadPool(WORKER_COUNT);
+    private final ExecutorService dispatcher = Executors.newSingleThreadExecutor();
+    private final AtomicBoolean wakeRequested = new AtomicBoolean(false);
 
+    public OutboxWorker(PaymentOutboxRepository paymentOutboxRepository, OutboxProcessor outboxProcessor) {
+        this.paymentOutboxRepository = paymentOutboxRepository;
+        this.outboxProcessor = outboxProcessor;
+    }
+
+    // 누락 대비 폴링 (깨우기 메시지 유실, 재시도 시각 도래 등)
     @Scheduled(fixedDelay = 10000)
-    @Transactional
-    public void processPendingOutboxes() {
-        // 선점 업데이트: PENDING/FAILED → PROCESSING으로 클레임
-        List<Long> claimedIds = paymentOutboxRepository.claimPendingOutboxes(BATCH_SIZE);
+    public void pollPendingOutboxes() {
+        wakeUp();
+    }
 
-        if (claimedIds.isEmpty()) {
+    // 디스패치 요청 (이미 대기 중인 요청이 있으면 합침)
+    public void wakeUp() {
+        if (!wakeRequested.compareAndSet(false, true)) {
             return;
         }
 
-        List<PaymentOutbox> processingOutboxes = paymentOutboxRepository.findAllByIdIn(claimedIds);
-        
-        // ID -> 인덱스 매핑 생성 (O(n))
-        Map<Long, Integer> idToIndexMap = new HashMap<>();
-        for (int i = 0; i < claimedIds.size(); i++) {
-            idToIndexMap.put(claimedIds.get(i), i);
+        try {
+            dispatcher.execute(() -> {
+                wakeRequested.set(false);
+                processPendingOutboxes();
+            });
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+            wakeRequested.set(false);
+        }
+    }
+
+    public void processPendingOutboxes() {
+        try {
+            List<Long> claimedIds;
+            do {
+                claimedIds = paymentOutboxRepository.claimPendingOutboxes(BATCH_SIZE, workerId, LEASE_SECONDS);
+                if (claimedIds.isEmpty()) {
+                    return;
+                }
+
+                log.info("[OutboxWorker] PROCESSING 이벤트 {}개 처리 시작", claimedIds.size());
+                processAll(claimedIds);
+            } while (claimedIds.size() == BATCH_SIZE && !Thread.currentThread().isInterrupted());
+        } catch (Exception e) {
+            log.error("[OutboxWorker] 디스패치 실패 (다음 깨우기/폴링 때 재시도)", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        dispatcher.shutdown();
+        workers.shutdown();
+        if (!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+            workers.shutdownNow();
+        }
+    }
+
+    /**
+     * 선점한 이벤트 처리 (모두 끝날 때까지 대기 → 다음 선점량 조절)
+     * - MQ 이벤트: 선점 순서대로 일괄 발행 + SENT 일괄 UPDATE, ack 없는 이벤트만 건별 실패 처리
+     * - 직접 처리 이벤트(SEAT_SOLD_RETRY): 워커에서 건별 트랜잭션으로 병렬 처리
+     */
+    private void processAll(List<Long> outboxIds) {
+        Map<Long, PaymentOutbox> outboxById = paymentOutboxRepository.findAllByIdIn(outboxIds).stream()
+                .collect(Collectors.toMap(PaymentOutbox::getId, outbox -> outbox));
+
+        List<PaymentOutbox> publishable = new ArrayList<>();
+        List<Long> directIds = new ArrayList<>();
+        for (Long outboxId : outboxIds) {
+            PaymentOutbox outbox = outboxById.get(outboxId);
+            if (outbox == null) {
+                continue;
+            }
+            if (OutboxProcessor.isDirectEvent(outbox)) {
+                directIds.add(outboxId);
+            } else {
+                publishable.add(outbox);
+            }
+        }
+
+        List<Future<?>> futures = new ArrayList<>(directIds.size());
+        for (Long outboxId : directIds) {
+            try {
+                futures.add(workers.submit(() -> process(outboxId)));
+            } catch (RejectedExecutionException e) {
+                // 종료 중 - 리스 만료 후 다른 서버/재기동 후 처리
+                log.warn("[OutboxWorker] 워커 종료로 처리 보류 - outboxId={}", outboxId);
+            }
         }
-        
-        // 클레임 순서 유지 정렬 (O(n log n))
-        processingOutboxes.sort((o1, o2) -> {
-            Integer idx1 = idToIndexMap.get(o1.getId());
-            Integer idx2 = idToIndexMap.get(o2.getId());
-            return Integer.compare(idx1, idx2);
-        });
 
-        log.info("[OutboxWorker] PROCESSING 이벤트 {}개 처리 시작", processingOutboxes.size());
+        if (!publishable.isEmpty()) {
+            // RETURNING 순서는 보장되지 않으므로 생성 순서(id)로 정렬
+            publishable.sort(Comparator.comparing(PaymentOutbox::getId));
+            publishAll(publishable);
+        }
+
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException e) {
+                log.error("[OutboxWorker] 이벤트 처리 작업 실패", e.getCause());
+            }
+        }
+    }
+
+    private void publishAll(List<PaymentOutbox> outboxes) {
+        try {
+            List<Long> failedIds = outboxProcessor.publishBatch(outboxes, workerId);
+            for (Long outboxId : failedIds) {
+                outboxProcessor.failOutbox(outboxId, workerId);
+            }
+        } catch (Exception e) {
+            log.error("[OutboxWorker] 일괄 발행 처리 실패 (리스 만료 후 재시도) - count={}", outboxes.size(), e);
+        }
+    }
 
-        // 개별 트랜잭션으로 처리
-        for (PaymentOutbox outbox : processingOutboxes) {
-            outboxProcessor.processOutbox(outbox);
+    private void process(Long outboxId) {
+        try {
+            outboxProcessor.processOutbox(outboxId, workerId);
+        } catch (Exception e) {
+            log.error("[OutboxWorker] 이벤트 처리 실패 (리스 만료 후 재시도) - outboxId={}", outboxId, e);
         }
     }
 }
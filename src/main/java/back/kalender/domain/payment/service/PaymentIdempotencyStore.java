@@ -0,0 +1,346 @@
+package back.kalender.domain.payment.service;
+
+import back.kalender.domain.payment.entity.PaymentIdempotency;
+import back.kalender.domain.payment.enums.PaymentOperation;
+import back.kalender.domain.payment.repository.PaymentIdempotencyRepository;
+import back.kalender.global.exception.ErrorCode;
+import back.kalender.global.exception.ServiceException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 결제 승인/취소 멱등성 저장소 (Redis 캐시 + DB write-behind)
+ *
+ * - 처리 중 표시: payment:idem:lock:{paymentId}:{operation}:{key} SET NX 요청별 토큰 (LOCK_TTL)
+ *   같은 요청이 처리 중이면 PAYMENT_REQUEST_IN_PROGRESS(409), 트랜잭션 종료 후 토큰이 같을 때만 해제
+ *   (LOCK_TTL보다 오래 걸린 요청이 이후 요청의 표시를 지우지 않도록)
+ * - 결과 조회: Redis(payment:idem:{paymentId}:{operation}:{key}) → miss면 DB 조회 후 Redis에 채움
+ * - 결과 저장: 호출 트랜잭션 커밋 후 Redis에 TTL(ttlDays)로 기록, DB는 큐에 적재 후 배치 INSERT
+ *   (롤백된 결과는 기록하지 않음, 큐가 가득 차면 호출 스레드에서 바로 기록)
+ * - DB 기록은 항상 새 트랜잭션(REQUIRES_NEW), 실패한 배치는 재시도 목록에 보관 후 백오프 재기록
+ *   재시도 대기는 최대 maxRetryPending건, 넘으면 가장 오래된 배치부터 버림 (ERROR 로그 + dropped 카운터)
+ *   (버린 결과도 Redis에는 TTL 동안 남아 있어 그 사이 재요청은 저장된 결과로 응답)
+ * - Redis 장애 시 처리 중 표시는 생략하고 DB 조회로 동작
+ *   (동시 승인/취소는 결제 상태 전이 UPDATE 조건으로 한 번만 성공)
+ *
+ * <메트릭>
+ * - payment.idempotency.queue.size : DB 기록 대기 수
+ * - payment.idempotency.retry.pending : DB 기록 재시도 대기 수
+ * - payment.idempotency.failed : DB 기록 실패 수 (재시도 대상)
+ * - payment.idempotency.dropped : 재시도 한도 초과로 DB 기록을 포기한 수
+ * - payment.idempotency.hit{tier=redis|db} : 저장된 결과 반환 수
+ * - payment.idempotency.in_progress : 처리 중 요청으로 거절한 수
+ */
+@Slf4j
+@Component
+public class PaymentIdempotencyStore {
+
+    private static final String RESULT_KEY_PREFIX = "payment:idem:";
+    private static final String LOCK_KEY_PREFIX = "payment:idem:lock:";
+    private static final Duration LOCK_TTL = Duration.ofSeconds(30);
+    private static final int QUEUE_CAPACITY = 10_000;
+    private static final int BATCH_SIZE = 200;
+    private static final long INITIAL_BACKOFF_MILLIS = 1_000;
+    private static final long MAX_BACKOFF_MILLIS = 30_000;
+
+    private static final RedisScript<Long> LOCK_RELEASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/lock-release.lua"), Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final PaymentIdempotencyRepository paymentIdempotencyRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration ttl;
+    private final BlockingQueue<PaymentIdempotency> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final Queue<FailedBatch> retries = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger retryPending = new AtomicInteger();
+    private final int maxRetryPending;
+
+    private final Counter redisHitCounter;
+    private final Counter dbHitCounter;
+    private final Counter inProgressCounter;
+    private final Counter failedCounter;
+    private final Counter droppedCounter;
+
+    public PaymentIdempotencyStore(
+            StringRedisTemplate redisTemplate,
+            PaymentIdempotencyRepository paymentIdempotencyRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${custom.payment.idempotency.ttlDays:7}") int ttlDays,
+            @Value("${custom.payment.idempotency.maxRetryPending:20000}") int maxRetryPending
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.paymentIdempotencyRepository = paymentIdempotencyRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.ttl = Duration.ofDays(ttlDays);
+        this.maxRetryPending = maxRetryPending;
+
+        Gauge.builder("payment.idempotency.queue.size", queue, BlockingQueue::size)
+                .register(meterRegistry);
+        this.redisHitCounter = meterRegistry.counter("payment.idempotency.hit", "tier", "redis");
+        this.dbHitCounter = meterRegistry.counter("payment.idempotency.hit", "tier", "db");
+        this.inProgressCounter = meterRegistry.counter("payment.idempotency.in_progress");
+        Gauge.builder("payment.idempotency.retry.pending", retryPending, AtomicInteger::get)
+                .register(meterRegistry);
+        this.failedCounter = meterRegistry.counter("payment.idempotency.failed");
+        this.droppedCounter = meterRegistry.counter("payment.idempotency.dropped");
+    }
+
+    // 처리 중 표시 (트랜잭션 중이면 커밋/롤백 후 해제)
+    public void acquire(Long paymentId, PaymentOperation operation, String idempotencyKey) {
+        String lockKey = LOCK_KEY_PREFIX + suffix(paymentId, operation, idempotencyKey);
+        String token = UUID.randomUUID().toString();
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(lockKey, token, LOCK_TTL))) {
+                inProgressCounter.increment();
+                log.info("[Payment] 멱등성: 같은 요청 처리 중 - paymentId: {}, operation: {}, idempotencyKey: {}",
+                        paymentId, operation, idempotencyKey);
+                throw new ServiceException(ErrorCode.PAYMENT_REQUEST_IN_PROGRESS);
+            }
+        } catch (ServiceException e) {
+            throw e;
+        } catch (Exception e) {
+            log.warn("[Payment] 멱등성 처리 중 표시 실패, 생략 - paymentId: {}, operation: {}", paymentId, operation, e);
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    release(lockKey, token);
+                }
+            });
+        }
+    }
+
+    // 저장된 결과 조회 (Redis → DB)
+    public Optional<String> findResult(Long paymentId, PaymentOperation operation, String idempotencyKey) {
+        String resultKey = RESULT_KEY_PREFIX + suffix(paymentId, operation, idempotencyKey);
+        try {
+            String cached = redisTemplate.opsForValue().get(resultKey);
+            if (cached != null) {
+                redisHitCounter.increment();
+                return Optional.of(cached);
+            }
+        } catch (Exception e) {
+            log.warn("[Payment] 멱등성 Redis 조회 실패, DB 조회 - paymentId: {}, operation: {}", paymentId, operation, e);
+        }
+
+        LocalDateTime ttlDate = LocalDateTime.now().minusDays(ttl.toDays());
+        Optional<PaymentIdempotency> stored = paymentIdempotencyRepository
+                .findByPaymentIdAndOperationAndIdempotencyKeyWithTtl(
+                        paymentId, operation.name(), idempotencyKey, ttlDate);
+        stored.ifPresent(idempotency -> {
+            dbHitCounter.increment();
+            cache(resultKey, idempotency.getResultJson(), remainingTtl(idempotency.getCreatedAt()));
+        });
+        return stored.map(PaymentIdempotency::getResultJson);
+    }
+
+    // 결과 저장 (트랜잭션 중이면 커밋 후 기록)
+    public void save(Long paymentId, PaymentOperation operation, String idempotencyKey, String resultJson) {
+        PaymentIdempotency idempotency = PaymentIdempotency.builder()
+                .paymentId(paymentId)
+                .operation(operation.name())
+                .idempotencyKey(idempotencyKey)
+                .resultJson(resultJson)
+                .build();
+        String resultKey = RESULT_KEY_PREFIX + suffix(paymentId, operation, idempotencyKey);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    record(resultKey, idempotency);
+                }
+            });
+            return;
+        }
+        record(resultKey, idempotency);
+    }
+
+    @Scheduled(fixedDelay = 200)
+    public void flush() {
+        retryFailed(false);
+
+        List<PaymentIdempotency> batch = new ArrayList<>(BATCH_SIZE);
+        while (queue.drainTo(batch, BATCH_SIZE) > 0) {
+            write(batch, 0);
+            if (batch.size() < BATCH_SIZE) {
+                return;
+            }
+            batch = new ArrayList<>(BATCH_SIZE);
+        }
+    }
+
+    @PreDestroy
+    public void drain() {
+        log.info("[Payment] 종료 전 남은 멱등성 레코드 기록 - pending={}, retryPending={}",
+                queue.size(), retryPending.get());
+        retryFailed(true);
+        flush();
+        if (retryPending.get() > 0) {
+            log.error("[Payment] 종료 시 기록하지 못한 멱등성 레코드 - count={}", retryPending.get());
+        }
+    }
+
+    // Redis 먼저 기록 (처리 중 표시 해제 전에 결과가 보이도록), DB는 큐에 적재
+    private void record(String resultKey, PaymentIdempotency idempotency) {
+        cache(resultKey, idempotency.getResultJson(), ttl);
+
+        if (!queue.offer(idempotency)) {
+            log.warn("[Payment] 멱등성 기록 큐 가득 참, 동기 기록 - paymentId: {}", idempotency.getPaymentId());
+            write(List.of(idempotency), 0);
+        }
+    }
+
+    // 백오프가 지난 실패 배치 재기록 (force면 백오프 무시, 종료 시)
+    private void retryFailed(boolean force) {
+        long now = System.currentTimeMillis();
+        for (int i = retries.size(); i > 0; i--) {
+            FailedBatch failed = retries.poll();
+            if (failed == null) {
+                return;
+            }
+            if (!force && failed.nextAttemptAt() > now) {
+                retries.offer(failed);
+                continue;
+            }
+            retryPending.addAndGet(-failed.records().size());
+            write(failed.records(), failed.attempts());
+        }
+    }
+
+    private void write(List<PaymentIdempotency> batch, int attempts) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> paymentIdempotencyRepository.saveAll(batch));
+        } catch (DataIntegrityViolationException e) {
+            // 같은 키가 이미 기록된 경우 (동시 재시도 등) → 건별로 다시 기록, 중복은 무시
+            List<PaymentIdempotency> failed = new ArrayList<>();
+            for (PaymentIdempotency idempotency : batch) {
+                if (!writeOne(copyOf(idempotency))) {
+                    failed.add(idempotency);
+                }
+            }
+            if (!failed.isEmpty()) {
+                scheduleRetry(failed, attempts, e);
+            }
+        } catch (Exception e) {
+            scheduleRetry(batch, attempts, e);
+        }
+    }
+
+    // 기록 또는 중복이면 true
+    private boolean writeOne(PaymentIdempotency idempotency) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> paymentIdempotencyRepository.save(idempotency));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            log.debug("[Payment] 멱등성 레코드 중복, 무시 - paymentId: {}, operation: {}",
+                    idempotency.getPaymentId(), idempotency.getOperation());
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private void scheduleRetry(List<PaymentIdempotency> batch, int attempts, Exception cause) {
+        failedCounter.increment(batch.size());
+        long backoff = Math.min(MAX_BACKOFF_MILLIS, INITIAL_BACKOFF_MILLIS << Math.min(attempts, 5));
+        log.error("[Payment] 멱등성 레코드 기록 실패, {}ms 후 재시도 - count={}, attempts={}",
+                backoff, batch.size(), attempts + 1, cause);
+
+        // 롤백된 엔티티는 식별자가 할당돼 있을 수 있어 복사본으로 재시도
+        List<PaymentIdempotency> copies = batch.stream().map(PaymentIdempotencyStore::copyOf).toList();
+        retries.offer(new FailedBatch(copies, attempts + 1, System.currentTimeMillis() + backoff));
+        retryPending.addAndGet(copies.size());
+        dropOverflow();
+    }
+
+    // 재시도 대기 한도 초과분은 가장 오래된 배치부터 버림
+    private void dropOverflow() {
+        while (retryPending.get() > maxRetryPending) {
+            FailedBatch dropped = retries.poll();
+            if (dropped == null) {
+                return;
+            }
+            retryPending.addAndGet(-dropped.records().size());
+            droppedCounter.increment(dropped.records().size());
+            log.error("[Payment] 멱등성 재시도 대기 한도 초과, DB 기록 포기 - count={}, attempts={}, paymentIds={}",
+                    dropped.records().size(),
+                    dropped.attempts(),
+                    dropped.records().stream().map(PaymentIdempotency::getPaymentId).toList());
+        }
+    }
+
+    private static PaymentIdempotency copyOf(PaymentIdempotency idempotency) {
+        return PaymentIdempotency.builder()
+                .paymentId(idempotency.getPaymentId())
+                .operation(idempotency.getOperation())
+                .idempotencyKey(idempotency.getIdempotencyKey())
+                .resultJson(idempotency.getResultJson())
+                .build();
+    }
+
+    private void cache(String resultKey, String resultJson, Duration expiresIn) {
+        if (resultJson == null || expiresIn.isNegative() || expiresIn.isZero()) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(resultKey, resultJson, expiresIn);
+        } catch (Exception e) {
+            log.warn("[Payment] 멱등성 Redis 기록 실패 - key: {}", resultKey, e);
+        }
+    }
+
+    private void release(String lockKey, String token) {
+        try {
+            redisTemplate.execute(LOCK_RELEASE_SCRIPT, List.of(lockKey), token);
+        } catch (Exception e) {
+            log.warn("[Payment] 멱등성 처리 중 표시 해제 실패, TTL로 만료 - key: {}", lockKey, e);
+        }
+    }
+
+    private Duration remainingTtl(LocalDateTime createdAt) {
+        if (createdAt == null) {
+            return ttl;
+        }
+        return Duration.between(LocalDateTime.now(), createdAt.plus(ttl));
+    }
+
+    private static String suffix(Long paymentId, PaymentOperation operation, String idempotencyKey) {
+        return paymentId + ":" + operation.name() + ":" + idempotencyKey;
+    }
+
+    private record FailedBatch(List<PaymentIdempotency> records, int attempts, long nextAttemptAt) {
+    }
+}
@@ -6,11 +6,9 @@ import back.kalender.domain.payment.dto.request.PaymentCreateRequest;
 import back.kalender.domain.payment.dto.response.*;
 import back.kalender.domain.payment.constants.PaymentEventType;
 import back.kalender.domain.payment.entity.Payment;
-import back.kalender.domain.payment.entity.PaymentIdempotency;
 import back.kalender.domain.payment.enums.PaymentOperation;
 import back.kalender.domain.payment.enums.PaymentStatus;
 import back.kalender.domain.payment.mapper.PaymentMapper;
-import back.kalender.domain.payment.repository.PaymentIdempotencyRepository;
 import back.kalender.domain.payment.repository.PaymentRepository;
 import back.kalender.domain.booking.reservation.entity.Reservation;
 import back.kalender.domain.booking.reservation.entity.ReservationStatus;
@@ -25,7 +23,6 @@ import back.kalender.global.exception.ErrorCode;
 import back.kalender.global.exception.ServiceException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -44,7 +41,7 @@ import java.util.Optional;
 public class PaymentService {
 
     private final PaymentRepository paymentRepository;
-    private final PaymentIdempotencyRepository paymentIdempotencyRepository;
+    private final PaymentIdempotencyStore paymentIdempotencyStore;
     private final ReservationRepository reservationRepository;
     private final ReservationSeatRepository reservationSeatRepository;
     private final PerformanceSeatRepository performanceSeatRepository;
@@ -53,9 +50,6 @@ public class PaymentService {
     private final ObjectMapper objectMapper;
     private final OutboxEventService outboxEventService;
     
-    @Value("${custom.payment.idempotency.ttlDays:7}")
-    private int idempotencyTtlDays;
-
     @Transactional
     public PaymentCreateResponse create(PaymentCreateRequest request, String idempotencyKey, Long userId) {
         // Reservation 조회 및 검증
@@ -232,21 +226,22 @@ public class PaymentService {
             throw new ServiceException(ErrorCode.PAYMENT_AMOUNT_MISMATCH);
         }
 
+        // 같은 요청이 처리 중이면 409 (트랜잭션 종료 후 해제)
+        paymentIdempotencyStore.acquire(payment.getId(), PaymentOperation.CONFIRM, idempotencyKey);
+
         // 이미 APPROVED 상태인 경우: 멱등성 검증 후 반환
         if (payment.getStatus() == PaymentStatus.APPROVED) {
             log.info("[Payment] 이미 승인된 결제 - paymentId: {}, status: {}", 
                     payment.getId(), payment.getStatus());
             
-            // 멱등성 검증: TTL 체크 포함 조회
-            LocalDateTime ttlDate = LocalDateTime.now().minusDays(idempotencyTtlDays);
-            Optional<PaymentIdempotency> existingIdempotency = paymentIdempotencyRepository
-                    .findByPaymentIdAndOperationAndIdempotencyKeyWithTtl(
-                        payment.getId(), PaymentOperation.CONFIRM.name(), idempotencyKey, ttlDate);
+            // 멱등성 검증: Redis → DB(TTL 체크 포함) 조회
+            Optional<String> existingResult = paymentIdempotencyStore
+                    .findResult(payment.getId(), PaymentOperation.CONFIRM, idempotencyKey);
             
-            if (existingIdempotency.isPresent()) {
+            if (existingResult.isPresent()) {
                 log.info("[Payment] 멱등성: 기존 승인 결과 반환 - paymentId: {}, idempotencyKey: {}", 
                         payment.getId(), idempotencyKey);
-                return parseConfirmResponse(existingIdempotency.get().getResultJson(), payment);
+                return parseConfirmResponse(existingResult.get(), payment);
             }
             
             // 멱등성 레코드가 없는 경우: 좌석 SOLD 상태 확인 후 멱등성 저장
@@ -292,16 +287,14 @@ public class PaymentService {
             return response;
         }
 
-        // 멱등성 검증: TTL 체크 포함 조회
-        LocalDateTime ttlDate = LocalDateTime.now().minusDays(idempotencyTtlDays);
-        Optional<PaymentIdempotency> existingIdempotency = paymentIdempotencyRepository
-                .findByPaymentIdAndOperationAndIdempotencyKeyWithTtl(
-                    payment.getId(), PaymentOperation.CONFIRM.name(), idempotencyKey, ttlDate);
+        // 멱등성 검증: Redis → DB(TTL 체크 포함) 조회
+        Optional<String> existingResult = paymentIdempotencyStore
+                .findResult(payment.getId(), PaymentOperation.CONFIRM, idempotencyKey);
         
-        if (existingIdempotency.isPresent()) {
+        if (existingResult.isPresent()) {
             log.info("[Payment] 멱등성: 기존 승인 결과 반환 - paymentId: {}, idempotencyKey: {}", 
                     payment.getId(), idempotencyKey);
-            return parseConfirmResponse(existingIdempotency.get().getResultJson(), payment);
+            return parseConfirmResponse(existingResult.get(), payment);
         }
 
         // 조건부 UPDATE: CREATED → PROCESSING (Payment에 저장된 금액 사용)
@@ -512,16 +505,17 @@ public class PaymentService {
             throw new ServiceException(ErrorCode.PAYMENT_NOT_FOUND);
         }
 
-        // 멱등성 검증: TTL 체크 포함 조회
-        LocalDateTime ttlDate = LocalDateTime.now().minusDays(idempotencyTtlDays);
-        Optional<PaymentIdempotency> existingIdempotency = paymentIdempotencyRepository
-                .findByPaymentIdAndOperationAndIdempotencyKeyWithTtl(
-                    payment.getId(), PaymentOperation.CANCEL.name(), idempotencyKey, ttlDate);
+        // 같은 요청이 처리 중이면 409 (트랜잭션 종료 후 해제)
+        paymentIdempotencyStore.acquire(payment.getId(), PaymentOperation.CANCEL, idempotencyKey);
+
+        // 멱등성 검증: Redis → DB(TTL 체크 포함) 조회
+        Optional<String> existingResult = paymentIdempotencyStore
+                .findResult(payment.getId(), PaymentOperation.CANCEL, idempotencyKey);
         
-        if (existingIdempotency.isPresent()) {
+        if (existingResult.isPresent()) {
             log.info("[Payment] 멱등성: 기존 취소 결과 반환 - paymentId: {}, idempotencyKey: {}", 
                     payment.getId(), idempotencyKey);
-            return parseCancelResponse(existingIdempotency.get().getResultJson(), payment);
+            return parseCancelResponse(existingResult.get(), payment);
         }
 
         if (payment.getStatus() == PaymentStatus.CANCELED) {
@@ -631,17 +625,11 @@ public class PaymentService {
         }
     }
 
-    // 멱등성 저장
+    // 멱등성 저장 (커밋 후 Redis 기록, DB는 write-behind)
     private void saveIdempotency(Long paymentId, PaymentOperation operation, String idempotencyKey, Object result) {
         try {
             String resultJson = objectMapper.writeValueAsString(result);
-            PaymentIdempotency idempotency = PaymentIdempotency.builder()
-                    .paymentId(paymentId)
-                    .operation(operation.name())
-                    .idempotencyKey(idempotencyKey)
-                    .resultJson(resultJson)
-                    .build();
-            paymentIdempotencyRepository.save(idempotency);
+            paymentIdempotencyStore.save(paymentId, operation, idempotencyKey, resultJson);
         } catch (Exception e) {
             log.error("[Payment] Idempotency 저장 실패 - paymentId: {}, operation: {}", 
                     paymentId, operation, e);
@@ -3,7 +3,9 @@ package back.kalender.domain.performance.performance.controller;
 import back.kalender.domain.performance.performance.dto.response.PerformanceDetailResponse;
 
 import back.kalender.domain.performance.performance.service.PerformanceService;
+import back.kalender.global.common.dto.Versioned;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -19,7 +21,11 @@ public class PerformanceController implements PerformanceControllerSpec {
     public ResponseEntity<PerformanceDetailResponse> getPerformanceDetail(
             @PathVariable Long performanceId
     ){
-        PerformanceDetailResponse response = performanceService.getPerformanceDetail(performanceId);
-        return ResponseEntity.ok(response);
+        // If-None-Match가 ETag와 같으면 304 (본문 없이 응답)
+        Versioned<PerformanceDetailResponse> detail = performanceService.getVersionedPerformanceDetail(performanceId);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(detail.eTag())
+                .body(detail.body());
     }
 }
@@ -17,12 +17,14 @@ public interface PerformanceControllerSpec {
 
     @Operation(
             summary = "공연 상세 정보 조회",
-            description = "특정 공연의 상세 정보를 조회합니다. 예매 가능한 날짜 목록과 회차 정보를 포함합니다."
+            description = "특정 공연의 상세 정보를 조회합니다. 예매 가능한 날짜 목록과 회차 정보를 포함합니다. "
+                    + "응답의 ETag를 If-None-Match 헤더로 보내면 변경이 없을 때 304를 반환합니다."
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "조회 성공",
                     content = @Content(schema = @Schema(implementation = PerformanceDetailResponse.class))
             ),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
             @ApiResponse(
                     responseCode = "404",
                     description = "리소스를 찾을 수 없음",
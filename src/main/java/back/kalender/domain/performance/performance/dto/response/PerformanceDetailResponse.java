@@ -1,9 +1,7 @@
 package back.kalender.domain.performance.performance.dto.response;
 
 import back.kalender.domain.artist.entity.Artist;
-import back.kalender.domain.performance.performance.entity.Performance;
 import back.kalender.domain.performance.performanceHall.entity.PerformanceHall;
-import back.kalender.domain.performance.schedule.entity.PerformanceSchedule;
 import back.kalender.domain.performance.priceGrade.entity.PriceGrade;
 import io.swagger.v3.oas.annotations.media.Schema;
 
@@ -76,22 +74,15 @@ public record PerformanceDetailResponse(
         }
     }
 
-    public static PerformanceDetailResponse from(
-            Performance performance,
-            PerformanceHall performanceHall,
-            Artist artist,
-            List<PriceGrade> priceGrades,
-            List<LocalDate> availableDates,
-            List<PerformanceSchedule> schedules
-    ) {
-        LocalDateTime now = LocalDateTime.now();
-        boolean isBookingOpen = performance.getSalesStartTime() != null
-                && now.isAfter(performance.getSalesStartTime())
-                && (performance.getSalesEndTime() == null || now.isBefore(performance.getSalesEndTime()));
+    // 캐시된 projection + 응답 시점 기준 예매 오픈 정보
+    public static PerformanceDetailResponse from(PerformanceDetailSnapshot snapshot, LocalDateTime now) {
+        boolean isBookingOpen = snapshot.salesStartTime() != null
+                && now.isAfter(snapshot.salesStartTime())
+                && (snapshot.salesEndTime() == null || now.isBefore(snapshot.salesEndTime()));
 
         Long secondsUntilOpen = null;
-        if (!isBookingOpen && performance.getSalesStartTime() != null) {
-            long seconds = java.time.Duration.between(now, performance.getSalesStartTime()).getSeconds();
+        if (!isBookingOpen && snapshot.salesStartTime() != null) {
+            long seconds = java.time.Duration.between(now, snapshot.salesStartTime()).getSeconds();
             // 24시간(86400초) 이내일 때만 초단위 시간 제공
             if (seconds > 0 && seconds <= 86400) {
                 secondsUntilOpen = seconds;
@@ -100,24 +91,20 @@ public record PerformanceDetailResponse(
         }
 
         return new PerformanceDetailResponse(
-                performance.getId(),
-                performance.getTitle(),
-                performance.getPosterImageUrl(),
-                ArtistInfo.from(artist),
-                performance.getStartDate(),
-                performance.getEndDate(),
-                performance.getRunningTime(),
-                PerformanceHallInfo.from(performanceHall),
-                priceGrades.stream()
-                        .map(PriceGradeInfo::from)
-                        .toList(),
-                performance.getSalesStartTime(),
-                performance.getSalesEndTime(),
-                performance.getBookingNotice(),
-                availableDates,
-                schedules.stream()
-                        .map(PerformanceScheduleResponse::from)
-                        .toList(),
+                snapshot.performanceId(),
+                snapshot.title(),
+                snapshot.posterImageUrl(),
+                snapshot.artist(),
+                snapshot.startDate(),
+                snapshot.endDate(),
+                snapshot.runningTime(),
+                snapshot.performanceHall(),
+                snapshot.priceGrades(),
+                snapshot.salesStartTime(),
+                snapshot.salesEndTime(),
+                snapshot.bookingNotice(),
+                snapshot.availableDates(),
+                snapshot.schedules(),
                 isBookingOpen,
                 secondsUntilOpen
         );
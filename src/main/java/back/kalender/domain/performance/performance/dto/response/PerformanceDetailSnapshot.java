@@ -0,0 +1,74 @@
+package back.kalender.domain.performance.performance.dto.response;
+
+import back.kalender.domain.artist.entity.Artist;
+import back.kalender.domain.performance.performance.entity.Performance;
+import back.kalender.domain.performance.performanceHall.entity.PerformanceHall;
+import back.kalender.domain.performance.priceGrade.entity.PriceGrade;
+import back.kalender.domain.performance.schedule.entity.PerformanceSchedule;
+import back.kalender.global.common.util.ContentVersion;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 공연 상세 캐시용 projection
+ * - 시간에 따라 바뀌는 값(예매 오픈 여부, 오픈까지 남은 시간)은 제외하고 응답 시점에 계산
+ * - version: 내용 해시 (ETag 기준, 내용이 바뀌면 같이 바뀜)
+ */
+public record PerformanceDetailSnapshot(
+        String version,
+        Long performanceId,
+        String title,
+        String posterImageUrl,
+        PerformanceDetailResponse.ArtistInfo artist,
+        LocalDate startDate,
+        LocalDate endDate,
+        Integer runningTime,
+        PerformanceDetailResponse.PerformanceHallInfo performanceHall,
+        List<PerformanceDetailResponse.PriceGradeInfo> priceGrades,
+        LocalDateTime salesStartTime,
+        LocalDateTime salesEndTime,
+        String bookingNotice,
+        List<LocalDate> availableDates,
+        List<PerformanceScheduleResponse> schedules
+) {
+
+    public static PerformanceDetailSnapshot of(
+            Performance performance,
+            PerformanceHall performanceHall,
+            Artist artist,
+            List<PriceGrade> priceGrades,
+            List<LocalDate> availableDates,
+            List<PerformanceSchedule> schedules
+    ) {
+        PerformanceDetailSnapshot unversioned = new PerformanceDetailSnapshot(
+                null,
+                performance.getId(),
+                performance.getTitle(),
+                performance.getPosterImageUrl(),
+                PerformanceDetailResponse.ArtistInfo.from(artist),
+                performance.getStartDate(),
+                performance.getEndDate(),
+                performance.getRunningTime(),
+                PerformanceDetailResponse.PerformanceHallInfo.from(performanceHall),
+                priceGrades.stream()
+                        .map(PerformanceDetailResponse.PriceGradeInfo::from)
+                        .toList(),
+                performance.getSalesStartTime(),
+                performance.getSalesEndTime(),
+                performance.getBookingNotice(),
+                List.copyOf(availableDates),
+                schedules.stream()
+                        .map(PerformanceScheduleResponse::from)
+                        .toList()
+        );
+        return unversioned.withVersion(ContentVersion.of(unversioned.toString()));
+    }
+
+    private PerformanceDetailSnapshot withVersion(String version) {
+        return new PerformanceDetailSnapshot(
+                version, performanceId, title, posterImageUrl, artist, startDate, endDate, runningTime,
+                performanceHall, priceGrades, salesStartTime, salesEndTime, bookingNotice, availableDates, schedules);
+    }
+}
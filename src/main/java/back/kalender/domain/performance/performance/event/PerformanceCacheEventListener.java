@@ -0,0 +1,30 @@
+package back.kalender.domain.performance.performance.event;
+
+import back.kalender.domain.performance.performance.service.PerformanceDetailCache;
+import back.kalender.domain.performance.schedule.service.ScheduleQueryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 공연 캐시 무효화 리스너
+ * - DB 커밋 후 제거 (다른 서버 로컬 캐시는 캐시 무효화 채널로 전파)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PerformanceCacheEventListener {
+
+    private final PerformanceDetailCache performanceDetailCache;
+    private final ScheduleQueryService scheduleQueryService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handlePerformanceChanged(PerformanceChangedEvent event) {
+        performanceDetailCache.evict(event.getPerformanceId());
+        event.getScheduleIds().forEach(scheduleQueryService::evictSchedule);
+
+        log.info("[PerformanceCache] 캐시 무효화 - {}", event);
+    }
+}
@@ -0,0 +1,23 @@
+package back.kalender.domain.performance.performance.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 공연 데이터 변경 이벤트 (공연/공연장/가격 등급/회차/좌석 배치)
+ * - 커밋 후 공연 상세 projection, 회차/좌석 배치 캐시를 제거
+ */
+@Getter
+@RequiredArgsConstructor
+public class PerformanceChangedEvent {
+    private final Long performanceId;
+    private final List<Long> scheduleIds;
+
+    @Override
+    public String toString() {
+        return String.format("PerformanceChangedEvent{performanceId=%d, scheduleIds=%s}",
+                performanceId, scheduleIds);
+    }
+}
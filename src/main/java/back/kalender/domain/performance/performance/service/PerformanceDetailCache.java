@@ -0,0 +1,53 @@
+package back.kalender.domain.performance.performance.service;
+
+import back.kalender.domain.artist.entity.Artist;
+import back.kalender.domain.performance.performance.dto.response.PerformanceDetailSnapshot;
+import back.kalender.domain.performance.performance.entity.Performance;
+import back.kalender.domain.performance.performanceHall.entity.PerformanceHall;
+import back.kalender.domain.performance.priceGrade.entity.PriceGrade;
+import back.kalender.domain.performance.schedule.entity.PerformanceSchedule;
+import back.kalender.domain.performance.schedule.repository.PerformanceScheduleRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 공연 상세 projection 캐시
+ * - 판매 기간 동안 사실상 정적인 데이터 → 공연 단위로 한 번 구성해 2단 캐시에 보관
+ * - 공연 데이터 변경 시 PerformanceChangedEvent → evict
+ */
+@Service
+@RequiredArgsConstructor
+public class PerformanceDetailCache {
+
+    private final PerformanceQueryService performanceQueryService;
+    private final PerformanceScheduleRepository performanceScheduleRepository;
+
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = "performanceDetail", key = "#performanceId")
+    public PerformanceDetailSnapshot get(Long performanceId) {
+        Performance performance = performanceQueryService.getPerformance(performanceId);
+        PerformanceHall performanceHall = performanceQueryService.getPerformanceHall(performance.getPerformanceHallId());
+        Artist artist = performanceQueryService.getArtist(performance.getArtistId());
+        List<PriceGrade> priceGrades = performanceQueryService.getPriceGrades(performanceId);
+
+        // 예매 가능한 날짜 목록 조회
+        List<LocalDate> availableDates = performanceScheduleRepository.findAvailableDatesByPerformanceId(performanceId);
+
+        // 모든 회차 정보 조회
+        List<PerformanceSchedule> schedules = performanceScheduleRepository
+                .findAllByPerformanceIdOrderByPerformanceDateAscStartTimeAsc(performanceId);
+
+        return PerformanceDetailSnapshot.of(performance, performanceHall, artist, priceGrades, availableDates, schedules);
+    }
+
+    // 상세 projection + 공연 단위 캐시 제거
+    @CacheEvict(cacheNames = {"performanceDetail", "performance", "priceGrades"}, key = "#performanceId")
+    public void evict(Long performanceId) {
+    }
+}
@@ -0,0 +1,54 @@
+package back.kalender.domain.performance.performance.service;
+
+import back.kalender.domain.artist.entity.Artist;
+import back.kalender.domain.artist.repository.ArtistRepository;
+import back.kalender.domain.performance.performance.entity.Performance;
+import back.kalender.domain.performance.performance.repository.PerformanceRepository;
+import back.kalender.domain.performance.performanceHall.entity.PerformanceHall;
+import back.kalender.domain.performance.performanceHall.repository.PerformanceHallRepository;
+import back.kalender.domain.performance.priceGrade.entity.PriceGrade;
+import back.kalender.domain.performance.priceGrade.repository.PriceGradeRepository;
+import back.kalender.global.exception.ErrorCode;
+import back.kalender.global.exception.ServiceException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 공연 메타데이터 캐시 조회 (공연 상세, 예매 요약/상세에서 사용)
+ * - 읽기 전용 데이터 → 로컬(L1) + Redis(L2) 2단 캐시
+ */
+@Service
+@RequiredArgsConstructor
+public class PerformanceQueryService {
+
+    private final PerformanceRepository performanceRepository;
+    private final PerformanceHallRepository performanceHallRepository;
+    private final ArtistRepository artistRepository;
+    private final PriceGradeRepository priceGradeRepository;
+
+    @Cacheable(cacheNames = "performance", key = "#performanceId")
+    public Performance getPerformance(Long performanceId) {
+        return performanceRepository.findById(performanceId)
+                .orElseThrow(() -> new ServiceException(ErrorCode.PERFORMANCE_NOT_FOUND));
+    }
+
+    @Cacheable(cacheNames = "performanceHall", key = "#performanceHallId")
+    public PerformanceHall getPerformanceHall(Long performanceHallId) {
+        return performanceHallRepository.findById(performanceHallId)
+                .orElseThrow(() -> new ServiceException(ErrorCode.PERFORMANCE_HALL_NOT_FOUND));
+    }
+
+    @Cacheable(cacheNames = "artist", key = "#artistId")
+    public Artist getArtist(Long artistId) {
+        return artistRepository.findById(artistId)
+                .orElseThrow(() -> new ServiceException(ErrorCode.ARTIST_NOT_FOUND));
+    }
+
+    @Cacheable(cacheNames = "priceGrades", key = "#performanceId")
+    public List<PriceGrade> getPriceGrades(Long performanceId) {
+        return priceGradeRepository.findAllByPerformanceId(performanceId);
+    }
+}
@@ -1,72 +1,36 @@
 package back.kalender.domain.performance.performance.service;
 
 import back.kalender.domain.performance.performance.dto.response.PerformanceDetailResponse;
-import back.kalender.domain.performance.performance.entity.Performance;
-import back.kalender.domain.artist.entity.Artist;
-import back.kalender.domain.artist.repository.ArtistRepository;
-import back.kalender.domain.performance.performanceHall.entity.PerformanceHall;
-import back.kalender.domain.performance.performanceHall.repository.PerformanceHallRepository;
-import back.kalender.domain.performance.schedule.entity.PerformanceSchedule;
-import back.kalender.domain.performance.priceGrade.entity.PriceGrade;
-import back.kalender.domain.performance.performance.repository.PerformanceRepository;
-import back.kalender.domain.performance.schedule.repository.PerformanceScheduleRepository;
-import back.kalender.domain.performance.priceGrade.repository.PriceGradeRepository;
-import back.kalender.global.exception.ErrorCode;
-import back.kalender.global.exception.ServiceException;
+import back.kalender.domain.performance.performance.dto.response.PerformanceDetailSnapshot;
+import back.kalender.global.common.dto.Versioned;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
-import java.util.List;
+import java.time.LocalDateTime;
 
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 @Slf4j
 public class PerformanceService {
-    private final PerformanceRepository performanceRepository;
-    private final PerformanceHallRepository performanceHallRepository;
-    private final ArtistRepository artistRepository;
-    private final PriceGradeRepository priceGradeRepository;
-    private final PerformanceScheduleRepository performanceScheduleRepository;
+    private final PerformanceDetailCache performanceDetailCache;
 
     public PerformanceDetailResponse getPerformanceDetail(Long performanceId) {
-        // 공연 정보 조회
-        Performance performance = performanceRepository.findById(performanceId)
-                .orElseThrow(() -> {
-                    log.error("[Performance] [GetDetail] 공연을 찾을 수 없음 - performanceId={}", performanceId);
-                    return new ServiceException(ErrorCode.PERFORMANCE_NOT_FOUND);
-                });
-
-        // 공연장 정보 조회
-        PerformanceHall performanceHall = performanceHallRepository.findById(performance.getPerformanceHallId())
-                .orElseThrow(() -> {
-                    log.error("[Performance] [GetDetail] 공연장 정보를 찾을 수 없음 - performanceHallId={}",
-                            performance.getPerformanceHallId());
-                    return new ServiceException(ErrorCode.PERFORMANCE_HALL_NOT_FOUND);
-                });
-
-        // 아티스트 정보 조회
-        Artist artist = artistRepository.findById(performance.getArtistId())
-                .orElseThrow(() -> {
-                    log.error("[Performance] [GetDetail] 아티스트 정보를 찾을 수 없음 - artistId={}",
-                            performance.getArtistId());
-                    return new ServiceException(ErrorCode.ARTIST_NOT_FOUND);
-                });
-
-        // 가격 등급 정보 조회
-        List<PriceGrade> priceGrades = priceGradeRepository.findAllByPerformanceId(performanceId);
-
-        // 예매 가능한 날짜 목록 조회
-        List<LocalDate> availableDates = performanceScheduleRepository.findAvailableDatesByPerformanceId(performanceId);
-
-        // 모든 회차 정보 조회
-        List<PerformanceSchedule> schedules = performanceScheduleRepository
-                .findAllByPerformanceIdOrderByPerformanceDateAscStartTimeAsc(performanceId);
+        return getVersionedPerformanceDetail(performanceId).body();
+    }
 
-        // 응답 DTO 생성 및 반환
-        return PerformanceDetailResponse.from(performance, performanceHall, artist, priceGrades, availableDates, schedules);
+    /**
+     * 공연 상세 + ETag
+     * - 본문은 캐시된 projection 기준, 예매 오픈 정보만 요청 시점에 계산
+     * - ETag = projection 버전 + 예매 오픈 상태 (오픈 카운트다운 중에는 남은 초까지 포함)
+     */
+    public Versioned<PerformanceDetailResponse> getVersionedPerformanceDetail(Long performanceId) {
+        PerformanceDetailSnapshot snapshot = performanceDetailCache.get(performanceId);
+        PerformanceDetailResponse response = PerformanceDetailResponse.from(snapshot, LocalDateTime.now());
+
+        String openState = Boolean.TRUE.equals(response.isBookingOpen()) ? "open"
+                : response.secondsUntilOpen() == null ? "closed"
+                : "t" + response.secondsUntilOpen();
+        return new Versioned<>(response, snapshot.version() + "-" + openState);
     }
 }
@@ -1,8 +1,12 @@
 package back.kalender.domain.performance.schedule.service;
 
+import back.kalender.domain.performance.schedule.entity.PerformanceSchedule;
 import back.kalender.domain.performance.schedule.entity.ScheduleStatus;
 import back.kalender.domain.performance.schedule.repository.PerformanceScheduleRepository;
+import back.kalender.global.exception.ErrorCode;
+import back.kalender.global.exception.ServiceException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
@@ -18,4 +22,14 @@ public class ScheduleQueryService {
     public List<Long> getOpenScheduleIds() {
         return scheduleRepository.findScheduleIdsByStatus(ScheduleStatus.AVAILABLE);
     }
+
+    @Cacheable(cacheNames = "schedule", key = "#scheduleId")
+    public PerformanceSchedule getSchedule(Long scheduleId) {
+        return scheduleRepository.findById(scheduleId)
+                .orElseThrow(() -> new ServiceException(ErrorCode.SCHEDULE_NOT_FOUND));
+    }
+
+    @CacheEvict(cacheNames = "schedule", key = "#scheduleId")
+    public void evictSchedule(Long scheduleId) {
+    }
 }
\ No newline at end of file
@@ -0,0 +1,8 @@
+package back.kalender.global.common.dto;
+
+/**
+ * 버전(ETag)이 붙은 응답 본문
+ * - 컨트롤러에서 ResponseEntity.eTag(...)로 내려주면 If-None-Match 일치 시 304 처리
+ */
+public record Versioned<T>(T body, String eTag) {
+}
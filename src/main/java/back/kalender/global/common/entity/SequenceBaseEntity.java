@@ -0,0 +1,31 @@
+package back.kalender.global.common.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 시퀀스 ID 엔티티 공통 (대량 INSERT용)
+ * - IDENTITY는 INSERT마다 키를 받아와야 해서 JDBC 배치가 꺼짐
+ * - 엔티티별 시퀀스({엔티티}_seq, allocationSize 50, pooled)로 ID를 미리 할당해 배치 INSERT
+ */
+@Getter
+@MappedSuperclass
+@EntityListeners(AuditingEntityListener.class)
+public abstract class SequenceBaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
+    private Long id;
+
+    @CreatedDate
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    private LocalDateTime updatedAt;
+}
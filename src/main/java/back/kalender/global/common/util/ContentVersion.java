@@ -0,0 +1,28 @@
+package back.kalender.global.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 내용 기반 버전 (ETag 용)
+ * - 같은 내용이면 어느 서버에서 계산해도 같은 값 → 서버 간 강한 ETag로 사용 가능
+ */
+public final class ContentVersion {
+
+    private static final int LENGTH = 16;
+
+    private ContentVersion() {
+    }
+
+    public static String of(String content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(content.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest).substring(0, LENGTH);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -5,6 +5,7 @@ import back.kalender.domain.booking.performanceSeat.repository.PerformanceSeatRe
 import back.kalender.domain.performance.hallSeat.entity.HallSeat;
 import back.kalender.domain.performance.hallSeat.repository.HallSeatRepository;
 import back.kalender.domain.performance.performance.entity.Performance;
+import back.kalender.domain.performance.performance.event.PerformanceChangedEvent;
 import back.kalender.domain.performance.performance.repository.PerformanceRepository;
 import back.kalender.domain.performance.priceGrade.entity.PriceGrade;
 import back.kalender.domain.performance.priceGrade.repository.PriceGradeRepository;
@@ -13,6 +14,7 @@ import back.kalender.domain.performance.schedule.repository.PerformanceScheduleR
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Profile;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
@@ -33,6 +35,7 @@ public class PerformanceSeatBaseInitData implements ApplicationRunner {
     private final PriceGradeRepository priceGradeRepository;
     private final HallSeatRepository hallSeatRepository;
     private final PerformanceSeatRepository performanceSeatRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -77,6 +80,12 @@ public class PerformanceSeatBaseInitData implements ApplicationRunner {
                     );
                 }
             }
+
+            // 이전 데이터 기준으로 남아 있을 수 있는 공연/좌석 배치 캐시 제거 (커밋 후)
+            eventPublisher.publishEvent(new PerformanceChangedEvent(
+                    performance.getId(),
+                    schedules.stream().map(PerformanceSchedule::getId).toList()
+            ));
         }
 
         System.out.println(" PerformanceSeat 생성 완료");
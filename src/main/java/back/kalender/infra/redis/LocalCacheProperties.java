@@ -0,0 +1,34 @@
+package back.kalender.infra.redis;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 로컬(L1) 캐시 설정
+ * - 캐시별 TTL/최대 크기, 설정이 없는 캐시는 defaults 사용
+ * - L1 TTL은 Redis(L2) TTL보다 짧게 유지 (다른 서버 변경은 pub/sub 무효화 + TTL로 수렴)
+ */
+@Getter
+@ConfigurationProperties(prefix = "custom.cache.local")
+public class LocalCacheProperties {
+
+    private static final Spec FALLBACK = new Spec(Duration.ofSeconds(30), 1000);
+
+    private final Spec defaults;
+    private final Map<String, Spec> caches;
+
+    public LocalCacheProperties(Spec defaults, Map<String, Spec> caches) {
+        this.defaults = defaults == null ? FALLBACK : defaults;
+        this.caches = caches == null ? Map.of() : caches;
+    }
+
+    public Spec specOf(String cacheName) {
+        return caches.getOrDefault(cacheName, defaults);
+    }
+
+    public record Spec(Duration ttl, long maxSize) {
+    }
+}
@@ -1,15 +1,15 @@
 package back.kalender.infra.redis;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.databind.json.JsonMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.RedisSerializer;
 
@@ -20,7 +20,22 @@ import java.time.Duration;
 public class RedisCacheConfig {
 
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory cf) {
+    public TwoLevelCacheManager cacheManager(
+            RedisConnectionFactory cf,
+            StringRedisTemplate stringRedisTemplate,
+            LocalCacheProperties localCacheProperties,
+            MeterRegistry meterRegistry,
+            RedisMessageListenerContainer listenerContainer
+    ) {
+        TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(
+                redisCacheManager(cf), localCacheProperties, stringRedisTemplate, meterRegistry);
+
+        // 다른 서버의 캐시 변경 → 로컬(L1) 캐시 무효화
+        listenerContainer.addMessageListener(cacheManager, new ChannelTopic(TwoLevelCacheManager.INVALIDATION_CHANNEL));
+        return cacheManager;
+    }
+
+    private RedisCacheManager redisCacheManager(RedisConnectionFactory cf) {
 
         RedisCacheConfiguration defaultConfig =
                 RedisCacheConfiguration.defaultCacheConfig()
@@ -40,9 +55,12 @@ public class RedisCacheConfig {
                         .entryTtl(Duration.ofSeconds(10))
                         .disableCachingNullValues();
 
-        return RedisCacheManager.builder(cf)
+        RedisCacheManager cacheManager = RedisCacheManager.builder(cf)
                 .cacheDefaults(defaultConfig)
                 .withCacheConfiguration("openSchedules", openScheduleConfig)
                 .build();
+        // 빈이 아니므로 캐시별 설정(openSchedules TTL) 직접 초기화
+        cacheManager.initializeCaches();
+        return cacheManager;
     }
-}
\ No newline at end of file
+}
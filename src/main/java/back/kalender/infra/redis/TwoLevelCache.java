@@ -0,0 +1,124 @@
+package back.kalender.infra.redis;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+import java.util.function.BiConsumer;
+
+/**
+ * 2단 캐시 (L1: 프로세스 로컬 Caffeine, L2: Redis)
+ *
+ * - 조회: L1 → L2 → (miss) 원본, L2 hit이면 L1에 채움
+ * - 변경(put/evict/clear): L2 반영 후 L1 반영, 다른 서버 L1은 무효화 메시지로 제거
+ * - 키는 문자열로 통일 (무효화 메시지로 전달하기 위함)
+ */
+public class TwoLevelCache implements Cache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, ValueWrapper> local;
+    private final Cache remote;
+    private final BiConsumer<String, String> invalidationPublisher;
+
+    public TwoLevelCache(
+            String name,
+            com.github.benmanes.caffeine.cache.Cache<String, ValueWrapper> local,
+            Cache remote,
+            BiConsumer<String, String> invalidationPublisher
+    ) {
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.invalidationPublisher = invalidationPublisher;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = localKey(key);
+        ValueWrapper cached = local.getIfPresent(localKey);
+        if (cached != null) {
+            return cached;
+        }
+
+        ValueWrapper loaded = remote.get(key);
+        if (loaded != null) {
+            local.put(localKey, loaded);
+        }
+        return loaded;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper == null) {
+            return null;
+        }
+
+        Object value = wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                    "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+
+        T value = remote.get(key, valueLoader);
+        if (value != null) {
+            local.put(localKey(key), new SimpleValueWrapper(value));
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        local.put(localKey(key), new SimpleValueWrapper(value));
+        invalidationPublisher.accept(name, localKey(key));
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        local.invalidate(localKey(key));
+        invalidationPublisher.accept(name, localKey(key));
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.invalidateAll();
+        invalidationPublisher.accept(name, null);
+    }
+
+    // 다른 서버의 무효화 메시지 반영 (L1만 제거)
+    void evictLocal(String key) {
+        if (key == null) {
+            local.invalidateAll();
+        } else {
+            local.invalidate(key);
+        }
+    }
+
+    private static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+}
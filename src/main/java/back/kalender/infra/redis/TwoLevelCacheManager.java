@@ -0,0 +1,110 @@
+package back.kalender.infra.redis;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * RedisCacheManager 앞에 로컬(L1) 캐시를 두는 CacheManager
+ *
+ * - 캐시별 L1 TTL/최대 크기는 LocalCacheProperties
+ * - L1 hit/miss/eviction 지표: cache.gets{cache=..., tier=local} 등 (Caffeine 통계)
+ * - 무효화: put/evict/clear 시 cache:invalidate 채널로 발행, 다른 서버는 수신 후 L1만 제거
+ *   (자기 서버가 보낸 메시지는 nodeId로 무시)
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "cache:invalidate";
+
+    private static final String SEPARATOR = "|";
+    private static final String CLEAR_ALL = "*";
+
+    private final RedisCacheManager remote;
+    private final LocalCacheProperties properties;
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ConcurrentMap<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(
+            RedisCacheManager remote,
+            LocalCacheProperties properties,
+            StringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry
+    ) {
+        this.remote = remote;
+        this.properties = properties;
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        TwoLevelCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+
+        Cache remoteCache = remote.getCache(name);
+        if (remoteCache == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, n -> createCache(n, remoteCache));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remote.getCacheNames();
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 3);
+        if (parts.length < 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+
+        TwoLevelCache cache = caches.get(parts[1]);
+        if (cache != null) {
+            cache.evictLocal(CLEAR_ALL.equals(parts[2]) ? null : parts[2]);
+        }
+    }
+
+    private TwoLevelCache createCache(String name, Cache remoteCache) {
+        LocalCacheProperties.Spec spec = properties.specOf(name);
+        com.github.benmanes.caffeine.cache.Cache<String, Cache.ValueWrapper> local = Caffeine.newBuilder()
+                .expireAfterWrite(spec.ttl())
+                .maximumSize(spec.maxSize())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, local, name, "tier", "local");
+        log.info("[Cache] 2단 캐시 생성 - name={}, localTtl={}, localMaxSize={}", name, spec.ttl(), spec.maxSize());
+
+        return new TwoLevelCache(name, local, remoteCache, this::publishInvalidation);
+    }
+
+    // 발행 실패해도 L2는 이미 반영됨 → 다른 서버 L1은 TTL로 수렴
+    private void publishInvalidation(String cacheName, String key) {
+        String payload = nodeId + SEPARATOR + cacheName + SEPARATOR + (key == null ? CLEAR_ALL : key);
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, payload);
+        } catch (Exception e) {
+            log.warn("[Cache] 무효화 메시지 발행 실패 - cache={}, key={}", cacheName, key, e);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+-- 비활성 예매 세션 선점 (조회 + 제거를 원자적으로 처리 → 서버 간 중복 정리 없음)
+-- KEYS[1] : active:{scheduleId} (ZSET, bookingSessionId -> lastSeenMillis)
+-- ARGV[1] : 기준 시각 (ms, 이 시각 이전에 ping한 세션이 대상)
+-- ARGV[2] : 최대 개수
+--
+-- 반환: 제거한 bookingSessionId 목록
+
+local expired = redis.call('ZRANGEBYSCORE', KEYS[1], 0, ARGV[1], 'LIMIT', 0, tonumber(ARGV[2]))
+if #expired > 0 then
+    redis.call('ZREM', KEYS[1], unpack(expired))
+end
+return expired
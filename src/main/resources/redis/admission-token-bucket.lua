@@ -0,0 +1,41 @@
+-- 회차별 입장 토큰 버킷 (모든 서버가 공유, 충전 시각은 Redis TIME 기준)
+-- KEYS[1] : queue:admission:bucket:{scheduleId} (Hash, tokens / refilledAt)
+-- ARGV[1] : 초당 충전 토큰 수
+-- ARGV[2] : 최대 누적 토큰 (burst)
+-- ARGV[3] : 요청 수 (양수: 최대 요청 수만큼 획득, 음수: 사용하지 않은 토큰 반환)
+-- ARGV[4] : 키 TTL (초)
+--
+-- 반환: 획득한 토큰 수 (반환 요청이면 0)
+
+local rate = tonumber(ARGV[1])
+local burst = tonumber(ARGV[2])
+local requested = tonumber(ARGV[3])
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local state = redis.call('HMGET', KEYS[1], 'tokens', 'refilledAt')
+local tokens = tonumber(state[1])
+local refilledAt = tonumber(state[2])
+
+if tokens == nil or refilledAt == nil then
+    tokens = burst
+    refilledAt = now
+end
+
+if now > refilledAt then
+    tokens = math.min(burst, tokens + (now - refilledAt) / 1000 * rate)
+    refilledAt = now
+end
+
+local granted = 0
+if requested > 0 then
+    granted = math.min(requested, math.floor(tokens))
+    tokens = tokens - granted
+else
+    tokens = math.min(burst, tokens - requested)
+end
+
+redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'refilledAt', tostring(refilledAt))
+redis.call('EXPIRE', KEYS[1], ARGV[4])
+return granted
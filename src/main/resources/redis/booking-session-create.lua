@@ -0,0 +1,51 @@
+-- 예매 세션 생성 (토큰/기기 검증 + 기존 세션 정리 + 세션 기록 + 대기열 정리를 원자적으로 처리)
+-- KEYS[1] : waiting:{token}
+-- KEYS[2] : qsid:{qsid} (deviceId:scheduleId)
+-- KEYS[3] : booking:session:data:{sessionId} (Hash: scheduleId, userId, deviceId)
+-- KEYS[4] : booking:session:{userId}:{scheduleId} (역인덱스 → sessionId)
+-- KEYS[5] : active:{scheduleId} (ZSET)
+-- KEYS[6] : admitted 키 (qsid의 샤드 기준)
+-- KEYS[7] : device:{scheduleId}:{deviceId}
+-- KEYS[8] : (선택) booking:session:data:{기존 sessionId}
+-- ARGV[1] : waiting:{token}에 기대하는 값 (qsid:scheduleId)
+-- ARGV[2] : deviceId
+-- ARGV[3] : 새 sessionId
+-- ARGV[4] : userId
+-- ARGV[5] : scheduleId
+-- ARGV[6] : 세션 TTL (초)
+-- ARGV[7] : 현재 시각 (ms, active score)
+-- ARGV[8] : qsid
+-- ARGV[9] : 기존 sessionId (없으면 빈 문자열)
+--
+-- 반환: 1 성공, 0 토큰 이미 사용/만료, -1 qsid 만료, -2 기기 불일치
+
+if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+    return 0
+end
+
+local qsidValue = redis.call('GET', KEYS[2])
+if not qsidValue then
+    return -1
+end
+
+local separator = string.find(qsidValue, ':', 1, true)
+local originalDeviceId = separator and string.sub(qsidValue, 1, separator - 1) or qsidValue
+if originalDeviceId ~= ARGV[2] then
+    return -2
+end
+
+-- 기존 세션 정리 (재접속 시 무조건 새로 생성)
+if #KEYS >= 8 then
+    redis.call('DEL', KEYS[8])
+    redis.call('ZREM', KEYS[5], ARGV[9])
+end
+
+redis.call('HSET', KEYS[3], 'scheduleId', ARGV[5], 'userId', ARGV[4], 'deviceId', ARGV[2])
+redis.call('EXPIRE', KEYS[3], ARGV[6])
+redis.call('SET', KEYS[4], ARGV[3], 'EX', ARGV[6])
+redis.call('ZADD', KEYS[5], ARGV[7], ARGV[3])
+
+-- 대기열 정리 (waitingToken 소비 + admitted/qsid/device 삭제)
+redis.call('DEL', KEYS[1], KEYS[2], KEYS[7])
+redis.call('HDEL', KEYS[6], ARGV[8])
+return 1
@@ -0,0 +1,27 @@
+-- 예매 세션 일괄 삭제 (Active sweep용)
+-- KEYS[1] : active:{scheduleId}
+-- KEYS[2 .. 2m+1] : 역인덱스를 아는 세션 m개의 (booking:session:data:{id}, booking:session:{userId}:{scheduleId}) 쌍
+-- KEYS[2m+2 ..] : 역인덱스를 모르는 세션의 booking:session:data:{id}
+-- ARGV[1] : m
+-- ARGV[2..] : sessionId (KEYS와 같은 순서)
+--
+-- 반환: 삭제된 세션 Hash 수
+
+local m = tonumber(ARGV[1])
+local deleted = 0
+
+for i = 1, #ARGV - 1 do
+    local sessionId = ARGV[1 + i]
+    redis.call('ZREM', KEYS[1], sessionId)
+
+    if i <= m then
+        deleted = deleted + redis.call('DEL', KEYS[2 * i])
+        -- 역인덱스는 이 세션을 가리킬 때만 삭제
+        if redis.call('GET', KEYS[2 * i + 1]) == sessionId then
+            redis.call('DEL', KEYS[2 * i + 1])
+        end
+    else
+        deleted = deleted + redis.call('DEL', KEYS[1 + m + i])
+    end
+end
+return deleted
@@ -0,0 +1,15 @@
+-- 예매 세션 삭제
+-- KEYS[1] : booking:session:data:{sessionId}
+-- KEYS[2] : active:{scheduleId}
+-- KEYS[3] : (선택) booking:session:{userId}:{scheduleId} - 이 세션을 가리킬 때만 삭제
+-- ARGV[1] : sessionId
+--
+-- 반환: 삭제된 세션 Hash 수 (0 또는 1)
+
+redis.call('ZREM', KEYS[2], ARGV[1])
+local deleted = redis.call('DEL', KEYS[1])
+
+if #KEYS >= 3 and redis.call('GET', KEYS[3]) == ARGV[1] then
+    redis.call('DEL', KEYS[3])
+end
+return deleted
@@ -0,0 +1,10 @@
+-- 토큰 락 해제
+-- KEYS[1] : 락 키
+-- ARGV[1] : 획득 시 저장한 토큰
+--
+-- 반환: 삭제 수 (0이면 이미 만료되어 다른 요청/서버가 잡은 락 → 유지)
+
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('DEL', KEYS[1])
+end
+return 0
@@ -0,0 +1,36 @@
+-- 샤드 대기열 입장 처리 (샤드 하나에서 POP + 토큰 발급 + 입장 기록)
+-- 모든 KEYS는 같은 해시 태그({scheduleId:shard})를 사용 → 클러스터에서 같은 슬롯
+-- 용량 계산은 호출 측에서 회차 단위로 수행 후 샤드별 할당량만큼 토큰 후보를 전달
+-- KEYS[1] : queue:{scheduleId:shard} (ZSET, 샤드 대기열)
+-- KEYS[2] : admitted:{scheduleId:shard} (Hash, qsid -> waitingToken)
+-- KEYS[3] : queue:admitted:total:{scheduleId:shard} (누적 입장 수)
+-- KEYS[4..] : waiting:{token} (미리 생성한 토큰 키, ARGV[4..]와 같은 순서)
+-- ARGV[1] : waitingToken TTL (초)
+-- ARGV[2] : admitted TTL (초)
+-- ARGV[3] : scheduleId
+-- ARGV[4..] : 발급할 waitingToken 후보
+--
+-- 반환: 입장 처리된 인원 수
+
+local n = #KEYS - 3
+if n <= 0 then
+    return 0
+end
+
+local next = redis.call('ZRANGE', KEYS[1], 0, n - 1)
+
+for i = 1, #next do
+    local qsid = next[i]
+    local token = ARGV[3 + i]
+
+    redis.call('SET', KEYS[3 + i], qsid .. ':' .. ARGV[3], 'EX', ARGV[1])
+    redis.call('HSET', KEYS[2], qsid, token)
+    redis.call('ZREM', KEYS[1], qsid)
+end
+
+if #next > 0 then
+    redis.call('EXPIRE', KEYS[2], ARGV[2])
+    redis.call('INCRBY', KEYS[3], #next)
+    redis.call('EXPIRE', KEYS[3], ARGV[2])
+end
+return #next
@@ -0,0 +1,40 @@
+-- 대기열 입장 처리 (용량 계산 + 대기열 POP + 토큰 발급 + 입장 기록을 원자적으로 처리)
+-- KEYS[1] : queue:{scheduleId} (ZSET, 대기열)
+-- KEYS[2] : admitted:{scheduleId} (Hash, qsid -> waitingToken)
+-- KEYS[3] : active:{scheduleId} (ZSET, 예매 세션)
+-- KEYS[4] : queue:admitted:total:{scheduleId} (누적 입장 수, 입장 속도 계산용)
+-- KEYS[5..] : waiting:{token} (미리 생성한 토큰 키, ARGV[5..]와 같은 순서)
+-- ARGV[1] : 최대 동시 인원 (active + admitted)
+-- ARGV[2] : waitingToken TTL (초)
+-- ARGV[3] : admitted TTL (초)
+-- ARGV[4] : scheduleId
+-- ARGV[5..] : 발급할 waitingToken 후보
+--
+-- 반환: 입장 처리된 인원 수
+
+local inFlight = redis.call('ZCARD', KEYS[3]) + redis.call('HLEN', KEYS[2])
+local available = tonumber(ARGV[1]) - inFlight
+local tokenCount = #KEYS - 4
+
+if available <= 0 or tokenCount <= 0 then
+    return 0
+end
+
+local n = math.min(available, tokenCount)
+local next = redis.call('ZRANGE', KEYS[1], 0, n - 1)
+
+for i = 1, #next do
+    local qsid = next[i]
+    local token = ARGV[4 + i]
+
+    redis.call('SET', KEYS[4 + i], qsid .. ':' .. ARGV[4], 'EX', ARGV[2])
+    redis.call('HSET', KEYS[2], qsid, token)
+    redis.call('ZREM', KEYS[1], qsid)
+end
+
+if #next > 0 then
+    redis.call('EXPIRE', KEYS[2], ARGV[3])
+    redis.call('INCRBY', KEYS[4], #next)
+    redis.call('EXPIRE', KEYS[4], ARGV[3])
+end
+return #next
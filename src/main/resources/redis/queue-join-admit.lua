@@ -0,0 +1,28 @@
+-- 대기열 진입 시 즉시 입장 (용량 확인 + 대기자 없음 확인 + 토큰 발급 + 입장 기록을 원자적으로 처리)
+-- 여러 서버에서 동시에 진입해도 maxActive를 넘기지 않고, 대기 중인 사람보다 먼저 입장시키지 않음
+-- KEYS[1] : queue:{scheduleId} (ZSET, 대기열)
+-- KEYS[2] : admitted:{scheduleId} (Hash, qsid -> waitingToken)
+-- KEYS[3] : active:{scheduleId} (ZSET, 예매 세션)
+-- KEYS[4] : waiting:{token} (발급할 토큰 키)
+-- ARGV[1] : 최대 동시 인원 (active + admitted)
+-- ARGV[2] : waitingToken TTL (초)
+-- ARGV[3] : admitted TTL (초)
+-- ARGV[4] : scheduleId
+-- ARGV[5] : 새 qsid
+-- ARGV[6] : 발급할 waitingToken
+--
+-- 반환: 1 = 즉시 입장, 0 = 대기열로
+
+if redis.call('ZCARD', KEYS[1]) > 0 then
+    return 0
+end
+
+local inFlight = redis.call('ZCARD', KEYS[3]) + redis.call('HLEN', KEYS[2])
+if inFlight >= tonumber(ARGV[1]) then
+    return 0
+end
+
+redis.call('SET', KEYS[4], ARGV[5] .. ':' .. ARGV[4], 'EX', ARGV[2])
+redis.call('HSET', KEYS[2], ARGV[5], ARGV[6])
+redis.call('EXPIRE', KEYS[2], ARGV[3])
+return 1
@@ -0,0 +1,22 @@
+-- 만료 도래 예매 선점 (여러 서버가 동시에 호출해도 같은 예매를 중복 처리하지 않음)
+-- KEYS[1] : reservation:expiry (ZSET, member = reservationId, score = 만료 시각 epoch ms)
+-- ARGV[1] : 현재 시각 (epoch ms)
+-- ARGV[2] : 최대 선점 개수
+-- ARGV[3] : 처리 리스 (ms) - 처리 완료 전 서버가 죽으면 리스 이후 다시 선점됨
+--
+-- 반환: {다음 만료 시각 또는 -1, reservationId, reservationId, ...}
+
+local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[2]))
+local leaseUntil = tonumber(ARGV[1]) + tonumber(ARGV[3])
+
+for i = 1, #due do
+    redis.call('ZADD', KEYS[1], leaseUntil, due[i])
+end
+
+local head = redis.call('ZRANGE', KEYS[1], 0, 0, 'WITHSCORES')
+local result = { head[2] or '-1' }
+
+for i = 1, #due do
+    result[i + 1] = due[i]
+end
+return result
@@ -0,0 +1,12 @@
+-- 선점한 만료 항목 제거
+-- KEYS[1] : reservation:expiry (ZSET)
+-- ARGV[1] : reservationId
+-- ARGV[2] : 선점 시 설정된 리스 시각 (epoch ms)
+--
+-- 반환: 제거 수 (0이면 처리 중 재HOLD로 새 만료 시각이 등록된 것 → 유지)
+
+local score = redis.call('ZSCORE', KEYS[1], ARGV[1])
+if score and tonumber(score) == tonumber(ARGV[2]) then
+    return redis.call('ZREM', KEYS[1], ARGV[1])
+end
+return 0
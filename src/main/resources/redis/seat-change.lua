@@ -0,0 +1,20 @@
+-- 좌석 변경 로그 단건 기록 (버전 INCR + Stream XADD 원자 처리)
+-- KEYS[1] : seat:version:{scheduleId}
+-- KEYS[2] : seat:changes:{scheduleId} (변경 로그 Stream)
+-- ARGV[1] : 변경 로그 최대 길이 (MAXLEN ~)
+-- ARGV[2] : 변경 로그 TTL (초)
+-- ARGV[3] : seatId
+-- ARGV[4] : status (SeatStatus.ordinal)
+-- ARGV[5] : userId (없으면 0)
+-- ARGV[6] : 변경 시각 (epoch ms)
+--
+-- 엔트리 값: r = seatId(8) | status(1) | userId(8) | version(8) | epochMillis(8) (SeatChangeRecord)
+-- 반환: 기록된 버전
+
+local version = redis.call('INCR', KEYS[1])
+redis.call('XADD', KEYS[2], 'MAXLEN', '~', ARGV[1], version .. '-0',
+        'r', struct.pack('>i8Bi8i8i8',
+                tonumber(ARGV[3]), tonumber(ARGV[4]), tonumber(ARGV[5]), version, tonumber(ARGV[6])))
+redis.call('EXPIRE', KEYS[2], ARGV[2])
+
+return version
@@ -0,0 +1,55 @@
+-- 좌석 일괄 HOLD (all-or-nothing)
+-- KEYS[1]    : seat:sold:{scheduleId}
+-- KEYS[2]    : seat:version:{scheduleId}
+-- KEYS[3]    : seat:hold:index:{scheduleId} (ZSET, score = HOLD 만료 시각 ms)
+-- KEYS[4]    : seat:changes:{scheduleId} (변경 로그 Stream)
+-- KEYS[5..n] : seat:hold:owner:{scheduleId}:{seatId}
+-- ARGV[1]    : userId
+-- ARGV[2]    : HOLD TTL (초)
+-- ARGV[3]    : 변경 로그 최대 길이 (MAXLEN ~)
+-- ARGV[4]    : 변경 로그 TTL (초)
+-- ARGV[5]    : 변경 시각 (epoch ms)
+-- ARGV[6]    : HOLD 만료 시각 (epoch ms, 인덱스 score)
+-- ARGV[7..]  : seatId (KEYS[5..] 와 같은 순서)
+--
+-- 변경 로그 엔트리: r = SeatChangeRecord (status 1 = HOLD)
+-- 반환: {"OK"} 또는 {"CONFLICT", seatId, reason, seatId, reason, ...}
+
+local userId = ARGV[1]
+local HOLD = 1
+local conflicts = {}
+
+for i = 5, #KEYS do
+    local seatId = ARGV[i + 2]
+    if redis.call('SISMEMBER', KEYS[1], seatId) == 1 then
+        table.insert(conflicts, seatId)
+        table.insert(conflicts, 'ALREADY_SOLD')
+    elseif redis.call('EXISTS', KEYS[i]) == 1 then
+        table.insert(conflicts, seatId)
+        table.insert(conflicts, 'ALREADY_HELD')
+    end
+end
+
+if #conflicts > 0 then
+    table.insert(conflicts, 1, 'CONFLICT')
+    return conflicts
+end
+
+for i = 5, #KEYS do
+    local seatId = ARGV[i + 2]
+    redis.call('SET', KEYS[i], userId, 'EX', ARGV[2])
+    redis.call('ZADD', KEYS[3], ARGV[6], seatId)
+
+    -- 버전을 Stream 엔트리 ID로 사용 (version-0)
+    local version = redis.call('INCR', KEYS[2])
+    redis.call('XADD', KEYS[4], 'MAXLEN', '~', ARGV[3], version .. '-0',
+            'r', struct.pack('>i8Bi8i8i8',
+                    tonumber(seatId), HOLD, tonumber(userId), version, tonumber(ARGV[5])))
+end
+
+redis.call('EXPIRE', KEYS[4], ARGV[4])
+
+-- 인덱스 자체 만료 (마지막 HOLD 만료 이후 정리)
+redis.call('PEXPIREAT', KEYS[3], ARGV[6])
+
+return {'OK'}
@@ -0,0 +1,42 @@
+-- 좌석 일괄 HOLD 해제 (소유자 일치 시에만 삭제)
+-- owner 키가 이미 없는 좌석(TTL 만료)은 인덱스 정리 + AVAILABLE 변경 로그만 기록
+-- 다른 사용자가 선점한 좌석은 건드리지 않음 (DB 커밋 후 실행되는 사이 재선점된 경우 포함)
+-- KEYS[1]    : seat:version:{scheduleId}
+-- KEYS[2]    : seat:hold:index:{scheduleId} (ZSET, score = HOLD 만료 시각 ms)
+-- KEYS[3]    : seat:changes:{scheduleId} (변경 로그 Stream)
+-- KEYS[4..n] : seat:hold:owner:{scheduleId}:{seatId}
+-- ARGV[1]    : userId
+-- ARGV[2]    : 변경 로그 최대 길이 (MAXLEN ~)
+-- ARGV[3]    : 변경 로그 TTL (초)
+-- ARGV[4]    : 변경 시각 (epoch ms)
+-- ARGV[5..]  : seatId (KEYS[4..] 와 같은 순서)
+--
+-- 변경 로그 엔트리: r = SeatChangeRecord (status 0 = AVAILABLE)
+-- 반환: 해제된 좌석 수
+
+local userId = ARGV[1]
+local AVAILABLE = 0
+local released = 0
+
+for i = 4, #KEYS do
+    local seatId = ARGV[i + 1]
+    local owner = redis.call('GET', KEYS[i])
+    if owner == userId or not owner then
+        if owner then
+            redis.call('DEL', KEYS[i])
+        end
+        redis.call('ZREM', KEYS[2], seatId)
+        released = released + 1
+
+        local version = redis.call('INCR', KEYS[1])
+        redis.call('XADD', KEYS[3], 'MAXLEN', '~', ARGV[2], version .. '-0',
+                'r', struct.pack('>i8Bi8i8i8',
+                        tonumber(seatId), AVAILABLE, tonumber(userId), version, tonumber(ARGV[4])))
+    end
+end
+
+if released > 0 then
+    redis.call('EXPIRE', KEYS[3], ARGV[3])
+end
+
+return released
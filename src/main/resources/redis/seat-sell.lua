@@ -0,0 +1,46 @@
+-- 좌석 일괄 SOLD 반영 (결제 DB 커밋 후 실행)
+-- KEYS[1]    : seat:sold:{scheduleId}
+-- KEYS[2]    : seat:version:{scheduleId}
+-- KEYS[3]    : seat:hold:index:{scheduleId} (ZSET, score = HOLD 만료 시각 ms)
+-- KEYS[4]    : seat:changes:{scheduleId} (변경 로그 Stream)
+-- KEYS[5..n] : seat:hold:owner:{scheduleId}:{seatId}
+-- ARGV[1]    : userId (구매자)
+-- ARGV[2]    : 변경 로그 최대 길이 (MAXLEN ~)
+-- ARGV[3]    : 변경 로그 TTL (초)
+-- ARGV[4]    : 변경 시각 (epoch ms)
+-- ARGV[5..]  : seatId (KEYS[5..] 와 같은 순서)
+--
+-- DB에서 이미 SOLD로 커밋된 좌석이므로 SOLD set 추가 + 변경 로그는 항상 기록
+-- owner/인덱스는 구매자 소유(또는 이미 없음)일 때만 제거
+-- (다른 사용자가 Redis에서 먼저 선점한 경우 그 사용자의 DB HOLD가 실패하고 롤백 보상에서 정리됨)
+-- 변경 로그 엔트리: r = SeatChangeRecord (status 2 = SOLD)
+-- 반환: 처리된 좌석 수
+
+local userId = ARGV[1]
+local SOLD = 2
+local sold = 0
+
+for i = 5, #KEYS do
+    local seatId = ARGV[i + 1]
+    redis.call('SADD', KEYS[1], seatId)
+
+    local owner = redis.call('GET', KEYS[i])
+    if owner == userId or not owner then
+        if owner then
+            redis.call('DEL', KEYS[i])
+        end
+        redis.call('ZREM', KEYS[3], seatId)
+    end
+    sold = sold + 1
+
+    local version = redis.call('INCR', KEYS[2])
+    redis.call('XADD', KEYS[4], 'MAXLEN', '~', ARGV[2], version .. '-0',
+            'r', struct.pack('>i8Bi8i8i8',
+                    tonumber(seatId), SOLD, tonumber(userId), version, tonumber(ARGV[4])))
+end
+
+if sold > 0 then
+    redis.call('EXPIRE', KEYS[4], ARGV[3])
+end
+
+return sold
@@ -0,0 +1,79 @@
+package back.kalender.domain.booking.performanceSeat.scheduler;
+
+import back.kalender.domain.booking.reservation.service.ReservationExpiryQueue;
+import back.kalender.domain.booking.reservation.service.ReservationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SeatHoldExpiryEngine 단위 테스트")
+class SeatHoldExpiryEngineTest {
+
+    @Mock
+    private ReservationExpiryQueue expiryQueue;
+
+    @Mock
+    private ReservationService reservationService;
+
+    private SeatHoldExpiryEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new SeatHoldExpiryEngine(expiryQueue, reservationService);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        engine.shutdown();
+    }
+
+    @Test
+    @DisplayName("선점한 예매마다 만료 처리 후 선점 리스 시각 기준으로 큐에서 제거")
+    void dispatch_ExpiresClaimedReservations() {
+        given(expiryQueue.claimDue(anyLong(), anyInt(), anyLong()))
+                .willReturn(new ReservationExpiryQueue.Claimed(List.of(1L, 2L), Long.MAX_VALUE, 5_000L));
+
+        engine.dispatch();
+
+        verify(reservationService, timeout(1_000)).expireIfDue(1L);
+        verify(reservationService, timeout(1_000)).expireIfDue(2L);
+        verify(expiryQueue, timeout(1_000)).removeIfClaimed(1L, 5_000L);
+        verify(expiryQueue, timeout(1_000)).removeIfClaimed(2L, 5_000L);
+    }
+
+    @Test
+    @DisplayName("처리 실패 시 큐에 남겨 리스 이후 재시도")
+    void dispatch_FailureKeepsReservationQueued() {
+        given(expiryQueue.claimDue(anyLong(), anyInt(), anyLong()))
+                .willReturn(new ReservationExpiryQueue.Claimed(List.of(1L), Long.MAX_VALUE, 5_000L));
+        doThrow(new RuntimeException("DB down")).when(reservationService).expireIfDue(1L);
+
+        engine.dispatch();
+
+        verify(reservationService, timeout(1_000)).expireIfDue(1L);
+        verify(expiryQueue, after(200).never()).removeIfClaimed(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("다음 만료 시각 전에는 Redis를 다시 조회하지 않음")
+    void dispatch_SkipsUntilNextDeadline() {
+        given(expiryQueue.claimDue(anyLong(), anyInt(), anyLong()))
+                .willReturn(new ReservationExpiryQueue.Claimed(List.of(), System.currentTimeMillis() + 60_000, 5_000L));
+
+        engine.dispatch();
+        engine.dispatch();
+
+        verify(expiryQueue, times(1)).claimDue(anyLong(), anyInt(), anyLong());
+    }
+}
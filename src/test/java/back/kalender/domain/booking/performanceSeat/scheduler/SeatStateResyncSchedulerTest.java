@@ -0,0 +1,82 @@
+package back.kalender.domain.booking.performanceSeat.scheduler;
+
+import back.kalender.domain.booking.performanceSeat.service.SeatStateStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SeatStateResyncScheduler 단위 테스트")
+class SeatStateResyncSchedulerTest {
+
+    @InjectMocks
+    private SeatStateResyncScheduler scheduler;
+
+    @Mock
+    private SeatStateStore seatStateStore;
+
+    @Mock
+    private StringRedisTemplate redis;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(redis.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("변경 로그로 따라잡은 회차는 DB 재동기화하지 않음")
+    void resync_CaughtUp_SkipsDb() {
+        when(seatStateStore.loadedScheduleIds()).thenReturn(Set.of(1L));
+        when(seatStateStore.catchUp(1L)).thenReturn(true);
+
+        scheduler.resync();
+
+        verify(seatStateStore, never()).resync(anyLong());
+        verifyNoInteractions(valueOperations);
+    }
+
+    @Test
+    @DisplayName("로그 보존 구간 밖이면 락을 잡고 DB 재동기화 후 토큰으로 해제")
+    @SuppressWarnings("unchecked")
+    void resync_OutsideLog_ResyncsUnderLock() {
+        when(seatStateStore.loadedScheduleIds()).thenReturn(Set.of(1L));
+        when(seatStateStore.catchUp(1L)).thenReturn(false);
+        when(valueOperations.setIfAbsent(eq("seat:state:resync:lock:1"), anyString(), any(Duration.class)))
+                .thenReturn(true);
+
+        scheduler.resync();
+
+        verify(seatStateStore).resync(1L);
+        verify(redis).execute(any(RedisScript.class), eq(List.of("seat:state:resync:lock:1")), anyString());
+    }
+
+    @Test
+    @DisplayName("다른 서버가 DB 재동기화 중이면 건너뜀")
+    void resync_LockHeldElsewhere_Skips() {
+        when(seatStateStore.loadedScheduleIds()).thenReturn(Set.of(1L));
+        when(seatStateStore.catchUp(1L)).thenReturn(false);
+        when(valueOperations.setIfAbsent(eq("seat:state:resync:lock:1"), anyString(), any(Duration.class)))
+                .thenReturn(false);
+
+        scheduler.resync();
+
+        verify(seatStateStore, never()).resync(anyLong());
+    }
+}
@@ -0,0 +1,138 @@
+package back.kalender.domain.booking.performanceSeat.service;
+
+import back.kalender.domain.booking.performanceSeat.dto.BlockSummaryResponse;
+import back.kalender.domain.booking.performanceSeat.dto.SeatDetailResponse;
+import back.kalender.domain.booking.performanceSeat.dto.SubBlockSummaryResponse;
+import back.kalender.domain.booking.performanceSeat.entity.PerformanceSeat;
+import back.kalender.domain.booking.performanceSeat.entity.SeatStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ScheduleSeatState 단위 테스트")
+class ScheduleSeatStateTest {
+
+    private static final Long SCHEDULE_ID = 1L;
+
+    private ScheduleSeatState state;
+
+    @BeforeEach
+    void setUp() {
+        state = ScheduleSeatState.of(SCHEDULE_ID, List.of(
+                seat(103L, 1, "A", "A-1", 1, 2, SeatStatus.AVAILABLE),
+                seat(101L, 1, "A", "A-1", 1, 1, SeatStatus.AVAILABLE),
+                seat(102L, 1, "A", "A-2", 1, 1, SeatStatus.SOLD),
+                seat(201L, 2, "B", "B-1", 1, 1, SeatStatus.HOLD)
+        ));
+    }
+
+    @Test
+    @DisplayName("로딩 시 블록별 전체/가용 좌석 수 집계")
+    void blockSummaries_CountedOnLoad() {
+        List<BlockSummaryResponse> summaries = state.toBlockSummaries();
+
+        assertThat(summaries).hasSize(2);
+        assertThat(summaries.get(0).getBlock()).isEqualTo("A");
+        assertThat(summaries.get(0).getTotalSeats()).isEqualTo(3);
+        assertThat(summaries.get(0).getAvailableSeats()).isEqualTo(2);
+        assertThat(summaries.get(1).getBlock()).isEqualTo("B");
+        assertThat(summaries.get(1).getAvailableSeats()).isZero();
+    }
+
+    @Test
+    @DisplayName("상태 변경 시 좌석 상태와 블록/서브블록 카운트 함께 갱신")
+    void apply_UpdatesStatusAndCounts() {
+        assertThat(state.apply(101L, SeatStatus.HOLD)).isTrue();
+
+        assertThat(state.statusOf(101L)).isEqualTo(SeatStatus.HOLD);
+        assertThat(state.toBlockSummaries().get(0).getAvailableSeats()).isEqualTo(1);
+
+        List<SubBlockSummaryResponse> subBlocks = state.toSubBlockSummaries("A");
+        assertThat(subBlocks).extracting(SubBlockSummaryResponse::getSubBlock)
+                .containsExactly("A-1", "A-2");
+        assertThat(subBlocks.get(0).getAvailable()).isEqualTo(1);
+
+        // HOLD → SOLD 는 가용 수 변화 없음
+        assertThat(state.apply(101L, SeatStatus.SOLD)).isTrue();
+        assertThat(state.toBlockSummaries().get(0).getAvailableSeats()).isEqualTo(1);
+
+        // SOLD → AVAILABLE 복구
+        assertThat(state.apply(101L, SeatStatus.AVAILABLE)).isTrue();
+        assertThat(state.toBlockSummaries().get(0).getAvailableSeats()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("동일 상태 또는 없는 좌석은 무시")
+    void apply_IgnoresNoopAndUnknownSeat() {
+        assertThat(state.apply(102L, SeatStatus.SOLD)).isFalse();
+        assertThat(state.apply(999L, SeatStatus.HOLD)).isFalse();
+        assertThat(state.statusOf(999L)).isNull();
+    }
+
+    @Test
+    @DisplayName("카운트 drift 발생 시 상태 배열 기준으로 재계산")
+    void recountAvailable_FixesDrift() {
+        assertThat(state.recountAvailable()).isZero();
+
+        int[] blockAvailable = (int[]) ReflectionTestUtils.getField(state, "blockAvailable");
+        blockAvailable[0] = 99;
+
+        assertThat(state.recountAvailable()).isEqualTo(1);
+        assertThat(state.toBlockSummaries().get(0).getAvailableSeats()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("좌석 상세는 열/번호 순으로 정렬")
+    void seatDetails_SortedByRowAndNumber() {
+        List<SeatDetailResponse> details = state.toSeatDetails("A", "A-1");
+
+        assertThat(details).extracting(SeatDetailResponse::getSeatId)
+                .containsExactly(101L, 103L);
+        assertThat(state.toSeatDetails("A", "없음")).isEmpty();
+        assertThat(state.toSeatDetails("Z", "A-1")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("전체 좌석 응답은 현재 상태 반영")
+    void seatResponses_ReflectCurrentStatus() {
+        state.apply(201L, SeatStatus.AVAILABLE);
+
+        assertThat(state.toSeatResponses())
+                .hasSize(4)
+                .filteredOn(r -> r.getPerformanceSeatId().equals(201L))
+                .extracting(r -> r.getStatus())
+                .containsExactly("AVAILABLE");
+    }
+
+    @Test
+    @DisplayName("상태 벡터는 좌석 id 순서로 좌석당 2비트 인코딩, 변경 시에만 버전 증가")
+    void statusVector_PacksTwoBitsPerSeatInIdOrder() {
+        ScheduleSeatState.StatusVector first = state.toStatusVector();
+
+        // id 순서: 101(AVAILABLE=0), 102(SOLD=2), 103(AVAILABLE=0), 201(HOLD=1)
+        byte[] packed = java.util.Base64.getDecoder().decode(first.data());
+        assertThat(first.seatCount()).isEqualTo(4);
+        assertThat(packed).containsExactly((byte) (0 | 2 << 2 | 0 << 4 | 1 << 6));
+        assertThat(state.toStatusVector()).isSameAs(first);
+
+        state.apply(101L, SeatStatus.SOLD);
+        ScheduleSeatState.StatusVector changed = state.toStatusVector();
+
+        assertThat(changed.version()).isNotEqualTo(first.version());
+        assertThat(java.util.Base64.getDecoder().decode(changed.data())[0] & 0b11).isEqualTo(2);
+    }
+
+    private PerformanceSeat seat(Long id, int floor, String block, String subBlock,
+                                 int row, int number, SeatStatus status) {
+        PerformanceSeat seat = PerformanceSeat.create(
+                SCHEDULE_ID, id, 1L, floor, block, subBlock, row, number, 0, 0);
+        ReflectionTestUtils.setField(seat, "id", id);
+        seat.updateStatus(status);
+        return seat;
+    }
+}
@@ -14,20 +14,21 @@ import back.kalender.domain.booking.reservation.mapper.ReservationMapper;
 import back.kalender.domain.booking.reservation.repository.ReservationRepository;
 import back.kalender.domain.booking.reservationSeat.entity.ReservationSeat;
 import back.kalender.domain.booking.reservationSeat.repository.ReservationSeatRepository;
+import back.kalender.domain.booking.seatHold.service.SeatChangeLog;
 import back.kalender.domain.booking.seatHold.service.SeatHoldService;
 import back.kalender.domain.booking.session.service.BookingSessionService;
 import back.kalender.domain.performance.performance.entity.Performance;
 import back.kalender.domain.performance.performance.repository.PerformanceRepository;
+import back.kalender.domain.performance.performance.service.PerformanceQueryService;
 import back.kalender.domain.performance.performanceHall.entity.PerformanceHall;
 import back.kalender.domain.performance.performanceHall.repository.PerformanceHallRepository;
 import back.kalender.domain.performance.priceGrade.entity.PriceGrade;
-import back.kalender.domain.performance.priceGrade.repository.PriceGradeRepository;
 import back.kalender.domain.performance.schedule.entity.PerformanceSchedule;
 import back.kalender.domain.performance.schedule.entity.ScheduleStatus;
 import back.kalender.domain.performance.schedule.repository.PerformanceScheduleRepository;
+import back.kalender.domain.performance.schedule.service.ScheduleQueryService;
 import back.kalender.global.exception.ErrorCode;
 import back.kalender.global.exception.ServiceException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
@@ -64,11 +65,12 @@ public class ReservationServiceTest {
     @Mock private PerformanceRepository performanceRepository;
     @Mock private PerformanceHallRepository hallRepository;
     @Mock private PerformanceSeatRepository performanceSeatRepository;
-    @Mock private PriceGradeRepository priceGradeRepository;
+    @Mock private ScheduleQueryService scheduleQueryService;
+    @Mock private PerformanceQueryService performanceQueryService;
     @Mock private SeatHoldService seatHoldService;
     @Mock private BookingSessionService bookingSessionService;
     @Mock private RedisTemplate<String, String> redisTemplate;
-    @Mock private ObjectMapper objectMapper;
+    @Mock private SeatChangeLog seatChangeLog;
 
     private Reservation reservation;
     private PerformanceSchedule schedule;
@@ -143,17 +145,17 @@ public class ReservationServiceTest {
     void getReservationSummary_success() {
         given(reservationRepository.findById(RESERVATION_ID))
                 .willReturn(Optional.of(reservation));
-        given(scheduleRepository.findById(SCHEDULE_ID))
-                .willReturn(Optional.of(schedule));
-        given(performanceRepository.findById(PERFORMANCE_ID))
-                .willReturn(Optional.of(performance));
-        given(hallRepository.findById(HALL_ID))
-                .willReturn(Optional.of(hall));
+        given(scheduleQueryService.getSchedule(SCHEDULE_ID))
+                .willReturn(schedule);
+        given(performanceQueryService.getPerformance(PERFORMANCE_ID))
+                .willReturn(performance);
+        given(performanceQueryService.getPerformanceHall(HALL_ID))
+                .willReturn(hall);
         given(reservationSeatRepository.findByReservationId(RESERVATION_ID))
                 .willReturn(List.of(reservationSeat));
         given(performanceSeatRepository.findAllById(anyList()))
                 .willReturn(List.of(performanceSeat));
-        given(priceGradeRepository.findAllById(anySet()))
+        given(performanceQueryService.getPriceGrades(PERFORMANCE_ID))
                 .willReturn(List.of(priceGrade));
 
         ReservationSummaryResponse response =
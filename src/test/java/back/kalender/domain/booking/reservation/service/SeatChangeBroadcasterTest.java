@@ -0,0 +1,139 @@
+package back.kalender.domain.booking.reservation.service;
+
+import back.kalender.domain.booking.performanceSeat.entity.SeatStatus;
+import back.kalender.domain.booking.reservation.dto.response.SeatChangesPushMessage;
+import back.kalender.domain.booking.reservation.dto.response.SeatChangesResponse;
+import back.kalender.domain.booking.seatHold.service.SeatChangeLog;
+import back.kalender.domain.booking.seatHold.service.SeatChangeRecord;
+import back.kalender.domain.booking.seatHold.service.SeatChanges;
+import back.kalender.domain.booking.seatHold.service.SeatHoldService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SeatChangeBroadcaster 단위 테스트")
+class SeatChangeBroadcasterTest {
+
+    @Mock
+    private SeatHoldService seatHoldService;
+
+    @Mock
+    private ReservationService reservationService;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Mock
+    private SeatChangeLog seatChangeLog;
+
+    @InjectMocks
+    private SeatChangeBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(reservationService.mapToSeatChangeEvent(any(SeatChangeRecord.class))).thenAnswer(inv -> {
+            SeatChangeRecord record = inv.getArgument(0);
+            return new SeatChangesResponse.SeatChangeEvent(
+                    record.seatId(),
+                    record.status().name(),
+                    record.userId(),
+                    record.version(),
+                    "t"
+            );
+        });
+    }
+
+    @Test
+    @DisplayName("구독 회차의 변경을 좌석별 마지막 상태로 묶어서 전송")
+    void broadcast_CoalescesBySeat() {
+        when(seatChangeLog.currentVersion(1L)).thenReturn(10L);
+        broadcaster.handleSubscribe(new SessionSubscribeEvent(this, stompMessage(SimpMessageType.SUBSCRIBE)));
+
+        when(seatHoldService.getSeatChangesForPush(1L, 10L)).thenReturn(SeatChanges.of(10L, List.of(
+                new SeatChangeRecord(101L, SeatStatus.HOLD, 7L, 11L, 0L),
+                new SeatChangeRecord(102L, SeatStatus.HOLD, 7L, 12L, 0L),
+                new SeatChangeRecord(101L, SeatStatus.AVAILABLE, 7L, 13L, 0L)
+        )));
+        when(seatHoldService.getSeatChangesForPush(1L, 13L)).thenReturn(SeatChanges.none(13L));
+
+        broadcaster.broadcast();
+
+        ArgumentCaptor<SeatChangesPushMessage> captor = ArgumentCaptor.forClass(SeatChangesPushMessage.class);
+        verify(messagingTemplate).convertAndSend(eq("/topic/seat-changes/1"), captor.capture());
+
+        SeatChangesPushMessage message = captor.getValue();
+        assertThat(message.fromVersion()).isEqualTo(10L);
+        assertThat(message.currentVersion()).isEqualTo(13L);
+        assertThat(message.changes())
+                .extracting(SeatChangesResponse.SeatChangeEvent::seatId, SeatChangesResponse.SeatChangeEvent::status)
+                .containsExactly(
+                        tuple(102L, "HOLD"),
+                        tuple(101L, "AVAILABLE")
+                );
+
+        // 다음 주기는 마지막 전송 버전부터 조회
+        broadcaster.broadcast();
+        verify(seatHoldService).getSeatChangesForPush(1L, 13L);
+    }
+
+    @Test
+    @DisplayName("구독 해제 후에는 조회/전송하지 않음")
+    void broadcast_SkipsAfterUnsubscribe() {
+        broadcaster.handleSubscribe(new SessionSubscribeEvent(this, stompMessage(SimpMessageType.SUBSCRIBE)));
+        broadcaster.handleUnsubscribe(new SessionUnsubscribeEvent(this, stompMessage(SimpMessageType.UNSUBSCRIBE)));
+
+        broadcaster.broadcast();
+
+        verifyNoInteractions(seatHoldService);
+        verifyNoInteractions(messagingTemplate);
+    }
+
+    @Test
+    @DisplayName("다른 구독이 남아 있으면 일부 해제 후에도 계속 전송")
+    void broadcast_ContinuesWhileOtherSubscriberRemains() {
+        when(seatChangeLog.currentVersion(1L)).thenReturn(10L);
+        broadcaster.handleSubscribe(new SessionSubscribeEvent(this, stompMessage(SimpMessageType.SUBSCRIBE, "session-1")));
+        broadcaster.handleSubscribe(new SessionSubscribeEvent(this, stompMessage(SimpMessageType.SUBSCRIBE, "session-2")));
+        broadcaster.handleUnsubscribe(new SessionUnsubscribeEvent(this, stompMessage(SimpMessageType.UNSUBSCRIBE, "session-1")));
+
+        when(seatHoldService.getSeatChangesForPush(1L, 10L)).thenReturn(SeatChanges.none(10L));
+
+        broadcaster.broadcast();
+
+        verify(seatHoldService).getSeatChangesForPush(1L, 10L);
+        // 첫 구독 시점에만 현재 버전을 조회
+        verify(seatChangeLog, times(1)).currentVersion(1L);
+    }
+
+    private Message<byte[]> stompMessage(SimpMessageType type) {
+        return stompMessage(type, "session-1");
+    }
+
+    private Message<byte[]> stompMessage(SimpMessageType type, String sessionId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(type);
+        accessor.setDestination("/topic/seat-changes/1");
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId("sub-1");
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -2,23 +2,16 @@ package back.kalender.domain.booking.seatHold.event;
 
 
 import back.kalender.domain.booking.performanceSeat.entity.SeatStatus;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import org.junit.jupiter.api.BeforeEach;
+import back.kalender.domain.booking.seatHold.service.SeatHoldScriptExecutor;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
 
-import java.util.Map;
-import java.util.concurrent.TimeUnit;
+import java.util.List;
 
-import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -26,172 +19,85 @@ import static org.mockito.Mockito.*;
 @DisplayName("SeatHoldEventListener 테스트")
 public class SeatHoldEventListenerTest {
     @Mock
-    private RedisTemplate<String, String> redisTemplate;
-
-    @Mock
-    private ValueOperations<String, String> valueOperations;
-
-    @Mock
-    private ObjectMapper objectMapper;
+    private SeatHoldScriptExecutor seatHoldScriptExecutor;
 
     @InjectMocks
     private SeatHoldEventListener eventListener;
 
-    @BeforeEach
-    void setUp() {
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-    }
-
     @Test
-    @DisplayName("HOLD 이벤트 수신 시 Redis에 owner 기록")
-    void handleSeatHoldCompleted_Success() throws JsonProcessingException {
-        Long scheduleId = 1L;
-        Long seatId = 101L;
-        Long userId = 1000L;
-        Long ttl = 300L;
-
+    @DisplayName("HOLD 커밋 이벤트는 Redis에 추가 기록하지 않음 (스크립트에서 이미 반영)")
+    void handleSeatHoldCompleted_NoRedisWrite() {
         SeatHoldCompletedEvent event = new SeatHoldCompletedEvent(
-                scheduleId,
-                seatId,
-                userId,
-                SeatStatus.HOLD,
-                ttl
+                1L, 101L, 1000L, SeatStatus.HOLD, 300L
         );
 
-        when(objectMapper.writeValueAsString(any(Map.class)))
-                .thenReturn("{\"seatId\":101}");
-
-        when(valueOperations.increment(anyString())).thenReturn(1L);
-
         eventListener.handleSeatHoldCompleted(event);
 
-        verify(valueOperations, times(2)).set(
-                anyString(),
-                anyString(),
-                anyLong(),
-                any(TimeUnit.class)
-        );
+        verifyNoInteractions(seatHoldScriptExecutor);
+    }
 
-        ArgumentCaptor<String> keyCaptor = ArgumentCaptor.forClass(String.class);
-        ArgumentCaptor<String> valueCaptor = ArgumentCaptor.forClass(String.class);
-        ArgumentCaptor<Long> ttlCaptor = ArgumentCaptor.forClass(Long.class);
-        ArgumentCaptor<TimeUnit> unitCaptor = ArgumentCaptor.forClass(TimeUnit.class);
+    @Test
+    @DisplayName("HOLD DB 롤백 시 Redis 선점 해제")
+    void handleSeatHoldRolledBack_ReleasesClaim() {
+        SeatHoldClaimedEvent event = new SeatHoldClaimedEvent(1L, 1000L, List.of(101L, 102L));
 
-        verify(valueOperations, times(2)).set(
-                keyCaptor.capture(),
-                valueCaptor.capture(),
-                ttlCaptor.capture(),
-                unitCaptor.capture()
-        );
+        when(seatHoldScriptExecutor.release(1L, 1000L, List.of(101L, 102L))).thenReturn(2L);
 
-        // HOLD owner 기록
-        assertThat(keyCaptor.getAllValues().get(0)).isEqualTo("seat:hold:owner:1:101");
-        assertThat(valueCaptor.getAllValues().get(0)).isEqualTo("1000");
-        assertThat(ttlCaptor.getAllValues().get(0)).isEqualTo(300L);
-        assertThat(unitCaptor.getAllValues().get(0)).isEqualTo(TimeUnit.SECONDS);
+        eventListener.handleSeatHoldRolledBack(event);
 
-        // seat change event 기록
-        assertThat(keyCaptor.getAllValues().get(1)).isEqualTo("seat:changes:1:1");
-        assertThat(ttlCaptor.getAllValues().get(1)).isEqualTo(60L);
-        assertThat(unitCaptor.getAllValues().get(1)).isEqualTo(TimeUnit.SECONDS);
+        verify(seatHoldScriptExecutor).release(1L, 1000L, List.of(101L, 102L));
     }
 
     @Test
-    @DisplayName("HOLD 이벤트 처리 실패 시 예외를 잡아서 처리")
-    void handleSeatHoldCompleted_RedisFailure() {
-        SeatHoldCompletedEvent event = new SeatHoldCompletedEvent(
-                1L, 101L, 1000L, SeatStatus.HOLD, 300L
-        );
+    @DisplayName("롤백 보상 실패 시에도 예외가 전파되지 않음")
+    void handleSeatHoldRolledBack_RedisFailure() {
+        SeatHoldClaimedEvent event = new SeatHoldClaimedEvent(1L, 1000L, List.of(101L));
 
-        doThrow(new RuntimeException("Redis connection failed"))
-                .when(valueOperations).set(anyString(), anyString(), anyLong(), any(TimeUnit.class));
+        when(seatHoldScriptExecutor.release(anyLong(), anyLong(), anyList()))
+                .thenThrow(new RuntimeException("Redis connection failed"));
 
         // 예외를 잡아서 처리하므로 테스트는 성공해야 함
-        eventListener.handleSeatHoldCompleted(event);
+        eventListener.handleSeatHoldRolledBack(event);
 
-        verify(valueOperations).set(anyString(), anyString(), anyLong(), any(TimeUnit.class));
+        verify(seatHoldScriptExecutor).release(1L, 1000L, List.of(101L));
     }
 
     @Test
-    @DisplayName("RELEASE 이벤트 수신 시 Redis owner 삭제")
-    void handleSeatReleaseCompleted_Success() {
-        Long scheduleId = 1L;
-        Long seatId = 101L;
-        Long userId = 1000L;
-
+    @DisplayName("RELEASE 이벤트 수신 시 owner 비교 스크립트로 좌석 묶음 해제")
+    void handleSeatReleaseCompleted_ReleasesThroughScript() {
         SeatReleaseCompletedEvent event = new SeatReleaseCompletedEvent(
-                scheduleId,
-                seatId,
-                userId,
-                SeatStatus.AVAILABLE
+                1L, List.of(101L, 102L), 1000L, SeatStatus.AVAILABLE
         );
 
-        when(redisTemplate.delete(anyString())).thenReturn(true);
+        when(seatHoldScriptExecutor.release(1L, 1000L, List.of(101L, 102L))).thenReturn(2L);
 
         eventListener.handleSeatReleaseCompleted(event);
 
-        ArgumentCaptor<String> keyCaptor = ArgumentCaptor.forClass(String.class);
-        verify(redisTemplate).delete(keyCaptor.capture());
-
-        assertThat(keyCaptor.getValue()).isEqualTo("seat:hold:owner:1:101");
+        verify(seatHoldScriptExecutor).release(1L, 1000L, List.of(101L, 102L));
     }
 
     @Test
-    @DisplayName("recordSeatChangeEvent - version 증가 및 이벤트 저장")
-    void recordSeatChangeEvent_Success() throws Exception {
-        Long scheduleId = 1L;
-        Long seatId = 101L;
-        Long userId = 1000L;
-        Long expectedVersion = 5L;
-
-        when(valueOperations.increment("seat:version:1")).thenReturn(expectedVersion);
-        when(objectMapper.writeValueAsString(any(Map.class)))
-                .thenReturn("{\"seatId\":101,\"status\":\"HOLD\"}");
-
-        SeatHoldCompletedEvent event = new SeatHoldCompletedEvent(
-                scheduleId, seatId, userId, SeatStatus.HOLD, 300L
+    @DisplayName("RELEASE 후 Redis 정리 실패 시에도 예외가 전파되지 않음")
+    void handleSeatReleaseCompleted_RedisFailure() {
+        SeatReleaseCompletedEvent event = new SeatReleaseCompletedEvent(
+                1L, List.of(101L), 1000L, SeatStatus.AVAILABLE
         );
-        eventListener.handleSeatHoldCompleted(event);
-
-        // version 증가 검증
-        verify(valueOperations).increment("seat:version:1");
 
-        // change event 저장 검증
-        ArgumentCaptor<String> keyCaptor = ArgumentCaptor.forClass(String.class);
-        ArgumentCaptor<String> valueCaptor = ArgumentCaptor.forClass(String.class);
+        when(seatHoldScriptExecutor.release(anyLong(), anyLong(), anyList()))
+                .thenThrow(new RuntimeException("Redis down"));
 
-        verify(valueOperations, atLeastOnce()).set(
-                keyCaptor.capture(),
-                valueCaptor.capture(),
-                eq(60L),
-                eq(TimeUnit.SECONDS)
-        );
+        eventListener.handleSeatReleaseCompleted(event);
 
-        // change event 키 확인
-        boolean hasChangeKey = keyCaptor.getAllValues().stream()
-                .anyMatch(key -> key.equals("seat:changes:1:" + expectedVersion));
-        assertThat(hasChangeKey).isTrue();
+        verify(seatHoldScriptExecutor).release(1L, 1000L, List.of(101L));
     }
 
     @Test
-    @DisplayName("JSON 변환 실패 시에도 예외가 전파되지 않음")
-    void recordSeatChangeEvent_JsonProcessingException() throws JsonProcessingException {
-        SeatHoldCompletedEvent event = new SeatHoldCompletedEvent(
-                1L, 101L, 1000L, SeatStatus.HOLD, 300L
-        );
-
-        when(valueOperations.increment(anyString())).thenReturn(1L);
-        when(objectMapper.writeValueAsString(any(Map.class)))
-                .thenThrow(new JsonProcessingException("Test exception") {});
+    @DisplayName("SOLD 커밋 후 스크립트 한 번으로 Redis 반영")
+    void handleSeatSoldCompleted_MarksSoldThroughScript() {
+        SeatSoldCompletedEvent event = new SeatSoldCompletedEvent(1L, List.of(101L, 102L), 1000L);
 
-        eventListener.handleSeatHoldCompleted(event);
+        eventListener.handleSeatSoldCompleted(event);
 
-        // HOLD owner는 정상 기록되어야 함
-        verify(valueOperations).set(
-                eq("seat:hold:owner:1:101"),
-                eq("1000"),
-                eq(300L),
-                eq(TimeUnit.SECONDS)
-        );
+        verify(seatHoldScriptExecutor).markSold(1L, 1000L, List.of(101L, 102L));
     }
 }
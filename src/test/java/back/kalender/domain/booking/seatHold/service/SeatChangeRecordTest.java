@@ -0,0 +1,44 @@
+package back.kalender.domain.booking.seatHold.service;
+
+import back.kalender.domain.booking.performanceSeat.entity.SeatStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SeatChangeRecord 단위 테스트")
+class SeatChangeRecordTest {
+
+    @Test
+    @DisplayName("고정 길이 레코드 인코딩/디코딩 왕복")
+    void encode_Decode_RoundTrip() {
+        SeatChangeRecord record = new SeatChangeRecord(101L, SeatStatus.HOLD, 7L, 12L, 1_766_000_000_000L);
+
+        byte[] bytes = record.encode();
+
+        assertThat(bytes).hasSize(SeatChangeRecord.SIZE);
+        assertThat(bytes[8]).isEqualTo((byte) SeatStatus.HOLD.ordinal());
+        assertThat(SeatChangeRecord.decode(bytes)).isEqualTo(record);
+    }
+
+    @Test
+    @DisplayName("바이너리 응답은 헤더 뒤에 레코드를 순서대로 기록")
+    void toBinary_WritesHeaderAndRecords() {
+        SeatChanges changes = SeatChanges.of(10L, List.of(
+                new SeatChangeRecord(101L, SeatStatus.HOLD, 7L, 11L, 0L),
+                new SeatChangeRecord(102L, SeatStatus.AVAILABLE, 7L, 12L, 0L)
+        ));
+
+        ByteBuffer buffer = ByteBuffer.wrap(changes.toBinary());
+
+        assertThat(buffer.remaining()).isEqualTo(13 + 2 * SeatChangeRecord.SIZE);
+        assertThat(buffer.get()).isZero();
+        assertThat(buffer.getLong()).isEqualTo(12L);
+        assertThat(buffer.getInt()).isEqualTo(2);
+        assertThat(SeatChangeRecord.read(buffer).seatId()).isEqualTo(101L);
+        assertThat(SeatChangeRecord.read(buffer).status()).isEqualTo(SeatStatus.AVAILABLE);
+    }
+}
@@ -0,0 +1,103 @@
+package back.kalender.domain.booking.seatHold.service;
+
+import back.kalender.domain.booking.seatHold.entity.SeatHoldLog;
+import back.kalender.domain.booking.seatHold.mapper.SeatHoldMapper;
+import back.kalender.domain.booking.seatHold.repository.SeatHoldLogRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SeatHoldLogWriter 테스트")
+class SeatHoldLogWriterTest {
+
+    @Mock
+    private SeatHoldLogRepository seatHoldLogRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SeatHoldLogWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        writer = new SeatHoldLogWriter(seatHoldLogRepository, transactionManager, meterRegistry, 2);
+    }
+
+    @Test
+    @DisplayName("제출한 로그는 flush 시 한 번에 배치 기록")
+    void submit_ThenFlush_WritesBatch() {
+        writer.submit(List.of(holdLog(101L), holdLog(102L)));
+
+        verifyNoInteractions(seatHoldLogRepository);
+        assertThat(meterRegistry.get("seat.hold.log.queue.size").gauge().value()).isEqualTo(2.0);
+
+        writer.flush();
+
+        verify(seatHoldLogRepository, times(1)).saveAll(argThat((List<SeatHoldLog> logs) -> logs.size() == 2));
+        assertThat(meterRegistry.get("seat.hold.log.written").counter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("seat.hold.log.queue.size").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("DB 오류 시 예외 전파 없이 재시도 목록에 보관 후 다시 기록")
+    void flush_RepositoryFailure_RetriesBatch() {
+        when(seatHoldLogRepository.saveAll(anyList()))
+                .thenThrow(new RuntimeException("DB down"))
+                .thenReturn(List.of());
+
+        writer.submit(List.of(holdLog(101L)));
+        writer.flush();
+
+        assertThat(meterRegistry.get("seat.hold.log.failed").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("seat.hold.log.retry.pending").gauge().value()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("seat.hold.log.written").counter().count()).isZero();
+
+        // 종료 시에는 백오프와 관계없이 재시도
+        writer.drain();
+
+        verify(seatHoldLogRepository, times(2)).saveAll(anyList());
+        assertThat(meterRegistry.get("seat.hold.log.written").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("seat.hold.log.retry.pending").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("재시도 대기 한도를 넘으면 가장 오래된 배치부터 버림")
+    void flush_RetryOverflow_DropsOldest() {
+        when(seatHoldLogRepository.saveAll(anyList())).thenThrow(new RuntimeException("DB down"));
+
+        writer.submit(List.of(holdLog(101L), holdLog(102L)));
+        writer.flush();
+        writer.submit(List.of(holdLog(103L)));
+        writer.flush();
+
+        assertThat(meterRegistry.get("seat.hold.log.dropped").counter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("seat.hold.log.retry.pending").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("큐가 비어 있으면 기록하지 않음")
+    void flush_EmptyQueue_NoWrite() {
+        writer.flush();
+
+        verifyNoInteractions(seatHoldLogRepository);
+    }
+
+    private SeatHoldLog holdLog(Long seatId) {
+        LocalDateTime now = LocalDateTime.now();
+        return SeatHoldMapper.toHoldLog(seatId, 1000L, now, now.plusMinutes(7));
+    }
+}
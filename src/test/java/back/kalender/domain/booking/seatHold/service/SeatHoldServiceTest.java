@@ -4,20 +4,19 @@ import back.kalender.domain.booking.performanceSeat.entity.PerformanceSeat;
 import back.kalender.domain.booking.performanceSeat.entity.SeatStatus;
 import back.kalender.domain.booking.performanceSeat.repository.PerformanceSeatRepository;
 import back.kalender.domain.booking.reservation.dto.request.HoldSeatsRequest;
+import back.kalender.domain.booking.reservation.dto.response.HoldSeatsFailResponse;
 import back.kalender.domain.booking.reservation.entity.Reservation;
 import back.kalender.domain.booking.reservation.entity.ReservationStatus;
 import back.kalender.domain.booking.reservation.repository.ReservationRepository;
-import back.kalender.domain.booking.reservationSeat.entity.ReservationSeat;
+import back.kalender.domain.booking.reservation.service.ReservationExpiryQueue;
 import back.kalender.domain.booking.reservationSeat.repository.ReservationSeatRepository;
+import back.kalender.domain.booking.seatHold.event.SeatHoldClaimedEvent;
 import back.kalender.domain.booking.seatHold.event.SeatHoldCompletedEvent;
-import back.kalender.domain.booking.seatHold.event.SeatReleaseCompletedEvent;
 import back.kalender.domain.booking.seatHold.exception.SeatHoldConflictException;
-import back.kalender.domain.booking.seatHold.repository.SeatHoldLogRepository;
 import back.kalender.domain.performance.priceGrade.entity.PriceGrade;
 import back.kalender.domain.performance.priceGrade.repository.PriceGradeRepository;
 import back.kalender.global.exception.ErrorCode;
 import back.kalender.global.exception.ServiceException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -26,16 +25,17 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.redisson.api.RLock;
-import org.redisson.api.RedissonClient;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.SetOperations;
 import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -47,7 +47,7 @@ import static org.mockito.Mockito.*;
 class SeatHoldServiceTest {
 
     @Mock
-    private RedissonClient redissonClient;
+    private SeatHoldScriptExecutor seatHoldScriptExecutor;
 
     @Mock
     private RedisTemplate<String, String> redisTemplate;
@@ -65,13 +65,19 @@ class SeatHoldServiceTest {
     private ReservationSeatRepository reservationSeatRepository;
 
     @Mock
-    private SeatHoldLogRepository seatHoldLogRepository;
+    private SeatHoldLogWriter seatHoldLogWriter;
+
+    @Mock
+    private ReservationExpiryQueue reservationExpiryQueue;
+
+    @Mock
+    private SeatHoldMetrics seatHoldMetrics;
 
     @Mock
     private PriceGradeRepository priceGradeRepository;
 
     @Mock
-    private ObjectMapper objectMapper;
+    private SeatChangeLog seatChangeLog;
 
     @InjectMocks
     private SeatHoldService seatHoldService;
@@ -82,9 +88,6 @@ class SeatHoldServiceTest {
     @Mock
     private SetOperations<String, String> setOperations;
 
-    @Mock
-    private RLock lock;
-
     private Reservation reservation;
     private PerformanceSeat seat;
     private PriceGrade priceGrade;
@@ -119,60 +122,62 @@ class SeatHoldServiceTest {
 
     @Test
     @DisplayName("좌석 HOLD 성공 - 이벤트 발행 확인")
-    void holdSeats_Success() throws InterruptedException {
+    void holdSeats_Success() {
         HoldSeatsRequest request = new HoldSeatsRequest(List.of(seatId));
 
         when(reservationRepository.findById(reservationId)).thenReturn(Optional.of(reservation));
-        when(redissonClient.getLock(anyString())).thenReturn(lock);
-        when(lock.tryLock(anyLong(), anyLong(), any())).thenReturn(true);
-        when(lock.isHeldByCurrentThread()).thenReturn(true);
-
-        when(performanceSeatRepository.findByIdAndScheduleId(seatId, scheduleId))
-                .thenReturn(Optional.of(seat));
-
-        when(setOperations.isMember(anyString(), anyString())).thenReturn(false);
-        when(valueOperations.get(anyString())).thenReturn(null);
-        when(priceGradeRepository.findById(priceGradeId)).thenReturn(Optional.of(priceGrade));
+        when(seatHoldScriptExecutor.claim(scheduleId, userId, List.of(seatId), 420L))
+                .thenReturn(SeatHoldScriptExecutor.ClaimResult.success());
+        when(performanceSeatRepository.findAllByScheduleIdAndIdIn(scheduleId, List.of(seatId)))
+                .thenReturn(List.of(seat));
+        when(priceGradeRepository.findAllById(Set.of(priceGradeId))).thenReturn(List.of(priceGrade));
+        when(performanceSeatRepository.holdAll(eq(scheduleId), eq(List.of(seatId)), eq(userId), any(), any()))
+                .thenReturn(1);
         when(reservationSeatRepository.findByReservationId(reservationId)).thenReturn(List.of());
 
         seatHoldService.holdSeats(reservationId, request, userId);
 
-        ArgumentCaptor<SeatHoldCompletedEvent> eventCaptor =
-                ArgumentCaptor.forClass(SeatHoldCompletedEvent.class);
-        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        ArgumentCaptor<Object> eventCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, times(2)).publishEvent(eventCaptor.capture());
+
+        List<Object> events = eventCaptor.getAllValues();
 
-        SeatHoldCompletedEvent event = eventCaptor.getValue();
+        // 선점 이벤트 (롤백 보상용)
+        assertThat(events.get(0)).isInstanceOf(SeatHoldClaimedEvent.class);
+        SeatHoldClaimedEvent claimedEvent = (SeatHoldClaimedEvent) events.get(0);
+        assertThat(claimedEvent.getSeatIds()).containsExactly(seatId);
+
+        // HOLD 완료 이벤트
+        assertThat(events.get(1)).isInstanceOf(SeatHoldCompletedEvent.class);
+        SeatHoldCompletedEvent event = (SeatHoldCompletedEvent) events.get(1);
         assertThat(event.getScheduleId()).isEqualTo(scheduleId);
         assertThat(event.getSeatId()).isEqualTo(seatId);
         assertThat(event.getUserId()).isEqualTo(userId);
         assertThat(event.getStatus()).isEqualTo(SeatStatus.HOLD);
 
-        verify(performanceSeatRepository).save(seat);
-        verify(reservationSeatRepository).save(any(ReservationSeat.class));
-        verify(seatHoldLogRepository).save(any());
-        verify(lock).unlock();
+        verify(performanceSeatRepository).holdAll(eq(scheduleId), eq(List.of(seatId)), eq(userId), any(), any());
+        verify(performanceSeatRepository, never()).saveAll(anyCollection());
+        verify(reservationSeatRepository).saveAll(anyList());
+        verify(seatHoldLogWriter).submit(anyList());
+        verify(reservationExpiryQueue).schedule(eq(reservationId), any(LocalDateTime.class));
     }
 
     @Test
     @DisplayName("이미 SOLD된 좌석은 HOLD 불가")
-    void holdSeats_AlreadySold_ThrowsException() throws InterruptedException {
+    void holdSeats_AlreadySold_ThrowsException() {
         HoldSeatsRequest request = new HoldSeatsRequest(List.of(seatId));
-        seat.updateStatus(SeatStatus.SOLD);
 
         when(reservationRepository.findById(reservationId)).thenReturn(Optional.of(reservation));
-        when(redissonClient.getLock(anyString())).thenReturn(lock);
-        when(lock.tryLock(anyLong(), anyLong(), any())).thenReturn(true);
-        when(lock.isHeldByCurrentThread()).thenReturn(true);
-        when(performanceSeatRepository.findByIdAndScheduleId(seatId, scheduleId))
-                .thenReturn(Optional.of(seat));
-        when(setOperations.isMember(anyString(), eq(seatId.toString()))).thenReturn(true);
+        when(seatHoldScriptExecutor.claim(anyLong(), anyLong(), anyList(), anyLong()))
+                .thenReturn(SeatHoldScriptExecutor.ClaimResult.conflict(List.of(
+                        new HoldSeatsFailResponse.ConflictSeat(seatId, "SOLD", "ALREADY_SOLD"))));
 
         assertThatThrownBy(() ->
                 seatHoldService.holdSeats(reservationId, request, userId)
         ).isInstanceOf(SeatHoldConflictException.class);
 
-        verify(eventPublisher, never()).publishEvent(any(SeatHoldCompletedEvent.class));
-        verify(lock).unlock();
+        verify(eventPublisher, never()).publishEvent(any());
+        verifyNoInteractions(performanceSeatRepository);
     }
 
     @Test
@@ -193,60 +198,36 @@ class SeatHoldServiceTest {
                 .isEqualTo(ErrorCode.UNAUTHORIZED);
 
         verify(eventPublisher, never()).publishEvent(any());
-        verify(redissonClient, never()).getLock(anyString());
+        verifyNoInteractions(seatHoldScriptExecutor);
     }
 
     @Test
     @DisplayName("다른 사용자가 HOLD 중인 좌석은 HOLD 불가")
-    void holdSeats_AlreadyHeldByOther_ThrowsException() throws InterruptedException {
+    void holdSeats_AlreadyHeldByOther_ThrowsException() {
         HoldSeatsRequest request = new HoldSeatsRequest(List.of(seatId));
 
         when(reservationRepository.findById(reservationId)).thenReturn(Optional.of(reservation));
-        when(redissonClient.getLock(anyString())).thenReturn(lock);
-        when(lock.tryLock(anyLong(), anyLong(), any())).thenReturn(true);
-        when(lock.isHeldByCurrentThread()).thenReturn(true);
-        when(performanceSeatRepository.findByIdAndScheduleId(seatId, scheduleId))
-                .thenReturn(Optional.of(seat));
-        when(setOperations.isMember(anyString(), anyString())).thenReturn(false);
-        when(valueOperations.get("seat:hold:owner:" + scheduleId + ":" + seatId))
-                .thenReturn("9999");
-
-        assertThatThrownBy(() ->
-                seatHoldService.holdSeats(reservationId, request, userId)
-        ).isInstanceOf(SeatHoldConflictException.class);
-
-        verify(eventPublisher, never()).publishEvent(any(SeatHoldCompletedEvent.class));
-        verify(lock).unlock();
-    }
-
-    @Test
-    @DisplayName("락 획득 실패 시 HOLD 실패")
-    void holdSeats_LockAcquisitionFailed_ThrowsException() throws InterruptedException {
-        HoldSeatsRequest request = new HoldSeatsRequest(List.of(seatId));
-
-        when(reservationRepository.findById(reservationId)).thenReturn(Optional.of(reservation));
-        when(redissonClient.getLock(anyString())).thenReturn(lock);
-        when(lock.tryLock(anyLong(), anyLong(), any())).thenReturn(false);
+        when(seatHoldScriptExecutor.claim(anyLong(), anyLong(), anyList(), anyLong()))
+                .thenReturn(SeatHoldScriptExecutor.ClaimResult.conflict(List.of(
+                        new HoldSeatsFailResponse.ConflictSeat(seatId, "HOLD", "ALREADY_HELD"))));
 
         assertThatThrownBy(() ->
                 seatHoldService.holdSeats(reservationId, request, userId)
         ).isInstanceOf(SeatHoldConflictException.class);
 
         verify(eventPublisher, never()).publishEvent(any());
-        verify(lock, never()).unlock();
     }
 
     @Test
     @DisplayName("존재하지 않는 좌석 HOLD 시도")
-    void holdSeats_SeatNotFound_ThrowsException() throws InterruptedException {
+    void holdSeats_SeatNotFound_ThrowsException() {
         HoldSeatsRequest request = new HoldSeatsRequest(List.of(seatId));
 
         when(reservationRepository.findById(reservationId)).thenReturn(Optional.of(reservation));
-        when(redissonClient.getLock(anyString())).thenReturn(lock);
-        when(lock.tryLock(anyLong(), anyLong(), any())).thenReturn(true);
-        when(lock.isHeldByCurrentThread()).thenReturn(true);
-        when(performanceSeatRepository.findByIdAndScheduleId(seatId, scheduleId))
-                .thenReturn(Optional.empty());
+        when(seatHoldScriptExecutor.claim(anyLong(), anyLong(), anyList(), anyLong()))
+                .thenReturn(SeatHoldScriptExecutor.ClaimResult.success());
+        when(performanceSeatRepository.findAllByScheduleIdAndIdIn(scheduleId, List.of(seatId)))
+                .thenReturn(List.of());
 
         assertThatThrownBy(() ->
                 seatHoldService.holdSeats(reservationId, request, userId)
@@ -254,8 +235,9 @@ class SeatHoldServiceTest {
                 .extracting("errorCode")
                 .isEqualTo(ErrorCode.PERFORMANCE_SEAT_NOT_FOUND);
 
-        verify(eventPublisher, never()).publishEvent(any());
-        verify(lock).unlock();
+        // 선점 이벤트만 발행 (롤백 시 리스너가 Redis 해제)
+        verify(eventPublisher).publishEvent(any(SeatHoldClaimedEvent.class));
+        verify(eventPublisher, never()).publishEvent(any(SeatHoldCompletedEvent.class));
     }
 
     @Test
@@ -276,8 +258,8 @@ class SeatHoldServiceTest {
     }
 
     @Test
-    @DisplayName("여러 좌석 중 일부 실패 시 전체 롤백")
-    void holdSeats_PartialFailure_RollbackAll() throws InterruptedException {
+    @DisplayName("Redis 선점 후 DB에서 SOLD 좌석 발견 시 전체 실패")
+    void holdSeats_DbSoldAfterClaim_ThrowsConflict() {
         Long seatId2 = 102L;
 
         PerformanceSeat seat2 = PerformanceSeat.create(
@@ -287,53 +269,103 @@ class SeatHoldServiceTest {
         ReflectionTestUtils.setField(seat2, "id", seatId2);
         seat2.updateStatus(SeatStatus.SOLD);
 
-        HoldSeatsRequest request = new HoldSeatsRequest(List.of(seatId, seatId2));
+        // 정렬/중복 제거 후 스크립트 호출
+        HoldSeatsRequest request = new HoldSeatsRequest(List.of(seatId2, seatId, seatId2));
 
         when(reservationRepository.findById(reservationId)).thenReturn(Optional.of(reservation));
-        when(redissonClient.getLock(anyString())).thenReturn(lock);
-        when(lock.tryLock(anyLong(), anyLong(), any())).thenReturn(true);
-        when(lock.isHeldByCurrentThread()).thenReturn(true);
+        when(seatHoldScriptExecutor.claim(scheduleId, userId, List.of(seatId, seatId2), 420L))
+                .thenReturn(SeatHoldScriptExecutor.ClaimResult.success());
+        when(performanceSeatRepository.findAllByScheduleIdAndIdIn(scheduleId, List.of(seatId, seatId2)))
+                .thenReturn(List.of(seat, seat2));
 
-        // 첫 번째 좌석: 성공
-        when(performanceSeatRepository.findByIdAndScheduleId(seatId, scheduleId))
-                .thenReturn(Optional.of(seat));
-        when(setOperations.isMember(anyString(), eq(seatId.toString()))).thenReturn(false);
-        when(valueOperations.get("seat:hold:owner:" + scheduleId + ":" + seatId)).thenReturn(null);
+        assertThatThrownBy(() ->
+                seatHoldService.holdSeats(reservationId, request, userId)
+        ).isInstanceOf(SeatHoldConflictException.class);
+
+        // 어떤 좌석도 DB에 반영되지 않음
+        verify(performanceSeatRepository, never()).holdAll(anyLong(), anyCollection(), anyLong(), any(), any());
+        verify(eventPublisher, never()).publishEvent(any(SeatHoldCompletedEvent.class));
+    }
 
-        // 두 번째 좌석: SOLD
-        when(performanceSeatRepository.findByIdAndScheduleId(seatId2, scheduleId))
-                .thenReturn(Optional.of(seat2));
-        when(setOperations.isMember(anyString(), eq(seatId2.toString()))).thenReturn(true);
+    @Test
+    @DisplayName("조건부 UPDATE 반영 수가 부족하면 전체 실패")
+    void holdSeats_ConditionalUpdateMismatch_ThrowsException() {
+        HoldSeatsRequest request = new HoldSeatsRequest(List.of(seatId));
 
-        when(priceGradeRepository.findById(priceGradeId)).thenReturn(Optional.of(priceGrade));
+        when(reservationRepository.findById(reservationId)).thenReturn(Optional.of(reservation));
+        when(seatHoldScriptExecutor.claim(scheduleId, userId, List.of(seatId), 420L))
+                .thenReturn(SeatHoldScriptExecutor.ClaimResult.success());
+        when(performanceSeatRepository.findAllByScheduleIdAndIdIn(scheduleId, List.of(seatId)))
+                .thenReturn(List.of(seat));
+        when(priceGradeRepository.findAllById(Set.of(priceGradeId))).thenReturn(List.of(priceGrade));
+        when(performanceSeatRepository.holdAll(anyLong(), anyCollection(), anyLong(), any(), any()))
+                .thenReturn(0);
 
         assertThatThrownBy(() ->
                 seatHoldService.holdSeats(reservationId, request, userId)
-        ).isInstanceOf(SeatHoldConflictException.class);
+        ).isInstanceOf(ServiceException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.SEAT_STATE_INCONSISTENT);
 
-        // 롤백 검증:
-        // 1. 첫 번째 좌석 HOLD 이벤트 발행 (holdSingleSeatInDB)
-        // 2. 두 번째 좌석 실패로 롤백
-        // 3. 첫 번째 좌석 RELEASE 이벤트 발행 (rollbackHeldSeats)
+        verify(reservationSeatRepository, never()).saveAll(anyList());
+        verify(seatHoldLogWriter, never()).submit(anyList());
+    }
 
-        ArgumentCaptor<Object> eventCaptor = ArgumentCaptor.forClass(Object.class);
-        verify(eventPublisher, times(2)).publishEvent(eventCaptor.capture());
+    @Test
+    @DisplayName("버전 차이가 있는데 변경 로그가 비어 있으면 전체 새로고침")
+    void getSeatChanges_GapWithEmptyLog_RequiresRefresh() {
+        when(seatChangeLog.currentVersion(scheduleId)).thenReturn(10L);
+        when(seatChangeLog.readSince(eq(scheduleId), eq(5L), anyInt())).thenReturn(List.of());
 
-        List<Object> events = eventCaptor.getAllValues();
+        SeatChanges changes = seatHoldService.getSeatChanges(scheduleId, 5L);
 
-        // 첫 번째 이벤트: HOLD
-        assertThat(events.get(0)).isInstanceOf(SeatHoldCompletedEvent.class);
-        SeatHoldCompletedEvent holdEvent = (SeatHoldCompletedEvent) events.get(0);
-        assertThat(holdEvent.getSeatId()).isEqualTo(seatId);
-        assertThat(holdEvent.getStatus()).isEqualTo(SeatStatus.HOLD);
+        assertThat(changes.refreshRequired()).isTrue();
+        assertThat(changes.currentVersion()).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("클라이언트 버전이 현재 버전보다 크면(버전 키 초기화) 전체 새로고침")
+    void getSeatChanges_VersionReset_RequiresRefresh() {
+        when(seatChangeLog.currentVersion(scheduleId)).thenReturn(0L);
+
+        SeatChanges changes = seatHoldService.getSeatChanges(scheduleId, 42L);
+
+        assertThat(changes.refreshRequired()).isTrue();
+        assertThat(changes.currentVersion()).isZero();
+        verify(seatChangeLog, never()).readSince(anyLong(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("푸시 조회 - 폴링 한도를 넘는 변경도 보존 구간 안이면 페이지 단위로 모두 조회")
+    void getSeatChangesForPush_PagesThroughRetainedLog() {
+        when(seatChangeLog.currentVersion(scheduleId)).thenReturn(350L);
+        when(seatChangeLog.readSince(scheduleId, 0L, 200)).thenReturn(records(1, 200));
+        when(seatChangeLog.readSince(scheduleId, 200L, 200)).thenReturn(records(201, 350));
 
-        // 두 번째 이벤트: RELEASE (롤백)
-        assertThat(events.get(1)).isInstanceOf(SeatReleaseCompletedEvent.class);
-        SeatReleaseCompletedEvent releaseEvent = (SeatReleaseCompletedEvent) events.get(1);
-        assertThat(releaseEvent.getSeatId()).isEqualTo(seatId);
-        assertThat(releaseEvent.getStatus()).isEqualTo(SeatStatus.AVAILABLE);
+        SeatChanges changes = seatHoldService.getSeatChangesForPush(scheduleId, 0L);
+
+        assertThat(changes.refreshRequired()).isFalse();
+        assertThat(changes.records()).hasSize(350);
+        assertThat(changes.currentVersion()).isEqualTo(350L);
+    }
+
+    @Test
+    @DisplayName("푸시 조회 - 직후 버전이 로그에서 잘려나갔으면 전체 새로고침")
+    void getSeatChangesForPush_OutsideRetainedLog_RequiresRefresh() {
+        when(seatChangeLog.currentVersion(scheduleId)).thenReturn(2000L);
+        when(seatChangeLog.readSince(scheduleId, 10L, 200)).thenReturn(records(1001, 1200));
+
+        SeatChanges changes = seatHoldService.getSeatChangesForPush(scheduleId, 10L);
+
+        assertThat(changes.refreshRequired()).isTrue();
+        assertThat(changes.currentVersion()).isEqualTo(2000L);
+    }
 
-        verify(performanceSeatRepository, atLeastOnce()).save(seat);
-        verify(lock, atLeast(2)).unlock();
+    private List<SeatChangeRecord> records(long fromVersion, long toVersion) {
+        List<SeatChangeRecord> records = new ArrayList<>();
+        for (long version = fromVersion; version <= toVersion; version++) {
+            records.add(new SeatChangeRecord(version, SeatStatus.HOLD, 7L, version, 0L));
+        }
+        return records;
     }
-}
\ No newline at end of file
+}
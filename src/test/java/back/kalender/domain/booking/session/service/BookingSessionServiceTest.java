@@ -9,13 +9,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.core.HashOperations;
 import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.data.redis.core.ZSetOperations;
 
 import java.time.Duration;
-import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -32,33 +29,19 @@ class BookingSessionServiceTest {
     private StringRedisTemplate redisTemplate;
 
     @Mock
-    private ValueOperations<String, String> valueOps;
+    private BookingSessionStore bookingSessionStore;
 
     @Mock
     private ZSetOperations<String, String> zSetOps;
 
-    @Mock
-    private HashOperations<String, Object, Object> hashOps;
-
     private static final Long USER_ID = 1L;
     private static final Long SCHEDULE_ID = 10L;
 
     @BeforeEach
     void setUp() {
-        bookingSessionService = new BookingSessionService(redisTemplate);
+        bookingSessionService = new BookingSessionService(redisTemplate, bookingSessionStore);
 
-        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOps);
         lenient().when(redisTemplate.opsForZSet()).thenReturn(zSetOps);
-        lenient().when(redisTemplate.opsForHash()).thenReturn(hashOps);
-
-        // ✅ waitingToken lock 통과시키기 (중복 요청 방지 락)
-        // createWithWaitingToken()이 제일 먼저 setIfAbsent(lockKey, "1", 10, SECONDS)를 수행함
-        lenient().when(valueOps.setIfAbsent(
-                startsWith("waiting:lock:"),
-                eq("1"),
-                anyLong(),
-                eq(TimeUnit.SECONDS)
-        )).thenReturn(true);
 
         // zset add 기본 true
         lenient().when(zSetOps.add(anyString(), anyString(), anyDouble())).thenReturn(true);
@@ -71,20 +54,15 @@ class BookingSessionServiceTest {
         private static final String WAITING_TOKEN = "wt_abc123xyz";
         private static final String DEVICE_ID = "device-xxx";
         private static final String QSID = "qsid-123";
+        private static final String WAITING_VALUE = QSID + ":" + SCHEDULE_ID;
 
         @Test
-        @DisplayName("성공: 신규 BookingSession 생성 + Active 추가")
+        @DisplayName("성공: 사전 조회 1회 + 생성 스크립트 1회로 세션 생성")
         void createWithWaitingToken_Success() {
             // given
-            given(valueOps.get("waiting:" + WAITING_TOKEN))
-                    .willReturn(QSID + ":" + SCHEDULE_ID);
-
-            given(valueOps.get("qsid:" + QSID))
-                    .willReturn(DEVICE_ID + ":" + SCHEDULE_ID);
-
-            // 기존 세션 없음
-            given(valueOps.get("booking:session:" + USER_ID + ":" + SCHEDULE_ID))
-                    .willReturn(null);
+            given(bookingSessionStore.lookupEntry(WAITING_TOKEN, USER_ID, SCHEDULE_ID))
+                    .willReturn(new BookingSessionStore.EntryLookup(WAITING_VALUE, null));
+            givenCreateResult(BookingSessionStore.CreateResult.CREATED);
 
             // when
             String bookingSessionId = bookingSessionService.createWithWaitingToken(
@@ -94,47 +72,19 @@ class BookingSessionServiceTest {
             // then
             assertThat(bookingSessionId).isNotBlank();
 
-            verify(valueOps).set(
-                    eq("booking:session:" + bookingSessionId),
-                    eq(SCHEDULE_ID.toString()),
-                    any(Duration.class)
+            verify(bookingSessionStore).create(
+                    eq(bookingSessionId), eq(USER_ID), eq(SCHEDULE_ID), eq(DEVICE_ID),
+                    eq(WAITING_TOKEN), eq(WAITING_VALUE), eq(QSID), isNull(), any(Duration.class)
             );
-
-            verify(valueOps).set(
-                    eq("booking:session:device:" + bookingSessionId),
-                    eq(DEVICE_ID),
-                    any(Duration.class)
-            );
-
-            verify(valueOps).set(
-                    eq("booking:session:" + USER_ID + ":" + SCHEDULE_ID),
-                    eq(bookingSessionId),
-                    any(Duration.class)
-            );
-
-            verify(zSetOps).add(
-                    eq("active:" + SCHEDULE_ID),
-                    eq(bookingSessionId),
-                    anyDouble()
-            );
-
-            // waitingToken 소비
-            verify(redisTemplate).delete("waiting:" + WAITING_TOKEN);
-
-            // ✅ admitted / qsid / device 정리
-            verify(hashOps).delete("admitted:" + SCHEDULE_ID, QSID);
-            verify(redisTemplate).delete("qsid:" + QSID);
-            verify(redisTemplate).delete("device:" + SCHEDULE_ID + ":" + DEVICE_ID);
-
-            // ✅ lock 해제도 수행됨(성공/실패 관계없이 finally)
-            verify(redisTemplate).delete("waiting:lock:" + WAITING_TOKEN);
+            verifyNoInteractions(redisTemplate);
         }
 
         @Test
         @DisplayName("실패: waitingToken이 유효하지 않음")
         void createWithWaitingToken_Fail_InvalidWaitingToken() {
             // given
-            given(valueOps.get("waiting:" + WAITING_TOKEN)).willReturn(null);
+            given(bookingSessionStore.lookupEntry(WAITING_TOKEN, USER_ID, SCHEDULE_ID))
+                    .willReturn(new BookingSessionStore.EntryLookup(null, null));
 
             // when & then
             assertThatThrownBy(() -> bookingSessionService.createWithWaitingToken(
@@ -144,7 +94,8 @@ class BookingSessionServiceTest {
                     .extracting("errorCode")
                     .isEqualTo(ErrorCode.INVALID_WAITING_TOKEN);
 
-            verify(redisTemplate).delete("waiting:lock:" + WAITING_TOKEN);
+            verify(bookingSessionStore, never()).create(
+                    any(), any(), any(), any(), any(), any(), any(), any(), any());
         }
 
         @Test
@@ -152,8 +103,8 @@ class BookingSessionServiceTest {
         void createWithWaitingToken_Fail_ScheduleMismatch() {
             // given
             Long wrongScheduleId = 999L;
-            given(valueOps.get("waiting:" + WAITING_TOKEN))
-                    .willReturn(QSID + ":" + wrongScheduleId);
+            given(bookingSessionStore.lookupEntry(WAITING_TOKEN, USER_ID, SCHEDULE_ID))
+                    .willReturn(new BookingSessionStore.EntryLookup(QSID + ":" + wrongScheduleId, null));
 
             // when & then
             assertThatThrownBy(() -> bookingSessionService.createWithWaitingToken(
@@ -162,18 +113,15 @@ class BookingSessionServiceTest {
                     .isInstanceOf(ServiceException.class)
                     .extracting("errorCode")
                     .isEqualTo(ErrorCode.SCHEDULE_MISMATCH);
-
-            verify(redisTemplate).delete("waiting:lock:" + WAITING_TOKEN);
         }
 
         @Test
         @DisplayName("실패: qsid 만료됨")
         void createWithWaitingToken_Fail_QsidExpired() {
             // given
-            given(valueOps.get("waiting:" + WAITING_TOKEN))
-                    .willReturn(QSID + ":" + SCHEDULE_ID);
-
-            given(valueOps.get("qsid:" + QSID)).willReturn(null);
+            given(bookingSessionStore.lookupEntry(WAITING_TOKEN, USER_ID, SCHEDULE_ID))
+                    .willReturn(new BookingSessionStore.EntryLookup(WAITING_VALUE, null));
+            givenCreateResult(BookingSessionStore.CreateResult.QSID_EXPIRED);
 
             // when & then
             assertThatThrownBy(() -> bookingSessionService.createWithWaitingToken(
@@ -182,20 +130,15 @@ class BookingSessionServiceTest {
                     .isInstanceOf(ServiceException.class)
                     .extracting("errorCode")
                     .isEqualTo(ErrorCode.QSID_EXPIRED);
-
-            verify(redisTemplate).delete("waiting:lock:" + WAITING_TOKEN);
         }
 
         @Test
         @DisplayName("실패: deviceId 불일치")
         void createWithWaitingToken_Fail_DeviceMismatch() {
             // given
-            given(valueOps.get("waiting:" + WAITING_TOKEN))
-                    .willReturn(QSID + ":" + SCHEDULE_ID);
-
-            String originalDeviceId = "device-original";
-            given(valueOps.get("qsid:" + QSID))
-                    .willReturn(originalDeviceId + ":" + SCHEDULE_ID);
+            given(bookingSessionStore.lookupEntry(WAITING_TOKEN, USER_ID, SCHEDULE_ID))
+                    .willReturn(new BookingSessionStore.EntryLookup(WAITING_VALUE, null));
+            givenCreateResult(BookingSessionStore.CreateResult.DEVICE_MISMATCH);
 
             // when & then
             assertThatThrownBy(() -> bookingSessionService.createWithWaitingToken(
@@ -204,35 +147,33 @@ class BookingSessionServiceTest {
                     .isInstanceOf(ServiceException.class)
                     .extracting("errorCode")
                     .isEqualTo(ErrorCode.DEVICE_ID_MISMATCH);
+        }
+
+        @Test
+        @DisplayName("실패: 동시 요청이 토큰을 먼저 사용")
+        void createWithWaitingToken_Fail_TokenConsumedConcurrently() {
+            // given
+            given(bookingSessionStore.lookupEntry(WAITING_TOKEN, USER_ID, SCHEDULE_ID))
+                    .willReturn(new BookingSessionStore.EntryLookup(WAITING_VALUE, null));
+            givenCreateResult(BookingSessionStore.CreateResult.TOKEN_CONSUMED);
 
-            verify(redisTemplate).delete("waiting:lock:" + WAITING_TOKEN);
+            // when & then
+            assertThatThrownBy(() -> bookingSessionService.createWithWaitingToken(
+                    USER_ID, SCHEDULE_ID, WAITING_TOKEN, DEVICE_ID
+            ))
+                    .isInstanceOf(ServiceException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(ErrorCode.INVALID_WAITING_TOKEN);
         }
 
         @Test
-        @DisplayName("성공: 기존 세션 발견 시 무조건 삭제 후 새로 생성")
+        @DisplayName("성공: 기존 세션 발견 시 생성 스크립트에서 삭제 후 새로 생성")
         void createWithWaitingToken_AlwaysDeleteAndRecreate() {
             // given
             String existingSessionId = "existing-session-123";
-
-            // waitingToken 검증
-            given(valueOps.get("waiting:" + WAITING_TOKEN))
-                    .willReturn(QSID + ":" + SCHEDULE_ID);
-
-            // deviceId 검증
-            given(valueOps.get("qsid:" + QSID))
-                    .willReturn(DEVICE_ID + ":" + SCHEDULE_ID);
-
-            // 기존 세션 존재
-            String mappingKey = "booking:session:" + USER_ID + ":" + SCHEDULE_ID;
-            given(valueOps.get(mappingKey))
-                    .willReturn(existingSessionId);
-
-            // deleteBookingSessionBySessionId 내부 조회용
-            given(valueOps.get("booking:session:" + existingSessionId))
-                    .willReturn(SCHEDULE_ID.toString());
-
-            given(valueOps.get("booking:session:user:" + existingSessionId))
-                    .willReturn(USER_ID.toString());
+            given(bookingSessionStore.lookupEntry(WAITING_TOKEN, USER_ID, SCHEDULE_ID))
+                    .willReturn(new BookingSessionStore.EntryLookup(WAITING_VALUE, existingSessionId));
+            givenCreateResult(BookingSessionStore.CreateResult.CREATED);
 
             // when
             String result = bookingSessionService.createWithWaitingToken(
@@ -243,12 +184,17 @@ class BookingSessionServiceTest {
             assertThat(result).isNotBlank();
             assertThat(result).isNotEqualTo(existingSessionId);
 
-            // 기존 세션 삭제(완전 삭제 로직에서 여러 delete 발생)
-            verify(zSetOps).remove("active:" + SCHEDULE_ID, existingSessionId);
+            verify(bookingSessionStore).create(
+                    eq(result), eq(USER_ID), eq(SCHEDULE_ID), eq(DEVICE_ID),
+                    eq(WAITING_TOKEN), eq(WAITING_VALUE), eq(QSID), eq(existingSessionId), any(Duration.class)
+            );
+        }
 
-            // waitingToken 소비 + lock 해제
-            verify(redisTemplate).delete("waiting:" + WAITING_TOKEN);
-            verify(redisTemplate).delete("waiting:lock:" + WAITING_TOKEN);
+        private void givenCreateResult(BookingSessionStore.CreateResult result) {
+            given(bookingSessionStore.create(
+                    anyString(), eq(USER_ID), eq(SCHEDULE_ID), eq(DEVICE_ID),
+                    eq(WAITING_TOKEN), eq(WAITING_VALUE), eq(QSID), any(), any(Duration.class)
+            )).willReturn(result);
         }
     }
 
@@ -333,11 +279,11 @@ class BookingSessionServiceTest {
     class ValidateExistsTest {
 
         @Test
-        @DisplayName("실패: 세션 키가 없으면 BOOKING_SESSION_EXPIRED")
+        @DisplayName("실패: 세션이 없으면 BOOKING_SESSION_EXPIRED")
         void validateExists_expired() {
             // given
             String sessionId = "sid";
-            given(valueOps.get("booking:session:" + sessionId)).willReturn(null);
+            given(bookingSessionStore.exists(sessionId)).willReturn(false);
 
             // when & then
             assertThatThrownBy(() -> bookingSessionService.validateExists(sessionId))
@@ -347,11 +293,11 @@ class BookingSessionServiceTest {
         }
 
         @Test
-        @DisplayName("성공: 세션 키가 있으면 통과")
+        @DisplayName("성공: 세션이 있으면 통과")
         void validateExists_success() {
             // given
             String sessionId = "sid";
-            given(valueOps.get("booking:session:" + sessionId)).willReturn(SCHEDULE_ID.toString());
+            given(bookingSessionStore.exists(sessionId)).willReturn(true);
 
             // when & then
             assertThatCode(() -> bookingSessionService.validateExists(sessionId))
@@ -368,7 +314,7 @@ class BookingSessionServiceTest {
         void validateForSchedule_expired() {
             // given
             String sessionId = "sid";
-            given(valueOps.get("booking:session:" + sessionId)).willReturn(null);
+            given(bookingSessionStore.findScheduleId(sessionId)).willReturn(null);
 
             // when & then
             assertThatThrownBy(() -> bookingSessionService.validateForSchedule(sessionId, SCHEDULE_ID))
@@ -382,7 +328,7 @@ class BookingSessionServiceTest {
         void validateForSchedule_mismatch() {
             // given
             String sessionId = "sid";
-            given(valueOps.get("booking:session:" + sessionId)).willReturn("999");
+            given(bookingSessionStore.findScheduleId(sessionId)).willReturn("999");
 
             // when & then
             assertThatThrownBy(() -> bookingSessionService.validateForSchedule(sessionId, SCHEDULE_ID))
@@ -396,7 +342,7 @@ class BookingSessionServiceTest {
         void validateForSchedule_success() {
             // given
             String sessionId = "sid";
-            given(valueOps.get("booking:session:" + sessionId)).willReturn(SCHEDULE_ID.toString());
+            given(bookingSessionStore.findScheduleId(sessionId)).willReturn(SCHEDULE_ID.toString());
 
             // when & then
             assertThatCode(() -> bookingSessionService.validateForSchedule(sessionId, SCHEDULE_ID))
@@ -409,7 +355,7 @@ class BookingSessionServiceTest {
     class ExpireTest {
 
         @Test
-        @DisplayName("성공: userId, scheduleId 파라미터 활용하여 삭제")
+        @DisplayName("성공: userId, scheduleId 파라미터 활용하여 조회 없이 삭제")
         void expire_Success_WithParameters() {
             // given
             String bookingSessionId = "bs_abc123";
@@ -420,14 +366,8 @@ class BookingSessionServiceTest {
             bookingSessionService.expire(bookingSessionId, userId, scheduleId);
 
             // then
-            verify(zSetOps).remove("active:" + scheduleId, bookingSessionId);
-
-            verify(redisTemplate).delete("booking:session:" + bookingSessionId);
-            verify(redisTemplate).delete("booking:session:device:" + bookingSessionId);
-            verify(redisTemplate).delete("booking:session:user:" + bookingSessionId);
-            verify(redisTemplate).delete("booking:session:" + userId + ":" + scheduleId);
-
-            verify(valueOps, never()).get(anyString());
+            verify(bookingSessionStore).delete(bookingSessionId, userId, scheduleId);
+            verify(bookingSessionStore, never()).find(anyString());
         }
     }
 
@@ -443,67 +383,48 @@ class BookingSessionServiceTest {
             Long scheduleId = 10L;
             Long userId = 1L;
 
-            given(valueOps.get("booking:session:" + bookingSessionId))
-                    .willReturn(scheduleId.toString());
-
-            given(valueOps.get("booking:session:user:" + bookingSessionId))
-                    .willReturn(userId.toString());
+            given(bookingSessionStore.find(bookingSessionId))
+                    .willReturn(new BookingSessionStore.Session(bookingSessionId, scheduleId, userId, "device-xxx"));
 
             // when
             boolean result = bookingSessionService.deleteBookingSessionBySessionId(bookingSessionId);
 
             // then
             assertThat(result).isTrue();
-
-            verify(valueOps).get("booking:session:" + bookingSessionId);
-            verify(valueOps).get("booking:session:user:" + bookingSessionId);
-
-            verify(zSetOps).remove("active:" + scheduleId, bookingSessionId);
-
-            // deleteBookingSession()에서 4개 delete 호출
-            verify(redisTemplate, times(4)).delete(anyString());
+            verify(bookingSessionStore).delete(bookingSessionId, userId, scheduleId);
         }
 
         @Test
-        @DisplayName("실패: 이미 삭제된 세션 (scheduleId 없음)")
+        @DisplayName("실패: 이미 삭제된 세션")
         void deleteBySessionId_AlreadyDeleted() {
             // given
             String bookingSessionId = "bs_abc123";
-            given(valueOps.get("booking:session:" + bookingSessionId))
-                    .willReturn(null);
+            given(bookingSessionStore.find(bookingSessionId)).willReturn(null);
 
             // when
             boolean result = bookingSessionService.deleteBookingSessionBySessionId(bookingSessionId);
 
             // then
             assertThat(result).isFalse();
-
-            verify(redisTemplate, never()).delete(anyString());
+            verify(bookingSessionStore, never()).delete(anyString(), any(), any());
         }
 
         @Test
-        @DisplayName("경고: userId 조회 실패 시 부분 삭제")
+        @DisplayName("경고: userId 없으면 역인덱스 없이 부분 삭제")
         void deleteBySessionId_PartialDelete_WhenUserIdMissing() {
             // given
             String bookingSessionId = "bs_abc123";
             Long scheduleId = 10L;
 
-            given(valueOps.get("booking:session:" + bookingSessionId))
-                    .willReturn(scheduleId.toString());
-
-            given(valueOps.get("booking:session:user:" + bookingSessionId))
-                    .willReturn(null);
+            given(bookingSessionStore.find(bookingSessionId))
+                    .willReturn(new BookingSessionStore.Session(bookingSessionId, scheduleId, null, null));
 
             // when
             boolean result = bookingSessionService.deleteBookingSessionBySessionId(bookingSessionId);
 
             // then
             assertThat(result).isTrue();
-
-            verify(zSetOps).remove("active:" + scheduleId, bookingSessionId);
-
-            // deletePartialSession()은 3개 delete
-            verify(redisTemplate, times(3)).delete(anyString());
+            verify(bookingSessionStore).delete(bookingSessionId, null, scheduleId);
         }
     }
 }
@@ -0,0 +1,182 @@
+package back.kalender.domain.booking.waitingRoom.admission;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AdmissionController 단위 테스트")
+class AdmissionControllerTest {
+
+    @Mock
+    private StringRedisTemplate redis;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private AdmissionTokenBucket tokenBucket;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        lenient().when(redis.opsForHash()).thenReturn(hashOperations);
+        lenient().when(hashOperations.entries(anyString())).thenReturn(Map.of());
+        lenient().when(redis.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("FIXED - 설정한 동시 인원 그대로 결정하고 게이지로 노출")
+    void fixed_UsesConfiguredCapacity() {
+        AdmissionController controller = controller(AdmissionMode.FIXED);
+
+        AdmissionDecision decision = controller.decide(1L);
+
+        assertThat(decision).isEqualTo(new AdmissionDecision(10, 10));
+        assertThat(meterRegistry.get("queue.admission.capacity").tag("scheduleId", "1").gauge().value())
+                .isEqualTo(10.0);
+    }
+
+    @Test
+    @DisplayName("TOKEN_BUCKET - 공유 버킷에서 burst만큼 획득 후 입장하지 않은 토큰 반환")
+    void tokenBucket_TakesAndRefundsSharedTokens() {
+        AdmissionController controller = controller(AdmissionMode.TOKEN_BUCKET);
+        when(tokenBucket.take(eq(1L), any(AdmissionConfig.class), eq(4))).thenReturn(4);
+
+        AdmissionDecision decision = controller.decide(1L);
+        controller.onAdmitted(1L, decision, 3);
+
+        assertThat(decision).isEqualTo(new AdmissionDecision(10, 4));
+        verify(tokenBucket).refund(eq(1L), any(AdmissionConfig.class), eq(1));
+    }
+
+    @Test
+    @DisplayName("TOKEN_BUCKET - 즉시 입장은 토큰 1개 사용, 입장하지 못하면 반환")
+    void tokenBucket_ImmediateAdmitUsesToken() {
+        AdmissionController controller = controller(AdmissionMode.TOKEN_BUCKET);
+        when(tokenBucket.take(eq(1L), any(AdmissionConfig.class), eq(1))).thenReturn(1, 0);
+
+        assertThat(controller.tryAcquireImmediate(1L)).isTrue();
+        controller.releaseImmediate(1L);
+        assertThat(controller.tryAcquireImmediate(1L)).isFalse();
+
+        verify(tokenBucket).refund(eq(1L), any(AdmissionConfig.class), eq(1));
+    }
+
+    @Test
+    @DisplayName("capacityOf는 결정/토큰 상태를 바꾸지 않음")
+    void capacityOf_IsReadOnly() {
+        AdmissionController controller = controller(AdmissionMode.TOKEN_BUCKET);
+
+        assertThat(controller.capacityOf(1L)).isEqualTo(10);
+
+        verify(tokenBucket, never()).take(anyLong(), any(AdmissionConfig.class), anyInt());
+        assertThat(meterRegistry.get("queue.admission.budget").tag("scheduleId", "1").gauge().value())
+                .isEqualTo(0.0);
+    }
+
+    @Test
+    @DisplayName("FIXED - 즉시 입장은 토큰 없이 허용")
+    void fixed_ImmediateAdmitWithoutToken() {
+        AdmissionController controller = controller(AdmissionMode.FIXED);
+
+        assertThat(controller.tryAcquireImmediate(1L)).isTrue();
+
+        verify(tokenBucket, never()).take(anyLong(), any(AdmissionConfig.class), anyInt());
+    }
+
+    @Test
+    @DisplayName("ADAPTIVE - 과부하 시 감소, 정상 시 증가 (하한/상한 유지)")
+    void adaptive_AdjustsWithinBounds() {
+        AdmissionController controller = controller(AdmissionMode.ADAPTIVE);
+        controller.decide(1L);
+
+        controller.adjustAdaptive(true);
+        assertThat(controller.capacityOf(1L)).isEqualTo(7);
+        verify(valueOperations).set(eq("queue:admission:adaptive:1"), eq("7"), any(Duration.class));
+
+        controller.adjustAdaptive(true);
+        controller.adjustAdaptive(true);
+        assertThat(controller.capacityOf(1L)).isEqualTo(5);
+
+        controller.adjustAdaptive(false);
+        assertThat(controller.capacityOf(1L)).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("Redis 회차 설정이 있으면 기본값 대신 사용")
+    void refreshConfigs_AppliesRedisOverride() {
+        AdmissionController controller = controller(AdmissionMode.FIXED);
+        controller.decide(1L);
+
+        lenient().when(hashOperations.entries("queue:admission:config:1"))
+                .thenReturn(Map.of("capacity", "30"));
+        controller.refreshConfigs();
+
+        assertThat(controller.decide(1L)).isEqualTo(new AdmissionDecision(30, 30));
+    }
+
+    @Test
+    @DisplayName("ADAPTIVE - 다른 서버가 조절한 동시 인원을 Redis에서 반영")
+    void refreshConfigs_AppliesSharedAdaptiveCapacity() {
+        AdmissionController controller = controller(AdmissionMode.ADAPTIVE);
+        controller.decide(1L);
+
+        when(valueOperations.get("queue:admission:adaptive:1")).thenReturn("20");
+        controller.refreshConfigs();
+
+        assertThat(controller.capacityOf(1L)).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("닫힌 회차는 상태와 게이지 제거")
+    void retain_RemovesClosedSchedules() {
+        AdmissionController controller = controller(AdmissionMode.FIXED);
+        controller.decide(1L);
+        controller.decide(2L);
+
+        controller.retain(List.of(2L));
+
+        assertThat(meterRegistry.find("queue.admission.capacity").tag("scheduleId", "1").gauge()).isNull();
+        assertThat(meterRegistry.find("queue.admission.budget").tag("scheduleId", "1").gauge()).isNull();
+        assertThat(meterRegistry.find("queue.admission.capacity").tag("scheduleId", "2").gauge()).isNotNull();
+    }
+
+    private AdmissionController controller(AdmissionMode mode) {
+        AdmissionProperties properties = new AdmissionProperties(
+                mode, 10, 5, 50, 0.0, 4, 500, 0.8, 0.3);
+        return new AdmissionController(
+                properties,
+                redis,
+                meterRegistry,
+                List.of(new FixedCapacityPolicy(), new TokenBucketPolicy(tokenBucket), new AdaptivePolicy())
+        );
+    }
+}
@@ -0,0 +1,101 @@
+package back.kalender.domain.booking.waitingRoom.service;
+
+import back.kalender.domain.booking.reservation.service.ReservationService;
+import back.kalender.domain.booking.session.service.BookingSessionService;
+import back.kalender.domain.booking.session.service.BookingSessionStore;
+import back.kalender.domain.performance.schedule.service.ScheduleQueryService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ActiveSweepScheduler 단위 테스트")
+class ActiveSweepSchedulerTest {
+
+    private static final Long SCHEDULE_ID = 10L;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ScheduleQueryService scheduleQueryService;
+
+    @Mock
+    private BookingSessionService bookingSessionService;
+
+    @Mock
+    private ReservationService reservationService;
+
+    private ActiveSweepScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new ActiveSweepScheduler(
+                redisTemplate, scheduleQueryService, bookingSessionService, reservationService);
+        when(scheduleQueryService.getOpenScheduleIds()).thenReturn(List.of(SCHEDULE_ID));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        scheduler.shutdown();
+    }
+
+    @Test
+    @DisplayName("비활성 세션을 일괄 조회 후 예매 포기 + 세션 일괄 삭제")
+    void sweep_AbandonsAndDeletesInBulk() {
+        List<BookingSessionStore.Session> sessions = List.of(
+                new BookingSessionStore.Session("bs-1", SCHEDULE_ID, 1L, "device-1"),
+                new BookingSessionStore.Session("bs-2", SCHEDULE_ID, 2L, "device-2"),
+                new BookingSessionStore.Session("bs-3", SCHEDULE_ID, null, null)
+        );
+        givenPopped(List.of("bs-1", "bs-2", "bs-3"));
+        when(bookingSessionService.findSessions(List.of("bs-1", "bs-2", "bs-3"))).thenReturn(sessions);
+
+        scheduler.sweep();
+
+        verify(reservationService).abandonActiveReservations(SCHEDULE_ID, List.of(1L, 2L));
+        verify(bookingSessionService).deleteSessions(SCHEDULE_ID, sessions);
+    }
+
+    @Test
+    @DisplayName("예매 포기가 실패해도 세션은 삭제")
+    void sweep_AbandonFailure_StillDeletesSessions() {
+        List<BookingSessionStore.Session> sessions = List.of(
+                new BookingSessionStore.Session("bs-1", SCHEDULE_ID, 1L, "device-1"));
+        givenPopped(List.of("bs-1"));
+        when(bookingSessionService.findSessions(List.of("bs-1"))).thenReturn(sessions);
+        when(reservationService.abandonActiveReservations(anyLong(), anyList()))
+                .thenThrow(new RuntimeException("DB down"));
+
+        scheduler.sweep();
+
+        verify(bookingSessionService).deleteSessions(SCHEDULE_ID, sessions);
+    }
+
+    @Test
+    @DisplayName("비활성 세션이 없으면 아무것도 하지 않음")
+    void sweep_NoExpired_DoesNothing() {
+        givenPopped(List.of());
+
+        scheduler.sweep();
+
+        verifyNoInteractions(bookingSessionService, reservationService);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenPopped(List<String> sessionIds) {
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("active:" + SCHEDULE_ID)), anyString(), anyString()))
+                .thenReturn(sessionIds);
+    }
+}
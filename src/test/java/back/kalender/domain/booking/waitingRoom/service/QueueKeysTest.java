@@ -0,0 +1,48 @@
+package back.kalender.domain.booking.waitingRoom.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("QueueKeys 단위 테스트")
+class QueueKeysTest {
+
+    @Test
+    @DisplayName("샤드 1개면 기존 키 그대로 사용")
+    void unsharded_UsesLegacyKeys() {
+        String qsid = QueueKeys.newQsid(1);
+
+        assertThat(QueueKeys.shardOf(qsid)).isEqualTo(QueueKeys.UNSHARDED);
+        assertThat(QueueKeys.queueKeyOf(10L, qsid)).isEqualTo("queue:10");
+        assertThat(QueueKeys.admittedKeyOf(10L, qsid)).isEqualTo("admitted:10");
+        assertThat(QueueKeys.admittedTotalKey(10L, QueueKeys.UNSHARDED)).isEqualTo("queue:admitted:total:10");
+    }
+
+    @Test
+    @DisplayName("샤드 qsid는 샤드 번호로 해시 태그 키 결정")
+    void sharded_UsesHashTaggedKeys() {
+        String qsid = "s3_" + java.util.UUID.randomUUID();
+
+        assertThat(QueueKeys.shardOf(qsid)).isEqualTo(3);
+        assertThat(QueueKeys.queueKeyOf(10L, qsid)).isEqualTo("queue:{10:3}");
+        assertThat(QueueKeys.admittedKeyOf(10L, qsid)).isEqualTo("admitted:{10:3}");
+    }
+
+    @Test
+    @DisplayName("샤드 입장 토큰은 같은 해시 태그 포함")
+    void shardWaitingToken_HasSameHashTag() {
+        String token = QueueKeys.newWaitingToken(10L, 3);
+
+        assertThat(token).startsWith("wt_{10:3}");
+        assertThat(token).doesNotContain("-");
+    }
+
+    @Test
+    @DisplayName("발급한 샤드 qsid는 샤드 범위 안")
+    void newQsid_WithinShardRange() {
+        for (int i = 0; i < 100; i++) {
+            assertThat(QueueKeys.shardOf(QueueKeys.newQsid(4))).isBetween(0, 3);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package back.kalender.domain.booking.waitingRoom.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("QueuePositionSnapshot 단위 테스트")
+class QueuePositionSnapshotTest {
+
+    @Mock
+    private StringRedisTemplate redis;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Test
+    @DisplayName("대기열 앞쪽 window명만 읽어 스냅샷 구성")
+    void refresh_ReadsOnlyWindow() {
+        QueuePositionSnapshot snapshot = new QueuePositionSnapshot(redis, 1, 2);
+        when(redis.opsForZSet()).thenReturn(zSetOperations);
+        when(redis.opsForValue()).thenReturn(valueOperations);
+        when(zSetOperations.range("queue:1", 0, 1)).thenReturn(new LinkedHashSet<>(List.of("a", "b")));
+
+        snapshot.refresh(1L);
+
+        verify(zSetOperations).range("queue:1", 0, 1);
+        assertThat(snapshot.positionOf(1L, "a")).isEqualTo(1L);
+        assertThat(snapshot.positionOf(1L, "b")).isEqualTo(2L);
+        assertThat(snapshot.positionOf(1L, "c")).isNull();
+    }
+
+    @Test
+    @DisplayName("샤드 모드는 샤드별 앞쪽 window명을 진입 시각 순으로 합친 뒤 window명만 사용")
+    void refresh_Sharded_MergesWithinWindow() {
+        QueuePositionSnapshot snapshot = new QueuePositionSnapshot(redis, 2, 3);
+        when(redis.opsForZSet()).thenReturn(zSetOperations);
+        when(redis.opsForValue()).thenReturn(valueOperations);
+        when(zSetOperations.rangeWithScores("queue:{1:0}", 0, 2)).thenReturn(tuples("s0_a", 1, "s0_b", 4, "s0_c", 5));
+        when(zSetOperations.rangeWithScores("queue:{1:1}", 0, 2)).thenReturn(tuples("s1_a", 2, "s1_b", 3, "s1_c", 6));
+
+        snapshot.refresh(1L);
+
+        assertThat(snapshot.positionOf(1L, "s0_a")).isEqualTo(1L);
+        assertThat(snapshot.positionOf(1L, "s1_a")).isEqualTo(2L);
+        assertThat(snapshot.positionOf(1L, "s1_b")).isEqualTo(3L);
+        assertThat(snapshot.positionOf(1L, "s0_b")).isNull();
+    }
+
+    private Set<ZSetOperations.TypedTuple<String>> tuples(Object... valueAndScores) {
+        Set<ZSetOperations.TypedTuple<String>> tuples = new LinkedHashSet<>();
+        for (int i = 0; i < valueAndScores.length; i += 2) {
+            tuples.add(ZSetOperations.TypedTuple.of(
+                    (String) valueAndScores[i], ((Integer) valueAndScores[i + 1]).doubleValue()));
+        }
+        return tuples;
+    }
+}
@@ -0,0 +1,227 @@
+package back.kalender.domain.booking.waitingRoom.service;
+
+import back.kalender.domain.booking.waitingRoom.admission.AdmissionController;
+import back.kalender.domain.booking.waitingRoom.dto.QueueJoinResponse;
+import back.kalender.domain.booking.waitingRoom.dto.QueueStatusResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("QueueService 테스트")
+class QueueServiceTest {
+
+    @Mock
+    private StringRedisTemplate redis;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private AdmissionController admissionController;
+
+    @Mock
+    private QueuePositionSnapshot positionSnapshot;
+
+    @Test
+    @DisplayName("즉시 입장은 스크립트 한 번으로 용량/대기자 확인 후 입장 기록")
+    @SuppressWarnings("unchecked")
+    void join_AdmitsThroughScript() {
+        QueueService queueService = new QueueService(redis, admissionController, positionSnapshot, 1);
+        when(admissionController.tryAcquireImmediate(1L)).thenReturn(true);
+        when(admissionController.capacityOf(1L)).thenReturn(100);
+        when(redis.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(1L);
+        when(redis.opsForValue()).thenReturn(valueOperations);
+
+        QueueJoinResponse response = queueService.join(1L, "device-1");
+
+        ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(redis).execute(any(RedisScript.class), keys.capture(), args.capture());
+
+        assertThat(response.status()).isEqualTo("ADMITTED");
+        assertThat(response.waitingToken()).isNotNull();
+        assertThat(keys.getValue()).containsExactly(
+                "queue:1", "admitted:1", "active:1", "waiting:" + response.waitingToken());
+        assertThat(args.getValue()).containsExactly(
+                "100", "180", "1800", "1", response.qsid(), response.waitingToken());
+        // 입장 기록은 스크립트가 수행 → 별도 HSET 없음
+        verify(redis, never()).opsForHash();
+    }
+
+    @Test
+    @DisplayName("스크립트가 거절하면(만석/대기자 있음) 대기열로 진입")
+    @SuppressWarnings("unchecked")
+    void join_ScriptRejects_JoinsQueue() {
+        QueueService queueService = new QueueService(redis, admissionController, positionSnapshot, 1);
+        when(admissionController.tryAcquireImmediate(1L)).thenReturn(true);
+        when(admissionController.capacityOf(1L)).thenReturn(100);
+        when(redis.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(0L);
+        when(redis.opsForValue()).thenReturn(valueOperations);
+        when(redis.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.rank(eq("queue:1"), anyString())).thenReturn(4L);
+
+        QueueJoinResponse response = queueService.join(1L, "device-1");
+
+        assertThat(response.status()).isEqualTo("WAITING");
+        assertThat(response.position()).isEqualTo(5L);
+        assertThat(response.waitingToken()).isNull();
+        verify(zSetOperations).add(eq("queue:1"), eq(response.qsid()), anyDouble());
+        verify(admissionController).releaseImmediate(1L);
+    }
+
+    @Test
+    @DisplayName("즉시 입장 토큰이 없으면 스크립트 없이 대기열로 진입")
+    @SuppressWarnings("unchecked")
+    void join_NoImmediateToken_JoinsQueue() {
+        QueueService queueService = new QueueService(redis, admissionController, positionSnapshot, 1);
+        when(admissionController.tryAcquireImmediate(1L)).thenReturn(false);
+        when(redis.opsForValue()).thenReturn(valueOperations);
+        when(redis.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.rank(eq("queue:1"), anyString())).thenReturn(0L);
+
+        QueueJoinResponse response = queueService.join(1L, "device-1");
+
+        assertThat(response.status()).isEqualTo("WAITING");
+        verify(redis, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+        verify(admissionController, never()).releaseImmediate(anyLong());
+    }
+
+    @Test
+    @DisplayName("샤드 입장 락은 잡을 때 저장한 토큰으로만 해제")
+    @SuppressWarnings("unchecked")
+    void admitSharded_ReleasesLockWithOwnToken() {
+        QueueService queueService = new QueueService(redis, admissionController, positionSnapshot, 2);
+        when(redis.opsForValue()).thenReturn(valueOperations);
+        when(redis.opsForZSet()).thenReturn(zSetOperations);
+        when(redis.opsForHash()).thenReturn(hashOperations);
+        when(valueOperations.setIfAbsent(eq("queue:admit:lock:1"), anyString(), any(Duration.class))).thenReturn(true);
+
+        queueService.admitIfCapacity(1L, 100, 10);
+
+        ArgumentCaptor<String> lockToken = ArgumentCaptor.forClass(String.class);
+        verify(valueOperations).setIfAbsent(eq("queue:admit:lock:1"), lockToken.capture(), any(Duration.class));
+        verify(redis).execute(any(RedisScript.class), eq(List.of("queue:admit:lock:1")), eq(lockToken.getValue()));
+        verify(redis, never()).delete(anyString());
+    }
+
+    @Test
+    @DisplayName("샤드 순번은 진입 시각이 같으면 qsid 순으로 구분")
+    void status_Sharded_BreaksTiesByQsid() {
+        QueueService queueService = new QueueService(redis, admissionController, positionSnapshot, 2);
+        when(redis.opsForHash()).thenReturn(hashOperations);
+        when(redis.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.score("queue:{1:0}", "s0_b")).thenReturn(100.0);
+        when(zSetOperations.rank("queue:{1:0}", "s0_b")).thenReturn(0L);
+        when(zSetOperations.count("queue:{1:1}", Double.NEGATIVE_INFINITY, Math.nextDown(100.0))).thenReturn(1L);
+        when(zSetOperations.rangeByScore("queue:{1:1}", 100.0, 100.0)).thenReturn(Set.of("s1_a", "s1_c"));
+
+        QueueStatusResponse response = queueService.status(1L, "s0_b");
+
+        // 다른 샤드의 앞선 1명 + 동점 중 s1_a
+        assertThat(response.position()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("동점 대기자 중 qsid 사전순으로 앞선 인원만 계산")
+    void countTiesBefore_CountsLexicographicallySmaller() {
+        assertThat(QueueService.countTiesBefore(List.of("s1_a", "s1_c", "s0_b"), "s0_b")).isEqualTo(0);
+        assertThat(QueueService.countTiesBefore(List.of("s1_a", "s1_c"), "s1_b")).isEqualTo(1);
+        assertThat(QueueService.countTiesBefore(null, "s1_b")).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("입장 인원을 샤드에 한 명씩 돌아가며 배분")
+    void allocateRoundRobin_EvenSplit() {
+        int[] quotas = QueueService.allocateRoundRobin(new long[]{10, 10, 10, 10}, 6, 0);
+
+        assertThat(quotas).containsExactly(2, 2, 1, 1);
+    }
+
+    @Test
+    @DisplayName("시작 샤드가 바뀌면 나머지 인원도 다른 샤드로")
+    void allocateRoundRobin_CursorRotatesRemainder() {
+        int[] quotas = QueueService.allocateRoundRobin(new long[]{10, 10, 10, 10}, 6, 2);
+
+        assertThat(quotas).containsExactly(1, 1, 2, 2);
+    }
+
+    @Test
+    @DisplayName("대기 인원이 모자란 샤드 몫은 다른 샤드로")
+    void allocateRoundRobin_SkipsDrainedShards() {
+        int[] quotas = QueueService.allocateRoundRobin(new long[]{1, 0, 10, 2}, 8, 0);
+
+        assertThat(quotas).containsExactly(1, 0, 5, 2);
+    }
+
+    @Test
+    @DisplayName("전체 대기 인원보다 예산이 크면 대기 인원만큼만")
+    void allocateRoundRobin_BudgetExceedsWaiting() {
+        int[] quotas = QueueService.allocateRoundRobin(new long[]{1, 2}, 10, 0);
+
+        assertThat(quotas).containsExactly(1, 2);
+    }
+
+    @Test
+    @DisplayName("예상 대기 시간은 순번 / 입장 속도를 올림")
+    void waitingStatus_EtaRoundsUp() {
+        QueueService queueService = new QueueService(redis, admissionController, positionSnapshot, 1);
+        when(positionSnapshot.admitRatePerSecond(1L)).thenReturn(2.5);
+
+        QueueStatusResponse exact = queueService.waitingStatus(1L, 10);
+        QueueStatusResponse partial = queueService.waitingStatus(1L, 11);
+
+        assertThat(exact.status()).isEqualTo("WAITING");
+        assertThat(exact.position()).isEqualTo(10L);
+        assertThat(exact.estimatedWaitSeconds()).isEqualTo(4L);
+        assertThat(partial.estimatedWaitSeconds()).isEqualTo(5L);
+        assertThat(partial.nextPollMillis()).isEqualTo(1_000L);
+    }
+
+    @Test
+    @DisplayName("입장 속도 측정 전이면 예상 대기 시간 없음")
+    void waitingStatus_NoRate_NoEta() {
+        QueueService queueService = new QueueService(redis, admissionController, positionSnapshot, 1);
+        when(positionSnapshot.admitRatePerSecond(1L)).thenReturn(0.0);
+
+        QueueStatusResponse response = queueService.waitingStatus(1L, 500);
+
+        assertThat(response.estimatedWaitSeconds()).isNull();
+        assertThat(response.nextPollMillis()).isEqualTo(3_000L);
+    }
+
+    @Test
+    @DisplayName("순번 구간 경계마다 조회 간격이 늘어나고 최대 10초")
+    void nextPollMillis_GrowsWithPosition() {
+        assertThat(QueueService.nextPollMillis(1)).isEqualTo(1_000);
+        assertThat(QueueService.nextPollMillis(100)).isEqualTo(1_000);
+        assertThat(QueueService.nextPollMillis(101)).isEqualTo(3_000);
+        assertThat(QueueService.nextPollMillis(1_000)).isEqualTo(3_000);
+        assertThat(QueueService.nextPollMillis(1_001)).isEqualTo(5_000);
+        assertThat(QueueService.nextPollMillis(10_000)).isEqualTo(5_000);
+        assertThat(QueueService.nextPollMillis(10_001)).isEqualTo(10_000);
+        assertThat(QueueService.nextPollMillis(1_000_000)).isEqualTo(10_000);
+    }
+}
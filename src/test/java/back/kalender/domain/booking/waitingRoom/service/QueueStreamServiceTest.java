@@ -0,0 +1,131 @@
+package back.kalender.domain.booking.waitingRoom.service;
+
+import back.kalender.domain.booking.waitingRoom.dto.QueueStatusResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("QueueStreamService 단위 테스트")
+class QueueStreamServiceTest {
+
+    private static final Long SCHEDULE_ID = 1L;
+    private static final String QSID = "qsid-1";
+
+    @Mock
+    private QueueService queueService;
+
+    @Mock
+    private QueuePositionSnapshot positionSnapshot;
+
+    private SimpleMeterRegistry meterRegistry;
+    private QueueStreamService streamService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        streamService = new QueueStreamService(queueService, positionSnapshot, meterRegistry);
+
+        lenient().when(queueService.waitingStatus(eq(SCHEDULE_ID), anyLong()))
+                .thenAnswer(inv -> QueueStatusResponse.waiting(inv.getArgument(1), null, 1_000L));
+    }
+
+    @AfterEach
+    void tearDown() {
+        streamService.shutdown();
+    }
+
+    @Test
+    @DisplayName("연결 중인 대기자는 ping 없이 서버가 heartbeat 갱신")
+    void publish_Waiting_RefreshesHeartbeat() {
+        connectWaiting();
+        when(positionSnapshot.positionOf(SCHEDULE_ID, QSID)).thenReturn(3L);
+
+        streamService.publish(SCHEDULE_ID);
+
+        verify(queueService).refreshHeartbeats(SCHEDULE_ID, Map.of(QSID, "device-1"));
+        verify(queueService, never()).admittedTokens(anyLong(), anyList());
+        assertThat(connectionCount()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("입장된 대기자는 HMGET 한 번으로 토큰 확인 후 연결 종료")
+    void publish_Admitted_ClosesStream() {
+        connectWaiting();
+        when(positionSnapshot.positionOf(SCHEDULE_ID, QSID)).thenReturn(null);
+        when(queueService.admittedTokens(SCHEDULE_ID, List.of(QSID))).thenReturn(List.of("wt_1"));
+
+        streamService.publish(SCHEDULE_ID);
+
+        verify(queueService).refreshHeartbeats(SCHEDULE_ID, Map.of());
+        assertThat(connectionCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("window 밖 대기자는 순번을 일괄 조회하고 확인 주기 동안 다시 조회하지 않음")
+    void publish_BeyondWindow_BatchesAndThrottles() {
+        connectWaiting();
+        when(positionSnapshot.positionOf(SCHEDULE_ID, QSID)).thenReturn(null);
+        when(queueService.admittedTokens(SCHEDULE_ID, List.of(QSID))).thenReturn(Arrays.asList((String) null));
+        when(queueService.currentPositions(SCHEDULE_ID, List.of(QSID))).thenReturn(List.of(20_000L));
+
+        streamService.publish(SCHEDULE_ID);
+        streamService.publish(SCHEDULE_ID);
+
+        verify(queueService, times(1)).admittedTokens(SCHEDULE_ID, List.of(QSID));
+        verify(queueService, times(1)).currentPositions(SCHEDULE_ID, List.of(QSID));
+        verify(queueService, times(1)).status(SCHEDULE_ID, QSID);
+        verify(queueService, times(2)).refreshHeartbeats(SCHEDULE_ID, Map.of(QSID, "device-1"));
+        assertThat(connectionCount()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("토큰도 순번도 없으면 대기열 이탈로 연결 종료")
+    void publish_NotInQueue_ClosesStream() {
+        connectWaiting();
+        when(positionSnapshot.positionOf(SCHEDULE_ID, QSID)).thenReturn(null);
+        when(queueService.admittedTokens(SCHEDULE_ID, List.of(QSID))).thenReturn(Arrays.asList((String) null));
+        when(queueService.currentPositions(SCHEDULE_ID, List.of(QSID))).thenReturn(Arrays.asList((Long) null));
+
+        streamService.publish(SCHEDULE_ID);
+
+        verify(queueService).refreshHeartbeats(SCHEDULE_ID, Map.of());
+        assertThat(connectionCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("이미 입장한 qsid는 연결을 등록하지 않음")
+    void connect_AlreadyAdmitted_NotRegistered() {
+        when(queueService.touchWaiting(SCHEDULE_ID, QSID)).thenReturn(null);
+        when(queueService.status(SCHEDULE_ID, QSID)).thenReturn(QueueStatusResponse.admitted("wt_1"));
+
+        streamService.connect(SCHEDULE_ID, QSID);
+
+        assertThat(connectionCount()).isZero();
+    }
+
+    private void connectWaiting() {
+        when(queueService.touchWaiting(SCHEDULE_ID, QSID)).thenReturn("device-1");
+        when(queueService.status(SCHEDULE_ID, QSID)).thenReturn(QueueStatusResponse.waiting(5L, null, 1_000L));
+        streamService.connect(SCHEDULE_ID, QSID);
+    }
+
+    private double connectionCount() {
+        return meterRegistry.get("queue.stream.connections").gauge().value();
+    }
+}
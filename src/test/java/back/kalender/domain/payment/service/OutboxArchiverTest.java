@@ -0,0 +1,80 @@
+package back.kalender.domain.payment.service;
+
+import back.kalender.domain.payment.publisher.OutboxProperties;
+import back.kalender.domain.payment.repository.PaymentIdempotencyRepository;
+import back.kalender.domain.payment.repository.PaymentOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxArchiver 단위 테스트")
+class OutboxArchiverTest {
+
+    @Mock
+    private PaymentOutboxRepository paymentOutboxRepository;
+
+    @Mock
+    private PaymentIdempotencyRepository paymentIdempotencyRepository;
+
+    private OutboxArchiver outboxArchiver;
+
+    @BeforeEach
+    void setUp() {
+        OutboxProperties properties = new OutboxProperties(null, null, null, null, Duration.ofDays(3), 100, null);
+        outboxArchiver = new OutboxArchiver(paymentOutboxRepository, paymentIdempotencyRepository, properties, 7);
+    }
+
+    @Test
+    @DisplayName("배치가 가득 차면 이어서 이동, 덜 차면 종료")
+    void archive_RepeatsWhileBatchFull() {
+        when(paymentOutboxRepository.archiveSentOutboxes(any(LocalDateTime.class), eq(100)))
+                .thenReturn(100, 100, 30);
+        when(paymentIdempotencyRepository.deleteExpiredBatch(any(LocalDateTime.class), eq(100)))
+                .thenReturn(0);
+
+        outboxArchiver.archive();
+
+        verify(paymentOutboxRepository, times(3)).archiveSentOutboxes(any(LocalDateTime.class), eq(100));
+        verify(paymentIdempotencyRepository, times(1)).deleteExpiredBatch(any(LocalDateTime.class), eq(100));
+    }
+
+    @Test
+    @DisplayName("실행 시간 예산을 넘기면 가득 찬 배치여도 다음 주기로 넘김")
+    void archive_BudgetExceeded_StopsAfterOneBatch() {
+        OutboxProperties properties = new OutboxProperties(null, null, null, null, Duration.ofDays(3), 100, Duration.ZERO);
+        OutboxArchiver budgeted = new OutboxArchiver(paymentOutboxRepository, paymentIdempotencyRepository, properties, 7);
+        when(paymentOutboxRepository.archiveSentOutboxes(any(LocalDateTime.class), eq(100)))
+                .thenReturn(100);
+        when(paymentIdempotencyRepository.deleteExpiredBatch(any(LocalDateTime.class), eq(100)))
+                .thenReturn(100);
+
+        budgeted.archive();
+
+        verify(paymentOutboxRepository, times(1)).archiveSentOutboxes(any(LocalDateTime.class), eq(100));
+        verify(paymentIdempotencyRepository, times(1)).deleteExpiredBatch(any(LocalDateTime.class), eq(100));
+    }
+
+    @Test
+    @DisplayName("Outbox 이동 실패해도 멱등성 레코드 정리는 진행")
+    void archive_OutboxFailure_StillCleansIdempotency() {
+        when(paymentOutboxRepository.archiveSentOutboxes(any(LocalDateTime.class), eq(100)))
+                .thenThrow(new RuntimeException("db down"));
+        when(paymentIdempotencyRepository.deleteExpiredBatch(any(LocalDateTime.class), eq(100)))
+                .thenReturn(5);
+
+        outboxArchiver.archive();
+
+        verify(paymentIdempotencyRepository).deleteExpiredBatch(any(LocalDateTime.class), eq(100));
+    }
+}
@@ -0,0 +1,96 @@
+package back.kalender.domain.payment.service;
+
+import back.kalender.domain.payment.constants.PaymentEventType;
+import back.kalender.domain.payment.entity.PaymentOutbox;
+import back.kalender.domain.payment.repository.PaymentOutboxRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxWorker 단위 테스트")
+class OutboxWorkerTest {
+
+    @Mock
+    private PaymentOutboxRepository paymentOutboxRepository;
+
+    @Mock
+    private OutboxProcessor outboxProcessor;
+
+    private OutboxWorker outboxWorker;
+
+    @BeforeEach
+    void setUp() {
+        outboxWorker = new OutboxWorker(paymentOutboxRepository, outboxProcessor);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        outboxWorker.shutdown();
+    }
+
+    @Test
+    @DisplayName("선점 수가 배치 크기면 다음 주기를 기다리지 않고 다시 선점")
+    void processPendingOutboxes_FullBatch_ClaimsAgain() {
+        List<Long> fullBatch = LongStream.rangeClosed(1, 100).boxed().toList();
+        when(paymentOutboxRepository.claimPendingOutboxes(eq(100), anyString(), anyLong()))
+                .thenReturn(fullBatch, List.of(101L));
+        when(paymentOutboxRepository.findAllByIdIn(anyList())).thenAnswer(inv -> {
+            List<Long> ids = inv.getArgument(0);
+            return ids.stream().map(id -> outbox(id, PaymentEventType.APPROVED)).toList();
+        });
+        when(outboxProcessor.publishBatch(anyList(), anyString())).thenReturn(List.of());
+
+        outboxWorker.processPendingOutboxes();
+
+        verify(paymentOutboxRepository, times(2)).claimPendingOutboxes(eq(100), anyString(), anyLong());
+        verify(outboxProcessor, times(2)).publishBatch(anyList(), anyString());
+    }
+
+    @Test
+    @DisplayName("MQ 이벤트는 생성 순서로 일괄 발행, 직접 처리 이벤트는 건별 처리, ack 없는 이벤트만 실패 처리")
+    void processPendingOutboxes_SplitsPublishAndDirect() {
+        when(paymentOutboxRepository.claimPendingOutboxes(eq(100), anyString(), anyLong()))
+                .thenReturn(List.of(3L, 1L, 2L));
+        when(paymentOutboxRepository.findAllByIdIn(anyList())).thenReturn(List.of(
+                outbox(1L, PaymentEventType.APPROVED),
+                outbox(2L, PaymentEventType.SEAT_SOLD_RETRY),
+                outbox(3L, PaymentEventType.CANCELED)
+        ));
+        when(outboxProcessor.publishBatch(anyList(), anyString())).thenReturn(List.of(3L));
+
+        outboxWorker.processPendingOutboxes();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PaymentOutbox>> captor = ArgumentCaptor.forClass(List.class);
+        verify(outboxProcessor).publishBatch(captor.capture(), anyString());
+        assertThat(captor.getValue()).extracting(PaymentOutbox::getId).containsExactly(1L, 3L);
+
+        verify(outboxProcessor).processOutbox(eq(2L), anyString());
+        verify(outboxProcessor).failOutbox(eq(3L), anyString());
+        verify(outboxProcessor, never()).failOutbox(eq(1L), anyString());
+    }
+
+    private PaymentOutbox outbox(Long id, String eventType) {
+        PaymentOutbox outbox = PaymentOutbox.builder()
+                .paymentId(10L)
+                .eventType(eventType)
+                .payloadJson("{}")
+                .build();
+        ReflectionTestUtils.setField(outbox, "id", id);
+        return outbox;
+    }
+}
@@ -0,0 +1,145 @@
+package back.kalender.domain.payment.service;
+
+import back.kalender.domain.payment.entity.PaymentIdempotency;
+import back.kalender.domain.payment.enums.PaymentOperation;
+import back.kalender.domain.payment.repository.PaymentIdempotencyRepository;
+import back.kalender.global.exception.ServiceException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PaymentIdempotencyStore 단위 테스트")
+class PaymentIdempotencyStoreTest {
+
+    private static final String RESULT_KEY = "payment:idem:1:CONFIRM:key-1";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private PaymentIdempotencyRepository paymentIdempotencyRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PaymentIdempotencyStore store;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        meterRegistry = new SimpleMeterRegistry();
+        store = new PaymentIdempotencyStore(
+                redisTemplate, paymentIdempotencyRepository, transactionManager, meterRegistry, 7, 1);
+    }
+
+    @Test
+    @DisplayName("같은 요청이 처리 중이면 409 예외")
+    void acquire_InFlight_Throws() {
+        when(valueOperations.setIfAbsent(eq("payment:idem:lock:1:CONFIRM:key-1"), anyString(), any(Duration.class)))
+                .thenReturn(false);
+
+        assertThatThrownBy(() -> store.acquire(1L, PaymentOperation.CONFIRM, "key-1"))
+                .isInstanceOf(ServiceException.class)
+                .hasMessageContaining("처리 중");
+    }
+
+    @Test
+    @DisplayName("Redis hit면 DB를 조회하지 않음")
+    void findResult_RedisHit_SkipsDb() {
+        when(valueOperations.get(RESULT_KEY)).thenReturn("{\"paymentId\":1}");
+
+        Optional<String> result = store.findResult(1L, PaymentOperation.CONFIRM, "key-1");
+
+        assertThat(result).contains("{\"paymentId\":1}");
+        verifyNoInteractions(paymentIdempotencyRepository);
+    }
+
+    @Test
+    @DisplayName("Redis miss, DB hit면 결과를 Redis에 채움")
+    void findResult_DbHit_FillsRedis() {
+        PaymentIdempotency stored = PaymentIdempotency.builder()
+                .paymentId(1L)
+                .operation("CONFIRM")
+                .idempotencyKey("key-1")
+                .resultJson("{\"paymentId\":1}")
+                .build();
+        when(valueOperations.get(RESULT_KEY)).thenReturn(null);
+        when(paymentIdempotencyRepository.findByPaymentIdAndOperationAndIdempotencyKeyWithTtl(
+                eq(1L), eq("CONFIRM"), eq("key-1"), any(LocalDateTime.class)))
+                .thenReturn(Optional.of(stored));
+
+        Optional<String> result = store.findResult(1L, PaymentOperation.CONFIRM, "key-1");
+
+        assertThat(result).contains("{\"paymentId\":1}");
+        verify(valueOperations).set(eq(RESULT_KEY), eq("{\"paymentId\":1}"), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("저장은 Redis에 바로 기록, DB는 flush 시점에 기록")
+    void save_WritesRedisThenDbOnFlush() {
+        store.save(1L, PaymentOperation.CONFIRM, "key-1", "{\"paymentId\":1}");
+
+        verify(valueOperations).set(RESULT_KEY, "{\"paymentId\":1}", Duration.ofDays(7));
+        verify(paymentIdempotencyRepository, never()).saveAll(anyList());
+
+        store.flush();
+
+        verify(paymentIdempotencyRepository).saveAll(argThat((List<PaymentIdempotency> batch) ->
+                batch.size() == 1 && "key-1".equals(batch.get(0).getIdempotencyKey())));
+    }
+
+    @Test
+    @DisplayName("DB 기록 실패 시 버리지 않고 재시도")
+    void flush_RepositoryFailure_RetriesBatch() {
+        when(paymentIdempotencyRepository.saveAll(anyList()))
+                .thenThrow(new RuntimeException("DB down"))
+                .thenReturn(List.of());
+
+        store.save(1L, PaymentOperation.CONFIRM, "key-1", "{\"paymentId\":1}");
+        store.flush();
+
+        // 종료 시에는 백오프와 관계없이 재시도
+        store.drain();
+
+        verify(paymentIdempotencyRepository, times(2)).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("재시도 대기 한도를 넘으면 가장 오래된 배치부터 버림")
+    void flush_RetryOverflow_DropsOldest() {
+        when(paymentIdempotencyRepository.saveAll(anyList())).thenThrow(new RuntimeException("DB down"));
+
+        store.save(1L, PaymentOperation.CONFIRM, "key-1", "{\"paymentId\":1}");
+        store.flush();
+        store.save(2L, PaymentOperation.CONFIRM, "key-2", "{\"paymentId\":2}");
+        store.flush();
+
+        assertThat(meterRegistry.get("payment.idempotency.dropped").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("payment.idempotency.retry.pending").gauge().value()).isEqualTo(1.0);
+    }
+}
@@ -1,15 +1,13 @@
 package back.kalender.domain.performance.service;
 
 import back.kalender.domain.artist.entity.Artist;
-import back.kalender.domain.artist.repository.ArtistRepository;
+import back.kalender.domain.performance.performance.service.PerformanceDetailCache;
+import back.kalender.domain.performance.performance.service.PerformanceQueryService;
 import back.kalender.domain.performance.performance.service.PerformanceService;
 import back.kalender.domain.performance.performanceHall.entity.PerformanceHall;
-import back.kalender.domain.performance.performanceHall.repository.PerformanceHallRepository;
 import back.kalender.domain.performance.performance.dto.response.PerformanceDetailResponse;
 import back.kalender.domain.performance.performance.entity.Performance;
-import back.kalender.domain.performance.performance.repository.PerformanceRepository;
 import back.kalender.domain.performance.schedule.repository.PerformanceScheduleRepository;
-import back.kalender.domain.performance.priceGrade.repository.PriceGradeRepository;
 import back.kalender.domain.performance.priceGrade.entity.PriceGrade;
 import back.kalender.domain.performance.schedule.entity.PerformanceSchedule;
 import back.kalender.domain.performance.schedule.entity.ScheduleStatus;
@@ -20,7 +18,6 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -29,7 +26,6 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -40,21 +36,11 @@ import static org.mockito.BDDMockito.given;
 class PerformanceServiceImplTest {
 
     @Mock
-    private PerformanceRepository performanceRepository;
-
-    @Mock
-    private PriceGradeRepository priceGradeRepository;
+    private PerformanceQueryService performanceQueryService;
 
     @Mock
     private PerformanceScheduleRepository performanceScheduleRepository;
 
-    @Mock
-    private ArtistRepository artistRepository;
-
-    @Mock
-    private PerformanceHallRepository performanceHallRepository;
-
-    @InjectMocks
     private PerformanceService performanceService;
 
     private Performance performance;
@@ -66,6 +52,9 @@ class PerformanceServiceImplTest {
 
     @BeforeEach
     void setUp() throws Exception {
+        performanceService = new PerformanceService(
+                new PerformanceDetailCache(performanceQueryService, performanceScheduleRepository));
+
         performanceHall = new PerformanceHall(
                 "김대중컨벤션센터",
                 "광주광역시 서구 내방로 111",
@@ -132,13 +121,13 @@ class PerformanceServiceImplTest {
     void getPerformanceDetail_Success() {
         Long performanceId = 1L;
 
-        given(performanceRepository.findById(performanceId))
-                .willReturn(Optional.of(performance));
-        given(performanceHallRepository.findById(performance.getPerformanceHallId()))
-                .willReturn(Optional.of(performanceHall));
-        given(artistRepository.findById(performance.getArtistId()))
-                .willReturn(Optional.of(artist));
-        given(priceGradeRepository.findAllByPerformanceId(performanceId))
+        given(performanceQueryService.getPerformance(performanceId))
+                .willReturn(performance);
+        given(performanceQueryService.getPerformanceHall(performance.getPerformanceHallId()))
+                .willReturn(performanceHall);
+        given(performanceQueryService.getArtist(performance.getArtistId()))
+                .willReturn(artist);
+        given(performanceQueryService.getPriceGrades(performanceId))
                 .willReturn(priceGrades);
         given(performanceScheduleRepository.findAvailableDatesByPerformanceId(performanceId))
                 .willReturn(availableDates);
@@ -157,11 +146,37 @@ class PerformanceServiceImplTest {
 
     }
 
+    @Test
+    @DisplayName("같은 공연 데이터면 같은 ETag, 데이터가 바뀌면 다른 ETag")
+    void getVersionedPerformanceDetail_ETagFollowsContent() {
+        Long performanceId = 1L;
+
+        given(performanceQueryService.getPerformance(performanceId))
+                .willReturn(performance);
+        given(performanceQueryService.getPerformanceHall(performance.getPerformanceHallId()))
+                .willReturn(performanceHall);
+        given(performanceQueryService.getArtist(performance.getArtistId()))
+                .willReturn(artist);
+        given(performanceQueryService.getPriceGrades(performanceId))
+                .willReturn(priceGrades, priceGrades, List.of(priceGrades.get(0)));
+        given(performanceScheduleRepository.findAvailableDatesByPerformanceId(performanceId))
+                .willReturn(availableDates);
+        given(performanceScheduleRepository.findAllByPerformanceIdOrderByPerformanceDateAscStartTimeAsc(performanceId))
+                .willReturn(schedules);
+
+        String first = performanceService.getVersionedPerformanceDetail(performanceId).eTag();
+        String second = performanceService.getVersionedPerformanceDetail(performanceId).eTag();
+        String changed = performanceService.getVersionedPerformanceDetail(performanceId).eTag();
+
+        assertThat(second).isEqualTo(first);
+        assertThat(changed).isNotEqualTo(first);
+    }
+
     @Test
     @DisplayName("존재하지 않는 공연 조회시 예외")
     void getPerformanceDetail_NotFound() {
-        given(performanceRepository.findById(999L))
-                .willReturn(Optional.empty());
+        given(performanceQueryService.getPerformance(999L))
+                .willThrow(new ServiceException(ErrorCode.PERFORMANCE_NOT_FOUND));
 
         assertThatThrownBy(() -> performanceService.getPerformanceDetail(999L))
                 .isInstanceOf(ServiceException.class)
@@ -180,13 +195,13 @@ class PerformanceServiceImplTest {
                 new PriceGrade(performance.getId(), "A석", 70000)
         );
 
-        given(performanceRepository.findById(performanceId))
-                .willReturn(Optional.of(performance));
-        given(performanceHallRepository.findById(performance.getPerformanceHallId()))
-                .willReturn(Optional.of(performanceHall));
-        given(artistRepository.findById(performance.getArtistId()))
-                .willReturn(Optional.of(artist));
-        given(priceGradeRepository.findAllByPerformanceId(performanceId))
+        given(performanceQueryService.getPerformance(performanceId))
+                .willReturn(performance);
+        given(performanceQueryService.getPerformanceHall(performance.getPerformanceHallId()))
+                .willReturn(performanceHall);
+        given(performanceQueryService.getArtist(performance.getArtistId()))
+                .willReturn(artist);
+        given(performanceQueryService.getPriceGrades(performanceId))
                 .willReturn(multipleGrades);
         given(performanceScheduleRepository.findAvailableDatesByPerformanceId(performanceId))
                 .willReturn(availableDates);
@@ -208,14 +223,14 @@ class PerformanceServiceImplTest {
                 new PerformanceSchedule(performance.getId(), LocalDate.of(2026,1,4), LocalTime.of(14,0), 1, ScheduleStatus.SOLD_OUT)
         );
 
-        given(performanceRepository.findById(performanceId))
-                .willReturn(Optional.of(performance));
-        given(performanceHallRepository.findById(performance.getPerformanceHallId()))
-                .willReturn(Optional.of(performanceHall));
+        given(performanceQueryService.getPerformance(performanceId))
+                .willReturn(performance);
+        given(performanceQueryService.getPerformanceHall(performance.getPerformanceHallId()))
+                .willReturn(performanceHall);
 
-        given(artistRepository.findById(performance.getArtistId()))
-                .willReturn(Optional.of(artist));
-        given(priceGradeRepository.findAllByPerformanceId(performanceId))
+        given(performanceQueryService.getArtist(performance.getArtistId()))
+                .willReturn(artist);
+        given(performanceQueryService.getPriceGrades(performanceId))
                 .willReturn(priceGrades);
         given(performanceScheduleRepository.findAvailableDatesByPerformanceId(performanceId))
                 .willReturn(List.of());
@@ -238,13 +253,13 @@ class PerformanceServiceImplTest {
                 new PerformanceSchedule(performance.getId(), LocalDate.of(2026,1,3), LocalTime.of(18,0), 2, ScheduleStatus.AVAILABLE)
         );
 
-        given(performanceRepository.findById(performanceId))
-                .willReturn(Optional.of(performance));
-        given(performanceHallRepository.findById(any()))
-                .willReturn(Optional.of(performanceHall));
-        given(artistRepository.findById(any()))
-                .willReturn(Optional.of(artist));
-        given(priceGradeRepository.findAllByPerformanceId(any()))
+        given(performanceQueryService.getPerformance(performanceId))
+                .willReturn(performance);
+        given(performanceQueryService.getPerformanceHall(any()))
+                .willReturn(performanceHall);
+        given(performanceQueryService.getArtist(any()))
+                .willReturn(artist);
+        given(performanceQueryService.getPriceGrades(any()))
                 .willReturn(priceGrades);
         given(performanceScheduleRepository.findAvailableDatesByPerformanceId(any()))
                 .willReturn(List.of(LocalDate.of(2026,1,3)));
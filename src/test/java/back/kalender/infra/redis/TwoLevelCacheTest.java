@@ -0,0 +1,80 @@
+package back.kalender.infra.redis;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TwoLevelCache 단위 테스트")
+class TwoLevelCacheTest {
+
+    @Mock
+    private Cache remote;
+
+    private final List<String> published = new ArrayList<>();
+
+    private TwoLevelCache cache;
+
+    @BeforeEach
+    void setUp() {
+        com.github.benmanes.caffeine.cache.Cache<String, Cache.ValueWrapper> local =
+                Caffeine.newBuilder().maximumSize(100).build();
+        cache = new TwoLevelCache("schedule", local, remote, (name, key) -> published.add(name + ":" + key));
+    }
+
+    @Test
+    @DisplayName("L2 hit은 L1에 채워 다음 조회부터 Redis를 호출하지 않음")
+    void get_RemoteHit_FillsLocal() {
+        when(remote.get(1L)).thenReturn(new SimpleValueWrapper("value"));
+
+        assertThat(cache.get(1L).get()).isEqualTo("value");
+        assertThat(cache.get(1L).get()).isEqualTo("value");
+
+        verify(remote, times(1)).get(1L);
+    }
+
+    @Test
+    @DisplayName("L2 miss는 L1에 기록하지 않음")
+    void get_RemoteMiss_ReturnsNull() {
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cache.get(1L)).isNull();
+
+        verify(remote, times(2)).get(1L);
+    }
+
+    @Test
+    @DisplayName("evict는 L2/L1 제거 후 무효화 메시지 발행")
+    void evict_RemovesBothAndPublishes() {
+        cache.put(1L, "value");
+        cache.evict(1L);
+
+        when(remote.get(1L)).thenReturn(null);
+        assertThat(cache.get(1L)).isNull();
+        verify(remote).evict(1L);
+        assertThat(published).containsExactly("schedule:1", "schedule:1");
+    }
+
+    @Test
+    @DisplayName("다른 서버 무효화 메시지는 L1만 제거")
+    void evictLocal_OnlyClearsLocal() {
+        cache.put(1L, "value");
+
+        cache.evictLocal("1");
+
+        when(remote.get(1L)).thenReturn(new SimpleValueWrapper("fresh"));
+        assertThat(cache.get(1L).get()).isEqualTo("fresh");
+        verify(remote, never()).evict(any());
+    }
+}